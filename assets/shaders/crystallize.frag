@@ -11,6 +11,7 @@ uniform vec2 u_resolution;
 uniform float u_stretch;
 uniform vec4 u_edgeColor;
 uniform bool u_fadeEdges;
+uniform bool u_directPass; // true : dessin direct à l'écran (pas de FBO, pas d'inversion Y)
 
 // Fonction de bruit pseudo-aléatoire (identique à JHLabs)
 float random(vec2 st) {
@@ -37,8 +38,10 @@ vec4 mixColors(float t, vec4 c1, vec4 c2) {
 void main() {
     vec2 uv = v_texCoords;
     
-    // Corriger l'inversion Y (LibGDX vs OpenGL)
-    uv.y = 1.0 - uv.y;
+    // Corriger l'inversion Y (LibGDX vs OpenGL) - uniquement pour le rendu dans un FBO
+    if (!u_directPass) {
+        uv.y = 1.0 - uv.y;
+    }
     
     // Convertir les coordonnées de texture en coordonnées pixel
     vec2 pixelCoords = uv * u_resolution;
@@ -0,0 +1,100 @@
+#ifdef GL_ES
+precision mediump float;
+#endif
+
+// Variante rapide de crystallize.frag :
+// - le jitter des cellules est lu dans une texture de graines précalculée (pas de sin())
+// - une seule graine par cellule, recherche 3x3 (9 itérations au lieu de 75)
+// - la grille est resserrée de sqrt(3) pour garder la densité de cellules du mode fidèle (3 graines/cellule)
+
+varying vec2 v_texCoords;
+uniform sampler2D u_texture;
+uniform sampler2D u_seeds;
+uniform float u_crystalSize;
+uniform float u_randomness;
+uniform float u_edgeThickness;
+uniform vec2 u_resolution;
+uniform float u_stretch;
+uniform vec4 u_edgeColor;
+uniform bool u_fadeEdges;
+uniform bool u_directPass; // true : dessin direct à l'écran (pas de FBO, pas d'inversion Y)
+
+const float SEED_SIZE = 128.0;     // Doit correspondre à CrystallizeShader.SEED_TEXTURE_SIZE
+const float DENSITY_SCALE = 1.7320508;
+
+// Fonction smoothStep (identique à ImageMath.smoothStep)
+float smoothStep(float edge0, float edge1, float x) {
+    float t = clamp((x - edge0) / (edge1 - edge0), 0.0, 1.0);
+    return t * t * (3.0 - 2.0 * t);
+}
+
+// Jitter de la cellule lu dans la texture de graines, centré sur 0
+vec2 cellJitter(vec2 gridPos) {
+    vec2 seedUV = (mod(gridPos, SEED_SIZE) + 0.5) / SEED_SIZE;
+    return texture2D(u_seeds, seedUV).rg - 0.5;
+}
+
+void main() {
+    vec2 uv = v_texCoords;
+    
+    // Corriger l'inversion Y (LibGDX vs OpenGL) - uniquement pour le rendu dans un FBO
+    if (!u_directPass) {
+        uv.y = 1.0 - uv.y;
+    }
+    
+    vec2 pixelCoords = uv * u_resolution;
+    vec2 center = u_resolution * 0.5;
+    vec2 centeredCoords = pixelCoords - center;
+    
+    // Taille de grille équivalente à 3 graines par cellule du mode fidèle
+    float cellSize = u_crystalSize / DENSITY_SCALE;
+    vec2 p = vec2(centeredCoords.x / cellSize, centeredCoords.y / (cellSize * u_stretch));
+    
+    // Décalage pour éviter les artefacts autour de 0,0 (identique à JHLabs)
+    p += 1000.0;
+    
+    float jitterScale = 0.8 + u_randomness * 0.4;
+    float minDist1 = 999999.0;
+    float minDist2 = 999999.0;
+    vec2 closestCell1 = vec2(0.0);
+    vec2 closestCell2 = vec2(0.0);
+    vec2 base = floor(p);
+    
+    for (int i = -1; i <= 1; i++) {
+        for (int j = -1; j <= 1; j++) {
+            vec2 gridPos = base + vec2(float(i), float(j));
+            vec2 cellCenter = gridPos + 0.5 + cellJitter(gridPos) * jitterScale;
+            float dist = distance(p, cellCenter);
+            
+            if (dist < minDist1) {
+                minDist2 = minDist1;
+                closestCell2 = closestCell1;
+                minDist1 = dist;
+                closestCell1 = cellCenter;
+            } else if (dist < minDist2) {
+                minDist2 = dist;
+                closestCell2 = cellCenter;
+            }
+        }
+    }
+    
+    // Retour en coordonnées image (inverse de la transformation ci-dessus)
+    vec2 src = vec2((closestCell1.x - 1000.0) * cellSize,
+                    (closestCell1.y - 1000.0) * cellSize * u_stretch) + center;
+    src = clamp(src, vec2(0.0), u_resolution - 1.0);
+    vec4 color = texture2D(u_texture, src / u_resolution);
+    
+    // Calculer le facteur de bord (identique au mode fidèle)
+    float f = (minDist2 - minDist1) / u_edgeThickness;
+    f = smoothStep(0.0, u_edgeThickness, f);
+    
+    if (u_fadeEdges) {
+        vec2 src2 = vec2((closestCell2.x - 1000.0) * cellSize,
+                         (closestCell2.y - 1000.0) * cellSize * u_stretch) + center;
+        src2 = clamp(src2, vec2(0.0), u_resolution - 1.0);
+        vec4 color2 = texture2D(u_texture, src2 / u_resolution);
+        gl_FragColor = mix(mix(color2, color, 0.5), color, f);
+    } else {
+        gl_FragColor = mix(u_edgeColor, color, f);
+    }
+}
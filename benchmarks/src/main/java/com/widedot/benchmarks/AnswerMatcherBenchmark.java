@@ -0,0 +1,138 @@
+package com.widedot.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.widedot.calendar.utils.AnswerMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Answer matching of the QNA and CGG games on the questions of assets/quizz/*.json.
+ * For each question, four submissions are checked against the answer and its alternatives:
+ * the answer as written, an alternative in lower case, the answer with two letters swapped
+ * (typo) and the answer of another question (wrong). One operation checks the whole corpus.
+ * compiledMatches is the path of the games: answers normalized once into an AnswerSet, early
+ * rejection below the threshold. matchesAny compiles the answers on every call.
+ * levenshteinDistance and jaroWinklerSimilarity are private: they are measured through
+ * getSimilarityScore, which runs both on every pair that is not an exact match.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnswerMatcherBenchmark {
+    private static final String QUIZ_DIRECTORY = "quizz";
+
+    private String[] inputs;
+    private String[][] acceptableAnswers;
+    private AnswerMatcher.AnswerSet[] answerSets;
+
+    @Setup
+    public void setUp() {
+        BenchmarkEnvironment.initialize();
+
+        Array<String[]> questions = new Array<>();
+        JsonReader reader = new JsonReader();
+        for (FileHandle file : Gdx.files.internal(QUIZ_DIRECTORY).list(".json")) {
+            JsonValue root = reader.parse(file);
+            for (JsonValue question = root.getChild("questions"); question != null; question = question.next) {
+                String[] alternatives = question.has("alternatives") ? question.get("alternatives").asStringArray() : new String[0];
+                String[] answers = new String[alternatives.length + 1];
+                answers[0] = question.getString("answer");
+                System.arraycopy(alternatives, 0, answers, 1, alternatives.length);
+                questions.add(answers);
+            }
+        }
+        if (questions.size == 0) {
+            throw new IllegalStateException("No question found in " + QUIZ_DIRECTORY + " (run from the assets folder)");
+        }
+
+        inputs = new String[questions.size * 4];
+        acceptableAnswers = new String[inputs.length][];
+        answerSets = new AnswerMatcher.AnswerSet[inputs.length];
+        int count = 0;
+        for (int i = 0; i < questions.size; i++) {
+            String[] answers = questions.get(i);
+            AnswerMatcher.AnswerSet answerSet = new AnswerMatcher.AnswerSet(answers);
+            String answer = answers[0];
+            String[] submissions = {
+                answer,
+                (answers.length > 1 ? answers[1] : answer).toLowerCase(),
+                swapLetters(answer),
+                questions.get((i + 1) % questions.size)[0]
+            };
+            for (String submission : submissions) {
+                inputs[count] = submission;
+                acceptableAnswers[count] = answers;
+                answerSets[count] = answerSet;
+                count++;
+            }
+        }
+    }
+
+    @Benchmark
+    public void matchesAny(Blackhole blackhole) {
+        for (int i = 0; i < inputs.length; i++) {
+            blackhole.consume(AnswerMatcher.matchesAny(inputs[i], acceptableAnswers[i]));
+        }
+    }
+
+    @Benchmark
+    public void compiledMatches(Blackhole blackhole) {
+        for (int i = 0; i < inputs.length; i++) {
+            blackhole.consume(answerSets[i].matches(inputs[i]));
+        }
+    }
+
+    @Benchmark
+    public void findBestMatchWithScore(Blackhole blackhole) {
+        for (int i = 0; i < inputs.length; i++) {
+            blackhole.consume(AnswerMatcher.findBestMatchWithScore(inputs[i], acceptableAnswers[i]));
+        }
+    }
+
+    @Benchmark
+    public void getSimilarityScore(Blackhole blackhole) {
+        for (int i = 0; i < inputs.length; i++) {
+            blackhole.consume(AnswerMatcher.getSimilarityScore(acceptableAnswers[i][0], inputs[i]));
+        }
+    }
+
+    @Benchmark
+    public void normalize(Blackhole blackhole) {
+        for (int i = 0; i < inputs.length; i++) {
+            blackhole.consume(AnswerMatcher.normalize(inputs[i]));
+        }
+    }
+
+    /**
+     * Typo: the two letters in the middle of the text are swapped
+     */
+    private static String swapLetters(String text) {
+        if (text.length() < 4) {
+            return text + "e";
+        }
+        char[] chars = text.toCharArray();
+        int middle = chars.length / 2;
+        char swapped = chars[middle];
+        chars[middle] = chars[middle - 1];
+        chars[middle - 1] = swapped;
+        return new String(chars);
+    }
+}
@@ -0,0 +1,37 @@
+package com.widedot.benchmarks;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.widedot.calendar.platform.PlatformFactory;
+import com.widedot.perf.HeadlessPerfPlatform;
+
+/**
+ * libGDX environment shared by the benchmarks: a headless application (files, natives for
+ * Pixmap, Gdx.app) and the platform of the performance harness.
+ * Logging is turned off: the messages are still built, as in the game, but not printed.
+ * The benchmarks must run from the assets folder (see the jmh task).
+ */
+public final class BenchmarkEnvironment {
+    private static boolean initialized;
+
+    private BenchmarkEnvironment() {
+    }
+
+    public static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // No render loop: the benchmarks call the code directly
+        config.updatesPerSecond = -1;
+        config.preferencesDirectory = ".prefs-perf/";
+        new HeadlessApplication(new ApplicationAdapter() {
+        }, config);
+        Gdx.app.setLogLevel(Application.LOG_NONE);
+        PlatformFactory.setPlatform(new HeadlessPerfPlatform());
+        initialized = true;
+    }
+}
@@ -0,0 +1,67 @@
+package com.widedot.benchmarks;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.widedot.calendar.effects.HSLColorFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU colorization of a grayscale background (fallback of HSLColorizer when framebuffers are
+ * unavailable). The platform of the benchmarks runs runParallel() on the calling thread:
+ * the result is the single core cost, the desktop divides it between its cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HSLColorFilterBenchmark {
+    @Param({"1024", "2048"})
+    public int size;
+
+    private Pixmap pixmap;
+
+    @Setup
+    public void setUp() {
+        BenchmarkEnvironment.initialize();
+
+        // Diagonal gray gradient: every r+g+b sum of the filter table is used
+        pixmap = new Pixmap(size, size, Pixmap.Format.RGBA8888);
+        ByteBuffer pixels = pixmap.getPixels();
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int gray = (x + y) * 255 / (2 * size - 2);
+                int index = (y * size + x) * 4;
+                pixels.put(index, (byte) gray);
+                pixels.put(index + 1, (byte) gray);
+                pixels.put(index + 2, (byte) gray);
+                pixels.put(index + 3, (byte) 255);
+            }
+        }
+    }
+
+    @Benchmark
+    public Pixmap applyHSLFilter() {
+        HSLColorFilter.applyHSLFilter(pixmap, 210, 45, 10);
+        return pixmap;
+    }
+
+    @TearDown
+    public void tearDown() {
+        pixmap.dispose();
+    }
+}
@@ -0,0 +1,39 @@
+package com.widedot.calendar.config;
+
+import com.widedot.benchmarks.BenchmarkEnvironment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading of the configuration files (config, day mapping, games, templates, themes) into a
+ * ConfigSnapshot, as done once at startup and on each hot reload.
+ * In the config package because ConfigSnapshot.load() is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigLoadBenchmark {
+
+    @Setup
+    public void setUp() {
+        BenchmarkEnvironment.initialize();
+    }
+
+    @Benchmark
+    public ConfigSnapshot load() {
+        return ConfigSnapshot.load();
+    }
+}
@@ -0,0 +1,64 @@
+package com.widedot.calendar.screens;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluation of Mastermind guesses (MastermindGameScreen.calculateResult) on random codes of
+ * TOKENS_IN_COMBINATION tokens among TOKEN_TYPES. One operation evaluates GUESSES guesses.
+ * In the screens package because calculateResult() is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MastermindBenchmark {
+    private static final int GUESSES = 1024;
+    private static final int CODE_LENGTH = 4;
+    private static final int TOKEN_TYPES = 6;
+
+    private Array<Integer>[] secrets;
+    private Array<Integer>[] guesses;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        RandomXS128 random = new RandomXS128(42);
+        secrets = new Array[GUESSES];
+        guesses = new Array[GUESSES];
+        for (int i = 0; i < GUESSES; i++) {
+            secrets[i] = randomCode(random);
+            guesses[i] = randomCode(random);
+        }
+    }
+
+    @Benchmark
+    public void calculateResult(Blackhole blackhole) {
+        for (int i = 0; i < GUESSES; i++) {
+            blackhole.consume(MastermindGameScreen.calculateResult(guesses[i], secrets[i], CODE_LENGTH));
+        }
+    }
+
+    private static Array<Integer> randomCode(RandomXS128 random) {
+        Array<Integer> code = new Array<>(CODE_LENGTH);
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            code.add(random.nextInt(TOKEN_TYPES));
+        }
+        return code;
+    }
+}
@@ -0,0 +1,46 @@
+package com.widedot.calendar.screens;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shuffle of the sliding puzzle (SlidingPuzzleGameScreen.shuffleSolvable) for the grid sizes
+ * and move counts used by the games.
+ * In the screens package because shuffleSolvable() is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlidingPuzzleShuffleBenchmark {
+    @Param({"3", "4", "5"})
+    public int gridSize;
+
+    @Param({"200", "1000"})
+    public int moves;
+
+    private int[] puzzleState;
+
+    @Setup
+    public void setUp() {
+        puzzleState = new int[gridSize * gridSize];
+    }
+
+    @Benchmark
+    public int shuffleSolvable() {
+        return SlidingPuzzleGameScreen.shuffleSolvable(puzzleState, gridSize, moves);
+    }
+}
@@ -4,24 +4,31 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
-import com.badlogic.gdx.Preferences;
 import com.widedot.calendar.config.Config;
 import com.widedot.calendar.game.DynamicGameScreenFactory;
 import com.widedot.calendar.config.ThemeManager;
 import com.widedot.calendar.data.Theme;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.TimeUtils;
+import com.widedot.calendar.game.GamePrefetcher;
 import com.widedot.calendar.game.GameState;
+import com.widedot.calendar.game.ProgressStore;
+import com.widedot.calendar.game.SaveManager;
+import com.widedot.calendar.display.FrameBufferPool;
+import com.widedot.calendar.display.RenderContext;
+import com.widedot.calendar.effects.CrystallizeLevelCache;
+import com.widedot.calendar.utils.AssetManifest;
+import com.widedot.calendar.utils.PaintingStreamer;
+import com.widedot.calendar.utils.ResourceManager;
 
 /**
  * Classe principale du jeu
  */
 public class AdventCalendarGame extends Game {
    
-    // Batch graphique
-    private SpriteBatch batch;
+    // Contexte de rendu partagé par tous les écrans (batch, texture blanche, shaders)
+    private final RenderContext renderContext;
     
     // Gestion temporelle
     private long currentTime;
@@ -29,36 +36,33 @@ public class AdventCalendarGame extends Game {
     
     // Fabrique d'écrans de jeu
     private final DynamicGameScreenFactory gameScreenFactory;
+    private final GamePrefetcher gamePrefetcher;
+    
+    // Écran du calendrier, conservé entre deux mini-jeux
+    private AdventCalendarScreen calendarScreen;
     
     // Gestionnaires
     private final ThemeManager themeManager;
     private final GameState gameState;
     
-    // Maps pour stocker l'état des peintures
-    private final ObjectMap<Integer, Boolean> unlockedPaintings;
-    private final ObjectMap<Integer, Integer> scores;
-    private final ObjectMap<Integer, Boolean> visitedPaintings;
+    // État des peintures (déverrouillage, visite, score), partagé avec GameState
+    private final ProgressStore progress;
     private final RandomXS128 random;
     
-    // Nom des préférences pour la sauvegarde
-    private static final String PREFERENCES_NAME = "advent_calendar_save";
-    private static final String KEY_UNLOCKED_PREFIX = "unlocked_";
-    private static final String KEY_SCORE_PREFIX = "score_";
-    private static final String KEY_VISITED_PREFIX = "visited_";
+    // Sauvegarde différée de la progression
+    private final SaveManager saveManager;
     
     /**
      * Constructeur
      */
     public AdventCalendarGame() {
-        this.batch = new SpriteBatch();
+        // Avant le premier accès à Config : se recouvre avec ConfigRegistry.preload()
+        this.renderContext = new RenderContext();
         this.config = Config.getInstance();
         this.gameScreenFactory = DynamicGameScreenFactory.getInstance();
+        this.gamePrefetcher = new GamePrefetcher(this);
         this.themeManager = ThemeManager.getInstance();
         
-        this.unlockedPaintings = new ObjectMap<>();
-        this.scores = new ObjectMap<>();
-        this.visitedPaintings = new ObjectMap<>();
-        
         // Initialiser le générateur aléatoire
         this.random = new RandomXS128();
         
@@ -66,20 +70,17 @@ public class AdventCalendarGame extends Game {
         this.gameState = GameState.getInstance(this);
         this.gameState.initializeGameSeed(config.getGameSeed());
         
-        // Initialiser tous les tableaux comme verrouillés
-        for (int i = 1; i <= 24; i++) {
-            unlockedPaintings.put(i, false);
-            scores.put(i, 0);
-            visitedPaintings.put(i, false);
-        }
+        // Tous les tableaux sont verrouillés au départ
+        this.progress = gameState.getProgress();
+        this.saveManager = new SaveManager(progress, gameState.getGameSeed());
         
         // Charger l'état de la partie depuis les préférences
         loadGameState();
         
         // En mode test, tous les jours sont déverrouillés seulement si unlocked=true
         if (config.isTestModeEnabled() && config.isTestUnlocked()) {
-            for (int i = 1; i <= 24; i++) {
-                unlockedPaintings.put(i, true);
+            for (int i = 1; i <= progress.getDayCount(); i++) {
+                progress.setUnlocked(i, true);
             }
         }
         
@@ -95,29 +96,39 @@ public class AdventCalendarGame extends Game {
     }
     
     /**
-     * Sauvegarde l'état actuel du jeu dans les préférences
+     * Récupère l'écran du calendrier. Il est créé une seule fois puis réutilisé
+     * à chaque retour de mini-jeu (textures, sons et batch conservés).
+     * @return L'écran du calendrier
      */
-    public void saveGameState() {
-        Preferences prefs = Gdx.app.getPreferences(PREFERENCES_NAME);
-        Gdx.app.log("AdventCalendarGame", "Sauvegarde de l'état du jeu dans le répertoire: " + Gdx.files.getLocalStoragePath());
-        // Sauvegarder l'état de déverrouillage
-        for (int i = 1; i <= 24; i++) {
-            prefs.putBoolean(KEY_UNLOCKED_PREFIX + i, unlockedPaintings.get(i));
+    public AdventCalendarScreen getCalendarScreen() {
+        if (calendarScreen == null) {
+            calendarScreen = new AdventCalendarScreen(this);
         }
-        
-        // Sauvegarder les scores
-        for (int i = 1; i <= 24; i++) {
-            prefs.putInteger(KEY_SCORE_PREFIX + i, scores.get(i));
-        }
-        
-        // Sauvegarder l'état de visite
-        for (int i = 1; i <= 24; i++) {
-            prefs.putBoolean(KEY_VISITED_PREFIX + i, visitedPaintings.get(i));
-        }
-        
-        // Enregistrer les changements
-        prefs.flush();
-        Gdx.app.log("AdventCalendarGame", "État du jeu sauvegardé");
+        return calendarScreen;
+    }
+    
+    /**
+     * Récupère le préchargeur des ressources du prochain jeu
+     * @return Le préchargeur
+     */
+    public GamePrefetcher getGamePrefetcher() {
+        return gamePrefetcher;
+    }
+    
+    /**
+     * Signale que l'état du jeu a changé. L'écriture dans les préférences est différée
+     * et regroupée avec les modifications suivantes (voir SaveManager).
+     */
+    public void saveGameState() {
+        saveManager.markDirty();
+    }
+    
+    /**
+     * Récupère le gestionnaire de sauvegarde (données de reprise des mini-jeux)
+     * @return Le gestionnaire de sauvegarde
+     */
+    public SaveManager getSaveManager() {
+        return saveManager;
     }
     
     /**
@@ -130,99 +141,91 @@ public class AdventCalendarGame extends Game {
             return;
         }
 
-        Preferences prefs = Gdx.app.getPreferences(PREFERENCES_NAME);
-        
-        // Vérifier si des préférences existent
-        boolean hasPrefs = false;
-        for (int i = 1; i <= 24; i++) {
-            if (prefs.contains(KEY_UNLOCKED_PREFIX + i)) {
-                hasPrefs = true;
-                break;
-            }
-        }
-        
-        if (!hasPrefs) {
+        if (!saveManager.load()) {
             Gdx.app.log("AdventCalendarGame", "Aucune sauvegarde trouvée, utilisation des valeurs par défaut");
             return;
         }
         
-        // Charger l'état de déverrouillage
-        for (int i = 1; i <= 24; i++) {
-            if (prefs.contains(KEY_UNLOCKED_PREFIX + i)) {
-                unlockedPaintings.put(i, prefs.getBoolean(KEY_UNLOCKED_PREFIX + i));
-            }
-        }
-        
-        // Charger les scores
-        for (int i = 1; i <= 24; i++) {
-            if (prefs.contains(KEY_SCORE_PREFIX + i)) {
-                scores.put(i, prefs.getInteger(KEY_SCORE_PREFIX + i));
-            }
-        }
-        
-        // Charger l'état de visite
-        for (int i = 1; i <= 24; i++) {
-            if (prefs.contains(KEY_VISITED_PREFIX + i)) {
-                visitedPaintings.put(i, prefs.getBoolean(KEY_VISITED_PREFIX + i));
-            }
+        // Conserver l'ordre des jours de la partie sauvegardée
+        if (saveManager.getSeed() != gameState.getGameSeed()) {
+            Gdx.app.log("AdventCalendarGame", "Graine de la sauvegarde (" + saveManager.getSeed() + ") utilisée à la place de celle de la configuration");
+            gameState.initializeGameSeed(saveManager.getSeed());
         }
         
         Gdx.app.log("AdventCalendarGame", "État du jeu chargé");
     }
     
     /**
-     * Vérifie si un jour peut être déverrouillé
+     * Vérifie si un jour peut être déverrouillé, en journalisant la raison
      * @param day L'ID du jour à vérifier
      * @return true si le jour peut être déverrouillé, false sinon
      */
     public boolean canUnlock(int day) {
+        String reason = getLockReason(day, true);
+        if (reason != null) {
+            Gdx.app.log("AdventCalendarGame", reason);
+            return false;
+        }
+        Gdx.app.log("AdventCalendarGame", "Le jour " + day + " peut être déverrouillé");
+        return true;
+    }
+    
+    /**
+     * Même règle que canUnlock(), sans journalisation (vérifications répétées)
+     * @param day L'ID du jour à vérifier
+     * @return true si le jour peut être déverrouillé, false sinon
+     */
+    public boolean isUnlockable(int day) {
+        return getLockReason(day, false) == null;
+    }
+    
+    /**
+     * Raison pour laquelle un jour ne peut pas être déverrouillé
+     * @param day L'ID du jour à vérifier
+     * @param verbose true pour journaliser le détail de la vérification de date
+     * @return La raison, ou null si le jour peut être déverrouillé
+     */
+    private String getLockReason(int day, boolean verbose) {
         // Vérifier si le tableau existe
         if (!themeManager.hasThemeForDay(day)) {
-            Gdx.app.log("AdventCalendarGame", "Aucun tableau associé au jour " + day);
-            return false;
+            return "Aucun tableau associé au jour " + day;
         }
         
-        // Vérifier si le jour est déjà déverrouillé
-        if (unlockedPaintings.get(day)) {
-            Gdx.app.log("AdventCalendarGame", "Le jour " + day + " est déjà déverrouillé");
-            return true;
+        // Un jour déjà déverrouillé le reste
+        if (progress.isUnlocked(day)) {
+            return null;
         }
         
-        // Vérifier si le jour est valide (entre 1 et 24)
-        if (day < 1 || day > 24) {
-            Gdx.app.log("AdventCalendarGame", "Le jour " + day + " n'est pas valide (doit être entre 1 et 24)");
-            return false;
+        // Vérifier si le jour fait partie du calendrier
+        if (!progress.isValidDay(day)) {
+            return "Le jour " + day + " n'est pas valide (doit être entre 1 et " + progress.getDayCount() + ")";
         }
         
         // Vérifier si le jour est déjà passé ou en cours
-        if (!isDayValid(day)) {
-            Gdx.app.log("AdventCalendarGame", "Le jour " + day + " n'est pas encore valide (date)");
-            return false;
+        if (!isDayValid(day, verbose)) {
+            return "Le jour " + day + " n'est pas encore valide (date)";
         }
         
         // Cas particulier pour le jour 1 (pas de jour précédent)
         if (day == 1) {
-            Gdx.app.log("AdventCalendarGame", "Le jour 1 peut toujours être déverrouillé");
-            return true;
+            return null;
         }
         
         // Vérifier si le jour précédent a été déverrouillé et résolu
         int previousDay = day - 1;
-        if (!unlockedPaintings.get(previousDay) || scores.get(previousDay) == 0) {
-            Gdx.app.log("AdventCalendarGame", "Le jour précédent " + previousDay + " n'a pas été déverrouillé ou résolu");
-            return false;
+        if (!progress.isUnlocked(previousDay) || progress.getScore(previousDay) == 0) {
+            return "Le jour précédent " + previousDay + " n'a pas été déverrouillé ou résolu";
         }
-        
-        Gdx.app.log("AdventCalendarGame", "Le jour " + day + " peut être déverrouillé");
-        return true;
+        return null;
     }
     
     /**
      * Vérifie si un jour est valide (déjà passé ou en cours)
      * @param day L'ID du jour à vérifier
+     * @param verbose true pour journaliser le détail de la vérification
      * @return true si le jour est valide, false sinon
      */
-    private boolean isDayValid(int day) {
+    private boolean isDayValid(int day, boolean verbose) {
         String calendarMode = config.getCalendarMode();
         
         // Déterminer la date de référence (date actuelle ou date de test)
@@ -235,17 +238,19 @@ public class AdventCalendarGame extends Game {
             referenceTime = testTime;
         }
 
-        Gdx.app.log("AdventCalendarGame", "calendarMode: " + calendarMode);
-        Gdx.app.log("AdventCalendarGame", "referenceTime: " + referenceTime);
+        if (verbose) {
+            Gdx.app.log("AdventCalendarGame", "calendarMode: " + calendarMode);
+            Gdx.app.log("AdventCalendarGame", "referenceTime: " + referenceTime);
+        }
         
         switch (calendarMode) {
             case "month":
-                return isValidDayInMonth(day, referenceTime);
+                return isValidDayInMonth(day, referenceTime, verbose);
             case "year":
                 return isValidDayInYear(day, referenceTime);
             default:
                 // Mode par défaut est "month"
-                return isValidDayInMonth(day, referenceTime);
+                return isValidDayInMonth(day, referenceTime, verbose);
         }
     }
     
@@ -253,9 +258,10 @@ public class AdventCalendarGame extends Game {
      * Vérifie si un jour est valide dans le mode "month"
      * @param day Le jour à vérifier
      * @param referenceTime La date de référence (actuelle ou de test)
+     * @param verbose true pour journaliser le détail du calcul
      * @return true si le jour est valide, false sinon
      */
-    private boolean isValidDayInMonth(int day, long referenceTime) {
+    private boolean isValidDayInMonth(int day, long referenceTime, boolean verbose) {
         if (day < 1 || day > 31) {
             return false;
         }
@@ -270,18 +276,24 @@ public class AdventCalendarGame extends Game {
         long targetTimeMonthYear = targetTime / (1000 * 60 * 60 * 24 * 30);
         long targetTimeMonthDay = targetTime / (1000 * 60 * 60 * 24) - targetTimeMonthYear * 30;
         
-        Gdx.app.log("AdventCalendarGame", "Mois configuré: " + (targetTimeMonthDay + 1) + ", max jours: " + targetTimeMonthDay);
-        Gdx.app.log("AdventCalendarGame", "Jour demandé: " + day + ", jour référence: " + targetTimeMonthDay);
+        if (verbose) {
+            Gdx.app.log("AdventCalendarGame", "Mois configuré: " + (targetTimeMonthDay + 1) + ", max jours: " + targetTimeMonthDay);
+            Gdx.app.log("AdventCalendarGame", "Jour demandé: " + day + ", jour référence: " + targetTimeMonthDay);
+        }
         
         // Si le jour demandé dépasse le nombre de jours dans le mois, c'est invalide
         if (day > targetTimeMonthDay) {
-            Gdx.app.log("AdventCalendarGame", "Jour " + day + " dépasse le max de " + targetTimeMonthDay + " jours dans le mois");
+            if (verbose) {
+                Gdx.app.log("AdventCalendarGame", "Jour " + day + " dépasse le max de " + targetTimeMonthDay + " jours dans le mois");
+            }
             return false;
         }
         
         // Le jour est valide si le jour courant est >= au jour demandé
         boolean isValid = targetTimeMonthDay >= day;
-        Gdx.app.log("AdventCalendarGame", "Jour " + day + " est " + (isValid ? "valide" : "invalide") + " (jour courant: " + targetTimeMonthDay + ")");
+        if (verbose) {
+            Gdx.app.log("AdventCalendarGame", "Jour " + day + " est " + (isValid ? "valide" : "invalide") + " (jour courant: " + targetTimeMonthDay + ")");
+        }
         return isValid;
     }
     
@@ -320,9 +332,9 @@ public class AdventCalendarGame extends Game {
      */
     public boolean unlock(int day) {
         if (canUnlock(day)) {
-            unlockedPaintings.put(day, true);
+            progress.setUnlocked(day, true);
             // Réinitialiser l'état de visite
-            visitedPaintings.put(day, false);
+            progress.setVisited(day, false);
             
             // Sauvegarder l'état après déverrouillage
             saveGameState();
@@ -338,7 +350,7 @@ public class AdventCalendarGame extends Game {
      * @return true si le tableau est déverrouillé, false sinon
      */
     public boolean isUnlocked(int day) {
-        return unlockedPaintings.get(day);
+        return progress.isUnlocked(day);
     }
     
     /**
@@ -347,7 +359,7 @@ public class AdventCalendarGame extends Game {
      * @return true si le tableau a été visité, false sinon
      */
     public boolean isVisited(int day) {
-        return visitedPaintings.containsKey(day) && visitedPaintings.get(day);
+        return progress.isVisited(day);
     }
     
     /**
@@ -356,12 +368,12 @@ public class AdventCalendarGame extends Game {
      * @param visited true si visité, false sinon
      */
     public void setVisited(int day, boolean visited) {
-        visitedPaintings.put(day, visited);
+        progress.setVisited(day, visited);
         
         // Si le jour est marqué comme visité (jeu terminé), déverrouiller le jour suivant
         if (visited) {
             int nextDay = day + 1;
-            if (nextDay <= 24 && !isUnlocked(nextDay)) {
+            if (progress.isValidDay(nextDay) && !isUnlocked(nextDay)) {
                 Gdx.app.log("AdventCalendarGame", "Jeu du jour " + day + " terminé, déverrouillage automatique du jour " + nextDay);
                 unlock(nextDay);
             }
@@ -386,7 +398,7 @@ public class AdventCalendarGame extends Game {
      * @return Le score du jour
      */
     public int getScore(int day) {
-        return scores.get(day);
+        return progress.getScore(day);
     }
     
     /**
@@ -395,7 +407,7 @@ public class AdventCalendarGame extends Game {
      * @param score Le score à définir
      */
     public void setScore(int day, int score) {
-        scores.put(day, score);
+        progress.setScore(day, score);
         
         // Sauvegarder l'état après modification du score
         saveGameState();
@@ -409,7 +421,7 @@ public class AdventCalendarGame extends Game {
         Gdx.app.log("AdventCalendarGame", "launchGame() - Tentative de lancement du mini-jeu pour le jour " + day);
         
         // Vérifier d'abord que le jour est valide et déverrouillé
-        if (!isDayValid(day)) {
+        if (!isDayValid(day, true)) {
             Gdx.app.error("AdventCalendarGame", "launchGame() - Le jour " + day + " n'est pas valide");
             return;
         }
@@ -438,14 +450,19 @@ public class AdventCalendarGame extends Game {
         Gdx.app.log("AdventCalendarGame", "launchGame() - Template de jeu: " + gameTemplate);
         
         try {
-            // Créer l'écran de jeu correspondant
-            Gdx.app.log("AdventCalendarGame", "launchGame() - Appel à gameScreenFactory.createGameScreen()");
-            Screen gameScreen = gameScreenFactory.createGameScreen(day, gameTemplate, this);
-            Gdx.app.log("AdventCalendarGame", "launchGame() - Écran de jeu créé avec succès: " + gameScreen.getClass().getSimpleName());
+            // Préparer l'écran de jeu correspondant : ses ressources sont chargées
+            // pendant la transition, l'écran n'est créé qu'ensuite
+            Gdx.app.log("AdventCalendarGame", "launchGame() - Appel à gameScreenFactory.createAssetManifest()");
+            AssetManifest gameAssets = gameScreenFactory.createAssetManifest(day, gameTemplate);
+            Gdx.app.log("AdventCalendarGame", "launchGame() - Manifeste de ressources: " + gameAssets.size() + " ressources");
             
             // Utiliser l'écran de transition pour passer au jeu
             Gdx.app.log("AdventCalendarGame", "launchGame() - Création de TransitionScreen");
-            com.widedot.calendar.screens.TransitionScreen transitionScreen = new com.widedot.calendar.screens.TransitionScreen(this, gameScreen);
+            com.widedot.calendar.screens.TransitionScreen transitionScreen = new com.widedot.calendar.screens.TransitionScreen(
+                this, () -> gameScreenFactory.createGameScreen(day, gameTemplate, this), gameAssets);
+            // La transition détient maintenant sa propre référence : les ressources préchargées
+            // pour ce jour restent en mémoire, celles d'un autre jour sont libérées
+            gamePrefetcher.release();
             Gdx.app.log("AdventCalendarGame", "launchGame() - TransitionScreen créé, appel à setScreen()");
             setScreen(transitionScreen);
             Gdx.app.log("AdventCalendarGame", "launchGame() - setScreen() terminé avec succès");
@@ -476,7 +493,7 @@ public class AdventCalendarGame extends Game {
         }
         
         Gdx.app.log("AdventCalendarGame", "Setting screen to AdventCalendarScreen");
-        setScreen(new AdventCalendarScreen(this));
+        setScreen(getCalendarScreen());
         Gdx.app.log("AdventCalendarGame", "AdventCalendarScreen set");
     }
     
@@ -486,8 +503,15 @@ public class AdventCalendarGame extends Game {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
         
-        // Rendre l'écran actif
+        // Rendre l'écran actif, avec un batch partagé remis à son état par défaut
+        renderContext.reset();
         super.render();
+        
+        // Envoyer au GPU la suite des tableaux en cours de chargement (desktop)
+        PaintingStreamer.getInstance().update(renderContext.getBatch());
+        
+        // Écrire la progression en fin de frame si des modifications sont en attente
+        saveManager.update();
     }
     
     @Override
@@ -498,8 +522,8 @@ public class AdventCalendarGame extends Game {
     @Override
     public void pause() {
         super.pause();
-        // Sauvegarder l'état du jeu lors de la mise en pause (important pour les applications mobiles)
-        saveGameState();
+        // Écrire immédiatement l'état du jeu lors de la mise en pause (important pour les applications mobiles)
+        saveManager.flush();
     }
     
     @Override
@@ -509,22 +533,39 @@ public class AdventCalendarGame extends Game {
     
     @Override
     public void dispose() {
-        // Sauvegarder l'état avant de fermer
-        saveGameState();
+        // Écrire immédiatement l'état avant de fermer
+        saveManager.flush();
         
         // Libérer les ressources
-        batch.dispose();
-        if (getScreen() != null) {
+        if (getScreen() != null && getScreen() != calendarScreen) {
             getScreen().dispose();
         }
+        if (calendarScreen != null) {
+            calendarScreen.dispose();
+            calendarScreen = null;
+        }
+        gameScreenFactory.clearPool();
+        CrystallizeLevelCache.getInstance().clear();
+        FrameBufferPool.clear();
+        gamePrefetcher.release();
+        ResourceManager.getInstance().dispose();
+        renderContext.dispose();
+    }
+    
+    /**
+     * Récupère le contexte de rendu partagé
+     * @return Le contexte de rendu
+     */
+    public RenderContext getRenderContext() {
+        return renderContext;
     }
     
     /**
-     * Récupère le batch graphique
+     * Récupère le batch graphique partagé
      * @return Le batch graphique
      */
     public SpriteBatch getBatch() {
-        return batch;
+        return renderContext.getBatch();
     }
     
     /**
@@ -16,15 +16,18 @@ import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
-import com.badlogic.gdx.utils.ObjectMap;
 import com.widedot.calendar.config.ThemeManager;
 import com.widedot.calendar.data.Theme;
+import com.widedot.calendar.debug.AllocationCounter;
+import com.widedot.calendar.debug.RenderStatsOverlay;
+import com.widedot.calendar.game.ProgressStore;
 import com.widedot.calendar.screens.TransitionScreen;
 import com.widedot.calendar.utils.CarlitoFontManager;
 
@@ -39,6 +42,8 @@ public class AdventCalendarScreen implements Screen {
     private static final float DOOR_SLIDE_SPEED = 2.0f;
     private static final float DRAG_THRESHOLD = 10f;
     private static final int FALLBACK_TEXTURE_SIZE = 64;
+    private static final int PREFETCH_BUDGET_MS = 3;
+    private static final int DAY_COUNT = ProgressStore.ADVENT_DAYS;
     
     // Resource paths
     private static final String FOREGROUND_TEXTURE_PATH = "images/calendar/foreground.png";
@@ -49,6 +54,9 @@ public class AdventCalendarScreen implements Screen {
     private static final String LOCKED_SOUND_PATH = "audio/locked.mp3";
     private static final String OPEN_SOUND_PATH = "audio/open2.mp3";
     private static final String ENTER_SOUND_PATH = "audio/enter.mp3";
+    // Atlas générés par tools:packCalendarAtlas (repli sur les images une à une s'ils sont absents)
+    private static final String CALENDAR_ATLAS_PATH = "images/calendar/atlas/calendar.atlas";
+    private static final String ICONS_ATLAS_PATH = "images/calendar/atlas/icons.atlas";
 
     // Core components
     private final AdventCalendarGame adventGame;
@@ -58,23 +66,36 @@ public class AdventCalendarScreen implements Screen {
     private final BitmapFont font;
     private final ThemeManager themeManager;
 
-    // Textures
-    private final Texture foregroundTexture;
-    private final Texture shadowTexture;
-    private final Texture arrowTexture;
-    private final ObjectMap<String, Texture> themeIconTextures = new ObjectMap<>();
-    private final ObjectMap<Integer, Texture> doorTextures = new ObjectMap<>();
+    // Textures : régions des atlas du calendrier, ou textures chargées une à une en repli
+    private final TextureAtlas calendarAtlas;
+    private final TextureAtlas iconsAtlas;
+    private final Array<Texture> looseTextures = new Array<>();
+    private final TextureRegion foregroundRegion;
+    private final TextureRegion shadowRegion;
+    private final TextureRegion arrowRegion;
+    private final RenderStatsOverlay renderStats;
+    private final AllocationCounter allocationCounter;
 
     // Sounds
     private Sound lockedSound;
     private Sound openSound;
     private Sound enterSound;
 
-    // Door system
+    // Door system : tableaux indexés par jour (index 0 inutilisé), sans boxing dans la boucle de rendu
     private final Array<DoorPosition> originalDoorPositions = new Array<>();
-    private final ObjectMap<Integer, Rectangle> boxes = new ObjectMap<>();
-    private final ObjectMap<Integer, Float> doorSlideProgress = new ObjectMap<>();
-    private final ObjectMap<Integer, Boolean> doorSliding = new ObjectMap<>();
+    private final Rectangle[] boxes = new Rectangle[DAY_COUNT + 1];
+    private final float[] doorSlideProgress = new float[DAY_COUNT + 1];
+    private final boolean[] doorSliding = new boolean[DAY_COUNT + 1];
+    private final TextureRegion[] doorRegions = new TextureRegion[DAY_COUNT + 1];
+    // Icônes des tableaux, résolues au premier affichage (null si introuvable)
+    private final TextureRegion[] themeIconRegions = new TextureRegion[DAY_COUNT + 1];
+    private final boolean[] themeIconResolved = new boolean[DAY_COUNT + 1];
+
+    // Disposition de l'avant-plan, recalculée uniquement au redimensionnement
+    private float foregroundX;
+    private float foregroundY;
+    private float foregroundWidth;
+    private float foregroundHeight;
     
     // Arrow animation
     private float arrowAnimationTime = 0f;
@@ -139,15 +160,19 @@ public class AdventCalendarScreen implements Screen {
         this.camera.position.x = DisplayConfig.WORLD_WIDTH / 2;
         this.camera.update();
 
-        this.batch = new SpriteBatch();
+        this.batch = adventGame.getRenderContext().getBatch();
         CarlitoFontManager.initialize();
         this.font = CarlitoFontManager.getFont();
 
         // Load resources
-        this.foregroundTexture = loadTextureSafe(FOREGROUND_TEXTURE_PATH);
-        this.shadowTexture = loadTextureSafe(SHADOW_TEXTURE_PATH);
-        this.arrowTexture = loadTextureSafe(ARROW_TEXTURE_PATH);
+        this.calendarAtlas = loadAtlasSafe(CALENDAR_ATLAS_PATH);
+        this.iconsAtlas = loadAtlasSafe(ICONS_ATLAS_PATH);
+        this.foregroundRegion = findRegion("mask", FOREGROUND_TEXTURE_PATH);
+        this.shadowRegion = findRegion("shadow", SHADOW_TEXTURE_PATH);
+        this.arrowRegion = findRegion("arrow", ARROW_TEXTURE_PATH);
         loadSounds();
+        this.renderStats = new RenderStatsOverlay(batch);
+        this.allocationCounter = new AllocationCounter("AdventCalendarScreen");
 
         // Initialize door system
         initializeDoorSystem();
@@ -186,26 +211,26 @@ public class AdventCalendarScreen implements Screen {
                     int dayId = shuffledDays.get(doorNumber - 1);
                     
                     // Convert absolute JSON coordinates to relative (0-1) coordinates
-                    float relativeX = (float) rectData.getInt("x") / foregroundTexture.getWidth();
-                    float relativeY = 1.0f - ((float) (rectData.getInt("y") + rectData.getInt("height")) / foregroundTexture.getHeight());
-                    float relativeWidth = (float) rectData.getInt("width") / foregroundTexture.getWidth();
-                    float relativeHeight = (float) rectData.getInt("height") / foregroundTexture.getHeight();
+                    float relativeX = (float) rectData.getInt("x") / foregroundRegion.getRegionWidth();
+                    float relativeY = 1.0f - ((float) (rectData.getInt("y") + rectData.getInt("height")) / foregroundRegion.getRegionHeight());
+                    float relativeWidth = (float) rectData.getInt("width") / foregroundRegion.getRegionWidth();
+                    float relativeHeight = (float) rectData.getInt("height") / foregroundRegion.getRegionHeight();
                     
                     // Store door position and initialize state
                     originalDoorPositions.add(new DoorPosition(dayId, relativeX, relativeY, relativeWidth, relativeHeight));
-                    boxes.put(dayId, new Rectangle());
-                    doorSlideProgress.put(dayId, 0.0f);
-                    doorSliding.put(dayId, false);
+                    boxes[dayId] = new Rectangle();
+                    doorSlideProgress[dayId] = 0.0f;
+                    doorSliding[dayId] = false;
                     
-                    // Load door texture
+                    // Load door region
                     String doorPath = DOOR_IMAGE_PATH_PREFIX + doorNumber + ".png";
-                    doorTextures.put(dayId, loadTextureSafe(doorPath));
+                    doorRegions[dayId] = findRegion("door-" + doorNumber, doorPath);
                     
                     doorNumber++;
                 }
             }
             
-            updateDoorPositions();
+            updateLayout();
             
             // Déverrouiller la première case (jour 1 - case de départ)
             int startingDay = 1;
@@ -216,7 +241,7 @@ public class AdventCalendarScreen implements Screen {
             }
             Gdx.app.log("AdventCalendarScreen", "Is day 1 unlocked after init: " + adventGame.isUnlocked(startingDay));
             
-            Gdx.app.log("AdventCalendarScreen", "Loaded " + doorTextures.size + " doors");
+            Gdx.app.log("AdventCalendarScreen", "Loaded " + originalDoorPositions.size + " doors");
             
         } catch (Exception e) {
             Gdx.app.error("AdventCalendarScreen", "Failed to initialize door system", e);
@@ -227,6 +252,7 @@ public class AdventCalendarScreen implements Screen {
     public void render(float delta) {
         // Gestion des touches globales (F11 pour plein écran)
         InputManager.handleGlobalInput();
+        allocationCounter.begin();
         
         clearScreen();
         updateDoorAnimations(delta);
@@ -239,6 +265,14 @@ public class AdventCalendarScreen implements Screen {
         renderDoors();
         renderArrowAnimations();
         batch.end();
+        renderStats.render();
+        allocationCounter.end();
+        
+        // Préchargement du prochain jeu sur les images sans défilement
+        // (hors mesure : le chargement alloue par nature)
+        if (!isDragging) {
+            adventGame.getGamePrefetcher().update(PREFETCH_BUDGET_MS);
+        }
         
         // Input is now handled by InputProcessor for better HTML compatibility
         // Touch/click input handled in InputProcessor
@@ -266,13 +300,13 @@ public class AdventCalendarScreen implements Screen {
      * Only show images when the game is completed (score > 0)
      */
     private void renderPaintingIcons() {
-        for (int dayId = 1; dayId <= 24; dayId++) {
-            Rectangle box = boxes.get(dayId);
+        for (int dayId = 1; dayId <= DAY_COUNT; dayId++) {
+            Rectangle box = boxes[dayId];
             if (box == null) continue;
 
             // Only show the image if the game is completed (score > 0)
             if (adventGame.getScore(dayId) > 0) {
-                Texture themeIcon = getThemeIconForDay(dayId);
+                TextureRegion themeIcon = getThemeIconForDay(dayId);
                 if (themeIcon != null) {
                     renderScaledIcon(themeIcon, box);
                 }
@@ -283,8 +317,8 @@ public class AdventCalendarScreen implements Screen {
     /**
      * Render an icon scaled to fill its box while maintaining aspect ratio
      */
-    private void renderScaledIcon(Texture icon, Rectangle box) {
-        float iconAspectRatio = (float) icon.getWidth() / icon.getHeight();
+    private void renderScaledIcon(TextureRegion icon, Rectangle box) {
+        float iconAspectRatio = (float) icon.getRegionWidth() / icon.getRegionHeight();
         float boxAspectRatio = box.width / box.height;
         
         float iconWidth, iconHeight;
@@ -306,145 +340,102 @@ public class AdventCalendarScreen implements Screen {
      * Render foreground image and shadow overlay
      */
     private void renderForegroundAndShadow() {
-        ForegroundDimensions dims = calculateForegroundDimensions();
-        batch.draw(foregroundTexture, dims.x, dims.y, dims.width, dims.height);
-        batch.draw(shadowTexture, dims.x, dims.y, dims.width, dims.height);
+        batch.draw(foregroundRegion, foregroundX, foregroundY, foregroundWidth, foregroundHeight);
+        batch.draw(shadowRegion, foregroundX, foregroundY, foregroundWidth, foregroundHeight);
     }
 
     /**
-     * Calculate foreground image dimensions and position
+     * Recalculate foreground dimensions and door boxes (after a resize)
      */
-    private ForegroundDimensions calculateForegroundDimensions() {
-        float aspectRatio = (float) foregroundTexture.getWidth() / foregroundTexture.getHeight();
+    private void updateLayout() {
+        float aspectRatio = (float) foregroundRegion.getRegionWidth() / foregroundRegion.getRegionHeight();
         float worldWidth = viewport.getWorldWidth();
         float worldHeight = viewport.getWorldHeight();
-        float width = worldHeight * aspectRatio;
-        float x = (worldWidth - width) / 2;
-        return new ForegroundDimensions(x, 0, width, worldHeight);
-    }
-
-    /**
-     * Simple data structure for foreground dimensions
-     */
-    private static class ForegroundDimensions {
-        final float x, y, width, height;
-        
-        ForegroundDimensions(float x, float y, float width, float height) {
-            this.x = x; this.y = y; this.width = width; this.height = height;
-        }
+        foregroundWidth = worldHeight * aspectRatio;
+        foregroundHeight = worldHeight;
+        foregroundX = (worldWidth - foregroundWidth) / 2;
+        foregroundY = 0;
+        updateDoorPositions();
     }
 
     /**
      * Render doors with clipping animation
      */
     private void renderDoors() {
-        for (int dayId = 1; dayId <= 24; dayId++) {
-            Rectangle box = boxes.get(dayId);
-            Texture doorTexture = doorTextures.get(dayId);
+        for (int dayId = 1; dayId <= DAY_COUNT; dayId++) {
+            Rectangle box = boxes[dayId];
+            TextureRegion doorRegion = doorRegions[dayId];
             
-            if (box == null || doorTexture == null) continue;
+            if (box == null || doorRegion == null) continue;
             
-            DoorState state = getDoorState(dayId);
-            if (state.shouldRender()) {
-                if (state.isAnimating()) {
-                    renderDoorWithClipping(doorTexture, box, state.slideProgress);
-            } else {
-                    renderDoorNormal(doorTexture, box, state.slideProgress);
+            boolean isLocked = !adventGame.isUnlocked(dayId);
+            boolean isSliding = doorSliding[dayId];
+            float slideProgress = doorSlideProgress[dayId];
+            if (shouldRenderDoor(isLocked, adventGame.isVisited(dayId), isSliding, slideProgress)) {
+                if (isDoorAnimating(isSliding, slideProgress)) {
+                    renderDoorWithClipping(doorRegion, box, slideProgress);
+                } else {
+                    renderDoorNormal(doorRegion, box, slideProgress);
                 }
             }
         }
     }
 
     /**
-     * Get current state of a door
+     * A door is drawn while locked, or until its opening animation has completed
      */
-    private DoorState getDoorState(int dayId) {
-        boolean isLocked = !adventGame.isUnlocked(dayId);
-        boolean isVisited = adventGame.isVisited(dayId);
-        boolean isSliding = doorSliding.get(dayId, false);
-        float slideProgress = doorSlideProgress.get(dayId, 0.0f);
-        
-        return new DoorState(isLocked, isVisited, isSliding, slideProgress);
+    private static boolean shouldRenderDoor(boolean isLocked, boolean isVisited, boolean isSliding, float slideProgress) {
+        return isLocked || (!isVisited && (isSliding || slideProgress < 1.0f));
     }
 
     /**
-     * Door state encapsulation
+     * A door is animating while it slides between closed and open
      */
-    private static class DoorState {
-        final boolean isLocked, isVisited, isSliding;
-        final float slideProgress;
-        
-        DoorState(boolean isLocked, boolean isVisited, boolean isSliding, float slideProgress) {
-            this.isLocked = isLocked;
-            this.isVisited = isVisited;
-            this.isSliding = isSliding;
-            this.slideProgress = slideProgress;
-        }
-        
-        boolean shouldRender() {
-            return isLocked || (!isVisited && (isSliding || slideProgress < 1.0f));
-        }
-        
-        boolean isAnimating() {
-            return isSliding && slideProgress > 0.0f && slideProgress < 1.0f;
-        }
+    private static boolean isDoorAnimating(boolean isSliding, float slideProgress) {
+        return isSliding && slideProgress > 0.0f && slideProgress < 1.0f;
     }
 
     /**
-     * Render door with clipping animation
+     * Render door with clipping animation: only the lower (1 - slideProgress) part of the door
+     * stays visible. The clip is applied to the quad and its texture coordinates, so animating
+     * doors are drawn in the same batch as the others (no flush, no scissor state).
      */
-    private void renderDoorWithClipping(Texture doorTexture, Rectangle box, float slideProgress) {
-        batch.flush();
-        
-        float visibleHeight = box.height * (1.0f - slideProgress);
-        float clipTop = box.y + visibleHeight;
+    private void renderDoorWithClipping(TextureRegion doorRegion, Rectangle box, float slideProgress) {
+        float visibleFraction = 1.0f - slideProgress;
+        if (visibleFraction <= 0f) return;
         
-        Vector3 bottomLeft = new Vector3(box.x, box.y, 0);
-        Vector3 topRight = new Vector3(box.x + box.width, clipTop, 0);
-        camera.project(bottomLeft);
-        camera.project(topRight);
-        
-        int scissorX = (int) bottomLeft.x;
-        int scissorY = (int) bottomLeft.y;
-        int scissorWidth = (int) (topRight.x - bottomLeft.x);
-        int scissorHeight = (int) (topRight.y - bottomLeft.y);
-        
-        if (scissorHeight > 0) {
-            Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
-            HdpiUtils.glScissor(scissorX, scissorY, scissorWidth, scissorHeight);
-            
-            batch.draw(doorTexture, box.x, box.y, box.width, box.height);
-            
-            batch.flush();
-            Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
-        }
+        // Bas de la porte en V2, haut en V : on remonte de la fraction visible depuis le bas
+        float vBottom = doorRegion.getV2();
+        float vTop = vBottom + (doorRegion.getV() - vBottom) * visibleFraction;
+        batch.draw(doorRegion.getTexture(), box.x, box.y, box.width, box.height * visibleFraction,
+                   doorRegion.getU(), vBottom, doorRegion.getU2(), vTop);
     }
 
     /**
      * Render door normally (without clipping)
      */
-    private void renderDoorNormal(Texture doorTexture, Rectangle box, float slideProgress) {
+    private void renderDoorNormal(TextureRegion doorRegion, Rectangle box, float slideProgress) {
         float slideOffset = box.height * slideProgress;
         float doorY = box.y - slideOffset;
-        batch.draw(doorTexture, box.x, doorY, box.width, box.height);
+        batch.draw(doorRegion, box.x, doorY, box.width, box.height);
     }
 
     /**
      * Update door sliding animations
      */
     private void updateDoorAnimations(float delta) {
-        for (int dayId = 1; dayId <= 24; dayId++) {
-            if (doorSliding.get(dayId, false)) {
-                float progress = doorSlideProgress.get(dayId, 0.0f) + DOOR_SLIDE_SPEED * delta;
+        for (int dayId = 1; dayId <= DAY_COUNT; dayId++) {
+            if (doorSliding[dayId]) {
+                float progress = doorSlideProgress[dayId] + DOOR_SLIDE_SPEED * delta;
                 
                 if (progress >= 1.0f) {
                     progress = 1.0f;
-                    doorSliding.put(dayId, false);
+                    doorSliding[dayId] = false;
                     // Marquer automatiquement comme visitée à la fin de l'animation
                     adventGame.setVisited(dayId, true);
                 }
                 
-                doorSlideProgress.put(dayId, progress);
+                doorSlideProgress[dayId] = progress;
             }
         }
     }
@@ -460,8 +451,8 @@ public class AdventCalendarScreen implements Screen {
      * Render arrow animations in foreground for all opened doors but not completed games
      */
     private void renderArrowAnimations() {
-        for (int dayId = 1; dayId <= 24; dayId++) {
-            Rectangle box = boxes.get(dayId);
+        for (int dayId = 1; dayId <= DAY_COUNT; dayId++) {
+            Rectangle box = boxes[dayId];
             if (box == null) continue;
 
             // Show arrow animation only for opened doors (visited) but not completed games
@@ -475,7 +466,7 @@ public class AdventCalendarScreen implements Screen {
      * Render arrow animation in the center of the box
      */
     private void renderArrowAnimation(Rectangle box) {
-        if (arrowTexture == null) return;
+        if (arrowRegion == null) return;
         
         // Calculate sinusoidal movement
         float offsetY = (float) Math.sin(arrowAnimationTime) * ARROW_AMPLITUDE;
@@ -495,7 +486,7 @@ public class AdventCalendarScreen implements Screen {
         float arrowY = lowerPartCenter - arrowSize / 2 + offsetY;
         
         // Draw the arrow
-        batch.draw(arrowTexture, arrowX, arrowY, arrowSize, arrowSize);
+        batch.draw(arrowRegion, arrowX, arrowY, arrowSize, arrowSize);
     }
 
     /**
@@ -639,9 +630,9 @@ public class AdventCalendarScreen implements Screen {
      * Process click on doors
      */
     private void processClick() {
-        for (int dayId = 1; dayId <= 24; dayId++) {
-            Rectangle box = boxes.get(dayId);
-            if (box.contains(touchPos.x, touchPos.y)) {
+        for (int dayId = 1; dayId <= DAY_COUNT; dayId++) {
+            Rectangle box = boxes[dayId];
+            if (box != null && box.contains(touchPos.x, touchPos.y)) {
                 handleDoorClick(dayId);
                 break;
             }
@@ -652,19 +643,21 @@ public class AdventCalendarScreen implements Screen {
      * Handle click on specific door with state machine logic
      */
     private void handleDoorClick(int dayId) {
-        DoorState state = getDoorState(dayId);
+        boolean isLocked = !adventGame.isUnlocked(dayId);
+        boolean isVisited = adventGame.isVisited(dayId);
+        boolean isSliding = doorSliding[dayId];
         int score = adventGame.getScore(dayId);
         
         // Vérifier si le jeu précédent est résolu (sauf pour le jour 1)
         boolean canOpen = dayId == 1 || adventGame.getScore(dayId - 1) > 0;
         
         // Debug: Afficher l'état complet de la porte
-        Gdx.app.log("AdventCalendarScreen", "Door " + dayId + " clicked - isLocked: " + state.isLocked + 
-                   ", isVisited: " + state.isVisited + ", isSliding: " + state.isSliding + 
-                   ", slideProgress: " + state.slideProgress + ", score: " + score + 
+        Gdx.app.log("AdventCalendarScreen", "Door " + dayId + " clicked - isLocked: " + isLocked + 
+                   ", isVisited: " + isVisited + ", isSliding: " + isSliding + 
+                   ", slideProgress: " + doorSlideProgress[dayId] + ", score: " + score + 
                    ", canOpen: " + canOpen + (dayId > 1 ? ", prevScore: " + adventGame.getScore(dayId - 1) : ""));
         
-        if (state.isLocked) {
+        if (isLocked) {
             // Porte verrouillée : Juste jouer le son, pas de déverrouillage par clic
             Gdx.app.log("AdventCalendarScreen", "Door " + dayId + " is locked - playing locked sound");
             playSound(lockedSound);
@@ -672,12 +665,12 @@ public class AdventCalendarScreen implements Screen {
             // Jeu précédent non résolu : Son de porte fermée
             Gdx.app.log("AdventCalendarScreen", "Door " + dayId + " - previous game not solved (day " + (dayId - 1) + ") - locked sound");
             playSound(lockedSound);
-        } else if (!state.isVisited && !state.isSliding) {
+        } else if (!isVisited && !isSliding) {
             // Porte déverrouillée ET jeu précédent résolu ET jamais visitée : Démarrer l'animation d'ouverture
             Gdx.app.log("AdventCalendarScreen", "Starting opening animation for door " + dayId);
-            doorSliding.put(dayId, true);
+            doorSliding[dayId] = true;
             playSound(openSound);
-        } else if (state.isVisited) {
+        } else if (isVisited) {
             // Porte visitée : Lancer le jeu (que le score soit 0 ou > 0)
             Gdx.app.log("AdventCalendarScreen", "Door " + dayId + " opened - launching game (score: " + score + ")");
             playSound(enterSound);
@@ -689,21 +682,27 @@ public class AdventCalendarScreen implements Screen {
     }
 
     /**
-     * Get theme icon texture for a day
+     * Get theme icon region for a day
      */
-    private Texture getThemeIconForDay(int dayId) {
-        String cacheKey = String.valueOf(dayId);
-        if (themeIconTextures.containsKey(cacheKey)) {
-            return themeIconTextures.get(cacheKey);
+    private TextureRegion getThemeIconForDay(int dayId) {
+        if (themeIconResolved[dayId]) {
+            return themeIconRegions[dayId];
         }
+        // Résolu une seule fois, même en cas d'échec (pas de nouvelle tentative à chaque frame)
+        themeIconResolved[dayId] = true;
         
         Theme theme = getThemeForDay(dayId);
         if (theme != null) {
             try {
                 String iconPath = theme.getFullImagePath().replace("full", "icon").replace(".jpg", ".png");
-                Texture iconTexture = new Texture(Gdx.files.internal(iconPath));
-                themeIconTextures.put(cacheKey, iconTexture);
-                return iconTexture;
+                TextureRegion iconRegion = iconsAtlas != null ? iconsAtlas.findRegion(regionNameOf(iconPath)) : null;
+                if (iconRegion == null) {
+                    Texture iconTexture = new Texture(Gdx.files.internal(iconPath));
+                    looseTextures.add(iconTexture);
+                    iconRegion = new TextureRegion(iconTexture);
+                }
+                themeIconRegions[dayId] = iconRegion;
+                return iconRegion;
             } catch (Exception e) {
                 Gdx.app.error("AdventCalendarScreen", "Failed to load icon for day " + dayId, e);
             }
@@ -719,7 +718,7 @@ public class AdventCalendarScreen implements Screen {
         Theme theme = themeManager.getThemeByDay(dayId);
         if (theme == null && themeManager.getThemeCount() > 0) {
             int themeIndex = (dayId - 1) % themeManager.getThemeCount();
-            theme = themeManager.getAllThemes().get(themeIndex);
+            theme = themeManager.getTheme(themeIndex);
         }
         return theme;
     }
@@ -728,15 +727,13 @@ public class AdventCalendarScreen implements Screen {
      * Update door positions based on current foreground scaling
      */
     private void updateDoorPositions() {
-        ForegroundDimensions dims = calculateForegroundDimensions();
-        
         for (DoorPosition doorPos : originalDoorPositions) {
-            float doorX = dims.x + (doorPos.originalX * dims.width);
-            float doorY = dims.y + (doorPos.originalY * dims.height);
-            float doorWidth = doorPos.originalWidth * dims.width;
-            float doorHeight = doorPos.originalHeight * dims.height;
+            float doorX = foregroundX + (doorPos.originalX * foregroundWidth);
+            float doorY = foregroundY + (doorPos.originalY * foregroundHeight);
+            float doorWidth = doorPos.originalWidth * foregroundWidth;
+            float doorHeight = doorPos.originalHeight * foregroundHeight;
             
-            Rectangle doorRect = boxes.get(doorPos.dayId);
+            Rectangle doorRect = boxes[doorPos.dayId];
             if (doorRect != null) {
                 doorRect.set(doorX, doorY, doorWidth, doorHeight);
             }
@@ -747,15 +744,14 @@ public class AdventCalendarScreen implements Screen {
      * Constrain camera X position within foreground bounds
      */
     private float constrainCameraX(float newCameraX) {
-        ForegroundDimensions dims = calculateForegroundDimensions();
         float halfViewport = viewport.getWorldWidth() / 2;
         
-        if (dims.width <= viewport.getWorldWidth()) {
-            return dims.x + dims.width / 2;
+        if (foregroundWidth <= viewport.getWorldWidth()) {
+            return foregroundX + foregroundWidth / 2;
         }
         
-        float minX = dims.x + halfViewport;
-        float maxX = dims.x + dims.width - halfViewport;
+        float minX = foregroundX + halfViewport;
+        float maxX = foregroundX + foregroundWidth - halfViewport;
         return Math.max(minX, Math.min(maxX, newCameraX));
     }
 
@@ -768,16 +764,57 @@ public class AdventCalendarScreen implements Screen {
         }
     }
 
+    /**
+     * Load an atlas if it has been generated
+     */
+    private TextureAtlas loadAtlasSafe(String path) {
+        if (!Gdx.files.internal(path).exists()) {
+            Gdx.app.log("AdventCalendarScreen", "Atlas not found, loading images one by one: " + path);
+            return null;
+        }
+        try {
+            return new TextureAtlas(Gdx.files.internal(path));
+        } catch (Exception e) {
+            Gdx.app.error("AdventCalendarScreen", "Failed to load atlas: " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Find a region in the calendar atlas, or load the image on its own
+     */
+    private TextureRegion findRegion(String name, String fallbackPath) {
+        if (calendarAtlas != null) {
+            TextureRegion region = calendarAtlas.findRegion(name);
+            if (region != null) {
+                return region;
+            }
+        }
+        return new TextureRegion(loadTextureSafe(fallbackPath));
+    }
+
+    /**
+     * Atlas region name of an image: its file name without extension
+     */
+    private static String regionNameOf(String path) {
+        int start = path.lastIndexOf('/') + 1;
+        int end = path.lastIndexOf('.');
+        return path.substring(start, end > start ? end : path.length());
+    }
+
     /**
      * Load texture with fallback
      */
     private Texture loadTextureSafe(String path) {
+        Texture texture;
         try {
-            return new Texture(Gdx.files.internal(path));
+            texture = new Texture(Gdx.files.internal(path));
         } catch (Exception e) {
             Gdx.app.error("AdventCalendarScreen", "Failed to load texture: " + path, e);
-            return createFallbackTexture();
+            texture = createFallbackTexture();
         }
+        looseTextures.add(texture);
+        return texture;
     }
 
     /**
@@ -807,42 +844,55 @@ public class AdventCalendarScreen implements Screen {
     @Override
     public void resize(int width, int height) {
         this.viewport = ViewportManager.updateViewportWithReconfiguration(viewport, width, height);
+        updateLayout();
         camera.position.x = constrainCameraX(DisplayConfig.WORLD_WIDTH / 2f);
         camera.update();
-        updateDoorPositions();
     }
 
     @Override
     public void dispose() {
-        // Dispose core components
-        batch.dispose();
-        font.dispose();
-        foregroundTexture.dispose();
-        shadowTexture.dispose();
+        // Le batch et la police sont partagés (RenderContext, CarlitoFontManager)
+        if (calendarAtlas != null) calendarAtlas.dispose();
+        if (iconsAtlas != null) iconsAtlas.dispose();
 
         // Dispose sounds
         if (lockedSound != null) lockedSound.dispose();
         if (openSound != null) openSound.dispose();
         if (enterSound != null) enterSound.dispose();
 
-        // Dispose door textures
-        for (Texture texture : doorTextures.values()) {
+        // Dispose textures loaded one by one (missing atlas or region)
+        for (Texture texture : looseTextures) {
             texture.dispose();
         }
+        looseTextures.clear();
+    }
 
-        // Dispose theme icon textures
-        for (Texture texture : themeIconTextures.values()) {
-            texture.dispose();
+    /**
+     * Resynchronise l'écran avec l'état du jeu au retour d'un mini-jeu.
+     * L'écran est conservé entre deux parties : aucune ressource n'est rechargée ici.
+     */
+    private void refresh() {
+        // Portes : ouvertes si visitées, fermées sinon (sauf animation en cours)
+        for (int dayId = 1; dayId <= DAY_COUNT; dayId++) {
+            if (boxes[dayId] == null || doorSliding[dayId]) continue;
+            doorSlideProgress[dayId] = adventGame.isVisited(dayId) ? 1.0f : 0.0f;
         }
+
+        // Abandonner un éventuel geste interrompu par le changement d'écran
+        isDragging = false;
+        touchProcessed = true;
     }
 
     @Override 
     public void show() {
         Gdx.app.log("AdventCalendarScreen", "Screen shown");
+        refresh();
         // Activer l'input processor pour la navigation par glisser-déposer
         if (inputProcessor != null) {
             Gdx.input.setInputProcessor(inputProcessor);
         }
+        // Préparer les ressources du prochain jeu jouable
+        adventGame.getGamePrefetcher().schedule();
     }
     @Override 
     public void hide() {
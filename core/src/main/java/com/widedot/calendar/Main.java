@@ -2,7 +2,9 @@ package com.widedot.calendar;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.widedot.calendar.config.ConfigRegistry;
 import com.widedot.calendar.platform.PlatformFactory;
+import com.widedot.calendar.utils.CarlitoFontManager;
 
 /** {@link com.badlogic.gdx.ApplicationListener} implementation shared by all platforms. */
 public class Main extends Game {
@@ -24,6 +26,14 @@ public class Main extends Game {
             throw new IllegalStateException("Platform not initialized. Make sure to set the platform before creating the game.");
         }
         
+        // Lecture des fichiers de configuration en tâche de fond (et surveillance sur desktop)
+        ConfigRegistry.getInstance().preload();
+        
+        // Pendant la lecture : travail GL indépendant de la configuration (police et son shader,
+        // puis batch partagé au début du constructeur d'AdventCalendarGame). Le premier accès
+        // à Config n'attend ensuite que le reste du chargement.
+        CarlitoFontManager.initialize();
+        
         Gdx.app.log("DEBUG", "before new AdventCalendarGame()");
         game = new AdventCalendarGame();
         Gdx.app.log("DEBUG", "after new AdventCalendarGame()");
@@ -37,6 +47,21 @@ public class Main extends Game {
         game.render();
     }
     
+    @Override
+    public void pause() {
+        // Transmis au jeu pour qu'il sauvegarde la progression (onglet masqué, fenêtre réduite)
+        if (game != null) {
+            game.pause();
+        }
+    }
+    
+    @Override
+    public void resume() {
+        if (game != null) {
+            game.resume();
+        }
+    }
+    
     @Override
     public void resize(int width, int height) {
         Gdx.app.log("Main", "resize appelé avec dimensions: " + width + "x" + height);
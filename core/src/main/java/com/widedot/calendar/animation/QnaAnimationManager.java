@@ -2,7 +2,6 @@ package com.widedot.calendar.animation;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -13,7 +12,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.utils.AssetManifest;
 import com.widedot.calendar.utils.CarlitoFontManager;
+import com.widedot.calendar.utils.ResourceManager;
 import com.widedot.calendar.utils.GwtCompatibleFormatter;
 import com.widedot.calendar.display.DisplayConfig;
 
@@ -197,10 +198,36 @@ public class QnaAnimationManager implements Disposable {
     private float victoryAnimationDuration = 3.0f;
     private float defeatAnimationDuration = 2.0f;
     
+    // Les textures et sons sont fournis par le ResourceManager (manifeste de l'écran QNA)
+    private final ResourceManager resources;
+    
+    /**
+     * Ajoute au manifeste les ressources chargées par le gestionnaire d'animation
+     * @param manifest Le manifeste de l'écran QNA
+     */
+    public static void addAssets(AssetManifest manifest) {
+        manifest.texture("images/games/qna/background.png")
+            .texture("images/games/qna/door.png")
+            .texture("images/games/qna/wheel-outer.png")
+            .texture("images/games/qna/wheel-center.png")
+            .texture("images/games/qna/tube-front.png")
+            .texture("images/games/qna/ball.png")
+            .texture("images/games/qna/slot-back.png")
+            .texture("images/games/qna/slot-front.png")
+            .sound("audio/win.mp3")
+            .sound("audio/wrong.wav")
+            .sound("audio/sliding.mp3")
+            .sound("audio/close.mp3")
+            .sound("audio/open2.mp3");
+    }
+    
     /**
      * Constructeur
+     * @param whiteTexture Texture blanche 1x1 partagée (RenderContext), non libérée par le gestionnaire
      */
-    public QnaAnimationManager(int totalQuestions, int victoryThreshold) {
+    public QnaAnimationManager(int totalQuestions, int victoryThreshold, Texture whiteTexture) {
+        this.resources = ResourceManager.getInstance();
+        this.whiteTexture = whiteTexture;
         this.totalQuestions = totalQuestions;
         this.victoryThreshold = victoryThreshold;
         this.currentCorrectAnswers = 0;
@@ -270,13 +297,6 @@ public class QnaAnimationManager implements Disposable {
             debugFont.getData().setScale(0.8f);
         }
         
-        // Créer une texture blanche pour le fond noir
-        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pixmap.setColor(1, 1, 1, 1);
-        pixmap.fill();
-        this.whiteTexture = new Texture(pixmap);
-        pixmap.dispose();
-        
         Gdx.app.log("QnaAnimationManager", "Initialisé avec " + totalQuestions + " questions, seuil: " + victoryThreshold);
     }
     
@@ -653,13 +673,9 @@ public class QnaAnimationManager implements Disposable {
      */
     public void loadPaintingTexture(String paintingPath) {
         try {
-            if (paintingTexture != null) {
-                paintingTexture.dispose();
-            }
-            paintingTexture = new Texture(Gdx.files.internal(paintingPath));
-            // Appliquer un filtrage Linear pour l'antialiasing lors du redimensionnement
-            paintingTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-            Gdx.app.log("QnaAnimationManager", "Peinture chargée avec antialiasing: " + paintingPath);
+            paintingTexture = resources.getPainting(paintingPath);
+            // Filtrage (mipmaps compris) fixé au chargement par PaintingTextures
+            Gdx.app.log("QnaAnimationManager", "Peinture chargée: " + paintingPath);
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement peinture: " + e.getMessage());
             paintingTexture = null;
@@ -671,35 +687,35 @@ public class QnaAnimationManager implements Disposable {
      */
     public void loadSounds() {
         try {
-            winSound = Gdx.audio.newSound(Gdx.files.internal("audio/win.mp3"));
+            winSound = resources.getSound("audio/win.mp3");
             Gdx.app.log("QnaAnimationManager", "Son win.mp3 chargé");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement win.mp3: " + e.getMessage());
         }
         
         try {
-            wrongSound = Gdx.audio.newSound(Gdx.files.internal("audio/wrong.wav"));
+            wrongSound = resources.getSound("audio/wrong.wav");
             Gdx.app.log("QnaAnimationManager", "Son wrong.wav chargé");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement wrong.wav: " + e.getMessage());
         }
         
         try {
-            slidingSound = Gdx.audio.newSound(Gdx.files.internal("audio/sliding.mp3"));
+            slidingSound = resources.getSound("audio/sliding.mp3");
             Gdx.app.log("QnaAnimationManager", "Son sliding.mp3 chargé");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement sliding.mp3: " + e.getMessage());
         }
         
         try {
-            closeSound = Gdx.audio.newSound(Gdx.files.internal("audio/close.mp3"));
+            closeSound = resources.getSound("audio/close.mp3");
             Gdx.app.log("QnaAnimationManager", "Son close.mp3 chargé");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement close.mp3: " + e.getMessage());
         }
         
         try {
-            open2Sound = Gdx.audio.newSound(Gdx.files.internal("audio/open2.mp3"));
+            open2Sound = resources.getSound("audio/open2.mp3");
             Gdx.app.log("QnaAnimationManager", "Son open2.mp3 chargé");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement open2.mp3: " + e.getMessage());
@@ -713,7 +729,7 @@ public class QnaAnimationManager implements Disposable {
      */
     private void loadInitializationAssets() {
         try {
-            backgroundTexture = new Texture(Gdx.files.internal("images/games/qna/background.png"));
+            backgroundTexture = resources.getTexture("images/games/qna/background.png");
             Gdx.app.log("QnaAnimationManager", "Background chargé");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement background: " + e.getMessage());
@@ -721,7 +737,7 @@ public class QnaAnimationManager implements Disposable {
         }
         
         try {
-            doorTexture = new Texture(Gdx.files.internal("images/games/qna/door.png"));
+            doorTexture = resources.getTexture("images/games/qna/door.png");
             Gdx.app.log("QnaAnimationManager", "Door chargé");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement door: " + e.getMessage());
@@ -729,7 +745,7 @@ public class QnaAnimationManager implements Disposable {
         }
         
         try {
-            wheelOuterTexture = new Texture(Gdx.files.internal("images/games/qna/wheel-outer.png"));
+            wheelOuterTexture = resources.getTexture("images/games/qna/wheel-outer.png");
             Gdx.app.log("QnaAnimationManager", "Wheel-outer chargé");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement wheel-outer: " + e.getMessage());
@@ -737,7 +753,7 @@ public class QnaAnimationManager implements Disposable {
         }
         
         try {
-            wheelCenterTexture = new Texture(Gdx.files.internal("images/games/qna/wheel-center.png"));
+            wheelCenterTexture = resources.getTexture("images/games/qna/wheel-center.png");
             Gdx.app.log("QnaAnimationManager", "Wheel-center chargé");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement wheel-center: " + e.getMessage());
@@ -745,7 +761,7 @@ public class QnaAnimationManager implements Disposable {
         }
         
         try {
-            tubeFrontTexture = new Texture(Gdx.files.internal("images/games/qna/tube-front.png"));
+            tubeFrontTexture = resources.getTexture("images/games/qna/tube-front.png");
             Gdx.app.log("QnaAnimationManager", "Tube-front chargé");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement tube-front: " + e.getMessage());
@@ -1373,6 +1389,44 @@ public class QnaAnimationManager implements Disposable {
         Gdx.app.log("QnaAnimationManager", "Animation d'initialisation démarrée : " + totalQuestions + " billes créées");
     }
     
+    /**
+     * Place directement les éléments dans l'état de repos d'une partie reprise, sans animation
+     * d'initialisation : une bille consommée par question répondue, un slot rempli (et un cran
+     * de rotation) par bonne réponse.
+     * @param answeredQuestions Nombre de questions déjà répondues
+     * @param correctAnswers Nombre de bonnes réponses (inférieur au seuil de victoire)
+     */
+    public void restoreState(int answeredQuestions, int correctAnswers) {
+        resetAnimations();
+        
+        int remainingBalls = Math.max(0, totalQuestions - answeredQuestions);
+        for (int i = 0; i < remainingBalls; i++) {
+            balls.add(new AnimatedBall(i, i));
+        }
+        
+        float angleStep = -360f / victoryThreshold;
+        int filledSlots = Math.min(correctAnswers, victoryThreshold - 1);
+        for (int i = 0; i < filledSlots; i++) {
+            Slot slot = slots.get(i);
+            AnimatedBall ball = new AnimatedBall(balls.size, -1);
+            ball.state = BallState.IN_SLOT;
+            ball.assignedSlot = slot;
+            ball.isInReservoir = false;
+            slot.assignBall(ball);
+            balls.add(ball);
+        }
+        nextSlotIndex = filledSlots;
+        wheelOuterPermanentRotation = filledSlots * angleStep;
+        for (Slot slot : slots) {
+            slot.baseAngle += filledSlots * angleStep;
+        }
+        reservoir.fill();
+        
+        this.currentCorrectAnswers = correctAnswers;
+        this.currentQuestionIndex = answeredQuestions;
+        Gdx.app.log("QnaAnimationManager", "État restauré : " + remainingBalls + " billes, " + filledSlots + " slots remplis");
+    }
+    
     private void startCorrectAnswerAnimation() {
         if (currentState != AnimationState.IDLE) return;
         
@@ -1585,7 +1639,7 @@ public class QnaAnimationManager implements Disposable {
     
     private void loadBallTextures() {
         try {
-            ballTexture = new Texture(Gdx.files.internal("images/games/qna/ball.png"));
+            ballTexture = resources.getTexture("images/games/qna/ball.png");
             Gdx.app.log("QnaAnimationManager", "Ball texture chargée");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement ball.png: " + e.getMessage());
@@ -1595,7 +1649,7 @@ public class QnaAnimationManager implements Disposable {
     
     private void loadSlotTextures() {
         try {
-            slotBackTexture = new Texture(Gdx.files.internal("images/games/qna/slot-back.png"));
+            slotBackTexture = resources.getTexture("images/games/qna/slot-back.png");
             Gdx.app.log("QnaAnimationManager", "Slot-back texture chargée");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement slot-back.png: " + e.getMessage());
@@ -1603,7 +1657,7 @@ public class QnaAnimationManager implements Disposable {
         }
         
         try {
-            slotFrontTexture = new Texture(Gdx.files.internal("images/games/qna/slot-front.png"));
+            slotFrontTexture = resources.getTexture("images/games/qna/slot-front.png");
             Gdx.app.log("QnaAnimationManager", "Slot-front texture chargée");
         } catch (Exception e) {
             Gdx.app.error("QnaAnimationManager", "Erreur chargement slot-front.png: " + e.getMessage());
@@ -1623,43 +1677,9 @@ public class QnaAnimationManager implements Disposable {
     
     @Override
     public void dispose() {
-        // Nettoyer les textures d'initialisation
-        if (backgroundTexture != null) {
-            backgroundTexture.dispose();
-        }
-        if (doorTexture != null) {
-            doorTexture.dispose();
-        }
-        if (wheelOuterTexture != null) {
-            wheelOuterTexture.dispose();
-        }
-        if (wheelCenterTexture != null) {
-            wheelCenterTexture.dispose();
-        }
-        if (tubeFrontTexture != null) {
-            tubeFrontTexture.dispose();
-        }
-        
-        // Nettoyer les nouvelles textures
-        if (ballTexture != null) {
-            ballTexture.dispose();
-        }
-        if (slotBackTexture != null) {
-            slotBackTexture.dispose();
-        }
-        if (slotFrontTexture != null) {
-            slotFrontTexture.dispose();
-        }
-        
-        // Nettoyer la peinture
-        if (paintingTexture != null) {
-            paintingTexture.dispose();
-        }
-        
-        // Nettoyer la texture blanche
-        if (whiteTexture != null) {
-            whiteTexture.dispose();
-        }
+        // Les textures d'initialisation, les billes, les slots, la peinture et les sons
+        // appartiennent au ResourceManager (manifeste de l'écran QNA) : ils ne sont pas libérés ici,
+        // pas plus que la texture blanche partagée
         
         // Nettoyer les textures existantes
         for (Texture texture : ballTextures) {
@@ -1676,28 +1696,6 @@ public class QnaAnimationManager implements Disposable {
         wheelTextures.clear();
         reservoirTextures.clear();
         
-        // Nettoyer les sons
-        if (winSound != null) {
-            winSound.dispose();
-        }
-        if (wrongSound != null) {
-            wrongSound.dispose();
-        }
-        if (slidingSound != null) {
-            slidingSound.dispose();
-        }
-        if (closeSound != null) {
-            closeSound.dispose();
-        }
-        if (open2Sound != null) {
-            open2Sound.dispose();
-        }
-        
-        // Nettoyer la police de debug
-        if (debugFont != null) {
-            debugFont.dispose();
-        }
-        
         Gdx.app.log("QnaAnimationManager", "Ressources libérées");
     }
     
@@ -2160,6 +2158,12 @@ public class QnaAnimationManager implements Disposable {
             this.isCompleted = false;
         }
         
+        void fill() {
+            this.fillLevel = 1f;
+            this.isAnimating = false;
+            this.isCompleted = true;
+        }
+        
         boolean isCompleted() {
             return isCompleted;
         }
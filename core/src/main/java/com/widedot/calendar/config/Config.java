@@ -1,15 +1,11 @@
 package com.widedot.calendar.config;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 
 /**
  * Classe qui gère la configuration du jeu à partir d'un fichier JSON.
  */
 public class Config {
-    private static Config instance;
     private final JsonValue config;
     
     // Constantes pour les mois
@@ -41,31 +37,31 @@ public class Config {
     private int monthModeYear = 2023;
     private int yearModeYear = 2023;
     
+    // Paramètres graphiques
+    private String crystallizeQuality = "fidelity";  // Valeurs possibles: "fidelity" ou "fast"
+    private int crystallizeCacheMegabytes = 64;      // Budget VRAM du cache des niveaux de cristallisation
+    private boolean showRenderStats = false;         // Affiche le nombre d'appels de rendu du calendrier
+    private boolean countAllocations = false;        // Mesure les allocations de la boucle de rendu du calendrier
+    
+    // Paramètres de debug
+    private boolean logAnswerMatching = false;       // Détaille dans le log le score de chaque réponse acceptable
+    
     /**
-     * Constructeur privé pour le pattern Singleton.
+     * Construit la configuration à partir du contenu de config.json.
+     * @param config La racine du fichier, ou null pour les valeurs par défaut
      */
-    private Config() {
-        JsonReader jsonReader = new JsonReader();
-        FileHandle configFile = Gdx.files.internal("config.json");
-        
-        if (configFile.exists()) {
-            config = jsonReader.parse(configFile);
-            loadConfig();
-        } else {
-            config = null;
-            Gdx.app.log("Config", "Fichier de configuration non trouvé. Utilisation des valeurs par défaut.");
-        }
+    Config(JsonValue config) {
+        this.config = config;
+        loadConfig();
     }
     
     /**
-     * Obtient l'instance unique de GameConfig (pattern Singleton).
-     * @return L'instance de GameConfig
+     * Obtient la configuration de l'instantané courant du ConfigRegistry.
+     * Les valeurs lues au démarrage (mode de calendrier, graine) ne sont pas réappliquées après un rechargement.
+     * @return L'instance de Config
      */
     public static Config getInstance() {
-        if (instance == null) {
-            instance = new Config();
-        }
-        return instance;
+        return ConfigRegistry.getInstance().getSnapshot().getConfig();
     }
     
     /**
@@ -105,6 +101,21 @@ public class Config {
                     yearModeYear = yearMode.getInt("year", yearModeYear);
                 }
             }
+            
+            // Charger les paramètres graphiques
+            JsonValue graphics = config.get("graphics");
+            if (graphics != null) {
+                crystallizeQuality = graphics.getString("crystallize_quality", crystallizeQuality);
+                crystallizeCacheMegabytes = graphics.getInt("crystallize_cache_mb", crystallizeCacheMegabytes);
+                showRenderStats = graphics.getBoolean("show_render_stats", showRenderStats);
+                countAllocations = graphics.getBoolean("count_allocations", countAllocations);
+            }
+            
+            // Charger les paramètres de debug
+            JsonValue debug = config.get("debug");
+            if (debug != null) {
+                logAnswerMatching = debug.getBoolean("log_answer_matching", logAnswerMatching);
+            }
         }
     }
     
@@ -195,4 +206,44 @@ public class Config {
     public int getYearModeYear() {
         return yearModeYear;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * Obtient la qualité du shader de cristallisation.
+     * @return "fidelity" (fidèle à JHLabs) ou "fast" (texture de graines, recherche 3x3)
+     */
+    public String getCrystallizeQuality() {
+        return crystallizeQuality;
+    }
+    
+    /**
+     * Obtient le budget mémoire vidéo du cache des niveaux de cristallisation.
+     * @return Le budget en mégaoctets
+     */
+    public int getCrystallizeCacheMegabytes() {
+        return crystallizeCacheMegabytes;
+    }
+    
+    /**
+     * Indique si le nombre d'appels de rendu doit être affiché à l'écran.
+     * @return true pour afficher l'overlay de statistiques de rendu
+     */
+    public boolean isShowRenderStats() {
+        return showRenderStats;
+    }
+    
+    /**
+     * Indique si les allocations de la boucle de rendu doivent être mesurées (desktop uniquement).
+     * @return true pour écrire un bilan des allocations par frame dans le log
+     */
+    public boolean isCountAllocations() {
+        return countAllocations;
+    }
+    
+    /**
+     * Indique si le détail du matching des réponses doit être écrit dans le log.
+     * @return true pour logger le score de chaque réponse acceptable à chaque saisie
+     */
+    public boolean isLogAnswerMatching() {
+        return logAnswerMatching;
+    }
+}
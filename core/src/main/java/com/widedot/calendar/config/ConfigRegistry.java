@@ -0,0 +1,86 @@
+package com.widedot.calendar.config;
+
+import com.badlogic.gdx.Gdx;
+import com.widedot.calendar.platform.PlatformFactory;
+import com.widedot.calendar.platform.PlatformSpecific;
+
+/**
+ * Point d'accès unique à la configuration : tous les fichiers JSON sont lus une seule fois
+ * et indexés dans un ConfigSnapshot partagé par Config, DayMappingManager, GameManager,
+ * GameTemplateManager et ThemeManager.
+ * preload() lance la lecture hors du thread de rendu quand la plateforme le permet : elle se
+ * recouvre avec le travail fait avant le premier accès (voir Main.create()), qui attend
+ * ensuite sa fin au lieu de relire les fichiers. Sans thread (web), elle est faite sur place.
+ * Sur les plateformes qui savent surveiller les fichiers (desktop), une modification
+ * des assets reconstruit un instantané, publié d'un bloc sur le thread de rendu.
+ * Un fichier invalide lors d'un rechargement laisse l'instantané courant en place.
+ */
+public class ConfigRegistry {
+    private static ConfigRegistry instance;
+
+    private final Object loadLock = new Object();
+    private volatile ConfigSnapshot snapshot;
+    private boolean watching;
+
+    private ConfigRegistry() {
+    }
+
+    /**
+     * Récupère l'instance unique du registre
+     * @return L'instance du registre
+     */
+    public static ConfigRegistry getInstance() {
+        if (instance == null) {
+            instance = new ConfigRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Lance la lecture de la configuration en tâche de fond, puis la surveillance des fichiers.
+     * À appeler le plus tôt possible, une fois la plateforme initialisée.
+     */
+    public void preload() {
+        PlatformSpecific platform = PlatformFactory.getPlatform();
+        platform.runInBackground(this::getSnapshot);
+        if (!watching) {
+            watching = true;
+            platform.watchFiles(ConfigSnapshot.FILES, this::reload);
+        }
+    }
+
+    /**
+     * Instantané courant, lu au premier appel si preload() ne l'a pas déjà fait
+     * @return L'instantané de la configuration
+     */
+    public ConfigSnapshot getSnapshot() {
+        ConfigSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (loadLock) {
+            if (snapshot == null) {
+                snapshot = ConfigSnapshot.load();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Relit tous les fichiers et publie le nouvel instantané sur le thread de rendu.
+     * Peut être appelé depuis n'importe quel thread.
+     */
+    public void reload() {
+        final ConfigSnapshot reloaded;
+        try {
+            reloaded = ConfigSnapshot.load();
+        } catch (RuntimeException e) {
+            Gdx.app.error("ConfigRegistry", "Rechargement de la configuration ignoré: " + e.getMessage());
+            return;
+        }
+        Gdx.app.postRunnable(() -> {
+            snapshot = reloaded;
+            Gdx.app.log("ConfigRegistry", "Configuration rechargée");
+        });
+    }
+}
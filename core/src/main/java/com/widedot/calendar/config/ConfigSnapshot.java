@@ -0,0 +1,398 @@
+package com.widedot.calendar.config;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.data.Theme;
+
+/**
+ * Vue figée de tous les fichiers de configuration, avec ses index précalculés :
+ * jour -> jeu, jeu -> template, jour -> thème, thème par nom, jeux par template.
+ * Construite en une seule passe par ConfigRegistry, puis jamais modifiée : les collections
+ * retournées sont des copies, que l'appelant peut modifier sans toucher à l'instantané.
+ * Un rechargement construit un nouvel instantané.
+ */
+public final class ConfigSnapshot {
+    static final String CONFIG_FILE = "config.json";
+    static final String DAY_MAPPING_FILE = "dayMapping.json";
+    static final String GAMES_FILE = "games.json";
+    static final String TEMPLATES_FILE = "gameTemplates.json";
+    static final String THEMES_FILE = "themes.json";
+
+    /** Fichiers lus pour construire un instantané (surveillés pour le rechargement) */
+    static final String[] FILES = { CONFIG_FILE, DAY_MAPPING_FILE, GAMES_FILE, TEMPLATES_FILE, THEMES_FILE };
+
+    private final Config config;
+    private final IntMap<String> gameReferenceByDay = new IntMap<>();
+    private final ObjectMap<String, GameManager.GameConfig> gamesByReference = new ObjectMap<>();
+    private final Array<GameManager.GameConfig> allGames = new Array<>();
+    private final ObjectMap<String, Array<GameManager.GameConfig>> gamesByTemplate = new ObjectMap<>();
+    private final ObjectMap<String, GameParameters> parametersByReference = new ObjectMap<>();
+    private final ObjectMap<String, GameTemplateManager.GameTemplate> templatesByType = new ObjectMap<>();
+    private final ObjectMap<String, Theme> themesByName = new ObjectMap<>();
+    private final Array<Theme> allThemes = new Array<>();
+    private final IntMap<Theme> themeByDay = new IntMap<>();
+    private final IntMap<String> gameTemplateByDay = new IntMap<>();
+
+    private ConfigSnapshot(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * Lit et indexe tous les fichiers de configuration.
+     * Peut être appelé hors du thread de rendu : seuls Gdx.files et Gdx.app.log sont utilisés.
+     * @return Le nouvel instantané
+     * @throws RuntimeException si un fichier obligatoire est absent ou invalide
+     */
+    static ConfigSnapshot load() {
+        JsonReader reader = new JsonReader();
+
+        FileHandle configFile = Gdx.files.internal(CONFIG_FILE);
+        JsonValue configRoot = null;
+        if (configFile.exists()) {
+            configRoot = reader.parse(configFile);
+        } else {
+            Gdx.app.log("Config", "Fichier de configuration non trouvé. Utilisation des valeurs par défaut.");
+        }
+
+        ConfigSnapshot snapshot = new ConfigSnapshot(new Config(configRoot));
+        snapshot.loadTemplates(parse(reader, TEMPLATES_FILE));
+        snapshot.loadGames(parse(reader, GAMES_FILE));
+        snapshot.loadThemes(parse(reader, THEMES_FILE));
+        snapshot.loadDayMappings(parse(reader, DAY_MAPPING_FILE));
+        snapshot.compileGames();
+        snapshot.buildDayIndexes();
+
+        Gdx.app.log("ConfigSnapshot", "Configuration chargée : " + snapshot.templatesByType.size + " templates, "
+            + snapshot.allGames.size + " jeux, " + snapshot.allThemes.size + " thèmes, "
+            + snapshot.gameReferenceByDay.size + " jours");
+        return snapshot;
+    }
+
+    private static JsonValue parse(JsonReader reader, String fileName) {
+        try {
+            return reader.parse(Gdx.files.internal(fileName));
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Échec de la lecture de " + fileName + ": " + e.getMessage(), e);
+        }
+    }
+
+    private void loadTemplates(JsonValue root) {
+        JsonValue templatesObj = root.get("gameTemplates");
+        if (templatesObj == null) return;
+
+        for (JsonValue templateValue = templatesObj.child; templateValue != null; templateValue = templateValue.next) {
+            String gameTemplate = templateValue.name;
+            String name = templateValue.getString("name");
+
+            // Charger les paramètres par défaut
+            JsonValue defaultParamsValue = templateValue.get("defaultParameters");
+            if (defaultParamsValue == null) {
+                throw new IllegalStateException("Le template '" + gameTemplate + "' n'a pas de paramètres par défaut");
+            }
+            ObjectMap<String, Object> defaultParams = new ObjectMap<>();
+            for (JsonValue param = defaultParamsValue.child; param != null; param = param.next) {
+                addParameterToMap(param, defaultParams);
+            }
+
+            // Charger les types de paramètres
+            JsonValue paramTypesValue = templateValue.get("parameterTypes");
+            if (paramTypesValue == null) {
+                throw new IllegalStateException("Le template '" + gameTemplate + "' n'a pas de types de paramètres");
+            }
+            ObjectMap<String, String> paramTypes = new ObjectMap<>();
+            for (JsonValue param = paramTypesValue.child; param != null; param = param.next) {
+                paramTypes.put(param.name, param.asString());
+            }
+
+            // Charger les presets
+            ObjectMap<String, ObjectMap<String, Object>> presets = new ObjectMap<>();
+            JsonValue presetsValue = templateValue.get("presets");
+            if (presetsValue != null) {
+                for (JsonValue preset = presetsValue.child; preset != null; preset = preset.next) {
+                    ObjectMap<String, Object> presetParams = new ObjectMap<>();
+                    for (JsonValue param = preset.child; param != null; param = param.next) {
+                        addParameterToMap(param, presetParams);
+                    }
+                    presets.put(preset.name, presetParams);
+                }
+            }
+
+            GameTemplateManager.GameTemplate template =
+                new GameTemplateManager.GameTemplate(gameTemplate, name, defaultParams, paramTypes, presets);
+
+            // Vérifier les défauts et chaque preset, même ceux qu'aucun jeu n'utilise
+            String source = "Template " + gameTemplate;
+            new GameParameters.Builder(template.getSchema()).apply(defaultParams, source);
+            for (ObjectMap.Entry<String, ObjectMap<String, Object>> preset : presets.entries()) {
+                new GameParameters.Builder(template.getSchema()).apply(preset.value, source + ", preset " + preset.key);
+            }
+            templatesByType.put(gameTemplate, template);
+        }
+    }
+
+    private void loadGames(JsonValue root) {
+        JsonValue gamesArray = root.get("games");
+        if (gamesArray == null) return;
+
+        for (JsonValue gameValue = gamesArray.child; gameValue != null; gameValue = gameValue.next) {
+            String reference = gameValue.getString("reference");
+            String gameTemplate = gameValue.getString("gameTemplate");
+            String theme = gameValue.getString("theme");
+
+            // Charger les presets
+            Array<String> presets = new Array<>();
+            JsonValue presetsValue = gameValue.get("presets");
+            if (presetsValue != null) {
+                for (JsonValue preset = presetsValue.child; preset != null; preset = preset.next) {
+                    presets.add(preset.asString());
+                }
+            }
+
+            // Charger les paramètres
+            ObjectMap<String, Object> parameters = new ObjectMap<>();
+            JsonValue paramsValue = gameValue.get("parameters");
+            if (paramsValue != null) {
+                for (JsonValue param = paramsValue.child; param != null; param = param.next) {
+                    addParameterToMap(param, parameters);
+                }
+            }
+
+            GameManager.GameConfig config = new GameManager.GameConfig(reference, gameTemplate, theme, presets, parameters);
+            gamesByReference.put(reference, config);
+            allGames.add(config);
+
+            Array<GameManager.GameConfig> sameTemplate = gamesByTemplate.get(gameTemplate);
+            if (sameTemplate == null) {
+                sameTemplate = new Array<>();
+                gamesByTemplate.put(gameTemplate, sameTemplate);
+            }
+            sameTemplate.add(config);
+        }
+    }
+
+    private void loadThemes(JsonValue root) {
+        JsonValue themesArray = root.get("themes");
+        if (themesArray == null) return;
+
+        for (JsonValue themeValue = themesArray.child; themeValue != null; themeValue = themeValue.next) {
+            String name = themeValue.getString("name");
+            String title = themeValue.getString("title");
+            String artist = themeValue.getString("artist");
+            int year = themeValue.getInt("year");
+            String description = themeValue.getString("description");
+
+            // Récupérer les chemins d'images
+            JsonValue images = themeValue.get("images");
+            String fullImagePath = images.getString("full");
+
+            // Récupérer les informations de recadrage
+            Theme.CropInfo squareCrop = null;
+            JsonValue crop = themeValue.get("crop");
+            if (crop != null) {
+                JsonValue square = crop.get("square");
+                if (square != null) {
+                    squareCrop = new Theme.CropInfo(
+                        square.getInt("x"),
+                        square.getInt("y"),
+                        square.getInt("width"),
+                        square.getInt("height"),
+                        square.getFloat("matchPercentage")
+                    );
+                }
+            }
+
+            Theme theme = new Theme(name, title, artist, year, description, fullImagePath, squareCrop);
+            themesByName.put(name, theme);
+            allThemes.add(theme);
+        }
+    }
+
+    private void loadDayMappings(JsonValue root) {
+        JsonValue dayMapping = root.get("dayMapping");
+        if (dayMapping == null) return;
+
+        for (JsonValue day = dayMapping.child; day != null; day = day.next) {
+            // Le nom est le numéro du jour, la valeur la référence du jeu
+            gameReferenceByDay.put(Integer.parseInt(day.name), day.asString());
+        }
+    }
+
+    /**
+     * Résout le template et le thème de chaque jeu et fusionne ses paramètres typés.
+     * Toute incohérence est une erreur de chargement : rien n'est résolu au lancement d'un jeu.
+     */
+    private void compileGames() {
+        for (GameManager.GameConfig gameConfig : allGames) {
+            String reference = gameConfig.getReference();
+            GameTemplateManager.GameTemplate template = templatesByType.get(gameConfig.getGameTemplate());
+            if (template == null) {
+                throw new IllegalStateException("Jeu " + reference + " : template '" + gameConfig.getGameTemplate() + "' inconnu");
+            }
+            if (!themesByName.containsKey(gameConfig.getTheme())) {
+                throw new IllegalStateException("Jeu " + reference + " : thème '" + gameConfig.getTheme() + "' inconnu");
+            }
+
+            // Ordre de priorité : défauts du template, presets, paramètres du jeu
+            GameParameters.Builder builder = new GameParameters.Builder(template.getSchema())
+                .apply(template.getDefaultParameters(), "Template " + template.getGameTemplate());
+            for (String preset : gameConfig.getPresets()) {
+                ObjectMap<String, Object> presetParams = template.getPresetParameters(preset);
+                if (presetParams == null) {
+                    throw new IllegalStateException("Jeu " + reference + " : preset '" + preset + "' inconnu pour le template "
+                        + template.getGameTemplate());
+                }
+                builder.apply(presetParams, "Jeu " + reference + ", preset " + preset);
+            }
+            builder.apply(gameConfig.getParameters(), "Jeu " + reference);
+            parametersByReference.put(reference, builder.build());
+        }
+    }
+
+    /**
+     * Résout une fois pour toutes jour -> jeu -> (template, thème).
+     * Les références cassées sont signalées ici plutôt qu'à chaque recherche.
+     */
+    private void buildDayIndexes() {
+        for (IntMap.Entry<String> entry : gameReferenceByDay.entries()) {
+            GameManager.GameConfig gameConfig = gamesByReference.get(entry.value);
+            if (gameConfig == null) {
+                Gdx.app.error("ConfigSnapshot", "Jour " + entry.key + " : jeu '" + entry.value + "' introuvable");
+                continue;
+            }
+            gameTemplateByDay.put(entry.key, gameConfig.getGameTemplate());
+
+            String themeName = gameConfig.getTheme();
+            if (themeName == null) continue;
+            Theme theme = themesByName.get(themeName);
+            if (theme != null) {
+                themeByDay.put(entry.key, theme);
+            } else {
+                Gdx.app.error("ConfigSnapshot", "Jour " + entry.key + " : thème '" + themeName + "' introuvable");
+            }
+        }
+    }
+
+    /**
+     * Ajoute un paramètre à une map en fonction de son type
+     */
+    private static void addParameterToMap(JsonValue param, ObjectMap<String, Object> map) {
+        String name = param.name;
+        if (param.isNumber()) {
+            if (param.asString().contains(".")) {
+                map.put(name, param.asFloat());
+            } else {
+                map.put(name, param.asInt());
+            }
+        } else if (param.isBoolean()) {
+            map.put(name, param.asBoolean());
+        } else {
+            map.put(name, param.asString());
+        }
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public String getGameReferenceForDay(int dayId) {
+        return gameReferenceByDay.get(dayId);
+    }
+
+    public boolean hasGameForDay(int dayId) {
+        return gameReferenceByDay.containsKey(dayId);
+    }
+
+    public int getMappingCount() {
+        return gameReferenceByDay.size;
+    }
+
+    public GameManager.GameConfig getGameByReference(String reference) {
+        return gamesByReference.get(reference);
+    }
+
+    /**
+     * @return Les paramètres fusionnés et typés du jeu, ou null si la référence est inconnue
+     */
+    public GameParameters getGameParameters(String reference) {
+        return parametersByReference.get(reference);
+    }
+
+    /**
+     * @return Une copie de la liste des jeux
+     */
+    public Array<GameManager.GameConfig> getAllGames() {
+        return new Array<>(allGames);
+    }
+
+    public int getGameCount() {
+        return allGames.size;
+    }
+
+    /**
+     * @return Une copie de la liste des jeux d'un template, ou null si aucun
+     */
+    public Array<GameManager.GameConfig> getGamesByTemplate(String gameTemplate) {
+        Array<GameManager.GameConfig> games = gamesByTemplate.get(gameTemplate);
+        return games != null ? new Array<>(games) : null;
+    }
+
+    public GameTemplateManager.GameTemplate getTemplate(String gameTemplate) {
+        return templatesByType.get(gameTemplate);
+    }
+
+    /**
+     * @return Les types de jeu des templates ("SPZ", "MMD"...)
+     */
+    public Array<String> getTemplateTypes() {
+        return templatesByType.keys().toArray();
+    }
+
+    public int getTemplateCount() {
+        return templatesByType.size;
+    }
+
+    public Theme getThemeByName(String name) {
+        return themesByName.get(name);
+    }
+
+    /**
+     * @return Une copie de la liste des thèmes
+     */
+    public Array<Theme> getAllThemes() {
+        return new Array<>(allThemes);
+    }
+
+    public int getThemeCount() {
+        return allThemes.size;
+    }
+
+    /**
+     * @return Le thème d'index donné, dans l'ordre de themes.json
+     */
+    public Theme getTheme(int index) {
+        return allThemes.get(index);
+    }
+
+    /**
+     * @return Le thème du jeu associé au jour, ou null si le jour, le jeu ou le thème est inconnu
+     */
+    public Theme getThemeByDay(int dayId) {
+        return themeByDay.get(dayId);
+    }
+
+    public boolean hasThemeForDay(int dayId) {
+        return themeByDay.containsKey(dayId);
+    }
+
+    /**
+     * @return Le type de jeu associé au jour, ou null si le jour ou le jeu est inconnu
+     */
+    public String getGameTemplateForDay(int dayId) {
+        return gameTemplateByDay.get(dayId);
+    }
+}
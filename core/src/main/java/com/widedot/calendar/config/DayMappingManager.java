@@ -1,27 +1,16 @@
 package com.widedot.calendar.config;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
-import com.badlogic.gdx.utils.JsonValue;
-import com.badlogic.gdx.utils.ObjectMap;
-
 /**
  * Gestionnaire des associations jour -> référence de jeu
- * Charge les données depuis le fichier dayMapping.json
+ * Les données de dayMapping.json sont lues et indexées par ConfigRegistry
  */
 public class DayMappingManager {
-    private static final String DAY_MAPPING_FILE = "dayMapping.json";
     private static DayMappingManager instance;
     
-    private final ObjectMap<Integer, String> dayMappings; // Correspondance jour -> référence de jeu
-    
     /**
      * Constructeur privé pour le pattern Singleton
      */
     private DayMappingManager() {
-        dayMappings = new ObjectMap<>();
-        loadDayMappings();
     }
     
     /**
@@ -35,40 +24,13 @@ public class DayMappingManager {
         return instance;
     }
     
-    /**
-     * Charge les mappings jour -> référence de jeu depuis le fichier JSON
-     */
-    private void loadDayMappings() {
-        try {
-            FileHandle file = Gdx.files.internal(DAY_MAPPING_FILE);
-            JsonReader jsonReader = new JsonReader();
-            JsonValue root = jsonReader.parse(file);
-            
-            // Charger les mappings
-            JsonValue dayMapping = root.get("dayMapping");
-            if (dayMapping != null) {
-                for (JsonValue day = dayMapping.child; day != null; day = day.next) {
-                    int dayId = Integer.parseInt(day.name); // Le nom est le numéro du jour
-                    String gameReference = day.asString(); // La valeur est la référence du jeu
-                    
-                    dayMappings.put(dayId, gameReference);
-                }
-            }
-            
-            Gdx.app.log("DayMappingManager", "Chargement de " + dayMappings.size + " correspondances jour -> jeu réussi");
-        } catch (Exception e) {
-            Gdx.app.error("DayMappingManager", "Erreur lors du chargement des mappings jour -> jeu: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
     /**
      * Récupère la référence de jeu pour un jour donné
      * @param dayId L'identifiant du jour
      * @return La référence de jeu ou null si non trouvée
      */
     public String getGameReferenceForDay(int dayId) {
-        return dayMappings.get(dayId);
+        return ConfigRegistry.getInstance().getSnapshot().getGameReferenceForDay(dayId);
     }
     
     /**
@@ -77,7 +39,7 @@ public class DayMappingManager {
      * @return true si le jour a une référence de jeu, false sinon
      */
     public boolean hasGameForDay(int dayId) {
-        return dayMappings.containsKey(dayId);
+        return ConfigRegistry.getInstance().getSnapshot().hasGameForDay(dayId);
     }
     
     /**
@@ -85,6 +47,6 @@ public class DayMappingManager {
      * @return Le nombre de mappings
      */
     public int getMappingCount() {
-        return dayMappings.size;
+        return ConfigRegistry.getInstance().getSnapshot().getMappingCount();
     }
-} 
\ No newline at end of file
+} 
@@ -1,23 +1,15 @@
 package com.widedot.calendar.config;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
-import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
 
 /**
  * Gestionnaire des configurations de jeux
- * Charge les données depuis le fichier games.json
+ * Les données de games.json sont lues et indexées par ConfigRegistry
  */
 public class GameManager {
-    private static final String GAMES_FILE = "games.json";
     private static GameManager instance;
     
-    private final ObjectMap<String, GameConfig> gamesByReference;
-    private final Array<GameConfig> allGames;
-    
     /**
      * Classe interne représentant une configuration de jeu
      */
@@ -62,9 +54,6 @@ public class GameManager {
      * Constructeur privé pour le pattern Singleton
      */
     private GameManager() {
-        gamesByReference = new ObjectMap<>();
-        allGames = new Array<>();
-        loadGames();
     }
     
     /**
@@ -78,88 +67,21 @@ public class GameManager {
         return instance;
     }
     
-    /**
-     * Charge les configurations de jeux depuis le fichier JSON
-     */
-    private void loadGames() {
-        try {
-            FileHandle file = Gdx.files.internal(GAMES_FILE);
-            JsonReader jsonReader = new JsonReader();
-            JsonValue root = jsonReader.parse(file);
-            
-            // Charger les jeux
-            JsonValue gamesArray = root.get("games");
-            if (gamesArray != null) {
-                for (JsonValue gameValue = gamesArray.child; gameValue != null; gameValue = gameValue.next) {
-                    String reference = gameValue.getString("reference");
-                    String gameTemplate = gameValue.getString("gameTemplate");
-                    String theme = gameValue.getString("theme");
-                    
-                    // Charger les presets
-                    Array<String> presets = new Array<>();
-                    JsonValue presetsValue = gameValue.get("presets");
-                    if (presetsValue != null) {
-                        for (JsonValue preset = presetsValue.child; preset != null; preset = preset.next) {
-                            presets.add(preset.asString());
-                        }
-                    }
-                    
-                    // Charger les paramètres
-                    ObjectMap<String, Object> parameters = new ObjectMap<>();
-                    JsonValue paramsValue = gameValue.get("parameters");
-                    if (paramsValue != null) {
-                        for (JsonValue param = paramsValue.child; param != null; param = param.next) {
-                            addParameterToMap(param, parameters);
-                        }
-                    }
-                    
-                    // Créer et stocker la configuration
-                    GameConfig config = new GameConfig(reference, gameTemplate, theme, presets, parameters);
-                    gamesByReference.put(reference, config);
-                    allGames.add(config);
-                }
-            }
-            
-            Gdx.app.log("GameManager", "Chargement de " + allGames.size + " configurations de jeux réussi");
-        } catch (Exception e) {
-            Gdx.app.error("GameManager", "Erreur lors du chargement des configurations de jeux: " + e.getMessage(), e);
-            throw new RuntimeException("Échec du chargement des configurations de jeux: " + e.getMessage(), e);
-        }
-    }
-    
-    /**
-     * Ajoute un paramètre à une map en fonction de son type
-     */
-    private void addParameterToMap(JsonValue param, ObjectMap<String, Object> map) {
-        String name = param.name;
-        if (param.isNumber()) {
-            if (param.asString().contains(".")) {
-                map.put(name, param.asFloat());
-            } else {
-                map.put(name, param.asInt());
-            }
-        } else if (param.isBoolean()) {
-            map.put(name, param.asBoolean());
-        } else {
-            map.put(name, param.asString());
-        }
-    }
-    
     /**
      * Récupère une configuration de jeu par sa référence
      * @param reference La référence du jeu
      * @return La configuration correspondante ou null si non trouvée
      */
     public GameConfig getGameByReference(String reference) {
-        return gamesByReference.get(reference);
+        return ConfigRegistry.getInstance().getSnapshot().getGameByReference(reference);
     }
     
     /**
      * Récupère toutes les configurations de jeux
-     * @return Un tableau contenant toutes les configurations de jeux
+     * @return Une copie du tableau de toutes les configurations de jeux
      */
     public Array<GameConfig> getAllGames() {
-        return allGames;
+        return ConfigRegistry.getInstance().getSnapshot().getAllGames();
     }
     
     /**
@@ -168,13 +90,8 @@ public class GameManager {
      * @return Une liste des configurations du type spécifié
      */
     public Array<GameConfig> getGamesByType(String gameTemplate) {
-        Array<GameConfig> result = new Array<>();
-        for (GameConfig config : allGames) {
-            if (config.getGameTemplate().equals(gameTemplate)) {
-                result.add(config);
-            }
-        }
-        return result;
+        Array<GameConfig> games = ConfigRegistry.getInstance().getSnapshot().getGamesByTemplate(gameTemplate);
+        return games != null ? games : new Array<GameConfig>();
     }
     
     /**
@@ -183,7 +100,7 @@ public class GameManager {
      * @return true si la configuration existe, false sinon
      */
     public boolean hasGame(String reference) {
-        return gamesByReference.containsKey(reference);
+        return getGameByReference(reference) != null;
     }
     
     /**
@@ -191,6 +108,6 @@ public class GameManager {
      * @return Le nombre de configurations
      */
     public int getGameCount() {
-        return allGames.size;
+        return ConfigRegistry.getInstance().getSnapshot().getGameCount();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,254 @@
+package com.widedot.calendar.config;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Paramètres d'un jeu, fusionnés et typés une fois pour toutes au chargement de la configuration :
+ * valeurs par défaut du template, puis presets, puis paramètres propres au jeu.
+ * Chaque nom est vérifié contre les "parameterTypes" du template ; les nombres sont stockés
+ * sans boîte et les couleurs déjà converties. L'objet est immuable : les couleurs retournées
+ * sont partagées et doivent être copiées avant toute modification.
+ */
+public final class GameParameters {
+
+    /**
+     * Types déclarés dans "parameterTypes"
+     */
+    public enum Type {
+        INT("int"),
+        FLOAT("float"),
+        BOOLEAN("boolean"),
+        STRING("string"),
+        /** "r,g,b" en entiers 0-255, alpha 1 */
+        COLOR("color"),
+        /** "r,g,b,a" en flottants 0-1 */
+        RGBA("rgba");
+
+        private final String jsonName;
+
+        Type(String jsonName) {
+            this.jsonName = jsonName;
+        }
+
+        static Type fromName(String name) {
+            for (Type type : values()) {
+                if (type.jsonName.equals(name)) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Type de paramètre inconnu: " + name);
+        }
+    }
+
+    /**
+     * Noms et types des paramètres d'un template, avec l'emplacement de chaque valeur
+     */
+    public static final class Schema {
+        private final String gameTemplate;
+        private final ObjectIntMap<String> slots = new ObjectIntMap<>();
+        private final Type[] types;
+
+        /**
+         * @param gameTemplate Le type de jeu (pour les messages d'erreur)
+         * @param parameterTypes Nom -> type tel que déclaré dans gameTemplates.json
+         * @throws IllegalArgumentException si un type est inconnu
+         */
+        public Schema(String gameTemplate, ObjectMap<String, String> parameterTypes) {
+            this.gameTemplate = gameTemplate;
+            this.types = new Type[parameterTypes.size];
+            int slot = 0;
+            for (ObjectMap.Entry<String, String> entry : parameterTypes.entries()) {
+                slots.put(entry.key, slot);
+                types[slot++] = Type.fromName(entry.value);
+            }
+        }
+
+        public boolean isDeclared(String name) {
+            return slots.containsKey(name);
+        }
+    }
+
+    /**
+     * Fusion des sources de paramètres, dans l'ordre de priorité croissante
+     */
+    public static final class Builder {
+        private final GameParameters target;
+
+        public Builder(Schema schema) {
+            this.target = new GameParameters(schema);
+        }
+
+        /**
+         * Applique une source de paramètres (défauts, preset ou paramètres du jeu)
+         * @param values Les valeurs lues du JSON (Integer, Float, Boolean ou String)
+         * @param source Le nom de la source, pour les messages d'erreur
+         * @throws IllegalArgumentException si un paramètre n'est pas déclaré ou n'a pas le type attendu
+         */
+        public Builder apply(ObjectMap<String, Object> values, String source) {
+            if (values == null) return this;
+            for (ObjectMap.Entry<String, Object> entry : values.entries()) {
+                target.set(entry.key, entry.value, source);
+            }
+            return this;
+        }
+
+        public GameParameters build() {
+            return target.copy();
+        }
+    }
+
+    private final Schema schema;
+    private final boolean[] present;
+    private final int[] ints;
+    private final float[] floats;
+    private final boolean[] booleans;
+    private final Object[] objects;
+
+    private GameParameters(Schema schema) {
+        int count = schema.types.length;
+        this.schema = schema;
+        this.present = new boolean[count];
+        this.ints = new int[count];
+        this.floats = new float[count];
+        this.booleans = new boolean[count];
+        this.objects = new Object[count];
+    }
+
+    private GameParameters copy() {
+        GameParameters copy = new GameParameters(schema);
+        int count = present.length;
+        System.arraycopy(present, 0, copy.present, 0, count);
+        System.arraycopy(ints, 0, copy.ints, 0, count);
+        System.arraycopy(floats, 0, copy.floats, 0, count);
+        System.arraycopy(booleans, 0, copy.booleans, 0, count);
+        System.arraycopy(objects, 0, copy.objects, 0, count);
+        return copy;
+    }
+
+    private void set(String name, Object value, String source) {
+        int slot = schema.slots.get(name, -1);
+        if (slot < 0) {
+            throw new IllegalArgumentException(source + " : paramètre '" + name
+                + "' non déclaré dans parameterTypes du template " + schema.gameTemplate);
+        }
+        Type type = schema.types[slot];
+        try {
+            switch (type) {
+                case INT:
+                    if (!(value instanceof Integer)) throw new IllegalArgumentException("entier attendu");
+                    ints[slot] = (Integer) value;
+                    floats[slot] = (Integer) value;
+                    break;
+                case FLOAT:
+                    if (!(value instanceof Number)) throw new IllegalArgumentException("nombre attendu");
+                    floats[slot] = ((Number) value).floatValue();
+                    break;
+                case BOOLEAN:
+                    if (!(value instanceof Boolean)) throw new IllegalArgumentException("booléen attendu");
+                    booleans[slot] = (Boolean) value;
+                    break;
+                case STRING:
+                    if (!(value instanceof String)) throw new IllegalArgumentException("chaîne attendue");
+                    objects[slot] = value;
+                    break;
+                case COLOR:
+                    if (!(value instanceof String)) throw new IllegalArgumentException("couleur \"r,g,b\" attendue");
+                    objects[slot] = parseColor((String) value);
+                    break;
+                case RGBA:
+                    if (!(value instanceof String)) throw new IllegalArgumentException("couleur \"r,g,b,a\" attendue");
+                    objects[slot] = parseRgba((String) value);
+                    break;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(source + " : paramètre '" + name + "' invalide (" + value + ") : "
+                + e.getMessage(), e);
+        }
+        present[slot] = true;
+    }
+
+    /**
+     * Convertit une couleur "r,g,b" (entiers 0-255)
+     * @throws IllegalArgumentException si le format est invalide
+     */
+    public static Color parseColor(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("3 composantes attendues");
+        }
+        return new Color(parseComponent(parts[0]) / 255f, parseComponent(parts[1]) / 255f,
+            parseComponent(parts[2]) / 255f, 1f);
+    }
+
+    /**
+     * Convertit une couleur "r,g,b,a" (flottants 0-1)
+     * @throws IllegalArgumentException si le format est invalide
+     */
+    public static Color parseRgba(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("4 composantes attendues");
+        }
+        return new Color(Float.parseFloat(parts[0].trim()), Float.parseFloat(parts[1].trim()),
+            Float.parseFloat(parts[2].trim()), Float.parseFloat(parts[3].trim()));
+    }
+
+    private static int parseComponent(String part) {
+        int component = Integer.parseInt(part.trim());
+        if (component < 0 || component > 255) {
+            throw new IllegalArgumentException("composante hors de 0-255: " + component);
+        }
+        return component;
+    }
+
+    private int slot(String name, Type expected) {
+        int slot = schema.slots.get(name, -1);
+        if (slot < 0 || !present[slot]) {
+            throw new IllegalArgumentException("Paramètre absent: " + name);
+        }
+        Type type = schema.types[slot];
+        boolean compatible = type == expected
+            || (expected == Type.FLOAT && type == Type.INT)
+            || (expected == Type.COLOR && type == Type.RGBA);
+        if (!compatible) {
+            throw new IllegalArgumentException("Paramètre " + name + " de type " + type + ", pas " + expected);
+        }
+        return slot;
+    }
+
+    /**
+     * @return true si le paramètre a une valeur (défaut, preset ou jeu)
+     */
+    public boolean has(String name) {
+        int slot = schema.slots.get(name, -1);
+        return slot >= 0 && present[slot];
+    }
+
+    public int getInt(String name) {
+        return ints[slot(name, Type.INT)];
+    }
+
+    /**
+     * Valeur d'un paramètre "float" ou "int"
+     */
+    public float getFloat(String name) {
+        return floats[slot(name, Type.FLOAT)];
+    }
+
+    public boolean getBoolean(String name) {
+        return booleans[slot(name, Type.BOOLEAN)];
+    }
+
+    public String getString(String name) {
+        return (String) objects[slot(name, Type.STRING)];
+    }
+
+    /**
+     * Couleur d'un paramètre "color" ou "rgba" (instance partagée, à copier avant modification)
+     */
+    public Color getColor(String name) {
+        return (Color) objects[slot(name, Type.COLOR)];
+    }
+}
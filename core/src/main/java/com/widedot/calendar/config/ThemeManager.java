@@ -1,34 +1,19 @@
 package com.widedot.calendar.config;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.JsonReader;
-import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
 import com.widedot.calendar.data.Theme;
 
 /**
  * Gestionnaire des thèmes (tableaux)
- * Charge les données depuis le fichier themes.json et intègre les fonctionnalités de l'ancien PaintingManager
+ * Les données de themes.json sont lues et indexées par ConfigRegistry ; intègre les fonctionnalités de l'ancien PaintingManager
  */
 public class ThemeManager {
-    private static final String THEMES_FILE = "themes.json";
     private static ThemeManager instance;
     
-    private final ObjectMap<String, Theme> themesByName;
-    private final Array<Theme> allThemes;
-    private final ObjectMap<Integer, String> dayToThemeMap; // Correspondance jour -> nom de thème
-    
     /**
      * Constructeur privé pour le pattern Singleton
      */
     private ThemeManager() {
-        themesByName = new ObjectMap<>();
-        allThemes = new Array<>();
-        dayToThemeMap = new ObjectMap<>();
-        loadThemes();
-        loadDayToThemeMapping();
     }
     
     /**
@@ -42,143 +27,23 @@ public class ThemeManager {
         return instance;
     }
     
-    /**
-     * Charge les thèmes depuis le fichier JSON
-     */
-    private void loadThemes() {
-        try {
-            FileHandle file = Gdx.files.internal(THEMES_FILE);
-            JsonReader jsonReader = new JsonReader();
-            JsonValue root = jsonReader.parse(file);
-            
-            // Charger les thèmes
-            JsonValue themesArray = root.get("themes");
-            for (JsonValue themeValue = themesArray.child; themeValue != null; themeValue = themeValue.next) {
-                String name = themeValue.getString("name");
-                String title = themeValue.getString("title");
-                String artist = themeValue.getString("artist");
-                int year = themeValue.getInt("year");
-                String description = themeValue.getString("description");
-                
-                // Récupérer les chemins d'images
-                JsonValue images = themeValue.get("images");
-                String fullImagePath = images.getString("full");
-                
-                // Récupérer les informations de recadrage
-                Theme.CropInfo squareCrop = null;
-                JsonValue crop = themeValue.get("crop");
-                if (crop != null) {
-                    JsonValue square = crop.get("square");
-                    if (square != null) {
-                        squareCrop = new Theme.CropInfo(
-                            square.getInt("x"),
-                            square.getInt("y"),
-                            square.getInt("width"),
-                            square.getInt("height"),
-                            square.getFloat("matchPercentage")
-                        );
-                    }
-                }
-                
-                // Créer un thème
-                Theme theme = new Theme(name, title, artist, year, description, fullImagePath, squareCrop);
-                themesByName.put(name, theme);
-                allThemes.add(theme);
-            }
-            
-            Gdx.app.log("ThemeManager", "Chargement de " + allThemes.size + " thèmes réussi");
-        } catch (Exception e) {
-            Gdx.app.error("ThemeManager", "Erreur lors du chargement des thèmes: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
-    /**
-     * Charge les associations jour -> thème depuis DayMappingManager
-     */
-    private void loadDayToThemeMapping() {
-        try {
-            DayMappingManager dayMappingManager = DayMappingManager.getInstance();
-            GameManager gameManager = GameManager.getInstance();
-            
-            for (int i = 1; i <= 24; i++) {
-                if (dayMappingManager.hasGameForDay(i)) {
-                    String gameRef = dayMappingManager.getGameReferenceForDay(i);
-                    if (gameRef != null) {
-                        // Obtenir la configuration du jeu et extraire directement l'attribut theme
-                        GameManager.GameConfig gameConfig = gameManager.getGameByReference(gameRef);
-                        if (gameConfig != null) {
-                            String themeName = gameConfig.getTheme();
-                            if (themeName != null) {
-                                dayToThemeMap.put(i, themeName);
-                            }
-                        }
-                    }
-                }
-            }
-            
-            Gdx.app.log("ThemeManager", "Chargement de " + dayToThemeMap.size + " correspondances jour -> thème réussi");
-        } catch (Exception e) {
-            Gdx.app.error("ThemeManager", "Erreur lors du chargement des correspondances jour -> thème: " + e.getMessage());
-            e.printStackTrace();
-        }
-    }
-    
     /**
      * Récupère un thème par son nom
      * @param name Le nom du thème
      * @return Le thème correspondant ou null si non trouvé
      */
     public Theme getThemeByName(String name) {
-        return themesByName.get(name);
+        return ConfigRegistry.getInstance().getSnapshot().getThemeByName(name);
     }
     
     /**
-     * Récupère le thème associé à un jour
+     * Récupère le thème associé à un jour.
+     * Recherche indexée sans log : les références manquantes sont signalées au chargement.
      * @param dayId L'identifiant du jour
      * @return Le thème associé au jour ou null si non trouvé
      */
     public Theme getThemeByDay(int dayId) {
-        String themeName = dayToThemeMap.get(dayId);
-        Gdx.app.log("ThemeManager", "Recherche de thème pour le jour " + dayId + ": " + (themeName != null ? themeName : "non trouvé"));
-        
-        if (themeName == null) {
-            Gdx.app.log("ThemeManager", "Aucun thème associé au jour " + dayId + ". Jour-thèmes disponibles: " + getDayToThemeKeys());
-            return null;
-        }
-        
-        Theme theme = themesByName.get(themeName);
-        if (theme == null) {
-            Gdx.app.log("ThemeManager", "Thème '" + themeName + "' référencé mais non trouvé dans les thèmes disponibles: " + getThemeNames());
-        }
-        
-        return theme;
-    }
-    
-    /**
-     * Récupère les clés de la map jour -> thème
-     * @return Une chaîne contenant les clés
-     */
-    private String getDayToThemeKeys() {
-        StringBuilder sb = new StringBuilder();
-        for (ObjectMap.Entry<Integer, String> entry : dayToThemeMap.entries()) {
-            if (sb.length() > 0) sb.append(", ");
-            sb.append(entry.key);
-        }
-        return sb.toString();
-    }
-    
-    /**
-     * Récupère les noms des thèmes disponibles
-     * @return Une chaîne contenant les noms des thèmes
-     */
-    private String getThemeNames() {
-        StringBuilder sb = new StringBuilder();
-        for (ObjectMap.Entry<String, Theme> entry : themesByName.entries()) {
-            if (sb.length() > 0) sb.append(", ");
-            sb.append(entry.key);
-        }
-        return sb.toString();
+        return ConfigRegistry.getInstance().getSnapshot().getThemeByDay(dayId);
     }
     
     /**
@@ -187,31 +52,18 @@ public class ThemeManager {
      * @return Le type de jeu ou null si non trouvé
      */
     public String getGameTemplateForDay(int dayId) {
-        // Obtenir la référence de jeu depuis DayMappingManager
-        DayMappingManager dayMappingManager = DayMappingManager.getInstance();
-        String gameRef = dayMappingManager.getGameReferenceForDay(dayId);
-        
-        if (gameRef != null) {
-            // Obtenir la configuration du jeu depuis GameManager
-            GameManager gameManager = GameManager.getInstance();
-            GameManager.GameConfig gameConfig = gameManager.getGameByReference(gameRef);
-            
-            if (gameConfig != null) {
-                // Utiliser directement l'attribut gameTemplate de la config
-                return gameConfig.getGameTemplate();
-            }
-        }
+        String gameTemplate = ConfigRegistry.getInstance().getSnapshot().getGameTemplateForDay(dayId);
         
         // Par défaut, retourner SPZ si aucun type ne peut être extrait
-        return "SPZ";
+        return gameTemplate != null ? gameTemplate : "SPZ";
     }
     
     /**
      * Récupère tous les thèmes
-     * @return Un tableau contenant tous les thèmes
+     * @return Une copie du tableau de tous les thèmes
      */
     public Array<Theme> getAllThemes() {
-        return allThemes;
+        return ConfigRegistry.getInstance().getSnapshot().getAllThemes();
     }
     
     /**
@@ -223,7 +75,7 @@ public class ThemeManager {
         // Comme tous les thèmes ont le même type de jeu SPZ par défaut
         // On retourne simplement tous les thèmes si le type est SPZ
         if ("SPZ".equals(gameTemplate)) {
-            return allThemes;
+            return getAllThemes();
         }
         // Sinon, on retourne un array vide
         return new Array<>();
@@ -235,7 +87,7 @@ public class ThemeManager {
      * @return true si le thème existe, false sinon
      */
     public boolean hasTheme(String name) {
-        return themesByName.containsKey(name);
+        return getThemeByName(name) != null;
     }
     
     /**
@@ -244,7 +96,7 @@ public class ThemeManager {
      * @return true si le jour a un thème associé, false sinon
      */
     public boolean hasThemeForDay(int dayId) {
-        return dayToThemeMap.containsKey(dayId);
+        return ConfigRegistry.getInstance().getSnapshot().hasThemeForDay(dayId);
     }
     
     /**
@@ -252,6 +104,15 @@ public class ThemeManager {
      * @return Le nombre de thèmes
      */
     public int getThemeCount() {
-        return allThemes.size;
+        return ConfigRegistry.getInstance().getSnapshot().getThemeCount();
+    }
+    
+    /**
+     * Récupère un thème par son index
+     * @param index L'index du thème, de 0 à getThemeCount() - 1
+     * @return Le thème
+     */
+    public Theme getTheme(int index) {
+        return ConfigRegistry.getInstance().getSnapshot().getTheme(index);
     }
 } 
\ No newline at end of file
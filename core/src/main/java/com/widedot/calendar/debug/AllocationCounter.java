@@ -0,0 +1,91 @@
+package com.widedot.calendar.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.widedot.calendar.config.Config;
+import com.widedot.calendar.platform.PlatformFactory;
+import com.widedot.calendar.platform.PlatformSpecific;
+
+/**
+ * Compteur d'allocations d'une boucle de rendu, pour vérifier qu'elle n'alloue rien en régime établi.
+ * Activé par "graphics.count_allocations" dans config.json ; nécessite une plateforme capable
+ * de mesurer les allocations (desktop). Les octets alloués entre begin() et end() sont cumulés
+ * et un bilan est écrit dans le log toutes les REPORT_INTERVAL_FRAMES frames.
+ */
+public class AllocationCounter {
+    private static final int REPORT_INTERVAL_FRAMES = 300;
+
+    private final String name;
+    private final PlatformSpecific platform;
+    private final boolean enabled;
+    // Octets alloués par la mesure elle-même (soustraits de chaque frame)
+    private final long overhead;
+
+    private long frameStart;
+    private long lastFrameBytes;
+    private long totalBytes;
+    private long maxFrameBytes;
+    private int frames;
+
+    public AllocationCounter(String name) {
+        this.name = name;
+        boolean requested = Config.getInstance().isCountAllocations();
+        PlatformSpecific current = requested ? PlatformFactory.getPlatform() : null;
+
+        if (current != null && current.getAllocatedBytes() < 0) {
+            Gdx.app.log("AllocationCounter", "Mesure des allocations non supportée sur cette plateforme");
+            current = null;
+        }
+        this.platform = current;
+        this.enabled = current != null;
+        this.overhead = enabled ? measureOverhead(current) : 0;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Début de la zone mesurée
+     */
+    public void begin() {
+        if (!enabled) return;
+        frameStart = platform.getAllocatedBytes();
+    }
+
+    /**
+     * Fin de la zone mesurée
+     */
+    public void end() {
+        if (!enabled) return;
+        lastFrameBytes = Math.max(0, platform.getAllocatedBytes() - frameStart - overhead);
+        totalBytes += lastFrameBytes;
+        maxFrameBytes = Math.max(maxFrameBytes, lastFrameBytes);
+        frames++;
+
+        if (frames >= REPORT_INTERVAL_FRAMES) {
+            Gdx.app.log("AllocationCounter", name + " : " + (totalBytes / frames) + " octets/frame en moyenne, max "
+                + maxFrameBytes + " sur " + frames + " frames");
+            totalBytes = 0;
+            maxFrameBytes = 0;
+            frames = 0;
+        }
+    }
+
+    /**
+     * Octets alloués pendant la dernière zone mesurée
+     */
+    public long getLastFrameBytes() {
+        return lastFrameBytes;
+    }
+
+    private static long measureOverhead(PlatformSpecific platform) {
+        // Le plus petit écart entre deux lectures consécutives (la première peut initialiser des caches)
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = platform.getAllocatedBytes();
+            long end = platform.getAllocatedBytes();
+            best = Math.min(best, end - start);
+        }
+        return Math.max(0, best);
+    }
+}
@@ -6,11 +6,14 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.widedot.calendar.config.GameParameters;
 import com.badlogic.gdx.utils.JsonWriter;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
+import com.widedot.calendar.display.FrameBufferPool;
 import com.widedot.calendar.shaders.CrystallizeShader;
 import com.widedot.calendar.utils.CarlitoFontManager;
 
@@ -32,6 +35,10 @@ public class CrystallizeDebugManager {
     private boolean debugFadeEdges = false;
     private boolean debugMode = false;
     
+    // Qualité du shader et comparaison côte à côte fidelity / fast
+    private CrystallizeShader.Quality debugQuality = CrystallizeShader.Quality.FIDELITY;
+    private boolean comparisonMode = false;
+    
     // Paramètres HSL du background (mêmes unités que SlidingPuzzle)
     private float debugBackgroundHue = 0f;        // 0-360
     private float debugBackgroundSaturation = 0f; // 0-100
@@ -101,59 +108,42 @@ public class CrystallizeDebugManager {
     /**
      * Initialise les paramètres de debug avec les valeurs du jeu
      */
-    public void initializeFromGameParameters(ObjectMap<String, Object> parameters) {
+    public void initializeFromGameParameters(GameParameters parameters) {
         if (parameters == null) return;
         
         // Charger les paramètres de debug depuis la configuration du jeu
-        if (parameters.containsKey("randomness")) {
-            debugRandomness = ((Number) parameters.get("randomness")).floatValue();
+        if (parameters.has("randomness")) {
+            debugRandomness = parameters.getFloat("randomness");
         }
-        if (parameters.containsKey("edgeThickness")) {
-            debugEdgeThickness = ((Number) parameters.get("edgeThickness")).floatValue();
+        if (parameters.has("edgeThickness")) {
+            debugEdgeThickness = parameters.getFloat("edgeThickness");
         }
-        if (parameters.containsKey("stretch")) {
-            debugStretch = ((Number) parameters.get("stretch")).floatValue();
+        if (parameters.has("stretch")) {
+            debugStretch = parameters.getFloat("stretch");
         }
-        if (parameters.containsKey("edgeColor")) {
-            String edgeColorStr = (String) parameters.get("edgeColor");
-            parseEdgeColorFromString(edgeColorStr);
+        if (parameters.has("edgeColor")) {
+            Color edgeColor = parameters.getColor("edgeColor");
+            debugEdgeColorR = edgeColor.r;
+            debugEdgeColorG = edgeColor.g;
+            debugEdgeColorB = edgeColor.b;
+            debugEdgeColorA = edgeColor.a;
         }
-        if (parameters.containsKey("fadeEdges")) {
-            debugFadeEdges = (Boolean) parameters.get("fadeEdges");
+        if (parameters.has("fadeEdges")) {
+            debugFadeEdges = parameters.getBoolean("fadeEdges");
         }
-        if (parameters.containsKey("initialCrystalSize")) {
-            debugCrystalSize = ((Number) parameters.get("initialCrystalSize")).floatValue();
+        if (parameters.has("initialCrystalSize")) {
+            debugCrystalSize = parameters.getFloat("initialCrystalSize");
         }
         
         // Charger les paramètres HSL du background (mêmes unités que SlidingPuzzle)
-        if (parameters.containsKey("bgHue")) {
-            debugBackgroundHue = Math.max(0, Math.min(360, ((Number) parameters.get("bgHue")).floatValue()));
+        if (parameters.has("bgHue")) {
+            debugBackgroundHue = Math.max(0, Math.min(360, parameters.getFloat("bgHue")));
         }
-        if (parameters.containsKey("bgSaturation")) {
-            debugBackgroundSaturation = Math.max(0, Math.min(100, ((Number) parameters.get("bgSaturation")).floatValue()));
+        if (parameters.has("bgSaturation")) {
+            debugBackgroundSaturation = Math.max(0, Math.min(100, parameters.getFloat("bgSaturation")));
         }
-        if (parameters.containsKey("bgLightness")) {
-            debugBackgroundLightness = Math.max(-100, Math.min(100, ((Number) parameters.get("bgLightness")).floatValue()));
-        }
-    }
-    
-    /**
-     * Parse une couleur au format "r,g,b,a" et met à jour les paramètres RGBA
-     */
-    private void parseEdgeColorFromString(String colorStr) {
-        try {
-            String[] parts = colorStr.split(",");
-            if (parts.length == 4) {
-                debugEdgeColorR = Float.parseFloat(parts[0]);
-                debugEdgeColorG = Float.parseFloat(parts[1]);
-                debugEdgeColorB = Float.parseFloat(parts[2]);
-                debugEdgeColorA = Float.parseFloat(parts[3]);
-            }
-        } catch (NumberFormatException e) {
-            debugEdgeColorR = 0.0f;
-            debugEdgeColorG = 0.0f;
-            debugEdgeColorB = 0.0f;
-            debugEdgeColorA = 1.0f;
+        if (parameters.has("bgLightness")) {
+            debugBackgroundLightness = Math.max(-100, Math.min(100, parameters.getFloat("bgLightness")));
         }
     }
     
@@ -173,6 +163,22 @@ public class CrystallizeDebugManager {
                     return true;
                 }
         
+                // Alt+Q pour basculer la qualité du shader (uniquement en mode debug)
+                if (keycode == Input.Keys.Q && debugMode && (Gdx.input.isKeyPressed(Input.Keys.ALT_LEFT) || Gdx.input.isKeyPressed(Input.Keys.ALT_RIGHT))) {
+                    debugQuality = debugQuality == CrystallizeShader.Quality.FIDELITY
+                        ? CrystallizeShader.Quality.FAST : CrystallizeShader.Quality.FIDELITY;
+                    if (changeCallback != null) {
+                        changeCallback.onDebugParameterChanged();
+                    }
+                    return true;
+                }
+                
+                // Alt+C pour afficher la comparaison côte à côte des deux qualités (uniquement en mode debug)
+                if (keycode == Input.Keys.C && debugMode && (Gdx.input.isKeyPressed(Input.Keys.ALT_LEFT) || Gdx.input.isKeyPressed(Input.Keys.ALT_RIGHT))) {
+                    comparisonMode = !comparisonMode;
+                    return true;
+                }
+        
         if (debugMode) {
                     if (keycode == Input.Keys.UP) {
                         // Changer de paramètre sélectionné (cycle vers le haut)
@@ -387,6 +393,55 @@ public class CrystallizeDebugManager {
         shader.setFadeEdges(debugFadeEdges);
     }
     
+    /**
+     * Dessine l'image avec les deux qualités du shader côte à côte (FIDELITY à gauche, FAST à droite)
+     * pour valider la correspondance visuelle. Le batch doit déjà avoir appelé begin().
+     */
+    public void drawQualityComparison(SpriteBatch batch, CrystallizeShader shader, Texture source,
+                                      float viewportWidth, float viewportHeight) {
+        CrystallizeShader.Quality previousQuality = shader.getQuality();
+        ShaderProgram previousShader = batch.getShader();
+        float halfWidth = viewportWidth / 2f;
+        
+        drawComparisonHalf(batch, shader, source, CrystallizeShader.Quality.FIDELITY, 0, halfWidth, viewportHeight);
+        drawComparisonHalf(batch, shader, source, CrystallizeShader.Quality.FAST, halfWidth, halfWidth, viewportHeight);
+        
+        batch.setShader(previousShader);
+        shader.setQuality(previousQuality);
+        
+        // Légendes
+        float fontSize = 0.9f;
+        CarlitoFontManager.getFont().setColor(1.0f, 1.0f, 0.0f, 1.0f);
+        CarlitoFontManager.drawText(batch, "FIDELITY (5x5x3)", 20, 40, fontSize);
+        CarlitoFontManager.drawText(batch, "FAST (3x3, seed texture)", halfWidth + 20, 40, fontSize);
+        CarlitoFontManager.getFont().setColor(1.0f, 1.0f, 1.0f, 1.0f);
+    }
+    
+    /**
+     * Dessine une moitié de la comparaison avec la qualité indiquée, centrée dans sa zone
+     */
+    private void drawComparisonHalf(SpriteBatch batch, CrystallizeShader shader, Texture source,
+                                    CrystallizeShader.Quality quality, float areaX, float areaWidth, float areaHeight) {
+        float imageAspect = (float) source.getWidth() / source.getHeight();
+        float width = areaWidth;
+        float height = width / imageAspect;
+        if (height > areaHeight) {
+            height = areaHeight;
+            width = height * imageAspect;
+        }
+        float x = areaX + (areaWidth - width) / 2f;
+        float y = (areaHeight - height) / 2f;
+        
+        shader.setQuality(quality);
+        batch.setShader(shader.getShader());
+        applyDebugParameters(shader, debugCrystalSize);
+        shader.setResolution(source.getWidth(), source.getHeight());
+        shader.setDirectPass(true);
+        shader.bindSeedTexture();
+        batch.setColor(1, 1, 1, 1);
+        batch.draw(source, x, y, width, height);
+    }
+    
     
     /**
      * Dessine du texte avec la couleur appropriée selon la sélection
@@ -488,6 +543,17 @@ public class CrystallizeDebugManager {
         drawTextWithSelection(batch, bgLightnessText, x, y, fontSize, isBgLightnessSelected);
         y -= lineHeight;
         
+        // Qualité du shader
+        CarlitoFontManager.getFont().setColor(1.0f, 1.0f, 0.0f, 1.0f);
+        CarlitoFontManager.drawText(batch, "Shader Quality: " + debugQuality + (comparisonMode ? " | COMPARISON" : ""), x, y, fontSize);
+        y -= lineHeight;
+        
+        // Compteur d'allocations de FrameBuffers (doit rester à 0 pendant une animation)
+        CarlitoFontManager.getFont().setColor(1.0f, 1.0f, 0.0f, 1.0f);
+        CarlitoFontManager.drawText(batch, "FBO allocs/s: " + FrameBufferPool.getAllocationsPerSecond()
+            + " (total: " + FrameBufferPool.getTotalAllocations() + ")", x, y, fontSize);
+        y -= lineHeight;
+        
         // Instructions
         CarlitoFontManager.getFont().setColor(0.5f, 0.5f, 0.5f, 1.0f);
         CarlitoFontManager.drawText(batch, "UP/DOWN: Select Parameter | LEFT/RIGHT: Modify Value", x, y, fontSize);
@@ -496,6 +562,8 @@ public class CrystallizeDebugManager {
         y -= lineHeight;
         CarlitoFontManager.drawText(batch, "S: Save current settings to games.json", x, y, fontSize);
         y -= lineHeight;
+        CarlitoFontManager.drawText(batch, "Alt+Q: Toggle shader quality | Alt+C: Side-by-side comparison", x, y, fontSize);
+        y -= lineHeight;
                 
         // Afficher la confirmation de sauvegarde si active
         if (showSaveConfirmation) {
@@ -508,6 +576,21 @@ public class CrystallizeDebugManager {
         return debugMode;
     }
     
+    public boolean isComparisonMode() {
+        return debugMode && comparisonMode;
+    }
+    
+    public CrystallizeShader.Quality getDebugQuality() {
+        return debugQuality;
+    }
+    
+    /**
+     * Définit la qualité initiale du shader (issue de la configuration)
+     */
+    public void setDebugQuality(CrystallizeShader.Quality quality) {
+        this.debugQuality = quality;
+    }
+    
     public float getDebugCrystalSize() {
         return debugCrystalSize;
     }
@@ -3,7 +3,7 @@ package com.widedot.calendar.debug;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.config.GameParameters;
 import com.widedot.calendar.utils.CarlitoFontManager;
 
 /**
@@ -56,10 +56,10 @@ public class QuestionAnswerDebugManager {
         this.currentGameReference = gameReference;
     }
     
-    public void initializeFromGameParameters(ObjectMap<String, Object> parameters) {
+    public void initializeFromGameParameters(GameParameters parameters) {
         if (parameters != null) {
-            if (parameters.containsKey("questionsFile")) {
-                String file = (String) parameters.get("questionsFile");
+            if (parameters.has("questionsFile")) {
+                String file = parameters.getString("questionsFile");
                 if (file != null && !file.isEmpty()) {
                     // Trouver l'index du fichier dans la liste
                     for (int i = 0; i < availableFiles.length; i++) {
@@ -81,13 +81,13 @@ public class QuestionAnswerDebugManager {
             }
             
             // Charger totalQuestions
-            if (parameters.containsKey("totalQuestions")) {
-                this.totalQuestions = ((Number) parameters.get("totalQuestions")).intValue();
+            if (parameters.has("totalQuestions")) {
+                this.totalQuestions = parameters.getInt("totalQuestions");
             }
             
             // Charger victoryThreshold
-            if (parameters.containsKey("victoryThreshold")) {
-                this.victoryThreshold = ((Number) parameters.get("victoryThreshold")).intValue();
+            if (parameters.has("victoryThreshold")) {
+                this.victoryThreshold = parameters.getInt("victoryThreshold");
             }
         } else {
             // Aucun paramètre, utiliser les valeurs par défaut
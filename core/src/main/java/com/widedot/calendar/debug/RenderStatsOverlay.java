@@ -0,0 +1,64 @@
+package com.widedot.calendar.debug;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.widedot.calendar.config.Config;
+import com.widedot.calendar.utils.CarlitoFontManager;
+
+/**
+ * Affiche le nombre d'appels de rendu (batch.renderCalls) de la dernière frame d'un écran.
+ * Activé par "graphics.show_render_stats" dans config.json.
+ * render() doit être appelé juste après le batch.end() de l'écran, avant tout autre begin().
+ */
+public class RenderStatsOverlay {
+    private static final float FONT_SCALE = 0.6f;
+    private static final float MARGIN = 10f;
+
+    private final SpriteBatch batch;
+    private final boolean enabled;
+    private final Matrix4 screenProjection = new Matrix4();
+    private final Matrix4 savedProjection = new Matrix4();
+
+    // Libellé reconstruit seulement quand la valeur change
+    private int lastRenderCalls = -1;
+    private String label = "";
+
+    public RenderStatsOverlay(SpriteBatch batch) {
+        this.batch = batch;
+        this.enabled = Config.getInstance().isShowRenderStats();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Dessine le compteur en haut à gauche de la fenêtre
+     */
+    public void render() {
+        if (!enabled) return;
+
+        // renderCalls compte les appels depuis le dernier begin() : ceux de la frame de l'écran
+        int renderCalls = batch.renderCalls;
+        if (renderCalls != lastRenderCalls) {
+            lastRenderCalls = renderCalls;
+            label = "renderCalls: " + renderCalls;
+        }
+
+        int width = Gdx.graphics.getWidth();
+        int height = Gdx.graphics.getHeight();
+        HdpiUtils.glViewport(0, 0, width, height);
+        screenProjection.setToOrtho2D(0, 0, width, height);
+        savedProjection.set(batch.getProjectionMatrix());
+
+        batch.setProjectionMatrix(screenProjection);
+        batch.begin();
+        CarlitoFontManager.getFont().setColor(1.0f, 1.0f, 0.0f, 1.0f);
+        CarlitoFontManager.drawText(batch, label, MARGIN, height - MARGIN, FONT_SCALE);
+        CarlitoFontManager.getFont().setColor(1.0f, 1.0f, 1.0f, 1.0f);
+        batch.end();
+        batch.setProjectionMatrix(savedProjection);
+    }
+}
@@ -8,7 +8,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.config.GameParameters;
 import com.badlogic.gdx.utils.JsonWriter;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
@@ -106,50 +106,33 @@ public class SlidingPuzzleDebugManager {
     /**
      * Initialise les paramètres de debug avec les valeurs du jeu
      */
-    public void initializeFromGameParameters(ObjectMap<String, Object> parameters) {
+    public void initializeFromGameParameters(GameParameters parameters) {
         if (parameters == null) return;
 
         // Charger les paramètres de debug depuis la configuration du jeu
-        if (parameters.containsKey("size")) {
-            debugSize = ((Number) parameters.get("size")).intValue();
+        if (parameters.has("size")) {
+            debugSize = parameters.getInt("size");
         }
-        if (parameters.containsKey("bgColor")) {
-            String bgColor = (String) parameters.get("bgColor");
-            parseBackgroundColor(bgColor);
+        if (parameters.has("bgColor")) {
+            Color bgColor = parameters.getColor("bgColor");
+            debugBgColorR = Math.round(bgColor.r * 255);
+            debugBgColorG = Math.round(bgColor.g * 255);
+            debugBgColorB = Math.round(bgColor.b * 255);
         }
-        if (parameters.containsKey("bgHue")) {
-            debugBackgroundHue = ((Number) parameters.get("bgHue")).floatValue();
+        if (parameters.has("bgHue")) {
+            debugBackgroundHue = parameters.getFloat("bgHue");
         }
-        if (parameters.containsKey("bgSaturation")) {
-            debugBackgroundSaturation = ((Number) parameters.get("bgSaturation")).floatValue();
+        if (parameters.has("bgSaturation")) {
+            debugBackgroundSaturation = parameters.getFloat("bgSaturation");
         }
-        if (parameters.containsKey("bgLightness")) {
-            debugBackgroundLightness = ((Number) parameters.get("bgLightness")).floatValue();
+        if (parameters.has("bgLightness")) {
+            debugBackgroundLightness = parameters.getFloat("bgLightness");
         }
-        if (parameters.containsKey("shuffle")) {
-            debugShuffle = ((Number) parameters.get("shuffle")).intValue();
+        if (parameters.has("shuffle")) {
+            debugShuffle = parameters.getInt("shuffle");
         }
-        if (parameters.containsKey("animationSpeed")) {
-            debugAnimationSpeed = ((Number) parameters.get("animationSpeed")).floatValue();
-        }
-    }
-
-    /**
-     * Parse la couleur de fond depuis une chaîne "r,g,b"
-     */
-    private void parseBackgroundColor(String colorStr) {
-        try {
-            String[] parts = colorStr.split(",");
-            if (parts.length == 3) {
-                debugBgColorR = Integer.parseInt(parts[0]);
-                debugBgColorG = Integer.parseInt(parts[1]);
-                debugBgColorB = Integer.parseInt(parts[2]);
-            }
-        } catch (NumberFormatException e) {
-            Gdx.app.error("SlidingPuzzleDebugManager", "Format de couleur invalide: " + colorStr + ", utilisation des valeurs par défaut");
-            debugBgColorR = 0;
-            debugBgColorG = 0;
-            debugBgColorB = 0;
+        if (parameters.has("animationSpeed")) {
+            debugAnimationSpeed = parameters.getFloat("animationSpeed");
         }
     }
 
@@ -0,0 +1,155 @@
+package com.widedot.calendar.display;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Pool centralisé de FrameBuffers, indexé par taille et format.
+ * Évite de créer/détruire un FBO à chaque frame pendant les effets animés.
+ * Compatible GWT/HTML (pas de réflexion, pas de threads).
+ */
+public final class FrameBufferPool {
+
+    // Nombre maximum de FBO libres conservés par (format, largeur, hauteur)
+    private static final int MAX_FREE_PER_SLOT = 2;
+
+    private static final Array<Slot> slots = new Array<>();
+    private static final ObjectMap<FrameBuffer, Slot> lent = new ObjectMap<>();
+
+    // Compteurs d'allocations GL
+    private static int totalAllocations = 0;
+    private static int allocationsInWindow = 0;
+    private static int allocationsPerSecond = 0;
+    private static long windowStartMillis = 0;
+
+    /**
+     * Groupe de FBO libres partageant le même format et les mêmes dimensions
+     */
+    private static final class Slot {
+        final Pixmap.Format format;
+        final int width;
+        final int height;
+        final Array<FrameBuffer> free = new Array<>(false, MAX_FREE_PER_SLOT);
+
+        Slot(Pixmap.Format format, int width, int height) {
+            this.format = format;
+            this.width = width;
+            this.height = height;
+        }
+
+        boolean matches(Pixmap.Format format, int width, int height) {
+            return this.format == format && this.width == width && this.height == height;
+        }
+    }
+
+    private FrameBufferPool() {
+        // Classe utilitaire - pas d'instanciation
+    }
+
+    /**
+     * Récupère un FrameBuffer du pool, ou en crée un si aucun n'est disponible
+     * @param format Format de la texture couleur
+     * @param width Largeur en pixels
+     * @param height Hauteur en pixels
+     * @return Un FrameBuffer prêt à l'emploi (à rendre via free())
+     */
+    public static FrameBuffer obtain(Pixmap.Format format, int width, int height) {
+        Slot slot = findSlot(format, width, height);
+        if (slot == null) {
+            slot = new Slot(format, width, height);
+            slots.add(slot);
+        }
+
+        FrameBuffer frameBuffer;
+        if (slot.free.size > 0) {
+            frameBuffer = slot.free.pop();
+        } else {
+            frameBuffer = new FrameBuffer(format, width, height, false);
+            recordAllocation();
+            Gdx.app.log("FrameBufferPool", "Nouveau FBO " + width + "x" + height + " (" + format + "), total: " + totalAllocations);
+        }
+
+        lent.put(frameBuffer, slot);
+        return frameBuffer;
+    }
+
+    /**
+     * Rend un FrameBuffer au pool. Au-delà de la capacité du slot, il est libéré.
+     * @param frameBuffer Le FrameBuffer obtenu via obtain()
+     */
+    public static void free(FrameBuffer frameBuffer) {
+        if (frameBuffer == null) return;
+
+        Slot slot = lent.remove(frameBuffer);
+        if (slot == null) {
+            Gdx.app.error("FrameBufferPool", "FBO inconnu rendu au pool, libération directe");
+            frameBuffer.dispose();
+            return;
+        }
+
+        if (slot.free.size < MAX_FREE_PER_SLOT) {
+            slot.free.add(frameBuffer);
+        } else {
+            frameBuffer.dispose();
+        }
+    }
+
+    /**
+     * Libère tous les FBO libres conservés dans le pool (les FBO prêtés ne sont pas touchés)
+     */
+    public static void clear() {
+        for (Slot slot : slots) {
+            for (FrameBuffer frameBuffer : slot.free) {
+                frameBuffer.dispose();
+            }
+            slot.free.clear();
+        }
+        slots.clear();
+        Gdx.app.log("FrameBufferPool", "Pool vidé (" + lent.size + " FBO encore prêtés)");
+    }
+
+    /**
+     * Nombre total de FBO créés depuis le démarrage
+     */
+    public static int getTotalAllocations() {
+        return totalAllocations;
+    }
+
+    /**
+     * Nombre de FBO créés pendant la dernière seconde complète
+     */
+    public static int getAllocationsPerSecond() {
+        rollWindow(TimeUtils.millis());
+        return allocationsPerSecond;
+    }
+
+    private static Slot findSlot(Pixmap.Format format, int width, int height) {
+        for (int i = 0; i < slots.size; i++) {
+            Slot slot = slots.get(i);
+            if (slot.matches(format, width, height)) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    private static void recordAllocation() {
+        rollWindow(TimeUtils.millis());
+        totalAllocations++;
+        allocationsInWindow++;
+    }
+
+    private static void rollWindow(long now) {
+        long elapsed = now - windowStartMillis;
+        if (elapsed >= 1000) {
+            // Si plus d'une fenêtre s'est écoulée sans allocation, le taux est nul
+            allocationsPerSecond = elapsed < 2000 ? allocationsInWindow : 0;
+            allocationsInWindow = 0;
+            windowStartMillis = now;
+        }
+    }
+}
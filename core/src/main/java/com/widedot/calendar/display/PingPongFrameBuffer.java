@@ -0,0 +1,96 @@
+package com.widedot.calendar.display;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+
+/**
+ * Double FrameBuffer (ping-pong) alimenté par le FrameBufferPool.
+ * On dessine dans le tampon arrière pendant que la texture du tampon avant
+ * reste valide pour l'affichage ; end() échange les deux tampons.
+ */
+public class PingPongFrameBuffer {
+
+    private final Pixmap.Format format;
+    private FrameBuffer front;
+    private FrameBuffer back;
+    private int width;
+    private int height;
+
+    public PingPongFrameBuffer(Pixmap.Format format) {
+        this.format = format;
+    }
+
+    /**
+     * S'assure que les deux tampons ont la taille demandée.
+     * Ne fait aucune allocation si la taille n'a pas changé.
+     */
+    public void ensureSize(int width, int height) {
+        if (front != null && this.width == width && this.height == height) {
+            return;
+        }
+        release();
+        this.width = width;
+        this.height = height;
+        front = FrameBufferPool.obtain(format, width, height);
+        back = FrameBufferPool.obtain(format, width, height);
+    }
+
+    /**
+     * Commence le rendu dans le tampon arrière
+     */
+    public void begin() {
+        back.begin();
+    }
+
+    /**
+     * Termine le rendu et échange les tampons : le résultat devient le tampon avant
+     */
+    public void end() {
+        back.end();
+        swap();
+    }
+
+    /**
+     * Tampon arrière, dans lequel le prochain rendu doit être effectué
+     */
+    public FrameBuffer getBackBuffer() {
+        return back;
+    }
+
+    /**
+     * Échange les tampons après un rendu effectué directement dans getBackBuffer()
+     */
+    public void swap() {
+        FrameBuffer tmp = front;
+        front = back;
+        back = tmp;
+    }
+
+    /**
+     * Texture du dernier rendu terminé
+     */
+    public Texture getTexture() {
+        return front != null ? front.getColorBufferTexture() : null;
+    }
+
+    /**
+     * Indique si une texture appartient à l'un des deux tampons
+     */
+    public boolean owns(Texture texture) {
+        return texture != null && front != null
+            && (texture == front.getColorBufferTexture() || texture == back.getColorBufferTexture());
+    }
+
+    /**
+     * Rend les deux tampons au pool
+     */
+    public void release() {
+        if (front != null) {
+            FrameBufferPool.free(front);
+            FrameBufferPool.free(back);
+            front = null;
+            back = null;
+        }
+    }
+}
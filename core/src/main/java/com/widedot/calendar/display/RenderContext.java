@@ -0,0 +1,76 @@
+package com.widedot.calendar.display;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.widedot.calendar.effects.HSLColorizer;
+import com.widedot.calendar.shaders.HSLShader;
+import com.widedot.calendar.utils.CarlitoFontManager;
+
+/**
+ * Contexte de rendu partagé par tous les écrans, détenu par AdventCalendarGame.
+ * Fournit un SpriteBatch unique, une texture blanche 1x1 (fonds, rectangles, fondus)
+ * et la colorisation HSL cuite des fonds. Libère aussi les shaders communs (HSL, police Distance Field).
+ * Les écrans ne doivent pas libérer ces ressources : elles vivent aussi longtemps que le jeu.
+ */
+public class RenderContext {
+    private final SpriteBatch batch;
+    private final Texture whiteTexture;
+    private final HSLColorizer colorizer;
+
+    public RenderContext() {
+        this.batch = new SpriteBatch();
+        this.colorizer = new HSLColorizer(batch);
+
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(1, 1, 1, 1);
+        pixmap.fill();
+        this.whiteTexture = new Texture(pixmap);
+        pixmap.dispose();
+    }
+
+    /**
+     * Batch partagé. Chaque écran définit sa matrice de projection à chaque frame
+     * et doit restaurer la couleur et le shader qu'il modifie.
+     */
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     * Texture blanche 1x1, à teinter avec batch.setColor()
+     */
+    public Texture getWhiteTexture() {
+        return whiteTexture;
+    }
+
+    /**
+     * Colorisation HSL cuite dans des framebuffers (à utiliser hors de batch.begin()/end())
+     */
+    public HSLColorizer getColorizer() {
+        return colorizer;
+    }
+
+    /**
+     * Remet le batch dans son état par défaut (couleur blanche, shader par défaut).
+     * Appelé au début de chaque frame pour qu'un écran ne subisse pas l'état laissé par un autre.
+     */
+    public void reset() {
+        batch.setColor(Color.WHITE);
+        if (!batch.isDrawing()) {
+            batch.setShader(null);
+        }
+    }
+
+    /**
+     * Libère le batch, la texture blanche, les textures colorisées et les shaders partagés
+     */
+    public void dispose() {
+        batch.dispose();
+        whiteTexture.dispose();
+        colorizer.dispose();
+        HSLShader.dispose();
+        CarlitoFontManager.dispose();
+    }
+}
@@ -0,0 +1,176 @@
+package com.widedot.calendar.effects;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.config.Config;
+import com.widedot.calendar.display.FrameBufferPool;
+
+/**
+ * Cache LRU des niveaux de cristallisation déjà rendus.
+ * Chaque entrée conserve le FBO rendu pour une combinaison (thème, taille de cristal, paramètres du shader).
+ * Le cache survit aux écrans : revenir à un niveau déjà atteint ou rouvrir le jour
+ * devient un simple échange de texture au lieu d'un nouveau rendu GPU.
+ */
+public class CrystallizeLevelCache {
+    private static CrystallizeLevelCache instance;
+
+    private static final int BYTES_PER_PIXEL = 4; // RGBA8888
+
+    private final ObjectMap<String, Entry> entries;
+    // Ordre d'utilisation : le moins récemment utilisé en tête
+    private final Array<Entry> lruOrder;
+    private long budgetBytes;
+    private long usedBytes;
+
+    /**
+     * Entrée du cache : un FBO rendu et sa taille en mémoire vidéo
+     */
+    private static final class Entry {
+        final String key;
+        final FrameBuffer frameBuffer;
+        final long bytes;
+
+        Entry(String key, FrameBuffer frameBuffer, long bytes) {
+            this.key = key;
+            this.frameBuffer = frameBuffer;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Constructeur privé pour le pattern Singleton
+     */
+    private CrystallizeLevelCache() {
+        entries = new ObjectMap<>();
+        lruOrder = new Array<>();
+        setBudgetMegabytes(Config.getInstance().getCrystallizeCacheMegabytes());
+    }
+
+    /**
+     * Récupère l'instance unique de CrystallizeLevelCache (pattern Singleton)
+     * @return L'instance de CrystallizeLevelCache
+     */
+    public static CrystallizeLevelCache getInstance() {
+        if (instance == null) {
+            instance = new CrystallizeLevelCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Construit la clé d'un niveau rendu
+     */
+    public static String buildKey(String themeName, String quality, float crystalSize, float randomness,
+                                  float stretch, float edgeThickness, float edgeR, float edgeG, float edgeB,
+                                  float edgeA, boolean fadeEdges, int width, int height) {
+        StringBuilder key = new StringBuilder(96);
+        key.append(themeName).append('|').append(quality)
+           .append('|').append(crystalSize)
+           .append('|').append(randomness)
+           .append('|').append(stretch)
+           .append('|').append(edgeThickness);
+        if (fadeEdges) {
+            // La couleur de bord n'est pas utilisée en mode fondu
+            key.append("|fade");
+        } else {
+            key.append('|').append(edgeR).append(',').append(edgeG).append(',').append(edgeB).append(',').append(edgeA);
+        }
+        key.append('|').append(width).append('x').append(height);
+        return key.toString();
+    }
+
+    /**
+     * Récupère la texture d'un niveau déjà rendu
+     * @param key Clé construite avec buildKey()
+     * @return La texture rendue, ou null si absente du cache
+     */
+    public Texture get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        touch(entry);
+        return entry.frameBuffer.getColorBufferTexture();
+    }
+
+    /**
+     * Réserve un FBO pour un nouveau niveau. L'appelant doit y dessiner immédiatement.
+     * Les entrées les moins récemment utilisées sont évincées pour respecter le budget ;
+     * la nouvelle entrée n'est jamais évincée par sa propre insertion.
+     * @return Le FBO dans lequel rendre le niveau
+     */
+    public FrameBuffer allocate(String key, int width, int height) {
+        Entry existing = entries.remove(key);
+        if (existing != null) {
+            lruOrder.removeValue(existing, true);
+            release(existing);
+        }
+
+        FrameBuffer frameBuffer = FrameBufferPool.obtain(Pixmap.Format.RGBA8888, width, height);
+        Entry entry = new Entry(key, frameBuffer, (long) width * height * BYTES_PER_PIXEL);
+        entries.put(key, entry);
+        lruOrder.add(entry);
+        usedBytes += entry.bytes;
+
+        evictToBudget();
+        return frameBuffer;
+    }
+
+    /**
+     * Définit le budget mémoire vidéo du cache
+     * @param megabytes Budget en mégaoctets
+     */
+    public void setBudgetMegabytes(int megabytes) {
+        budgetBytes = (long) Math.max(0, megabytes) * 1024L * 1024L;
+        evictToBudget();
+    }
+
+    /**
+     * Mémoire vidéo actuellement utilisée par le cache, en octets
+     */
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Nombre de niveaux actuellement en cache
+     */
+    public int size() {
+        return lruOrder.size;
+    }
+
+    /**
+     * Vide le cache et rend tous les FBO au pool
+     */
+    public void clear() {
+        for (Entry entry : lruOrder) {
+            release(entry);
+        }
+        lruOrder.clear();
+        entries.clear();
+        usedBytes = 0;
+    }
+
+    private void touch(Entry entry) {
+        lruOrder.removeValue(entry, true);
+        lruOrder.add(entry);
+    }
+
+    private void evictToBudget() {
+        while (usedBytes > budgetBytes && lruOrder.size > 1) {
+            Entry oldest = lruOrder.removeIndex(0);
+            entries.remove(oldest.key);
+            release(oldest);
+            Gdx.app.log("CrystallizeLevelCache", "Éviction LRU: " + oldest.key);
+        }
+    }
+
+    private void release(Entry entry) {
+        usedBytes -= entry.bytes;
+        FrameBufferPool.free(entry.frameBuffer);
+    }
+}
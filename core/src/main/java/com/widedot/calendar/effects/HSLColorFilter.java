@@ -2,12 +2,23 @@ package com.widedot.calendar.effects;
 
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.Gdx;
+import com.widedot.calendar.platform.PlatformFactory;
+import com.widedot.calendar.platform.PlatformSpecific;
+
+import java.nio.ByteBuffer;
 
 /**
- * Filtre de colorisation HSL pour les images
+ * Filtre de colorisation HSL pour les images, version CPU.
+ * Le rendu courant passe par le GPU (HSLColorizer) ; ce filtre sert de repli quand les
+ * framebuffers ne sont pas disponibles. Le résultat ne dépend que de la somme r+g+b du pixel :
+ * une table de 766 couleurs est calculée une fois par appel, puis les pixels sont parcourus
+ * ligne par ligne directement dans le ByteBuffer du Pixmap, en tranches de lignes réparties
+ * sur les cœurs disponibles (PlatformSpecific.runParallel).
  */
 public class HSLColorFilter {
-    
+    // Somme r+g+b maximale
+    private static final int MAX_SUM = 3 * 255;
+
     /**
      * Applique un filtre de couleur HSL à un Pixmap
      * @param pixmap Le pixmap à modifier
@@ -17,90 +28,115 @@ public class HSLColorFilter {
      */
     public static void applyHSLFilter(Pixmap pixmap, float hue, float saturation, float lightness) {
         // DÉSACTIVER LE FILTRE HSL EN MODE HTML/GWT
-        // Raison: La manipulation pixel par pixel est trop lente en HTML
-        // et peut causer des crashs sur de grandes images (2048x1280 = 2.6M pixels)
+        // Raison: Pixmap.getPixels() n'accède pas directement aux pixels en HTML ;
+        // le GPU (HSLColorizer) y fait le même travail
         if (com.badlogic.gdx.Application.ApplicationType.WebGL.equals(Gdx.app.getType())) {
             Gdx.app.log("HSLColorFilter", "Filtre HSL désactivé en mode HTML (non compatible GWT)");
             return;
         }
-        
-        int width = pixmap.getWidth();
-        int height = pixmap.getHeight();
-        
-        for (int x = 0; x < width; x++) {
+
+        final int[] table = buildTable(hue, saturation, lightness);
+        final int width = pixmap.getWidth();
+        final int height = pixmap.getHeight();
+
+        if (pixmap.getFormat() != Pixmap.Format.RGBA8888) {
+            // Format rare : accès pixel par pixel, mais toujours ligne par ligne et sans allocation
             for (int y = 0; y < height; y++) {
-                int pixel = pixmap.getPixel(x, y);
-                
-                // Extraire les composantes RGBA (ordre LibGDX standard: RGBA8888)
-                int r = (pixel & 0xff000000) >>> 24;
-                int g = (pixel & 0x00ff0000) >>> 16;
-                int b = (pixel & 0x0000ff00) >>> 8;
-                int a = (pixel & 0x000000ff);
-                
-                // Pour une image en niveaux de gris, utiliser la luminosité comme base
-                float grayValue = (r + g + b) / 3.0f / 255.0f;
-                
-                // Appliquer la colorisation type Photoshop Colorize
-                // Dans Photoshop, on part du gris et on applique la teinte avec l'intensité de saturation
-                
-                // Étape 1 : Ajuster la luminosité avec le paramètre lightness
-                // Utiliser une transformation non-linéaire pour éviter le clipping brutal
-                float adjustedGray;
-                float lightnessNorm = lightness / 100.0f; // -1 à +1
-                
-                if (lightnessNorm >= 0) {
-                    // Lightness positif : compresser vers le blanc en préservant les détails
-                    // Formule: nouveau = ancien + (1 - ancien) * lightness
-                    // Cela crée une courbe douce vers le blanc
-                    adjustedGray = grayValue + (1 - grayValue) * lightnessNorm;
-                } else {
-                    // Lightness négatif : compresser vers le noir en préservant les détails
-                    // Formule: nouveau = ancien * (1 + lightness)
-                    // Cela crée une courbe douce vers le noir
-                    adjustedGray = grayValue * (1 + lightnessNorm);
+                for (int x = 0; x < width; x++) {
+                    int pixel = pixmap.getPixel(x, y);
+                    int sum = (pixel >>> 24) + ((pixel >>> 16) & 0xff) + ((pixel >>> 8) & 0xff);
+                    pixmap.drawPixel(x, y, table[sum] | (pixel & 0xff));
                 }
-                
-                adjustedGray = Math.max(0, Math.min(1, adjustedGray));
-                
-                // Étape 2 : Générer la couleur avec saturation maximale
-                // Obtenir la couleur colorisée avec saturation à 100% (couleur pure)
-                int[] colorRgb = hslToRgb(hue, 100, adjustedGray);
-                
-                // Étape 3 : Blender entre le gris original et la couleur pure selon la saturation
-                // Saturation 0 = garder le gris, Saturation 100 = couleur pure
-                float saturationFactor = saturation / 100.0f;
-                int grayInt = (int)(adjustedGray * 255);
-                
-                // Assurer que les valeurs sont dans la plage 0-255
-                int finalR = Math.max(0, Math.min(255, (int)(grayInt + (colorRgb[0] - grayInt) * saturationFactor)));
-                int finalG = Math.max(0, Math.min(255, (int)(grayInt + (colorRgb[1] - grayInt) * saturationFactor)));
-                int finalB = Math.max(0, Math.min(255, (int)(grayInt + (colorRgb[2] - grayInt) * saturationFactor)));
-                
-                // Reconstituer le pixel avec la nouvelle couleur (ordre LibGDX standard: RGBA8888)
-                int newPixel = (finalR & 0xff) << 24 | (finalG & 0xff) << 16 | (finalB & 0xff) << 8 | (a & 0xff);
-                pixmap.drawPixel(x, y, newPixel);
             }
+            return;
+        }
+
+        final ByteBuffer pixels = pixmap.getPixels();
+        PlatformSpecific platform = PlatformFactory.getPlatform();
+        final int slices = Math.max(1, Math.min(platform.getParallelism(), height));
+        platform.runParallel(slices, index -> {
+            int fromRow = height * index / slices;
+            int toRow = height * (index + 1) / slices;
+            applyRows(pixels, width, fromRow, toRow, table);
+        });
+    }
+
+    /**
+     * Colorise les lignes [fromRow, toRow[ d'un buffer RGBA8888 (accès absolus : plusieurs
+     * tranches peuvent être traitées en même temps sur le même buffer)
+     */
+    private static void applyRows(ByteBuffer pixels, int width, int fromRow, int toRow, int[] table) {
+        int end = toRow * width * 4;
+        for (int i = fromRow * width * 4; i < end; i += 4) {
+            int sum = (pixels.get(i) & 0xff) + (pixels.get(i + 1) & 0xff) + (pixels.get(i + 2) & 0xff);
+            int color = table[sum];
+            pixels.put(i, (byte) (color >>> 24));
+            pixels.put(i + 1, (byte) (color >>> 16));
+            pixels.put(i + 2, (byte) (color >>> 8));
+            // L'alpha est conservé
         }
     }
-    
+
+    /**
+     * Calcule la couleur colorisée (RGBA8888, alpha à 0) pour chaque somme r+g+b possible
+     */
+    private static int[] buildTable(float hue, float saturation, float lightness) {
+        int[] table = new int[MAX_SUM + 1];
+        float lightnessNorm = lightness / 100.0f; // -1 à +1
+        float saturationFactor = saturation / 100.0f;
+
+        for (int sum = 0; sum <= MAX_SUM; sum++) {
+            // Pour une image en niveaux de gris, utiliser la luminosité comme base
+            float grayValue = sum / 3.0f / 255.0f;
+
+            // Appliquer la colorisation type Photoshop Colorize
+            // Dans Photoshop, on part du gris et on applique la teinte avec l'intensité de saturation
+
+            // Étape 1 : Ajuster la luminosité avec une courbe douce pour éviter le clipping brutal
+            float adjustedGray;
+            if (lightnessNorm >= 0) {
+                // Lightness positif : compresser vers le blanc en préservant les détails
+                adjustedGray = grayValue + (1 - grayValue) * lightnessNorm;
+            } else {
+                // Lightness négatif : compresser vers le noir en préservant les détails
+                adjustedGray = grayValue * (1 + lightnessNorm);
+            }
+            adjustedGray = Math.max(0, Math.min(1, adjustedGray));
+
+            // Étape 2 : Couleur pure (saturation 100%) à cette luminosité
+            int pure = hslToRgb(hue, 100, adjustedGray);
+
+            // Étape 3 : Blender entre le gris et la couleur pure selon la saturation
+            // Saturation 0 = garder le gris, Saturation 100 = couleur pure
+            int grayInt = (int)(adjustedGray * 255);
+            int finalR = Math.max(0, Math.min(255, (int)(grayInt + (((pure >>> 16) & 0xff) - grayInt) * saturationFactor)));
+            int finalG = Math.max(0, Math.min(255, (int)(grayInt + (((pure >>> 8) & 0xff) - grayInt) * saturationFactor)));
+            int finalB = Math.max(0, Math.min(255, (int)(grayInt + ((pure & 0xff) - grayInt) * saturationFactor)));
+
+            table[sum] = finalR << 24 | finalG << 16 | finalB << 8;
+        }
+        return table;
+    }
+
     /**
      * Convertit HSL en RGB (format: H=0-360, S=0-100, L=0-1)
+     * @return La couleur en 0xRRGGBB
      */
-    private static int[] hslToRgb(float h, float s, float l) {
+    private static int hslToRgb(float h, float s, float l) {
         // Normaliser h entre 0 et 360
         h = h % 360;
         if (h < 0) h += 360;
-        
+
         // Convertir s de 0-100 à 0-1
         s = Math.max(0, Math.min(100, s)) / 100.0f;
-        
+
         // Clamp l entre 0 et 1
         l = Math.max(0, Math.min(1, l));
-        
+
         float c = (1 - Math.abs(2 * l - 1)) * s;
         float x = c * (1 - Math.abs((h / 60) % 2 - 1));
         float m = l - c / 2;
-        
+
         float r, g, b;
         if (h < 60) {
             r = c; g = x; b = 0;
@@ -115,13 +151,12 @@ public class HSLColorFilter {
         } else {
             r = c; g = 0; b = x;
         }
-        
+
         // Clamper les valeurs finales entre 0 et 255
         int finalR = Math.max(0, Math.min(255, Math.round((r + m) * 255)));
         int finalG = Math.max(0, Math.min(255, Math.round((g + m) * 255)));
         int finalB = Math.max(0, Math.min(255, Math.round((b + m) * 255)));
-        
-        return new int[]{finalR, finalG, finalB};
+
+        return finalR << 16 | finalG << 8 | finalB;
     }
 }
-
@@ -0,0 +1,211 @@
+package com.widedot.calendar.effects;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.shaders.HSLShader;
+
+import java.nio.IntBuffer;
+
+/**
+ * Colorisation HSL "cuite" des textures, identique sur toutes les plateformes.
+ * Plutôt que d'appliquer le shader HSL à chaque frame, la texture source est dessinée une fois
+ * avec HSLShader dans un framebuffer ; la texture de ce framebuffer est ensuite dessinée
+ * normalement. Un seul framebuffer est gardé par texture source et n'est redessiné que si
+ * les paramètres changent (réglage en mode debug).
+ * Les résultats dont la source a été déchargée par le ResourceManager sont libérés au
+ * prochain calcul : les écrans appellent bake() à chaque frame sans rien libérer eux-mêmes.
+ * Si les framebuffers ne sont pas disponibles, la colorisation est faite sur CPU
+ * (HSLColorFilter) à partir des pixels de la source.
+ * bake() doit être appelé hors de batch.begin()/end() : le framebuffer change l'état OpenGL.
+ */
+public class HSLColorizer {
+
+    /**
+     * Résultat en cache pour une texture source
+     */
+    private static class Baked {
+        FrameBuffer frameBuffer;
+        Texture cpuTexture;
+        float hue;
+        float saturation;
+        float lightness;
+
+        Texture getTexture() {
+            return frameBuffer != null ? frameBuffer.getColorBufferTexture() : cpuTexture;
+        }
+
+        boolean matches(float hue, float saturation, float lightness) {
+            return this.hue == hue && this.saturation == saturation && this.lightness == lightness;
+        }
+
+        void dispose() {
+            if (frameBuffer != null) {
+                frameBuffer.dispose();
+                frameBuffer = null;
+            }
+            if (cpuTexture != null) {
+                cpuTexture.dispose();
+                cpuTexture = null;
+            }
+        }
+    }
+
+    private final ObjectMap<Texture, Baked> cache = new ObjectMap<>();
+    private final IntBuffer savedViewport = BufferUtils.newIntBuffer(16);
+    private final Matrix4 projection = new Matrix4();
+    private final Matrix4 savedProjection = new Matrix4();
+    private final SpriteBatch batch;
+    private boolean gpuAvailable = true;
+
+    /**
+     * @param batch Le batch partagé du RenderContext, utilisé pour dessiner dans les framebuffers
+     */
+    public HSLColorizer(SpriteBatch batch) {
+        this.batch = batch;
+    }
+
+    /**
+     * Texture colorisée correspondant à une source et des paramètres HSL.
+     * Le résultat est mis en cache : tant que les paramètres ne changent pas, l'appel est immédiat.
+     * @param source La texture source (niveaux de gris de préférence)
+     * @param hue Teinte (0-360)
+     * @param saturation Saturation (0-100)
+     * @param lightness Luminosité (-100 à +100)
+     * @return La texture colorisée, à ne pas libérer ni conserver d'une frame à l'autre,
+     *         ou la source en cas d'échec
+     */
+    public Texture bake(Texture source, float hue, float saturation, float lightness) {
+        Baked baked = cache.get(source);
+        if (baked != null && baked.matches(hue, saturation, lightness)) {
+            return baked.getTexture();
+        }
+        if (baked == null) {
+            purgeReleasedSources();
+            baked = new Baked();
+            cache.put(source, baked);
+        }
+        baked.hue = hue;
+        baked.saturation = saturation;
+        baked.lightness = lightness;
+
+        if (gpuAvailable) {
+            try {
+                bakeOnGpu(source, baked);
+                return baked.getTexture();
+            } catch (RuntimeException e) {
+                // Framebuffer ou shader indisponible : repli définitif sur le CPU
+                Gdx.app.error("HSLColorizer", "Colorisation GPU impossible, repli sur le CPU: " + e.getMessage());
+                gpuAvailable = false;
+                baked.dispose();
+            }
+        }
+
+        try {
+            bakeOnCpu(source, baked);
+            return baked.getTexture();
+        } catch (RuntimeException e) {
+            Gdx.app.error("HSLColorizer", "Colorisation CPU impossible, texture d'origine utilisée: " + e.getMessage());
+            cache.remove(source);
+            baked.dispose();
+            return source;
+        }
+    }
+
+    private void bakeOnGpu(Texture source, Baked baked) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        if (baked.frameBuffer == null) {
+            baked.frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+            baked.frameBuffer.getColorBufferTexture().setFilter(source.getMinFilter(), source.getMagFilter());
+        }
+        // Compiler le shader avant de lier le framebuffer : un échec ne doit pas le laisser actif
+        HSLShader.ensureLoaded();
+
+        // FrameBuffer.end() rétablit le viewport plein écran : sauvegarder celui de l'écran courant
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, savedViewport);
+
+        baked.frameBuffer.begin();
+        Gdx.gl.glClearColor(0, 0, 0, 0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        // Le batch est partagé : sa projection et sa couleur sont rendues à l'écran ensuite
+        savedProjection.set(batch.getProjectionMatrix());
+        float savedColor = batch.getPackedColor();
+        batch.setProjectionMatrix(projection.setToOrtho2D(0, 0, width, height));
+        batch.setColor(Color.WHITE);
+        // Copie exacte (alpha compris), retournée verticalement pour que la texture du framebuffer
+        // se dessine à l'endroit
+        batch.disableBlending();
+        batch.begin();
+        HSLShader.begin(batch, baked.hue, baked.saturation, baked.lightness);
+        batch.draw(source, 0, 0, width, height, 0, 0, width, height, false, true);
+        batch.end();
+        HSLShader.end(batch);
+        batch.enableBlending();
+        batch.setPackedColor(savedColor);
+        batch.setProjectionMatrix(savedProjection);
+        baked.frameBuffer.end(savedViewport.get(0), savedViewport.get(1), savedViewport.get(2), savedViewport.get(3));
+    }
+
+    private void bakeOnCpu(Texture source, Baked baked) {
+        TextureData data = source.getTextureData();
+        if (!data.isPrepared()) {
+            data.prepare();
+        }
+        Pixmap original = data.consumePixmap();
+        Pixmap pixmap = original;
+        if (original.getFormat() != Pixmap.Format.RGBA8888) {
+            pixmap = new Pixmap(original.getWidth(), original.getHeight(), Pixmap.Format.RGBA8888);
+            pixmap.setBlending(Pixmap.Blending.None);
+            pixmap.drawPixmap(original, 0, 0);
+            if (data.disposePixmap()) {
+                original.dispose();
+            }
+        } else if (!data.disposePixmap()) {
+            // Le pixmap appartient à la texture : travailler sur une copie
+            pixmap = new Pixmap(original.getWidth(), original.getHeight(), Pixmap.Format.RGBA8888);
+            pixmap.setBlending(Pixmap.Blending.None);
+            pixmap.drawPixmap(original, 0, 0);
+        }
+
+        HSLColorFilter.applyHSLFilter(pixmap, baked.hue, baked.saturation, baked.lightness);
+        if (baked.cpuTexture != null) {
+            baked.cpuTexture.dispose();
+        }
+        baked.cpuTexture = new Texture(pixmap);
+        baked.cpuTexture.setFilter(source.getMinFilter(), source.getMagFilter());
+        pixmap.dispose();
+    }
+
+    /**
+     * Libère les résultats dont la texture source a été déchargée (handle OpenGL remis à 0)
+     */
+    private void purgeReleasedSources() {
+        ObjectMap.Entries<Texture, Baked> entries = cache.entries();
+        while (entries.hasNext()) {
+            ObjectMap.Entry<Texture, Baked> entry = entries.next();
+            if (entry.key.getTextureObjectHandle() == 0) {
+                entry.value.dispose();
+                entries.remove();
+            }
+        }
+    }
+
+    /**
+     * Libère toutes les textures colorisées
+     */
+    public void dispose() {
+        for (Baked baked : cache.values()) {
+            baked.dispose();
+        }
+        cache.clear();
+    }
+}
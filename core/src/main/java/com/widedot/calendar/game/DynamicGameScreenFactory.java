@@ -1,19 +1,22 @@
 package com.widedot.calendar.game;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.utils.Array;
 import com.widedot.calendar.data.Theme;
 import com.widedot.calendar.screens.GameScreen;
+import com.widedot.calendar.screens.ReusableScreen;
+import com.widedot.calendar.config.ConfigRegistry;
+import com.widedot.calendar.config.ConfigSnapshot;
 import com.widedot.calendar.config.GameManager;
+import com.widedot.calendar.config.GameParameters;
 import com.widedot.calendar.config.GameTemplateManager;
-import com.widedot.calendar.config.ThemeManager;
-import com.widedot.calendar.config.DayMappingManager;
 import com.badlogic.gdx.utils.ObjectMap;
-import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.Gdx;
 import com.widedot.calendar.screens.SlidingPuzzleGameScreen;
 import com.widedot.calendar.screens.QuestionAnswerGameScreen;
 import com.widedot.calendar.screens.MastermindGameScreen;
 import com.widedot.calendar.screens.CrystalizeGuessGameScreen;
+import com.widedot.calendar.utils.AssetManifest;
 
 /**
  * Implémentation dynamique de la fabrique d'écrans de jeu qui utilise la réflexion
@@ -40,107 +43,132 @@ public class DynamicGameScreenFactory {
     }
 
     /**
-     * Crée un écran de jeu pour le jour et le template spécifiés
+     * Crée un écran de jeu pour le jour et le template spécifiés.
+     * Les paramètres sont déjà fusionnés et typés par la configuration : rien n'est analysé ici.
      * @param dayId L'ID du jour
      * @param gameTemplate Le type de jeu à créer
      * @param game L'instance du jeu principal
      * @return L'écran de jeu créé
      */
     public GameScreen createGameScreen(int dayId, String gameTemplate, Game game) {
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen() - dayId: " + dayId + ", gameTemplate: " + gameTemplate);
-        
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen() - Récupération de gameReference");
-        String gameReference = DayMappingManager.getInstance().getGameReferenceForDay(dayId);
-        if (gameReference == null) {
-            Gdx.app.error("DynamicGameScreenFactory", "createGameScreen() - Aucune configuration trouvée pour le jour " + dayId);
-            throw new IllegalArgumentException("Aucune configuration trouvée pour le jour " + dayId);
-        }
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen() - gameReference: " + gameReference);
+        ResolvedGame resolved = resolve(dayId, gameTemplate);
 
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen() - Récupération de gameConfig");
-        GameManager.GameConfig gameConfig = GameManager.getInstance().getGameByReference(gameReference);
-        if (gameConfig == null) {
-            Gdx.app.error("DynamicGameScreenFactory", "createGameScreen() - Aucune configuration trouvée pour la référence " + gameReference);
-            throw new IllegalArgumentException("Aucune configuration trouvée pour la référence " + gameReference);
+        // Réutiliser l'écran du même template s'il est en attente dans le pool
+        GameScreen pooled = GameScreenRegistry.obtain(resolved.template.getName());
+        if (pooled != null) {
+            try {
+                ((ReusableScreen) pooled).reset(dayId, resolved.theme, resolved.parameters);
+                Gdx.app.log("DynamicGameScreenFactory", "Jour " + dayId + " : " + pooled.getClass().getSimpleName()
+                    + " réutilisé (" + resolved.gameConfig.getReference() + ")");
+                return pooled;
+            } catch (RuntimeException e) {
+                Gdx.app.error("DynamicGameScreenFactory", "Réutilisation impossible, création d'un nouvel écran: " + e.getMessage());
+                pooled.dispose();
+            }
         }
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen() - gameConfig obtenu");
 
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen() - Récupération du template");
-        GameTemplateManager.GameTemplate template = GameTemplateManager.getInstance().getTemplateByType(gameTemplate);
-        if (template == null) {
-            Gdx.app.error("DynamicGameScreenFactory", "createGameScreen() - Aucun template trouvé pour le type de jeu " + gameTemplate);
-            throw new IllegalArgumentException("Aucun template trouvé pour le type de jeu " + gameTemplate);
+        GameScreenLoader loader = GameScreenRegistry.getLoader(resolved.template.getName());
+        if (loader == null) {
+            Gdx.app.error("DynamicGameScreenFactory", "Aucun loader trouvé pour le jeu: " + resolved.template.getName());
+            throw new RuntimeException("Aucun loader trouvé pour le jeu: " + resolved.template.getName());
         }
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen() - template obtenu: " + template.getName());
-
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen() - Appel à createGameScreen() privée");
-        return createGameScreen(gameConfig, template, dayId, game);
+        GameScreen result = loader.create(dayId, game, resolved.theme, resolved.parameters);
+        Gdx.app.log("DynamicGameScreenFactory", "Jour " + dayId + " : " + result.getClass().getSimpleName()
+            + " (" + resolved.gameConfig.getReference() + ")");
+        return result;
     }
 
-    private GameScreen createGameScreen(GameManager.GameConfig gameConfig,
-                                        GameTemplateManager.GameTemplate template,
-                                        int dayId, Game game) {
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen(private) - Fusion des paramètres");
-        // Fusionner les paramètres dans l'ordre de priorité:
-        // 1. Paramètres par défaut du template
-        // 2. Paramètres des presets appliqués
-        // 3. Paramètres spécifiques de la configuration
-        ObjectMap<String, Object> finalParameters = new ObjectMap<>();
-        ObjectMap<String, Object> defaultParams = template.getDefaultParameters();
-        if (defaultParams != null) {
-            for (ObjectMap.Entry<String, Object> entry : defaultParams.entries()) {
-                finalParameters.put(entry.key, entry.value);
+    /**
+     * Types de jeu de la configuration ("SPZ", "MMD"...) dont la fabrique sait créer l'écran,
+     * c'est-à-dire dont le jeu du template a un loader enregistré
+     * @return Les types de jeu, tels qu'attendus par createGameScreen() et createAssetManifest()
+     */
+    public Array<String> getGameTemplates() {
+        ConfigSnapshot config = ConfigRegistry.getInstance().getSnapshot();
+        Array<String> types = new Array<>();
+        for (String type : config.getTemplateTypes()) {
+            if (GameScreenRegistry.getLoader(config.getTemplate(type).getName()) != null) {
+                types.add(type);
             }
         }
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen(private) - Paramètres par défaut appliqués");
-
-        // Appliquer les presets
-        Array<String> presets = gameConfig.getPresets();
-        if (presets != null) {
-            for (String preset : presets) {
-                ObjectMap<String, Object> presetParams = template.getPresetParameters(preset);
-                if (presetParams != null) {
-                    for (ObjectMap.Entry<String, Object> entry : presetParams.entries()) {
-                        finalParameters.put(entry.key, entry.value);
-                    }
-                } else {
-                    Gdx.app.error("DynamicGameScreenFactory", "ATTENTION: Preset '" + preset + "' non trouvé pour le type de jeu " + template.getGameTemplate());
-                }
-            }
+        return types;
+    }
+
+    /**
+     * Rend un écran de jeu qui vient d'être quitté. Un écran réutilisable (ReusableScreen) est conservé (avec ses
+     * ressources) pour le prochain lancement du même template ; les autres sont libérés.
+     * @param screen L'écran quitté, déjà masqué
+     */
+    public void recycle(GameScreen screen) {
+        if (!(screen instanceof ReusableScreen)) {
+            screen.dispose();
+            return;
+        }
+        GameScreen replaced = GameScreenRegistry.free(screen);
+        if (replaced != null && replaced != screen) {
+            replaced.dispose();
         }
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen(private) - Presets appliqués");
+    }
 
-        // Appliquer les paramètres spécifiques
-        ObjectMap<String, Object> specificParams = gameConfig.getParameters();
-        if (specificParams != null) {
-            for (ObjectMap.Entry<String, Object> entry : specificParams.entries()) {
-                finalParameters.put(entry.key, entry.value);
-            }
+    /**
+     * Libère tous les écrans en attente de réutilisation (fermeture de l'application)
+     */
+    public void clearPool() {
+        GameScreenRegistry.clear();
+    }
+
+    /**
+     * Construit le manifeste des ressources de l'écran de jeu d'un jour, sans créer l'écran.
+     * Permet de charger les ressources de manière asynchrone avant la création de l'écran.
+     * @param dayId L'ID du jour
+     * @param gameTemplate Le type de jeu
+     * @return Le manifeste des ressources (vide si le jeu ne déclare pas de ressources)
+     */
+    public AssetManifest createAssetManifest(int dayId, String gameTemplate) {
+        ResolvedGame resolved = resolve(dayId, gameTemplate);
+
+        GameScreenAssets assets = GameScreenRegistry.getAssets(resolved.template.getName());
+        if (assets == null) {
+            return new AssetManifest();
         }
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen(private) - Paramètres spécifiques appliqués");
-
-        // Récupérer le thème associé
-        String themeName = gameConfig.getTheme();
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen(private) - Récupération du thème: " + themeName);
-        Theme theme = ThemeManager.getInstance().getThemeByName(themeName);
-        if (theme == null) {
-            Gdx.app.error("DynamicGameScreenFactory", "createGameScreen(private) - Thème non trouvé: " + themeName);
-            throw new IllegalArgumentException("Thème non trouvé: " + themeName);
+        return assets.build(resolved.theme, resolved.parameters);
+    }
+
+    /**
+     * Récupère dans l'instantané de configuration tout ce qu'il faut pour lancer le jeu d'un jour.
+     * Le template, le thème et les paramètres de chaque jeu ont été validés au chargement.
+     */
+    private ResolvedGame resolve(int dayId, String gameTemplate) {
+        ConfigSnapshot config = ConfigRegistry.getInstance().getSnapshot();
+        String gameReference = config.getGameReferenceForDay(dayId);
+        GameManager.GameConfig gameConfig = gameReference != null ? config.getGameByReference(gameReference) : null;
+        if (gameConfig == null) {
+            Gdx.app.error("DynamicGameScreenFactory", "Aucune configuration trouvée pour le jour " + dayId);
+            throw new IllegalArgumentException("Aucune configuration trouvée pour le jour " + dayId);
         }
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen(private) - Thème récupéré");
 
-        // Créer l'écran de jeu via le registre
-        String gameName = template.getName();
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen(private) - Récupération du loader pour: " + gameName);
-        GameScreenLoader loader = GameScreenRegistry.getLoader(gameName);
-        if (loader == null) {
-            Gdx.app.error("DynamicGameScreenFactory", "createGameScreen(private) - Aucun loader trouvé pour le jeu: " + gameName);
-            throw new RuntimeException("Aucun loader trouvé pour le jeu: " + gameName);
+        GameTemplateManager.GameTemplate template = config.getTemplate(gameTemplate);
+        if (template == null) {
+            Gdx.app.error("DynamicGameScreenFactory", "Aucun template trouvé pour le type de jeu " + gameTemplate);
+            throw new IllegalArgumentException("Aucun template trouvé pour le type de jeu " + gameTemplate);
+        }
+        return new ResolvedGame(gameConfig, template, config.getThemeByName(gameConfig.getTheme()),
+            config.getGameParameters(gameReference));
+    }
+
+    private static final class ResolvedGame {
+        final GameManager.GameConfig gameConfig;
+        final GameTemplateManager.GameTemplate template;
+        final Theme theme;
+        final GameParameters parameters;
+
+        ResolvedGame(GameManager.GameConfig gameConfig, GameTemplateManager.GameTemplate template,
+                     Theme theme, GameParameters parameters) {
+            this.gameConfig = gameConfig;
+            this.template = template;
+            this.theme = theme;
+            this.parameters = parameters;
         }
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen(private) - Loader trouvé, appel à loader.create()");
-        GameScreen result = loader.create(dayId, game, theme, finalParameters);
-        Gdx.app.log("DynamicGameScreenFactory", "createGameScreen(private) - GameScreen créé: " + result.getClass().getSimpleName());
-        return result;
     }
 }
 
@@ -148,14 +176,25 @@ public class DynamicGameScreenFactory {
  * Interface fonctionnelle pour loader d'écran de jeu
  */
 interface GameScreenLoader {
-    GameScreen create(int dayId, Game game, Theme theme, ObjectMap<String, Object> parameters);
+    GameScreen create(int dayId, Game game, Theme theme, GameParameters parameters);
 }
 
 /**
- * Registre statique des loaders d'écrans de jeu
+ * Interface fonctionnelle pour le manifeste des ressources d'un écran de jeu
+ */
+interface GameScreenAssets {
+    AssetManifest build(Theme theme, GameParameters parameters);
+}
+
+/**
+ * Registre statique des loaders d'écrans de jeu, et pool des écrans réutilisables
+ * (au plus un écran en attente par type d'écran)
  */
 class GameScreenRegistry {
     private static final ObjectMap<String, GameScreenLoader> registry = new ObjectMap<>();
+    private static final ObjectMap<String, GameScreenAssets> assets = new ObjectMap<>();
+    private static final ObjectMap<String, Class<? extends GameScreen>> types = new ObjectMap<>();
+    private static final ObjectMap<Class<? extends GameScreen>, GameScreen> idle = new ObjectMap<>();
     static {
         // Associer le nom du jeu à son loader
         registry.put("slidingPuzzle", (dayId, game, theme, parameters) -> new SlidingPuzzleGameScreen(dayId, game, theme, parameters));
@@ -163,8 +202,44 @@ class GameScreenRegistry {
         registry.put("mastermind", (dayId, game, theme, parameters) -> new MastermindGameScreen(dayId, game, theme, parameters));
         registry.put("crystalizeGuess", (dayId, game, theme, parameters) -> new CrystalizeGuessGameScreen(dayId, game, theme, parameters));
         // Ajouter ici d'autres jeux si besoin
+
+        // Ressources chargées avant la création de l'écran
+        assets.put("slidingPuzzle", SlidingPuzzleGameScreen::buildAssetManifest);
+        assets.put("questionAnswer", QuestionAnswerGameScreen::buildAssetManifest);
+        assets.put("mastermind", MastermindGameScreen::buildAssetManifest);
+        assets.put("crystalizeGuess", CrystalizeGuessGameScreen::buildAssetManifest);
+
+        // Type d'écran de chaque jeu (clé du pool)
+        types.put("slidingPuzzle", SlidingPuzzleGameScreen.class);
+        types.put("questionAnswer", QuestionAnswerGameScreen.class);
+        types.put("mastermind", MastermindGameScreen.class);
+        types.put("crystalizeGuess", CrystalizeGuessGameScreen.class);
     }
     public static GameScreenLoader getLoader(String name) {
         return registry.get(name);
     }
+    public static GameScreenAssets getAssets(String name) {
+        return assets.get(name);
+    }
+    /**
+     * Retire du pool l'écran en attente pour un jeu
+     * @return L'écran à réinitialiser, ou null si aucun
+     */
+    public static GameScreen obtain(String name) {
+        Class<? extends GameScreen> type = types.get(name);
+        return type != null ? idle.remove(type) : null;
+    }
+    /**
+     * Place un écran dans le pool
+     * @return L'écran du même type qu'il remplace, à libérer par l'appelant, ou null
+     */
+    public static GameScreen free(GameScreen screen) {
+        return idle.put(screen.getClass(), screen);
+    }
+    public static void clear() {
+        for (GameScreen screen : idle.values()) {
+            screen.dispose();
+        }
+        idle.clear();
+    }
 }
@@ -0,0 +1,119 @@
+package com.widedot.calendar.game;
+
+import com.badlogic.gdx.Gdx;
+import com.widedot.calendar.AdventCalendarGame;
+import com.widedot.calendar.config.DayMappingManager;
+import com.widedot.calendar.config.ThemeManager;
+import com.widedot.calendar.utils.AssetManifest;
+import com.widedot.calendar.utils.ResourceManager;
+
+/**
+ * Préchargement prédictif des ressources du prochain jeu jouable.
+ * Pendant que le calendrier est affiché, le jour le plus probable (premier jour non résolu
+ * pouvant être déverrouillé) est résolu en manifeste de ressources, puis chargé par petites
+ * tranches de temps à chaque image. Au clic, la transition trouve les ressources déjà prêtes.
+ */
+public class GamePrefetcher {
+    private final AdventCalendarGame game;
+    private final ResourceManager resources;
+
+    // Jour en cours de préchargement (-1 si aucun) et son manifeste acquis
+    private int prefetchDay = -1;
+    private AssetManifest prefetchAssets;
+    private boolean complete;
+
+    public GamePrefetcher(AdventCalendarGame game) {
+        this.game = game;
+        this.resources = ResourceManager.getInstance();
+    }
+
+    /**
+     * Détermine le prochain jour jouable et acquiert ses ressources.
+     * Ne fait rien si ce jour est déjà en cours de préchargement.
+     */
+    public void schedule() {
+        int day = findNextPlayableDay();
+        if (day == prefetchDay) {
+            return;
+        }
+        release();
+        if (day < 0) {
+            return;
+        }
+
+        String gameTemplate = ThemeManager.getInstance().getGameTemplateForDay(day);
+        if (gameTemplate == null || gameTemplate.isEmpty()) {
+            return;
+        }
+
+        try {
+            prefetchAssets = game.getGameScreenFactory().createAssetManifest(day, gameTemplate);
+        } catch (RuntimeException e) {
+            Gdx.app.error("GamePrefetcher", "Préchargement impossible pour le jour " + day + ": " + e.getMessage());
+            return;
+        }
+        resources.acquire(prefetchAssets);
+        prefetchDay = day;
+        complete = resources.isLoaded(prefetchAssets);
+        Gdx.app.log("GamePrefetcher", "Préchargement du jour " + day + " (" + gameTemplate + "): "
+            + prefetchAssets.size() + " ressources");
+    }
+
+    /**
+     * Avance le préchargement pendant au plus budgetMs millisecondes.
+     * À appeler sur les images où l'écran n'a rien d'autre à faire.
+     */
+    public void update(int budgetMs) {
+        if (prefetchAssets == null || complete) {
+            return;
+        }
+        complete = resources.update(budgetMs);
+        if (complete) {
+            Gdx.app.log("GamePrefetcher", "Ressources du jour " + prefetchDay + " prêtes");
+        }
+    }
+
+    /**
+     * Libère la référence du préchargement. Les ressources restent en mémoire
+     * si l'écran de jeu (ou la transition) les a acquises entre-temps.
+     */
+    public void release() {
+        if (prefetchAssets != null) {
+            resources.release(prefetchAssets);
+            prefetchAssets = null;
+        }
+        prefetchDay = -1;
+        complete = false;
+    }
+
+    /**
+     * Jour en cours de préchargement, ou -1
+     */
+    public int getPrefetchDay() {
+        return prefetchDay;
+    }
+
+    /**
+     * Indique si les ressources du jour préchargé sont prêtes
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Premier jour non résolu ayant un jeu associé, s'il peut être déverrouillé
+     */
+    private int findNextPlayableDay() {
+        DayMappingManager dayMapping = DayMappingManager.getInstance();
+        for (int day = 1; day <= ProgressStore.ADVENT_DAYS; day++) {
+            if (game.getScore(day) > 0) {
+                continue;
+            }
+            if (dayMapping.hasGameForDay(day) && game.isUnlockable(day)) {
+                return day;
+            }
+            return -1;
+        }
+        return -1;
+    }
+}
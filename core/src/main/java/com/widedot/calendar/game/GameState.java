@@ -1,8 +1,8 @@
 package com.widedot.calendar.game;
 
 import com.badlogic.gdx.math.RandomXS128;
-import com.badlogic.gdx.utils.ObjectMap;
 import com.widedot.calendar.AdventCalendarGame;
+import com.widedot.calendar.config.Config;
 import com.badlogic.gdx.utils.Array;
 
 /**
@@ -12,9 +12,8 @@ public class GameState {
     private static GameState instance;
     private final AdventCalendarGame game;
     
-    private final ObjectMap<String, Boolean> unlockedPaintings;
-    private final ObjectMap<String, Integer> scores;
-    private final ObjectMap<String, Boolean> visitedPaintings;
+    // Progression unique du joueur, dimensionnée selon le mode de calendrier
+    private final ProgressStore progress;
     private long gameSeed;
     private Array<Integer> shuffledDays;
     
@@ -23,17 +22,8 @@ public class GameState {
      */
     private GameState(AdventCalendarGame game) {
         this.game = game;
-        this.unlockedPaintings = new ObjectMap<>();
-        this.scores = new ObjectMap<>();
-        this.visitedPaintings = new ObjectMap<>();
+        this.progress = new ProgressStore(ProgressStore.dayCountForMode(Config.getInstance().getCalendarMode()));
         this.shuffledDays = new Array<>();
-        
-        // Initialiser tous les tableaux comme verrouillés
-        for (int i = 1; i <= 24; i++) {
-            unlockedPaintings.put(String.valueOf(i), false);
-            scores.put(String.valueOf(i), 0);
-            visitedPaintings.put(String.valueOf(i), false);
-        }
     }
     
     /**
@@ -47,14 +37,20 @@ public class GameState {
         return instance;
     }
     
+    /**
+     * Récupère la progression du joueur (tous les tableaux sont verrouillés au départ)
+     * @return La progression
+     */
+    public ProgressStore getProgress() {
+        return progress;
+    }
+    
     /**
      * Déverrouille un tableau pour un jour donné
      * @param dayId L'identifiant du jour
      */
     public void unlockPainting(int dayId) {
-        if (dayId >= 1 && dayId <= 24) {
-            unlockedPaintings.put(String.valueOf(dayId), true);
-        }
+        progress.setUnlocked(dayId, true);
     }
     
     /**
@@ -63,7 +59,7 @@ public class GameState {
      * @return true si le tableau est déverrouillé, false sinon
      */
     public boolean isPaintingUnlocked(int dayId) {
-        return unlockedPaintings.containsKey(String.valueOf(dayId)) ? unlockedPaintings.get(String.valueOf(dayId)) : false;
+        return progress.isUnlocked(dayId);
     }
     
     /**
@@ -72,7 +68,7 @@ public class GameState {
      * @return true si le tableau a été visité, false sinon
      */
     public boolean isPaintingVisited(int dayId) {
-        return visitedPaintings.containsKey(String.valueOf(dayId)) ? visitedPaintings.get(String.valueOf(dayId)) : false;
+        return progress.isVisited(dayId);
     }
     
     /**
@@ -80,9 +76,7 @@ public class GameState {
      * @param dayId L'identifiant du jour
      */
     public void markPaintingAsVisited(int dayId) {
-        if (dayId >= 1 && dayId <= 24) {
-            visitedPaintings.put(String.valueOf(dayId), true);
-        }
+        progress.setVisited(dayId, true);
     }
     
     /**
@@ -91,7 +85,7 @@ public class GameState {
      * @return Le score
      */
     public int getScore(int dayId) {
-        return scores.containsKey(String.valueOf(dayId)) ? scores.get(String.valueOf(dayId)) : 0;
+        return progress.getScore(dayId);
     }
     
     /**
@@ -100,9 +94,7 @@ public class GameState {
      * @param score Le score à définir
      */
     public void setScore(int dayId, int score) {
-        if (dayId >= 1 && dayId <= 24) {
-            scores.put(String.valueOf(dayId), score);
-        }
+        progress.setScore(dayId, score);
     }
     
     /**
@@ -125,16 +117,8 @@ public class GameState {
      * Réinitialise l'état du jeu
      */
     public void reset() {
-        unlockedPaintings.clear();
-        scores.clear();
-        visitedPaintings.clear();
-        
-        // Réinitialiser tous les tableaux comme verrouillés
-        for (int i = 1; i <= 24; i++) {
-            unlockedPaintings.put(String.valueOf(i), false);
-            scores.put(String.valueOf(i), 0);
-            visitedPaintings.put(String.valueOf(i), false);
-        }
+        // Tous les tableaux redeviennent verrouillés
+        progress.clear();
     }
     
     /**
@@ -0,0 +1,117 @@
+package com.widedot.calendar.game;
+
+import com.badlogic.gdx.utils.Bits;
+
+/**
+ * Progression du joueur : jours déverrouillés, jours visités et scores.
+ * Les états booléens sont stockés dans des Bits et les scores dans un int[] indexé par jour,
+ * ce qui rend les lectures de la boucle de rendu O(1) et sans allocation.
+ * Les jours sont numérotés à partir de 1 ; un jour hors limites est verrouillé, non visité, de score 0.
+ */
+public class ProgressStore {
+    public static final int ADVENT_DAYS = 24;
+    public static final int MONTH_DAYS = 31;
+    public static final int YEAR_DAYS = 366;
+
+    private final int dayCount;
+    private final Bits unlocked;
+    private final Bits visited;
+    private final int[] scores;
+
+    /**
+     * @param dayCount Nombre de jours du calendrier
+     */
+    public ProgressStore(int dayCount) {
+        this.dayCount = dayCount;
+        this.unlocked = new Bits(dayCount + 1);
+        this.visited = new Bits(dayCount + 1);
+        this.scores = new int[dayCount + 1];
+    }
+
+    /**
+     * Nombre de jours à suivre pour un mode de calendrier ("month" : 31, "year" : 366, sinon 24)
+     * @param calendarMode Le mode de calendrier de la configuration
+     */
+    public static int dayCountForMode(String calendarMode) {
+        if ("year".equals(calendarMode)) {
+            return YEAR_DAYS;
+        }
+        if ("month".equals(calendarMode)) {
+            return MONTH_DAYS;
+        }
+        return ADVENT_DAYS;
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    /**
+     * Vérifie si un jour fait partie du calendrier
+     */
+    public boolean isValidDay(int day) {
+        return day >= 1 && day <= dayCount;
+    }
+
+    public boolean isUnlocked(int day) {
+        return isValidDay(day) && unlocked.get(day);
+    }
+
+    public void setUnlocked(int day, boolean value) {
+        if (!isValidDay(day)) return;
+        if (value) {
+            unlocked.set(day);
+        } else {
+            unlocked.clear(day);
+        }
+    }
+
+    public boolean isVisited(int day) {
+        return isValidDay(day) && visited.get(day);
+    }
+
+    public void setVisited(int day, boolean value) {
+        if (!isValidDay(day)) return;
+        if (value) {
+            visited.set(day);
+        } else {
+            visited.clear(day);
+        }
+    }
+
+    public int getScore(int day) {
+        return isValidDay(day) ? scores[day] : 0;
+    }
+
+    public void setScore(int day, int score) {
+        if (isValidDay(day)) {
+            scores[day] = score;
+        }
+    }
+
+    /**
+     * Copie la progression d'un autre store de même taille (instantané pour la sauvegarde)
+     * @param other Le store à copier
+     */
+    public void set(ProgressStore other) {
+        if (other.dayCount != dayCount) {
+            throw new IllegalArgumentException("Tailles de progression différentes : " + other.dayCount + " / " + dayCount);
+        }
+        unlocked.clear();
+        unlocked.or(other.unlocked);
+        visited.clear();
+        visited.or(other.visited);
+        System.arraycopy(other.scores, 0, scores, 0, scores.length);
+    }
+
+    /**
+     * Remet toute la progression à zéro
+     */
+    public void clear() {
+        unlocked.clear();
+        visited.clear();
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = 0;
+        }
+    }
+}
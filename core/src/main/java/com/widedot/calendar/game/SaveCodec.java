@@ -0,0 +1,195 @@
+package com.widedot.calendar.game;
+
+import com.badlogic.gdx.utils.Base64Coder;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.IntMap;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Format binaire compact de la sauvegarde, stocké en base64 sous une seule clé de préférences.
+ *
+ * Version 1 :
+ *   'A' 'C'            marqueur
+ *   version            1 octet
+ *   nombre de jours    varint
+ *   graine             8 octets
+ *   par jour           1 octet d'indicateurs (bit 0 : déverrouillé, bit 1 : visité) + score en varint zigzag
+ *   reprises           varint du nombre d'entrées, puis par entrée : jour (varint), taille (varint), octets UTF-8
+ *   somme de contrôle  Adler-32 des octets précédents, 4 octets
+ */
+public final class SaveCodec {
+    public static final int VERSION = 1;
+
+    private static final byte MAGIC_0 = 'A';
+    private static final byte MAGIC_1 = 'C';
+    private static final int FLAG_UNLOCKED = 1;
+    private static final int FLAG_VISITED = 2;
+    private static final int HEADER_SIZE = 3;
+    private static final int CHECKSUM_SIZE = 4;
+
+    private SaveCodec() {
+    }
+
+    /**
+     * Encode la progression, la graine et les données de reprise
+     * @return La sauvegarde en base64
+     */
+    public static String encode(ProgressStore progress, long seed, IntMap<String> resumeData) {
+        ByteArray out = new ByteArray(64 + progress.getDayCount() * 2);
+        out.add(MAGIC_0);
+        out.add(MAGIC_1);
+        out.add((byte) VERSION);
+        writeVarInt(out, progress.getDayCount());
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.add((byte) (seed >>> shift));
+        }
+
+        for (int day = 1; day <= progress.getDayCount(); day++) {
+            int flags = (progress.isUnlocked(day) ? FLAG_UNLOCKED : 0) | (progress.isVisited(day) ? FLAG_VISITED : 0);
+            out.add((byte) flags);
+            int score = progress.getScore(day);
+            writeVarInt(out, (score << 1) ^ (score >> 31));
+        }
+
+        writeVarInt(out, resumeData.size);
+        for (IntMap.Entry<String> entry : resumeData.entries()) {
+            byte[] data = entry.value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, entry.key);
+            writeVarInt(out, data.length);
+            out.addAll(data);
+        }
+
+        int checksum = adler32(out.items, 0, out.size);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            out.add((byte) (checksum >>> shift));
+        }
+        return new String(Base64Coder.encode(out.items, out.size));
+    }
+
+    /**
+     * Décode une sauvegarde. Rien n'est modifié si elle est invalide.
+     * Les jours au-delà de la taille de la progression (changement de mode) sont ignorés.
+     * @param blob La sauvegarde en base64
+     * @param progress La progression à remplir
+     * @param resumeData Les données de reprise à remplir
+     * @return La graine enregistrée
+     * @throws IllegalArgumentException si la sauvegarde est corrompue ou d'une version inconnue
+     */
+    public static long decode(String blob, ProgressStore progress, IntMap<String> resumeData) {
+        byte[] data;
+        try {
+            data = Base64Coder.decode(blob);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Sauvegarde non base64", e);
+        }
+
+        int length = data.length - CHECKSUM_SIZE;
+        if (length < HEADER_SIZE || data[0] != MAGIC_0 || data[1] != MAGIC_1) {
+            throw new IllegalArgumentException("Sauvegarde non reconnue");
+        }
+        int stored = ((data[length] & 0xFF) << 24) | ((data[length + 1] & 0xFF) << 16)
+            | ((data[length + 2] & 0xFF) << 8) | (data[length + 3] & 0xFF);
+        if (stored != adler32(data, 0, length)) {
+            throw new IllegalArgumentException("Somme de contrôle de la sauvegarde invalide");
+        }
+        if (data[2] != VERSION) {
+            throw new IllegalArgumentException("Version de sauvegarde inconnue : " + data[2]);
+        }
+
+        Reader in = new Reader(data, HEADER_SIZE, length);
+        int dayCount = in.readVarInt();
+        long seed = 0;
+        for (int i = 0; i < 8; i++) {
+            seed = (seed << 8) | (in.readByte() & 0xFF);
+        }
+
+        // Lecture dans des copies : la progression n'est remplacée qu'une fois tout lu
+        ProgressStore days = new ProgressStore(progress.getDayCount());
+        for (int day = 1; day <= dayCount; day++) {
+            int flags = in.readByte();
+            int zigzag = in.readVarInt();
+            days.setUnlocked(day, (flags & FLAG_UNLOCKED) != 0);
+            days.setVisited(day, (flags & FLAG_VISITED) != 0);
+            days.setScore(day, (zigzag >>> 1) ^ -(zigzag & 1));
+        }
+
+        IntMap<String> resumes = new IntMap<>();
+        int entries = in.readVarInt();
+        for (int i = 0; i < entries; i++) {
+            int day = in.readVarInt();
+            int size = in.readVarInt();
+            String value = new String(data, in.skip(size), size, StandardCharsets.UTF_8);
+            if (days.isValidDay(day)) {
+                resumes.put(day, value);
+            }
+        }
+
+        progress.set(days);
+        resumeData.clear();
+        resumeData.putAll(resumes);
+        return seed;
+    }
+
+    private static void writeVarInt(ByteArray out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.add((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.add((byte) value);
+    }
+
+    private static int adler32(byte[] data, int offset, int length) {
+        int a = 1;
+        int b = 0;
+        for (int i = offset; i < offset + length; i++) {
+            a = (a + (data[i] & 0xFF)) % 65521;
+            b = (b + a) % 65521;
+        }
+        return (b << 16) | a;
+    }
+
+    private static class Reader {
+        private final byte[] data;
+        private final int end;
+        private int position;
+
+        Reader(byte[] data, int position, int end) {
+            this.data = data;
+            this.position = position;
+            this.end = end;
+        }
+
+        byte readByte() {
+            if (position >= end) {
+                throw new IllegalArgumentException("Sauvegarde tronquée");
+            }
+            return data[position++];
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Entier de sauvegarde invalide");
+        }
+
+        /**
+         * Avance de count octets
+         * @return La position avant le saut
+         */
+        int skip(int count) {
+            if (count < 0 || count > end - position) {
+                throw new IllegalArgumentException("Sauvegarde tronquée");
+            }
+            int start = position;
+            position += count;
+            return start;
+        }
+    }
+}
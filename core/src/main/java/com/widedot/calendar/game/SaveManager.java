@@ -0,0 +1,208 @@
+package com.widedot.calendar.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.widedot.calendar.platform.PlatformFactory;
+
+/**
+ * Persistance différée de la progression du joueur.
+ * Chaque modification marque l'état comme sale ; les modifications rapprochées (fin de partie :
+ * score, visite, déverrouillage du jour suivant) sont regroupées pendant COALESCE_WINDOW_MS,
+ * puis un instantané est écrit en une seule fois dans les préférences.
+ * La sauvegarde tient dans une seule clé (format SaveCodec : progression, graine, données de reprise) ;
+ * l'ancien format à trois clés par jour est lu puis migré à la première écriture.
+ * L'écriture passe par PlatformSpecific.runInBackground : thread dédié sur desktop,
+ * directement en fin de frame sur GWT. flush() écrit immédiatement (pause, fermeture).
+ */
+public class SaveManager {
+    private static final String PREFERENCES_NAME = "advent_calendar_save";
+    private static final String KEY_SAVE = "save";
+    // Ancien format, conservé pour la migration
+    private static final String KEY_UNLOCKED_PREFIX = "unlocked_";
+    private static final String KEY_SCORE_PREFIX = "score_";
+    private static final String KEY_VISITED_PREFIX = "visited_";
+
+    // Délai de regroupement des écritures
+    private static final long COALESCE_WINDOW_MS = 500;
+
+    private final ProgressStore progress;
+    // Données de reprise des mini-jeux, par jour
+    private final IntMap<String> resumeData = new IntMap<>();
+    private long seed;
+    private final Object writeLock = new Object();
+    private final Runnable writeTask = this::writeSnapshot;
+    // Récupérées sur le thread de rendu : le cache de Gdx.app n'est pas thread-safe
+    private final Preferences prefs;
+
+    // Instantané encodé sur le thread de rendu, écrit par la tâche de sauvegarde
+    private String pendingBlob;
+    private boolean removeLegacyKeys;
+
+    private boolean dirty;
+    private long dirtySince;
+    private volatile boolean writing;
+
+    /**
+     * @param progress La progression à sauvegarder
+     * @param seed La graine courante du jeu
+     */
+    public SaveManager(ProgressStore progress, long seed) {
+        this.progress = progress;
+        this.seed = seed;
+        this.prefs = Gdx.app.getPreferences(PREFERENCES_NAME);
+    }
+
+    /**
+     * Charge la progression depuis les préférences (une seule lecture).
+     * Une sauvegarde à l'ancien format est chargée puis réécrite au nouveau format.
+     * @return true si une sauvegarde a été trouvée
+     */
+    public boolean load() {
+        String blob = prefs.getString(KEY_SAVE, null);
+        if (blob != null) {
+            try {
+                seed = SaveCodec.decode(blob, progress, resumeData);
+                return true;
+            } catch (IllegalArgumentException e) {
+                Gdx.app.error("SaveManager", "Sauvegarde illisible, tentative avec l'ancien format: " + e.getMessage());
+            }
+        }
+
+        if (!loadLegacy()) {
+            return false;
+        }
+        Gdx.app.log("SaveManager", "Migration de la sauvegarde vers le format " + SaveCodec.VERSION);
+        removeLegacyKeys = true;
+        markDirty();
+        return true;
+    }
+
+    private boolean loadLegacy() {
+        if (!prefs.contains(KEY_UNLOCKED_PREFIX + 1)) {
+            return false;
+        }
+
+        for (int i = 1; i <= progress.getDayCount(); i++) {
+            if (prefs.contains(KEY_UNLOCKED_PREFIX + i)) {
+                progress.setUnlocked(i, prefs.getBoolean(KEY_UNLOCKED_PREFIX + i));
+            }
+            if (prefs.contains(KEY_SCORE_PREFIX + i)) {
+                progress.setScore(i, prefs.getInteger(KEY_SCORE_PREFIX + i));
+            }
+            if (prefs.contains(KEY_VISITED_PREFIX + i)) {
+                progress.setVisited(i, prefs.getBoolean(KEY_VISITED_PREFIX + i));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return La graine enregistrée avec la progression
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Récupère les données de reprise d'un mini-jeu
+     * @param day L'ID du jour
+     * @return Les données, ou null si aucune partie n'est en cours
+     */
+    public String getResumeData(int day) {
+        return resumeData.get(day);
+    }
+
+    /**
+     * Enregistre (ou efface avec null) les données de reprise d'un mini-jeu
+     * @param day L'ID du jour
+     * @param data Les données
+     */
+    public void setResumeData(int day, String data) {
+        if (!progress.isValidDay(day)) return;
+        if (data == null) {
+            if (resumeData.remove(day) == null) return;
+        } else {
+            if (data.equals(resumeData.get(day))) return;
+            resumeData.put(day, data);
+        }
+        markDirty();
+    }
+
+    /**
+     * Signale une modification de la progression ; l'écriture est différée
+     */
+    public void markDirty() {
+        if (!dirty) {
+            dirty = true;
+            dirtySince = TimeUtils.millis();
+        }
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * À appeler en fin de frame : lance l'écriture quand la fenêtre de regroupement est écoulée
+     * et qu'aucune écriture n'est déjà en cours
+     */
+    public void update() {
+        if (!dirty || writing || TimeUtils.timeSinceMillis(dirtySince) < COALESCE_WINDOW_MS) {
+            return;
+        }
+        takeSnapshot();
+        writing = true;
+        PlatformFactory.getPlatform().runInBackground(writeTask);
+    }
+
+    /**
+     * Écrit immédiatement l'état courant, en attendant la fin d'une écriture en cours.
+     * Un instantané confié à la tâche de sauvegarde mais pas encore écrit est écrit ici :
+     * le thread de sauvegarde peut ne jamais l'exécuter si l'application se ferme.
+     */
+    public void flush() {
+        synchronized (writeLock) {
+            if (dirty) {
+                takeSnapshot();
+            } else if (!writing) {
+                return;
+            }
+            // Réécrire le même instantané si la tâche s'exécute ensuite est sans effet
+            writing = true;
+            writeSnapshot();
+        }
+    }
+
+    private void takeSnapshot() {
+        // Encodage sur le thread de rendu : la tâche de sauvegarde ne lit jamais la progression vivante
+        String blob = SaveCodec.encode(progress, seed, resumeData);
+        synchronized (writeLock) {
+            pendingBlob = blob;
+            dirty = false;
+        }
+    }
+
+    private void writeSnapshot() {
+        synchronized (writeLock) {
+            try {
+                prefs.putString(KEY_SAVE, pendingBlob);
+                if (removeLegacyKeys) {
+                    for (int i = 1; i <= progress.getDayCount(); i++) {
+                        prefs.remove(KEY_UNLOCKED_PREFIX + i);
+                        prefs.remove(KEY_SCORE_PREFIX + i);
+                        prefs.remove(KEY_VISITED_PREFIX + i);
+                    }
+                    removeLegacyKeys = false;
+                }
+                prefs.flush();
+                Gdx.app.log("SaveManager", "État du jeu sauvegardé");
+            } catch (Exception e) {
+                Gdx.app.error("SaveManager", "Erreur lors de la sauvegarde: " + e.getMessage(), e);
+            } finally {
+                writing = false;
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.widedot.calendar.platform;
 
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
 
 public interface PlatformSpecific {
     void initialize();
@@ -16,4 +17,94 @@ public interface PlatformSpecific {
     String getDeviceLanguage();
     String getDeviceModel();
     String getDeviceVersion();
-} 
\ No newline at end of file
+
+    /**
+     * Octets alloués depuis le démarrage par le thread courant (compteur de debug).
+     * @return Le nombre d'octets, ou -1 si la plateforme ne sait pas le mesurer
+     */
+    default long getAllocatedBytes() {
+        return -1;
+    }
+
+    /**
+     * Exécute une tâche courte hors du thread de rendu (écritures disque).
+     * Par défaut la tâche est exécutée immédiatement sur le thread appelant.
+     * @param task La tâche, qui ne doit pas appeler OpenGL
+     */
+    default void runInBackground(Runnable task) {
+        task.run();
+    }
+
+    /**
+     * Surveille des fichiers internes (assets) et signale leurs modifications.
+     * Par défaut rien n'est surveillé : seules les plateformes où les assets sont des fichiers
+     * modifiables (desktop) l'implémentent.
+     * @param internalPaths Les chemins des fichiers, relatifs aux assets
+     * @param onChange Appelé hors du thread de rendu après une modification
+     */
+    default void watchFiles(String[] internalPaths, Runnable onChange) {
+    }
+
+    /**
+     * Nombre de tranches à passer à runParallel() pour occuper la machine
+     * @return 1 par défaut (pas de parallélisme)
+     */
+    default int getParallelism() {
+        return 1;
+    }
+
+    /**
+     * Exécute count tranches indépendantes d'un calcul et attend qu'elles soient toutes terminées.
+     * Par défaut les tranches s'exécutent à la suite sur le thread appelant.
+     * @param count Le nombre de tranches
+     * @param task Le calcul d'une tranche, qui ne doit pas appeler OpenGL
+     */
+    default void runParallel(int count, ParallelTask task) {
+        for (int i = 0; i < count; i++) {
+            task.run(i);
+        }
+    }
+
+    /**
+     * Indique si decodeInBackground() décode réellement hors du thread de rendu
+     * @return false par défaut
+     */
+    default boolean canDecodeInBackground() {
+        return false;
+    }
+
+    /**
+     * Décode une image (JPEG, PNG) sur un thread de travail.
+     * Par défaut l'image est décodée immédiatement sur le thread appelant.
+     * @param file Le fichier image
+     * @param callback Appelé sur le thread de travail avec le Pixmap décodé, ou l'erreur
+     */
+    default void decodeInBackground(FileHandle file, DecodeCallback callback) {
+        Pixmap pixmap;
+        try {
+            pixmap = new Pixmap(file);
+        } catch (RuntimeException e) {
+            callback.decoded(null, e);
+            return;
+        }
+        callback.decoded(pixmap, null);
+    }
+
+    /**
+     * Résultat d'un décodage lancé par decodeInBackground()
+     */
+    interface DecodeCallback {
+        /**
+         * @param pixmap L'image décodée, à libérer par le destinataire, ou null en cas d'erreur
+         * @param error L'erreur, ou null
+         */
+        void decoded(Pixmap pixmap, RuntimeException error);
+    }
+
+    /**
+     * Tranche d'un calcul découpé par runParallel()
+     */
+    interface ParallelTask {
+        void run(int index);
+    }
+}
@@ -8,10 +8,11 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.config.GameParameters;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
@@ -22,6 +23,7 @@ import com.widedot.calendar.ui.BottomInputBar;
 import com.widedot.calendar.platform.PlatformRegistry;
 import com.widedot.calendar.utils.AnswerMatcher;
 import com.widedot.calendar.utils.GwtCompatibleFormatter;
+import com.widedot.calendar.utils.AssetManifest;
 import com.widedot.calendar.utils.CarlitoFontManager;
 import com.widedot.calendar.AdventCalendarGame;
 import com.widedot.calendar.data.Theme;
@@ -30,6 +32,9 @@ import com.widedot.calendar.display.DisplayConfig;
 import com.widedot.calendar.shaders.CrystallizeShader;
 import com.widedot.calendar.debug.CrystallizeDebugManager;
 import com.widedot.calendar.config.DayMappingManager;
+import com.widedot.calendar.display.PingPongFrameBuffer;
+import com.widedot.calendar.display.FrameBufferPool;
+import com.widedot.calendar.effects.CrystallizeLevelCache;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.Mesh;
@@ -77,6 +82,7 @@ public class CrystalizeGuessGameScreen extends GameScreen {
     // Input system avec support des questions et réponses alternatives
     private String correctAnswer;
     private String[] alternateResponses;
+    private AnswerMatcher.AnswerSet answerSet;  // Réponses acceptables normalisées une seule fois
     private String questionText;
     private int wrongAnswers;
     private boolean hasUsedHelp;
@@ -87,11 +93,18 @@ public class CrystalizeGuessGameScreen extends GameScreen {
     
     // Shader et rendu
     private CrystallizeShader crystallizeShader;
-    private FrameBuffer currentFrameBuffer; // FrameBuffer pour la texture shader
+    private PingPongFrameBuffer crystallizeBuffers; // FBO ping-pong (pool) pour la texture shader
+    // Niveau rendu depuis l'aperçu d'un tableau encore en chargement progressif (hors cache)
+    private FrameBuffer provisionalLevelBuffer;
+    private float provisionalCrystalSize;
+    private final Matrix4 fboProjection = new Matrix4();
+    private final Matrix4 savedProjection = new Matrix4();
+    private final Matrix4 savedTransform = new Matrix4();
+    private final Matrix4 identityTransform = new Matrix4();
     
     // Système de debug
     private CrystallizeDebugManager debugManager;
-    private ObjectMap<String, Object> gameParameters;
+    private GameParameters gameParameters;
     private String gameReference;
     
     // Animation
@@ -101,6 +114,8 @@ public class CrystalizeGuessGameScreen extends GameScreen {
     private int startCrystalSize;
     private int endCrystalSize;
     private Texture animatedTexture;
+    // Mode direct : le shader est appliqué pendant renderGame() au lieu de passer par un FBO
+    private boolean useDirectAnimation = true;
     
     // Paramètres du shader (fidèles à JHLabs)
     private float currentCrystalSize;
@@ -117,6 +132,7 @@ public class CrystalizeGuessGameScreen extends GameScreen {
     
     // Background avec HSL (mêmes unités que SlidingPuzzle)
     private Texture backgroundTexture;
+    private Texture tintedBackgroundTexture; // Background colorisé (HSL cuit), recalculé à chaque frame depuis le cache
     private float backgroundHue = 0f;        // 0-360
     private float backgroundSaturation = 0f; // 0-100
     private float backgroundLightness = 0f;  // -100 à +100
@@ -142,14 +158,39 @@ public class CrystalizeGuessGameScreen extends GameScreen {
     private static final String WRONG_SOUND_PATH = "audio/wrong.wav";
     private static final String FAILED_SOUND_PATH = "audio/failed.wav";
     
+    // Images
+    private static final String INFO_BUTTON_PATH = "images/ui/help.png";
+    private static final String CLOSE_BUTTON_PATH = "images/ui/close.png";
+    private static final String BACKGROUND_PATH = "images/games/cgg/background-0.png";
+    private static final String HELP_IMAGE_PATH = "images/games/cgg/help_cgg.png";
+    
+    /**
+     * Ressources de l'écran, chargées de manière asynchrone avant sa création
+     * @param theme Le thème du jour (peinture)
+     * @param parameters Les paramètres fusionnés du jeu
+     * @return Le manifeste des ressources
+     */
+    public static AssetManifest buildAssetManifest(Theme theme, GameParameters parameters) {
+        return new AssetManifest()
+            .painting(theme)
+            .texture(BACKGROUND_PATH)
+            .texture(INFO_BUTTON_PATH)
+            .texture(CLOSE_BUTTON_PATH)
+            .texture(HELP_IMAGE_PATH)
+            .sound(WIN_SOUND_PATH)
+            .sound(WRONG_SOUND_PATH)
+            .sound(FAILED_SOUND_PATH);
+    }
+    
     /**
      * Constructeur avec paramètres dynamiques
      */
-    public CrystalizeGuessGameScreen(int dayId, Game game, Theme theme, ObjectMap<String, Object> parameters) {
+    public CrystalizeGuessGameScreen(int dayId, Game game, Theme theme, GameParameters parameters) {
         super(dayId, game);
         
         this.theme = theme;
         this.gameParameters = parameters; // Stocker les paramètres pour le debug
+        acquireAssets(buildAssetManifest(theme, parameters));
         
         // Obtenir la référence du jeu pour la sauvegarde
         this.gameReference = DayMappingManager.getInstance().getGameReferenceForDay(dayId);
@@ -165,44 +206,49 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         
         // Appliquer les paramètres spécifiques s'ils existent
         if (parameters != null) {
-            if (parameters.containsKey("maxAttempts")) {
-                this.maxAttempts = ((Number) parameters.get("maxAttempts")).intValue();
+            if (parameters.has("maxAttempts")) {
+                this.maxAttempts = parameters.getInt("maxAttempts");
             }
-            if (parameters.containsKey("initialCrystalSize")) {
-                this.initialCrystalSize = ((Number) parameters.get("initialCrystalSize")).intValue();
+            if (parameters.has("initialCrystalSize")) {
+                this.initialCrystalSize = parameters.getInt("initialCrystalSize");
             }
-            if (parameters.containsKey("bgColor")) {
-                String bgColor = (String) parameters.get("bgColor");
-                this.backgroundColor = parseColor(bgColor);
+            if (parameters.has("bgColor")) {
+                this.backgroundColor = new Color(parameters.getColor("bgColor"));
             }
             
             // Charger les paramètres du shader
-            if (parameters.containsKey("randomness")) {
-                this.currentRandomness = ((Number) parameters.get("randomness")).floatValue();
+            if (parameters.has("randomness")) {
+                this.currentRandomness = parameters.getFloat("randomness");
+            }
+            if (parameters.has("edgeThickness")) {
+                this.currentEdgeThickness = parameters.getFloat("edgeThickness");
             }
-            if (parameters.containsKey("edgeThickness")) {
-                this.currentEdgeThickness = ((Number) parameters.get("edgeThickness")).floatValue();
+            if (parameters.has("stretch")) {
+                this.currentStretch = parameters.getFloat("stretch");
             }
-            if (parameters.containsKey("stretch")) {
-                this.currentStretch = ((Number) parameters.get("stretch")).floatValue();
+            if (parameters.has("fadeEdges")) {
+                this.currentFadeEdges = parameters.getBoolean("fadeEdges");
             }
-            if (parameters.containsKey("fadeEdges")) {
-                this.currentFadeEdges = (Boolean) parameters.get("fadeEdges");
+            if (parameters.has("edgeColor")) {
+                Color edgeColor = parameters.getColor("edgeColor");
+                currentEdgeColorR = edgeColor.r;
+                currentEdgeColorG = edgeColor.g;
+                currentEdgeColorB = edgeColor.b;
+                currentEdgeColorA = edgeColor.a;
             }
-            if (parameters.containsKey("edgeColor")) {
-                String edgeColorStr = (String) parameters.get("edgeColor");
-                parseEdgeColorFromString(edgeColorStr);
+            if (parameters.has("directAnimation")) {
+                this.useDirectAnimation = parameters.getBoolean("directAnimation");
             }
             
             // Charger les paramètres HSL du background (mêmes unités que SlidingPuzzle)
-            if (parameters.containsKey("bgHue")) {
-                this.backgroundHue = Math.max(0, Math.min(360, ((Number) parameters.get("bgHue")).floatValue()));
+            if (parameters.has("bgHue")) {
+                this.backgroundHue = Math.max(0, Math.min(360, parameters.getFloat("bgHue")));
             }
-            if (parameters.containsKey("bgSaturation")) {
-                this.backgroundSaturation = Math.max(0, Math.min(100, ((Number) parameters.get("bgSaturation")).floatValue()));
+            if (parameters.has("bgSaturation")) {
+                this.backgroundSaturation = Math.max(0, Math.min(100, parameters.getFloat("bgSaturation")));
             }
-            if (parameters.containsKey("bgLightness")) {
-                this.backgroundLightness = Math.max(-100, Math.min(100, ((Number) parameters.get("bgLightness")).floatValue()));
+            if (parameters.has("bgLightness")) {
+                this.backgroundLightness = Math.max(-100, Math.min(100, parameters.getFloat("bgLightness")));
             }
             
             Gdx.app.log("CrystalizeGuessGameScreen", "Paramètres du shader chargés:");
@@ -217,7 +263,7 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         // Charger la texture du background
         Gdx.app.log("CrystalizeGuessGameScreen", "Chargement du background...");
         try {
-            this.backgroundTexture = new Texture(Gdx.files.internal("images/games/cgg/background-0.png"));
+            this.backgroundTexture = resources.getTexture(BACKGROUND_PATH);
             Gdx.app.log("CrystalizeGuessGameScreen", "Background chargé.");
         } catch (Exception e) {
             Gdx.app.error("CrystalizeGuessGameScreen", "Erreur lors du chargement du background: " + e.getMessage());
@@ -231,23 +277,19 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         this.closeButton = new Rectangle(0, 0, 100, 100);
         this.infoButton = new Rectangle(0, 0, 100, 100);
         
-        // Créer texture blanche
-        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pixmap.setColor(1, 1, 1, 1);
-        pixmap.fill();
-        this.whiteTexture = new Texture(pixmap);
-        pixmap.dispose();
+        // Texture blanche partagée
+        this.whiteTexture = renderContext.getWhiteTexture();
         
         // Charger les textures des boutons
         try {
-            this.closeButtonTexture = new Texture(Gdx.files.internal("images/ui/close.png"));
+            this.closeButtonTexture = resources.getTexture(CLOSE_BUTTON_PATH);
         } catch (Exception e) {
             Gdx.app.error("CrystalizeGuessGameScreen", "Erreur lors du chargement du bouton close: " + e.getMessage());
             this.closeButtonTexture = null;
         }
         
         try {
-            this.infoButtonTexture = new Texture(Gdx.files.internal("images/ui/help.png"));
+            this.infoButtonTexture = resources.getTexture(INFO_BUTTON_PATH);
         } catch (Exception e) {
             Gdx.app.error("CrystalizeGuessGameScreen", "Erreur lors du chargement du bouton info: " + e.getMessage());
             this.infoButtonTexture = null;
@@ -288,12 +330,14 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         }
         
         // Test du système de matching (exemples)
-        Gdx.app.log("CrystalizeGuessGameScreen", "Tests du système de matching:");
-        Gdx.app.log("CrystalizeGuessGameScreen", "  'Vincent Van Gogh' vs 'vincent van gogh' -> " + AnswerMatcher.isSimilar("Vincent Van Gogh", "vincent van gogh"));
-        Gdx.app.log("CrystalizeGuessGameScreen", "  'La Nuit étoilée' vs 'la nuit etoilee' -> " + AnswerMatcher.isSimilar("La Nuit étoilée", "la nuit etoilee"));
-        Gdx.app.log("CrystalizeGuessGameScreen", "  'Pablo Picasso' vs 'picasso' -> " + AnswerMatcher.isSimilar("Pablo Picasso", "picasso"));
-        Gdx.app.log("CrystalizeGuessGameScreen", "  'Mona Lisa' vs 'mona lisa' -> " + AnswerMatcher.isSimilar("Mona Lisa", "mona lisa"));
-        Gdx.app.log("CrystalizeGuessGameScreen", "  'Leonardo da Vinci' vs 'leonardo da vinci' -> " + AnswerMatcher.isSimilar("Leonardo da Vinci", "leonardo da vinci"));
+        if (Config.getInstance().isLogAnswerMatching()) {
+            Gdx.app.log("CrystalizeGuessGameScreen", "Tests du système de matching:");
+            Gdx.app.log("CrystalizeGuessGameScreen", "  'Vincent Van Gogh' vs 'vincent van gogh' -> " + AnswerMatcher.isSimilar("Vincent Van Gogh", "vincent van gogh"));
+            Gdx.app.log("CrystalizeGuessGameScreen", "  'La Nuit étoilée' vs 'la nuit etoilee' -> " + AnswerMatcher.isSimilar("La Nuit étoilée", "la nuit etoilee"));
+            Gdx.app.log("CrystalizeGuessGameScreen", "  'Pablo Picasso' vs 'picasso' -> " + AnswerMatcher.isSimilar("Pablo Picasso", "picasso"));
+            Gdx.app.log("CrystalizeGuessGameScreen", "  'Mona Lisa' vs 'mona lisa' -> " + AnswerMatcher.isSimilar("Mona Lisa", "mona lisa"));
+            Gdx.app.log("CrystalizeGuessGameScreen", "  'Leonardo da Vinci' vs 'leonardo da vinci' -> " + AnswerMatcher.isSimilar("Leonardo da Vinci", "leonardo da vinci"));
+        }
         Gdx.app.log("CrystalizeGuessGameScreen", "========================================");
         
         // Initialiser le nouveau système d'input
@@ -407,6 +451,8 @@ public class CrystalizeGuessGameScreen extends GameScreen {
             }
         } catch (Exception e) {
             Gdx.app.error("CrystalizeGuessGameScreen", "Erreur lors du chargement de theme_questions.json: " + e.getMessage());
+        } finally {
+            this.answerSet = AnswerMatcher.compile(correctAnswer, alternateResponses);
         }
     }
     
@@ -431,18 +477,10 @@ public class CrystalizeGuessGameScreen extends GameScreen {
      * Utilise un matching intelligent avec tolérance aux fautes
      */
     private boolean checkAnswer(String userAnswer) {
-        // Créer un tableau avec toutes les réponses acceptables
-        String[] allAnswers = new String[1 + (alternateResponses != null ? alternateResponses.length : 0)];
-        allAnswers[0] = correctAnswer;
-        
-        if (alternateResponses != null) {
-            System.arraycopy(alternateResponses, 0, allAnswers, 1, alternateResponses.length);
-        }
-        
-        // Utiliser le matching intelligent
-        boolean isMatch = AnswerMatcher.matchesAny(userAnswer, allAnswers);
+        // Utiliser le matching intelligent sur les réponses compilées au chargement
+        boolean isMatch = answerSet.matches(userAnswer);
         
-        // Les logs détaillés sont maintenant dans AnswerMatcher.matchesAny()
+        // Les logs détaillés sont dans AnswerMatcher (config debug.log_answer_matching)
         if (isMatch) {
             Gdx.app.log("CrystalizeGuessGameScreen", "Réponse acceptée: '" + userAnswer + "'");
         } else {
@@ -530,7 +568,7 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         
         try {
             // Charger l'image originale
-            originalImageTexture = new Texture(Gdx.files.internal(fullImagePath));
+            originalImageTexture = resources.getPainting(fullImagePath);
             
             // Initialiser avec l'image la plus cristallisée
             initializeGameWithCrystalizedImage(fullImagePath);
@@ -570,8 +608,10 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         Gdx.app.log("CrystalizeGuessGameScreen", "Initialisation du shader de cristallisation");
         
         try {
-            // Créer le shader
-            crystallizeShader = new CrystallizeShader();
+            // Créer le shader avec la qualité configurée (fidelity / fast)
+            CrystallizeShader.Quality quality = CrystallizeShader.Quality.fromName(Config.getInstance().getCrystallizeQuality());
+            crystallizeShader = new CrystallizeShader(quality);
+            debugManager.setDebugQuality(quality);
             Gdx.app.log("CrystalizeGuessGameScreen", "Shader de cristallisation initialisé avec succès");
             
         } catch (Exception e) {
@@ -593,7 +633,7 @@ public class CrystalizeGuessGameScreen extends GameScreen {
             // Appliquer le shader le plus fort (tentative 0) seulement si le shader est initialisé
             if (crystallizeShader != null) {
                 Gdx.app.log("CrystalizeGuessGameScreen", "Application du shader initial (cristallisation maximale)...");
-                currentCrystalizedTexture = applyCrystallizeShader(originalImageTexture, initialCrystalSize);
+                currentCrystalizedTexture = applyCachedCrystallizeShader(originalImageTexture, initialCrystalSize);
                 Gdx.app.log("CrystalizeGuessGameScreen", "Shader appliqué avec succès");
             } else {
                 Gdx.app.log("CrystalizeGuessGameScreen", "Shader pas encore initialisé, utilisation de l'image originale");
@@ -614,7 +654,7 @@ public class CrystalizeGuessGameScreen extends GameScreen {
     }
     
     /**
-     * Applique l'effet de cristallisation avec le shader
+     * Applique l'effet de cristallisation avec le shader (frame d'animation, FBO ping-pong)
      */
     private Texture applyCrystallizeShader(Texture sourceTexture, float crystalSize) {
         
@@ -624,7 +664,14 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         }
         
         try {
-            return renderWithShader(sourceTexture, crystalSize);
+            // FBO ping-pong issus du pool : aucune allocation GL après la première frame
+            if (crystallizeBuffers == null) {
+                crystallizeBuffers = new PingPongFrameBuffer(Pixmap.Format.RGBA8888);
+            }
+            crystallizeBuffers.ensureSize(sourceTexture.getWidth(), sourceTexture.getHeight());
+            Texture result = renderWithShader(sourceTexture, crystalSize, crystallizeBuffers.getBackBuffer());
+            crystallizeBuffers.swap();
+            return result;
         } catch (Exception e) {
             Gdx.app.error("CrystalizeGuessGameScreen", "ERREUR dans applyCrystallizeShader: " + e.getMessage());
             // Stack trace logged automatically
@@ -633,52 +680,106 @@ public class CrystalizeGuessGameScreen extends GameScreen {
     }
     
     /**
-     * Effectue le rendu avec le shader de cristallisation
-     * Retourne une copie de la texture avec le shader appliqué
+     * Applique l'effet de cristallisation pour un niveau statique, en passant par le cache des niveaux.
+     * Un niveau déjà rendu (même thème, même taille, mêmes paramètres) est réutilisé sans rendu GPU.
+     * Tant que le tableau n'est qu'un aperçu (chargement progressif), le niveau est rendu hors cache
+     * puis refait par updateGame() une fois l'image complète.
      */
-    private Texture renderWithShader(Texture sourceTexture, float crystalSize) {
+    private Texture applyCachedCrystallizeShader(Texture sourceTexture, float crystalSize) {
+        
+        if (crystalSize <= 1 || crystallizeShader == null) {
+            Gdx.app.log("CrystalizeGuessGameScreen", "CrystalSize <= 1 ou shader non initialisé, retour de l'image originale");
+            return sourceTexture;
+        }
+        
+        try {
+            if (!resources.isPaintingComplete(theme)) {
+                Gdx.app.log("CrystalizeGuessGameScreen", "Tableau en cours de chargement, niveau provisoire hors cache");
+                if (provisionalLevelBuffer == null) {
+                    provisionalLevelBuffer = FrameBufferPool.obtain(Pixmap.Format.RGBA8888, sourceTexture.getWidth(), sourceTexture.getHeight());
+                }
+                provisionalCrystalSize = crystalSize;
+                return renderWithShader(sourceTexture, crystalSize, provisionalLevelBuffer);
+            }
+            releaseProvisionalLevel();
+            
+            CrystallizeLevelCache cache = CrystallizeLevelCache.getInstance();
+            String key = buildLevelCacheKey(crystalSize, sourceTexture.getWidth(), sourceTexture.getHeight());
+            Texture cached = cache.get(key);
+            if (cached != null) {
+                Gdx.app.log("CrystalizeGuessGameScreen", "Niveau trouvé dans le cache: " + key);
+                return cached;
+            }
+            
+            FrameBuffer target = cache.allocate(key, sourceTexture.getWidth(), sourceTexture.getHeight());
+            return renderWithShader(sourceTexture, crystalSize, target);
+        } catch (Exception e) {
+            Gdx.app.error("CrystalizeGuessGameScreen", "ERREUR dans applyCachedCrystallizeShader: " + e.getMessage());
+            return sourceTexture;
+        }
+    }
+    
+    /**
+     * Rend au pool le FBO du niveau provisoire
+     */
+    private void releaseProvisionalLevel() {
+        if (provisionalLevelBuffer != null) {
+            FrameBufferPool.free(provisionalLevelBuffer);
+            provisionalLevelBuffer = null;
+        }
+    }
+    
+    /**
+     * Construit la clé de cache d'un niveau avec les paramètres effectifs du shader (debug ou jeu)
+     */
+    private String buildLevelCacheKey(float crystalSize, int width, int height) {
+        String quality = crystallizeShader.getQuality().name();
+        if (debugManager != null && debugManager.isDebugMode()) {
+            return CrystallizeLevelCache.buildKey(theme.getName(), quality, crystalSize,
+                debugManager.getDebugRandomness(), debugManager.getDebugStretch(), debugManager.getDebugEdgeThickness(),
+                debugManager.getDebugEdgeColorR(), debugManager.getDebugEdgeColorG(),
+                debugManager.getDebugEdgeColorB(), debugManager.getDebugEdgeColorA(),
+                debugManager.getDebugFadeEdges(), width, height);
+        }
+        return CrystallizeLevelCache.buildKey(theme.getName(), quality, crystalSize,
+            currentRandomness, currentStretch, currentEdgeThickness,
+            currentEdgeColorR, currentEdgeColorG, currentEdgeColorB, currentEdgeColorA,
+            currentFadeEdges, width, height);
+    }
+    
+    /**
+     * Effectue le rendu avec le shader de cristallisation dans le FrameBuffer cible
+     * Retourne la texture du FrameBuffer (valide tant que celui-ci n'est pas réutilisé)
+     */
+    private Texture renderWithShader(Texture sourceTexture, float crystalSize, FrameBuffer target) {
         // Utiliser les dimensions RÉELLES de la texture source (pas les dimensions d'affichage)
         // pour que animatedTexture ait les mêmes dimensions que originalImageTexture
         int renderWidth = sourceTexture.getWidth();
         int renderHeight = sourceTexture.getHeight();
 
-        FrameBuffer tempFrameBuffer = new FrameBuffer(com.badlogic.gdx.graphics.Pixmap.Format.RGBA8888, renderWidth, renderHeight, false);
-
         // -- Sauvegarde de l'état du batch
-        final com.badlogic.gdx.graphics.glutils.ShaderProgram prevShader = batch.getShader();
-        final com.badlogic.gdx.math.Matrix4 prevProj = new com.badlogic.gdx.math.Matrix4(batch.getProjectionMatrix());
-        final com.badlogic.gdx.math.Matrix4 prevTrans = new com.badlogic.gdx.math.Matrix4(batch.getTransformMatrix());
+        final ShaderProgram prevShader = batch.getShader();
+        savedProjection.set(batch.getProjectionMatrix());
+        savedTransform.set(batch.getTransformMatrix());
 
         // -- Projection "pixel-perfect" pour le FBO
-        com.badlogic.gdx.math.Matrix4 fboProj = new com.badlogic.gdx.math.Matrix4().setToOrtho2D(0, 0, renderWidth, renderHeight);
+        fboProjection.setToOrtho2D(0, 0, renderWidth, renderHeight);
 
-        tempFrameBuffer.begin();
+        target.begin();
         Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
         Gdx.gl.glClear(com.badlogic.gdx.graphics.GL20.GL_COLOR_BUFFER_BIT);
 
         try {
             // Applique la projection FBO
-            batch.setProjectionMatrix(fboProj);
-            batch.setTransformMatrix(new com.badlogic.gdx.math.Matrix4().idt());
+            batch.setProjectionMatrix(fboProjection);
+            batch.setTransformMatrix(identityTransform);
 
             // Configure + utilise le shader
             batch.setShader(crystallizeShader.getShader());
             batch.begin();
 
             // Configuration complète du shader (fidèle à JHLabs)
-            crystallizeShader.setCrystalSize(crystalSize);
-            
-            // Utiliser les paramètres de debug si en mode debug, sinon les paramètres normaux
-            if (debugManager != null && debugManager.isDebugMode()) {
-                debugManager.applyDebugParameters(crystallizeShader, crystalSize);
-            } else {
-                crystallizeShader.setRandomness(currentRandomness);
-                crystallizeShader.setEdgeThickness(currentEdgeThickness);
-                crystallizeShader.setStretch(currentStretch);
-                crystallizeShader.setEdgeColor(currentEdgeColorR, currentEdgeColorG, currentEdgeColorB, currentEdgeColorA);
-                crystallizeShader.setFadeEdges(currentFadeEdges);
-            }
-            crystallizeShader.setResolution(renderWidth, renderHeight);
+            setCrystallizeUniforms(crystalSize, renderWidth, renderHeight, false);
 
             // Dessin dans le FBO avec les dimensions calculées
             batch.draw(sourceTexture, 0, 0, renderWidth, renderHeight);
@@ -687,9 +788,9 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         } finally {
             // Restaure l'état du batch
             batch.setShader(prevShader);
-            batch.setProjectionMatrix(prevProj);
-            batch.setTransformMatrix(prevTrans);
-            tempFrameBuffer.end();
+            batch.setProjectionMatrix(savedProjection);
+            batch.setTransformMatrix(savedTransform);
+            target.end();
             
             // S'assurer que la projection du viewport est correctement restaurée
             // après l'utilisation du shader pour éviter l'étirement du viewport
@@ -699,16 +800,7 @@ public class CrystalizeGuessGameScreen extends GameScreen {
             }
         }
 
-        // Dispose l'ancien framebuffer si existant
-        if (currentFrameBuffer != null && currentFrameBuffer != tempFrameBuffer) {
-            currentFrameBuffer.dispose();
-        }
-        
-        // Stocker le nouveau framebuffer
-        currentFrameBuffer = tempFrameBuffer;
-        
-        // Retourner la texture du framebuffer (elle reste valide tant que le framebuffer existe)
-        Texture resultTexture = tempFrameBuffer.getColorBufferTexture();
+        Texture resultTexture = target.getColorBufferTexture();
         resultTexture.setFilter(com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest, com.badlogic.gdx.graphics.Texture.TextureFilter.Nearest);
         
         return resultTexture;
@@ -718,47 +810,33 @@ public class CrystalizeGuessGameScreen extends GameScreen {
     
     
     
-    private Color parseColor(String colorStr) {
-        try {
-            String[] parts = colorStr.split(",");
-            if (parts.length == 3) {
-                float r = Integer.parseInt(parts[0]) / 255f;
-                float g = Integer.parseInt(parts[1]) / 255f;
-                float b = Integer.parseInt(parts[2]) / 255f;
-                return new Color(r, g, b, 1);
-            }
-        } catch (NumberFormatException e) {
-            Gdx.app.error("CrystalizeGuessGameScreen", "Format de couleur invalide: " + colorStr);
-        }
-        return new Color(0, 0, 0, 1);
-    }
-    
     /**
-     * Parse une couleur au format "r,g,b,a" et met à jour les paramètres RGBA
+     * Configure les uniformes du shader de cristallisation (le shader doit être lié)
+     * @param directPass true si le dessin se fait directement à l'écran, false pour un FBO
      */
-    private void parseEdgeColorFromString(String colorStr) {
-        try {
-            String[] parts = colorStr.split(",");
-            if (parts.length == 4) {
-                currentEdgeColorR = Float.parseFloat(parts[0]);
-                currentEdgeColorG = Float.parseFloat(parts[1]);
-                currentEdgeColorB = Float.parseFloat(parts[2]);
-                currentEdgeColorA = Float.parseFloat(parts[3]);
-            }
-        } catch (NumberFormatException e) {
-            Gdx.app.error("CrystalizeGuessGameScreen", "Format de couleur invalide: " + colorStr + ", utilisation des valeurs par défaut");
-            currentEdgeColorR = 0.0f;
-            currentEdgeColorG = 0.0f;
-            currentEdgeColorB = 0.0f;
-            currentEdgeColorA = 1.0f;
+    private void setCrystallizeUniforms(float crystalSize, float width, float height, boolean directPass) {
+        crystallizeShader.setCrystalSize(crystalSize);
+        
+        // Utiliser les paramètres de debug si en mode debug, sinon les paramètres normaux
+        if (debugManager != null && debugManager.isDebugMode()) {
+            debugManager.applyDebugParameters(crystallizeShader, crystalSize);
+        } else {
+            crystallizeShader.setRandomness(currentRandomness);
+            crystallizeShader.setEdgeThickness(currentEdgeThickness);
+            crystallizeShader.setStretch(currentStretch);
+            crystallizeShader.setEdgeColor(currentEdgeColorR, currentEdgeColorG, currentEdgeColorB, currentEdgeColorA);
+            crystallizeShader.setFadeEdges(currentFadeEdges);
         }
+        crystallizeShader.setResolution(width, height);
+        crystallizeShader.setDirectPass(directPass);
+        crystallizeShader.bindSeedTexture();
     }
     
     private void loadSounds() {
         try {
-            winSound = Gdx.audio.newSound(Gdx.files.internal(WIN_SOUND_PATH));
-            wrongSound = Gdx.audio.newSound(Gdx.files.internal(WRONG_SOUND_PATH));
-            failedSound = Gdx.audio.newSound(Gdx.files.internal(FAILED_SOUND_PATH));
+            winSound = resources.getSound(WIN_SOUND_PATH);
+            wrongSound = resources.getSound(WRONG_SOUND_PATH);
+            failedSound = resources.getSound(FAILED_SOUND_PATH);
         } catch (Exception e) {
             Gdx.app.error("CrystalizeGuessGameScreen", "Erreur lors du chargement des sons: " + e.getMessage());
         }
@@ -769,7 +847,7 @@ public class CrystalizeGuessGameScreen extends GameScreen {
      */
     private void loadHelpImage() {
         try {
-            this.helpImageTexture = new Texture(Gdx.files.internal("images/games/cgg/help_cgg.png"));
+            this.helpImageTexture = resources.getTexture(HELP_IMAGE_PATH);
             // Appliquer un filtrage Linear pour l'antialiasing
             helpImageTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
             Gdx.app.log("CrystalizeGuessGameScreen", "Image d'aide chargée: help_cgg.png");
@@ -864,7 +942,7 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         // Appliquer le shader initial après l'initialisation
         if (originalImageTexture != null) {
             Gdx.app.log("CrystalizeGuessGameScreen", "Application du shader initial après initialisation...");
-            currentCrystalizedTexture = applyCrystallizeShader(originalImageTexture, initialCrystalSize);
+            currentCrystalizedTexture = applyCachedCrystallizeShader(originalImageTexture, initialCrystalSize);
         }
     }
     
@@ -1051,17 +1129,40 @@ public class CrystalizeGuessGameScreen extends GameScreen {
     
     @Override
     protected void updateGame(float delta) {
+        // Colorisation du background (hors batch ; immédiate tant que les paramètres ne changent pas)
+        if (backgroundTexture != null) {
+            // Utiliser les paramètres HSL du debug manager si en mode debug, sinon les paramètres normaux
+            boolean debugHsl = debugManager != null && debugManager.isDebugMode();
+            tintedBackgroundTexture = renderContext.getColorizer().bake(backgroundTexture,
+                debugHsl ? debugManager.getDebugBackgroundHue() : backgroundHue,
+                debugHsl ? debugManager.getDebugBackgroundSaturation() : backgroundSaturation,
+                debugHsl ? debugManager.getDebugBackgroundLightness() : backgroundLightness);
+        } else {
+            tintedBackgroundTexture = null;
+        }
+        
         // Mettre à jour le stage d'input
         if (inputStage != null) {
             inputStage.act(delta);
         }
         
+        // Tableau devenu complet : remplacer le niveau provisoire par le niveau mis en cache
+        if (provisionalLevelBuffer != null && !isAnimating && resources.isPaintingComplete(theme)) {
+            if (currentCrystalizedTexture == provisionalLevelBuffer.getColorBufferTexture()) {
+                currentCrystalizedTexture = applyCachedCrystallizeShader(originalImageTexture, provisionalCrystalSize);
+            }
+            releaseProvisionalLevel();
+        }
+        
         // Gérer l'animation de cristallisation
         if (isAnimating) {
             animationTime += delta;
             
-            // Générer la texture animée avec la taille de cristaux interpolée
-            updateAnimatedTexture();
+            // En mode direct, le shader est appliqué dans drawImage() : pas de texture intermédiaire
+            if (!isDirectAnimationActive()) {
+                // Générer la texture animée avec la taille de cristaux interpolée
+                updateAnimatedTexture();
+            }
             
             if (animationTime >= animationDuration) {
                 // Fin de l'animation
@@ -1138,7 +1239,9 @@ public class CrystalizeGuessGameScreen extends GameScreen {
             animatedTexture = null;
             Gdx.app.log("CrystalizeGuessGameScreen", "Taille de cristal <= 1, utilisation de l'image originale sans shader");
         } else {
-            updateCurrentTexture();
+            // Figer le résultat final via le cache des niveaux (instantané si déjà atteint)
+            currentCrystalizedTexture = applyCachedCrystallizeShader(originalImageTexture, endCrystalSize);
+            animatedTexture = null;
         }
         
         resetAnimation();
@@ -1156,13 +1259,12 @@ public class CrystalizeGuessGameScreen extends GameScreen {
     private void applyDebugShader() {
         if (crystallizeShader != null && originalImageTexture != null && debugManager != null) {
            
-            // Libérer l'ancienne texture si nécessaire
-            if (currentCrystalizedTexture != null && currentCrystalizedTexture != originalImageTexture) {
-                currentCrystalizedTexture.dispose();
-            }
+            // Pas de dispose : la texture courante appartient aux FBO ping-pong du pool
+            // Appliquer la qualité choisie dans le debug (fidelity / fast)
+            crystallizeShader.setQuality(debugManager.getDebugQuality());
             
             // Appliquer le shader avec les paramètres de debug
-            currentCrystalizedTexture = applyCrystallizeShader(originalImageTexture, debugManager.getDebugCrystalSize());
+            currentCrystalizedTexture = applyCachedCrystallizeShader(originalImageTexture, debugManager.getDebugCrystalSize());
         }
     }
     
@@ -1171,16 +1273,7 @@ public class CrystalizeGuessGameScreen extends GameScreen {
      */
     private void disposeOldTexture() {
         // Ne pas disposer currentCrystalizedTexture car elle peut provenir d'un FrameBuffer
-        // Le FrameBuffer sera disposé automatiquement lors de la création d'un nouveau
-        // ou dans dispose()
-    }
-    
-    /**
-     * Met à jour la texture actuelle avec la texture animée
-     */
-    private void updateCurrentTexture() {
-        currentCrystalizedTexture = animatedTexture;
-        animatedTexture = null;
+        // Les FrameBuffers ping-pong sont rendus au pool dans dispose(), ceux du cache restent au cache
     }
     
     /**
@@ -1202,32 +1295,24 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         batch.draw(whiteTexture, 0, 0, DisplayConfig.WORLD_WIDTH, viewport.getWorldHeight());
         
         // Dessiner le background par-dessus avec fade pendant le fade des boutons
-        if (backgroundTexture != null && (isButtonsFading || !gameWon)) {
+        if (tintedBackgroundTexture != null && (isButtonsFading || !gameWon)) {
             batch.setColor(1, 1, 1, bgAlpha);
             
-            // Utiliser les paramètres HSL du debug manager si en mode debug, sinon les paramètres normaux
-            float bgHue, bgSaturation, bgLightness;
-            if (debugManager != null && debugManager.isDebugMode()) {
-                bgHue = debugManager.getDebugBackgroundHue();
-                bgSaturation = debugManager.getDebugBackgroundSaturation();
-                bgLightness = debugManager.getDebugBackgroundLightness();
-            } else {
-                bgHue = backgroundHue;
-                bgSaturation = backgroundSaturation;
-                bgLightness = backgroundLightness;
-            }
-            
-            // Appliquer le shader HSL pour la colorisation avec dimensions calculées (crop)
-            com.widedot.calendar.shaders.HSLShader.begin(batch, bgHue, bgSaturation, bgLightness);
-            batch.draw(backgroundTexture, currentBgX, currentBgY, currentBgWidth, currentBgHeight);
-            com.widedot.calendar.shaders.HSLShader.end(batch);
+            // Background déjà colorisé dans updateGame, avec dimensions calculées (crop)
+            batch.draw(tintedBackgroundTexture, currentBgX, currentBgY, currentBgWidth, currentBgHeight);
             
             // Reset color
             batch.setColor(1, 1, 1, 1);
         }
         
         // Dessiner l'image (cristallisée ou originale selon l'état)
-        drawImage();
+        // ou la comparaison côte à côte des deux qualités du shader en mode debug
+        if (debugManager != null && debugManager.isComparisonMode() && crystallizeShader != null && originalImageTexture != null) {
+            debugManager.drawQualityComparison(batch, crystallizeShader, originalImageTexture,
+                DisplayConfig.WORLD_WIDTH, viewport.getWorldHeight());
+        } else {
+            drawImage();
+        }
         
         // Dessiner l'interface
         drawGameInterface();
@@ -1293,7 +1378,20 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         }
     }
     
+    /**
+     * Indique si l'animation est rendue directement dans la passe principale
+     */
+    private boolean isDirectAnimationActive() {
+        return useDirectAnimation && crystallizeShader != null && originalImageTexture != null;
+    }
+    
     private void drawImage() {
+        // Animation en mode direct : dessiner l'image originale avec le shader lié au batch
+        if (isAnimating && isDirectAnimationActive()) {
+            drawImageWithLiveShader(interpolateCrystalSize(calculateAnimationProgress()));
+            return;
+        }
+        
         Texture textureToDraw = getCurrentTexture();
         
         if (textureToDraw == null) {
@@ -1309,6 +1407,26 @@ public class CrystalizeGuessGameScreen extends GameScreen {
         batch.draw(textureToDraw, displayInfo.x, displayInfo.y, displayInfo.width, displayInfo.height);
     }
     
+    /**
+     * Dessine l'image originale en appliquant le shader de cristallisation dans la passe principale
+     */
+    private void drawImageWithLiveShader(float crystalSize) {
+        DisplayInfo displayInfo = calculateDisplayInfo(originalImageTexture);
+        batch.setColor(1, 1, 1, 1);
+        
+        // Taille <= 1 : image originale sans shader pour éviter les artefacts
+        if (crystalSize <= 1.0f) {
+            batch.draw(originalImageTexture, displayInfo.x, displayInfo.y, displayInfo.width, displayInfo.height);
+            return;
+        }
+        
+        ShaderProgram prevShader = batch.getShader();
+        batch.setShader(crystallizeShader.getShader());
+        setCrystallizeUniforms(crystalSize, originalImageTexture.getWidth(), originalImageTexture.getHeight(), true);
+        batch.draw(originalImageTexture, displayInfo.x, displayInfo.y, displayInfo.width, displayInfo.height);
+        batch.setShader(prevShader);
+    }
+    
     /**
      * Détermine quelle texture afficher selon l'état du jeu
      */
@@ -1406,22 +1524,16 @@ public class CrystalizeGuessGameScreen extends GameScreen {
     @Override
     public void dispose() {
         super.dispose();
-        whiteTexture.dispose();
-        if (originalImageTexture != null) originalImageTexture.dispose();
+        // Les textures et sons du manifeste sont libérés par GameScreen.dispose()
         // currentCrystalizedTexture et animatedTexture proviennent du FrameBuffer, ne pas les disposer séparément
         if (crystallizeShader != null) {
             crystallizeShader.dispose();
         }
-        if (currentFrameBuffer != null) {
-            currentFrameBuffer.dispose();
+        if (crystallizeBuffers != null) {
+            // Rendre les FBO au pool pour la prochaine partie
+            crystallizeBuffers.release();
         }
-        if (closeButtonTexture != null) closeButtonTexture.dispose();
-        if (infoButtonTexture != null) infoButtonTexture.dispose();
-        if (backgroundTexture != null) backgroundTexture.dispose();
-        if (helpImageTexture != null) helpImageTexture.dispose();
-        if (winSound != null) winSound.dispose();
-        if (wrongSound != null) wrongSound.dispose();
-        if (failedSound != null) failedSound.dispose();
+        releaseProvisionalLevel();
         
         // Disposer le stage d'input
         if (inputStage != null) {
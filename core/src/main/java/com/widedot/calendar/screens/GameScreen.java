@@ -8,23 +8,31 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.widedot.calendar.data.Theme;
-import com.widedot.calendar.AdventCalendarScreen;
 import com.widedot.calendar.AdventCalendarGame;
 import com.widedot.calendar.display.DisplayConfig;
 import com.widedot.calendar.display.ViewportManager;
 import com.widedot.calendar.display.InputManager;
+import com.widedot.calendar.display.RenderContext;
+import com.widedot.calendar.game.SaveManager;
+import com.widedot.calendar.utils.AssetManifest;
+import com.widedot.calendar.utils.ResourceManager;
 
 /**
  * Classe abstraite de base pour tous les écrans de jeu
  */
 public abstract class GameScreen implements Screen {
     protected final Game game;
-    protected final int dayId;
+    protected int dayId;
     protected OrthographicCamera camera;
     protected Viewport viewport;
+    protected final RenderContext renderContext;
     protected final SpriteBatch batch;
     protected Theme theme;
     
+    // Ressources de l'écran, acquises auprès du ResourceManager et libérées dans dispose()
+    protected final ResourceManager resources;
+    private AssetManifest assetManifest;
+    
     // Dimensions actuelles de la fenêtre
     protected float currentWidth;
     protected float currentHeight;
@@ -47,14 +55,47 @@ public abstract class GameScreen implements Screen {
         // Utiliser le gestionnaire centralisé pour créer le viewport
         this.viewport = ViewportManager.createViewport(camera);
         
-        this.batch = new SpriteBatch();
+        // Batch partagé par tous les écrans (ne pas le libérer)
+        this.renderContext = ((AdventCalendarGame) game).getRenderContext();
+        this.batch = renderContext.getBatch();
         this.theme = null;
+        this.resources = ResourceManager.getInstance();
         
         // Initialiser les dimensions avec les valeurs par défaut
         this.currentWidth = DisplayConfig.DEFAULT_WINDOWED_WIDTH;
         this.currentHeight = DisplayConfig.DEFAULT_WINDOWED_HEIGHT;
     }
 
+    /**
+     * Acquiert les ressources de l'écran. Lorsque l'écran est ouvert via TransitionScreen,
+     * le manifeste a déjà été chargé de manière asynchrone : les get*() du ResourceManager
+     * ne font alors plus aucune lecture de fichier.
+     * @param manifest Les ressources utilisées par l'écran
+     */
+    protected void acquireAssets(AssetManifest manifest) {
+        // Acquérir avant de libérer : les ressources communes aux deux manifestes restent chargées
+        AssetManifest previous = assetManifest;
+        assetManifest = manifest;
+        resources.acquire(manifest);
+        if (previous != null) {
+            resources.release(previous);
+        }
+    }
+
+    /**
+     * Rattache l'écran à un nouveau jour et échange son manifeste de ressources
+     * (début de ReusableScreen.reset())
+     * @param dayId Le nouveau jour
+     * @param theme Le thème du jour
+     * @param manifest Les ressources de l'écran pour ce jour
+     */
+    protected final void rebind(int dayId, Theme theme, AssetManifest manifest) {
+        this.dayId = dayId;
+        this.theme = theme;
+        this.isInitialized = false;
+        acquireAssets(manifest);
+    }
+
     /**
      * Charge la peinture associée au jour
      * @param day L'identifiant du jour
@@ -83,6 +124,61 @@ public abstract class GameScreen implements Screen {
         // Exemple: mettre en pause la musique, arrêter les animations, etc.
     }
 
+    /**
+     * Sérialise l'état minimal de la partie en cours pour la reprendre plus tard
+     * (voir resumeFromSnapshot). Appelée quand l'écran est masqué ou l'application mise en pause.
+     * @return L'instantané, ou null si la partie est terminée ou ne se reprend pas
+     */
+    protected String createSnapshot() {
+        return null;
+    }
+
+    /**
+     * Restaure un instantané produit par createSnapshot(), à la place du mélange et de la
+     * sélection aléatoire de la mise en place. L'instantané doit être validé avant toute modification.
+     * @param snapshot L'instantané enregistré
+     * @return true si l'état a été restauré, false s'il est invalide (nouvelle partie)
+     */
+    protected boolean restoreSnapshot(String snapshot) {
+        return false;
+    }
+
+    /**
+     * Reprend la partie enregistrée pour ce jour, s'il y en a une.
+     * À appeler par les sous-classes pendant leur mise en place.
+     * @return true si une partie a été reprise
+     */
+    protected final boolean resumeFromSnapshot() {
+        if (!(game instanceof AdventCalendarGame)) {
+            return false;
+        }
+        SaveManager saveManager = ((AdventCalendarGame) game).getSaveManager();
+        String snapshot = saveManager.getResumeData(dayId);
+        if (snapshot == null) {
+            return false;
+        }
+        try {
+            if (restoreSnapshot(snapshot)) {
+                Gdx.app.log("GameScreen", "Partie en cours reprise pour le jour " + dayId);
+                return true;
+            }
+        } catch (RuntimeException e) {
+            Gdx.app.error("GameScreen", "Instantané illisible pour le jour " + dayId + ": " + e.getMessage());
+        }
+        Gdx.app.log("GameScreen", "Instantané ignoré pour le jour " + dayId + ", nouvelle partie");
+        saveManager.setResumeData(dayId, null);
+        return false;
+    }
+
+    /**
+     * Enregistre l'instantané de la partie en cours (ou l'efface si la partie est terminée)
+     */
+    private void storeSnapshot() {
+        if (isInitialized && game instanceof AdventCalendarGame) {
+            ((AdventCalendarGame) game).getSaveManager().setResumeData(dayId, createSnapshot());
+        }
+    }
+
     /**
      * Met à jour l'état du jeu
      * @param delta Temps écoulé depuis la dernière mise à jour
@@ -220,11 +316,13 @@ public abstract class GameScreen implements Screen {
         
         // Désactivation de l'écran
         onScreenDeactivated();
+        storeSnapshot();
     }
 
     @Override
     public void pause() {
         Gdx.app.log("GameScreen", "Méthode pause de GameScreen appelée pour le jour " + dayId);
+        storeSnapshot();
     }
 
     @Override
@@ -235,7 +333,10 @@ public abstract class GameScreen implements Screen {
     @Override
     public void dispose() {
         Gdx.app.log("GameScreen", "Méthode dispose de GameScreen appelée pour le jour " + dayId);
-        batch.dispose();
+        if (assetManifest != null) {
+            resources.release(assetManifest);
+            assetManifest = null;
+        }
     }
 
     /**
@@ -244,7 +345,8 @@ public abstract class GameScreen implements Screen {
     protected void returnToMainMenu() {
         if (game instanceof AdventCalendarGame) {
             AdventCalendarGame adventGame = (AdventCalendarGame) game;
-            Screen calendarScreen = new AdventCalendarScreen(adventGame);
+            // L'écran du calendrier est conservé : le retour ne recharge aucune ressource
+            Screen calendarScreen = adventGame.getCalendarScreen();
             
             // Utiliser l'écran de transition pour revenir au calendrier
             game.setScreen(new com.widedot.calendar.screens.TransitionScreen(game, calendarScreen));
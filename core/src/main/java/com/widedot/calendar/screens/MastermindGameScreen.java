@@ -8,13 +8,14 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.config.GameParameters;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
 import com.badlogic.gdx.audio.Sound;
@@ -28,7 +29,9 @@ import com.widedot.calendar.AdventCalendarGame;
 import com.widedot.calendar.data.Theme;
 import com.widedot.calendar.config.Config;
 import com.widedot.calendar.display.DisplayConfig;
+import com.widedot.calendar.utils.AssetManifest;
 import com.widedot.calendar.utils.CarlitoFontManager;
+import com.widedot.calendar.utils.ResourceManager;
 
 /**
  * Écran de jeu pour le mini-jeu Mastermind
@@ -83,6 +86,8 @@ public class MastermindGameScreen extends GameScreen {
     // incorrectColor supprimé (plus utilisé)
     private String[] symbolNames;
     private Texture[] symbolTextures;
+    // Textures de symboles générées par l'écran (couleurs par défaut, erreurs), à libérer par lui
+    private final Array<Texture> generatedSymbolTextures = new Array<>();
     
     // Sounds
     private Sound winSound;
@@ -105,6 +110,7 @@ public class MastermindGameScreen extends GameScreen {
     
     // Nouvelles variables pour les cases
     private Texture boxTexture;
+    private TextureRegion boxRegion;
     private Array<AnimatedColumn> gridPositions;
     
     // Animation constants
@@ -112,6 +118,7 @@ public class MastermindGameScreen extends GameScreen {
     private static final float BOX_CLOSING_DURATION = 0.3f; // Durée totale de fermeture en secondes
     private static final float ANIMATION_DELAY = 0.0f;
     private static final int DEFAULT_ANIMATION_VARIANT = 2;
+    private static final String ANIMATION_MANIFEST_PATH = "images/games/mmd/anim/opening/atlas/manifest.json";
     
     // Animation state
     private static class BoxAnimation {
@@ -120,7 +127,9 @@ public class MastermindGameScreen extends GameScreen {
         float delay;
         boolean isPlaying;
         boolean isClosing; // Flag pour indiquer si c'est une animation de fermeture
-        static Array<Texture> sharedFrames; // Frames partagées entre toutes les animations
+        static Array<TextureRegion> sharedFrames; // Frames partagées entre toutes les animations
+        private static TextureAtlas sharedAtlas; // Atlas de la variante chargée
+        private static Array<Texture> looseFrames; // Frames chargées une à une (atlas absent)
         
         BoxAnimation(float delay) {
             this.currentFrame = 0;
@@ -131,21 +140,73 @@ public class MastermindGameScreen extends GameScreen {
         }
         
         static void loadSharedFrames(int variant) {
-            if (sharedFrames != null) {
-                // Nettoyer les anciennes frames si elles existent
-                for (Texture frame : sharedFrames) {
-                    frame.dispose();
-                }
-                sharedFrames.clear();
+            // Nettoyer les anciennes frames si elles existent
+            disposeSharedFrames();
+            sharedFrames = new Array<>();
+            
+            String variantFolder = getVariantFolder(variant);
+            
+            // Les atlas et leur manifeste sont générés par la tâche Gradle tools:packMastermindAnimations
+            JsonValue variantEntry = findManifestVariant(variantFolder);
+            if (variantEntry != null) {
+                loadAtlasFrames(variantEntry);
             } else {
-                sharedFrames = new Array<>();
+                Gdx.app.error("MastermindGameScreen", "Atlas d'animation absent pour la variante " + variantFolder
+                    + " (lancer la tâche tools:packMastermindAnimations), chargement des frames individuelles");
+                loadLooseFrames(variantFolder);
             }
             
-            String variantFolder = (variant + 1 < 10 ? "0" : "") + (variant + 1);
-            
-            // Solution GWT-compatible : charger les frames par index numérique
-            // Les frames sont nommées 001.png, 002.png, etc.
-            // On essaie de charger jusqu'à ce qu'un fichier n'existe plus
+            Gdx.app.log("MastermindGameScreen", "Chargé " + sharedFrames.size + " frames d'animation pour la variante " + variantFolder);
+        }
+        
+        static String getVariantFolder(int variant) {
+            return (variant + 1 < 10 ? "0" : "") + (variant + 1);
+        }
+        
+        /**
+         * Cherche la variante dans le manifeste des atlas d'animation
+         * @return L'entrée du manifeste, ou null si le manifeste ou la variante est absent
+         */
+        private static JsonValue findManifestVariant(String variantFolder) {
+            FileHandle manifestFile = Gdx.files.internal(ANIMATION_MANIFEST_PATH);
+            if (!manifestFile.exists()) {
+                return null;
+            }
+            try {
+                JsonValue manifest = new JsonReader().parse(manifestFile);
+                for (JsonValue entry = manifest.get("variants").child; entry != null; entry = entry.next) {
+                    if (variantFolder.equals(entry.getString("folder"))) {
+                        return entry;
+                    }
+                }
+            } catch (Exception e) {
+                Gdx.app.error("MastermindGameScreen", "Erreur lors de la lecture du manifeste " + ANIMATION_MANIFEST_PATH + ": " + e.getMessage());
+            }
+            return null;
+        }
+        
+        /**
+         * Charge les frames depuis l'atlas de la variante, dans l'ordre du manifeste.
+         * L'atlas fait partie du manifeste de l'écran : il est déjà chargé par le ResourceManager.
+         */
+        private static void loadAtlasFrames(JsonValue variantEntry) {
+            String atlasPath = variantEntry.getString("atlas");
+            sharedAtlas = ResourceManager.getInstance().getTextureAtlas(atlasPath);
+            for (JsonValue frame = variantEntry.get("frames").child; frame != null; frame = frame.next) {
+                TextureRegion region = sharedAtlas.findRegion(frame.asString());
+                if (region == null) {
+                    Gdx.app.error("MastermindGameScreen", "Frame " + frame.asString() + " absente de l'atlas " + atlasPath);
+                    continue;
+                }
+                sharedFrames.add(region);
+            }
+        }
+        
+        /**
+         * Ancien chargement : une texture par frame, jusqu'au premier fichier manquant
+         */
+        private static void loadLooseFrames(String variantFolder) {
+            looseFrames = new Array<>();
             int frameIndex = 1;
             while (true) {
                 // Formater le numéro avec padding à 3 chiffres (001, 002, etc.)
@@ -161,7 +222,8 @@ public class MastermindGameScreen extends GameScreen {
                 try {
                     Texture frameTexture = new Texture(frameFile);
                     frameTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-                    sharedFrames.add(frameTexture);
+                    looseFrames.add(frameTexture);
+                    sharedFrames.add(new TextureRegion(frameTexture));
                     frameIndex++;
                 } catch (Exception e) {
                     // Erreur de chargement, on arrête
@@ -169,15 +231,18 @@ public class MastermindGameScreen extends GameScreen {
                     break;
                 }
             }
-            
-            Gdx.app.log("MastermindGameScreen", "Chargé " + sharedFrames.size + " frames d'animation pour la variante " + variantFolder);
         }
         
         static void disposeSharedFrames() {
-            if (sharedFrames != null) {
-                for (Texture frame : sharedFrames) {
+            // L'atlas appartient au ResourceManager (libéré avec le manifeste de l'écran)
+            sharedAtlas = null;
+            if (looseFrames != null) {
+                for (Texture frame : looseFrames) {
                     frame.dispose();
                 }
+                looseFrames = null;
+            }
+            if (sharedFrames != null) {
                 sharedFrames.clear();
                 sharedFrames = null;
             }
@@ -219,6 +284,26 @@ public class MastermindGameScreen extends GameScreen {
             }
         }
         
+        /**
+         * Affiche la colonne directement ouverte, sans animation (reprise de partie)
+         */
+        void open() {
+            if (animations.size == 0) {
+                for (int i = 0; i < rectangles.size; i++) {
+                    animations.add(new BoxAnimation(i * ANIMATION_DELAY));
+                }
+            }
+            int lastFrame = BoxAnimation.sharedFrames != null ? Math.max(0, BoxAnimation.sharedFrames.size - 1) : 0;
+            for (BoxAnimation anim : animations) {
+                anim.isPlaying = true;
+                anim.isClosing = false;
+                anim.currentFrame = lastFrame;
+                anim.timer = BOX_OPENING_DURATION;
+            }
+            isAnimating = false;
+            animationComplete = true;
+        }
+        
         void updateTokensFade(float delta) {
             // Méthode conservée pour compatibilité mais plus utilisée
         }
@@ -296,7 +381,7 @@ public class MastermindGameScreen extends GameScreen {
     /**
      * Classe interne pour représenter le résultat d'une tentative
      */
-    private static class GuessResult {
+    static class GuessResult {
         public int correctPosition; // Nombre de symboles à la bonne position
         public int correctSymbol;   // Nombre de symboles corrects mais mal placés
         
@@ -466,16 +551,103 @@ public class MastermindGameScreen extends GameScreen {
     private static final String WRONG_SOUND_PATH = "audio/wrong.wav";
     private static final String FAILED_SOUND_PATH = "audio/failed.wav";
     
+    // Images
+    private static final String INFO_BUTTON_PATH = "images/ui/help.png";
+    private static final String CLOSE_BUTTON_PATH = "images/ui/close.png";
+    private static final String BACKGROUND_PATH = "images/games/mmd/background/background.png";
+    private static final String BOX_PATH = "images/games/mmd/box/box-close.png";
+    private static final String HELP_IMAGE_PATH = "images/games/mmd/help_mmd.png";
+    private static final String DOT_WHITE_PATH = "images/games/mmd/indicator/dot-white.png";
+    private static final String DOT_BLACK_PATH = "images/games/mmd/indicator/dot-black.png";
+    private static final String DOT_EMPTY_PATH = "images/games/mmd/indicator/dot-empty.png";
+    
+    private static final String SYMBOL_DIRECTORY = "images/games/mmd/symbol/";
+    private static final String TOKEN_DIRECTORY = "images/games/mmd/token/";
+    
+    /**
+     * Ressources de l'écran, chargées de manière asynchrone avant sa création : y compris les
+     * symboles du paramètre symbolImages, les tokens et l'atlas de l'animation d'ouverture.
+     * Seules les frames individuelles (atlas non généré) restent chargées par l'écran.
+     * @param theme Le thème du jour (peinture)
+     * @param parameters Les paramètres fusionnés du jeu
+     * @return Le manifeste des ressources
+     */
+    public static AssetManifest buildAssetManifest(Theme theme, GameParameters parameters) {
+        AssetManifest manifest = new AssetManifest()
+            .painting(theme)
+            .texture(BACKGROUND_PATH)
+            .texture(BOX_PATH)
+            .texture(INFO_BUTTON_PATH)
+            .texture(CLOSE_BUTTON_PATH)
+            .texture(HELP_IMAGE_PATH)
+            .texture(DOT_WHITE_PATH)
+            .texture(DOT_BLACK_PATH)
+            .texture(DOT_EMPTY_PATH)
+            .sound(WIN_SOUND_PATH)
+            .sound(WRONG_SOUND_PATH)
+            .sound(FAILED_SOUND_PATH);
+        
+        for (int i = 1; i <= MAX_TOTAL_TOKENS; i++) {
+            addExistingTexture(manifest, getTokenPath(i));
+            addExistingTexture(manifest, getTokenPositionPath(i));
+        }
+        
+        if (parameters != null && parameters.has("symbolImages")) {
+            String[] imageNames = parameters.getString("symbolImages").split(",");
+            int count = Math.min(getNumberOfSymbols(parameters), imageNames.length);
+            for (int i = 0; i < count; i++) {
+                String imageName = imageNames[i].trim();
+                if (!imageName.isEmpty()) {
+                    addExistingTexture(manifest, SYMBOL_DIRECTORY + imageName);
+                }
+            }
+        }
+        
+        JsonValue variantEntry = BoxAnimation.findManifestVariant(BoxAnimation.getVariantFolder(DEFAULT_ANIMATION_VARIANT));
+        if (variantEntry != null) {
+            manifest.atlas(variantEntry.getString("atlas"));
+        }
+        return manifest;
+    }
+    
+    /**
+     * Ajoute une texture au manifeste si le fichier existe (l'écran remplace les absentes)
+     */
+    private static void addExistingTexture(AssetManifest manifest, String path) {
+        if (Gdx.files.internal(path).exists()) {
+            manifest.texture(path);
+        }
+    }
+    
+    private static String getTokenPath(int token) {
+        return TOKEN_DIRECTORY + (token < 10 ? "0" : "") + token + ".png";
+    }
+    
+    private static String getTokenPositionPath(int token) {
+        return TOKEN_DIRECTORY + (token < 10 ? "0" : "") + token + "s.png";
+    }
+    
+    /**
+     * Nombre de symboles du jeu : paramètre numberOfSymbols borné entre 4 et 6, 6 par défaut
+     */
+    private static int getNumberOfSymbols(GameParameters parameters) {
+        if (parameters == null || !parameters.has("numberOfSymbols")) {
+            return 6;
+        }
+        return Math.max(4, Math.min(6, parameters.getInt("numberOfSymbols")));
+    }
+    
     private boolean gameElementsDisabled = false;
     
     /**
      * Constructeur avec paramètres dynamiques
      */
-    public MastermindGameScreen(int dayId, Game game, Theme theme, ObjectMap<String, Object> parameters) {
+    public MastermindGameScreen(int dayId, Game game, Theme theme, GameParameters parameters) {
         super(dayId, game);
         
         // Stocker le thème
         this.theme = theme;
+        acquireAssets(buildAssetManifest(theme, parameters));
         
         // Initialiser les paramètres avec des valeurs par défaut
         this.codeLength = TOKENS_IN_COMBINATION; // Toujours 4 jetons à deviner
@@ -489,18 +661,16 @@ public class MastermindGameScreen extends GameScreen {
         
         // Appliquer les paramètres spécifiques s'ils existent
         if (parameters != null) {
-            if (parameters.containsKey("numberOfSymbols")) {
-                this.numberOfSymbols = ((Number) parameters.get("numberOfSymbols")).intValue();
-                // S'assurer que le nombre de symboles est entre 4 et 6
-                this.numberOfSymbols = Math.max(4, Math.min(6, this.numberOfSymbols));
+            if (parameters.has("numberOfSymbols")) {
+                // Entre 4 et 6 symboles
+                this.numberOfSymbols = getNumberOfSymbols(parameters);
                 Gdx.app.log("MastermindGameScreen", "Nombre de symboles défini à : " + this.numberOfSymbols);
             }
-            if (parameters.containsKey("bgColor")) {
-                String bgColor = (String) parameters.get("bgColor");
-                this.backgroundColor = parseColor(bgColor);
+            if (parameters.has("bgColor")) {
+                this.backgroundColor = new Color(parameters.getColor("bgColor"));
             }
-            if (parameters.containsKey("symbolImages")) {
-                symbolImagesParam = (String) parameters.get("symbolImages");
+            if (parameters.has("symbolImages")) {
+                symbolImagesParam = parameters.getString("symbolImages");
             }
         }
         
@@ -522,17 +692,13 @@ public class MastermindGameScreen extends GameScreen {
         // submitButton supprimé (plus de bouton de validation)
         this.infoButton = new Rectangle(DisplayConfig.WORLD_WIDTH - 60, viewport.getWorldHeight() - 60, 40, 40);
         
-        // Créer texture blanche
-        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pixmap.setColor(1, 1, 1, 1);
-        pixmap.fill();
-        this.whiteTexture = new Texture(pixmap);
-        pixmap.dispose();
+        // Texture blanche partagée
+        this.whiteTexture = renderContext.getWhiteTexture();
         
         
         // Charger la texture du bouton info
         try {
-            this.infoButtonTexture = new Texture(Gdx.files.internal("images/ui/help.png"));
+            this.infoButtonTexture = resources.getTexture(INFO_BUTTON_PATH);
         } catch (Exception e) {
             Gdx.app.error("MastermindGameScreen", "Erreur lors du chargement du bouton info: " + e.getMessage());
             this.infoButtonTexture = null;
@@ -540,7 +706,7 @@ public class MastermindGameScreen extends GameScreen {
         
         // Charger la texture du bouton close
         try {
-            this.closeButtonTexture = new Texture(Gdx.files.internal("images/ui/close.png"));
+            this.closeButtonTexture = resources.getTexture(CLOSE_BUTTON_PATH);
         } catch (Exception e) {
             Gdx.app.error("MastermindGameScreen", "Erreur lors du chargement du bouton close: " + e.getMessage());
             this.closeButtonTexture = null;
@@ -548,7 +714,7 @@ public class MastermindGameScreen extends GameScreen {
 
         // Charger la texture du fond d'écran
         try {
-            this.backgroundTexture = new Texture(Gdx.files.internal("images/games/mmd/background/background.png"));
+            this.backgroundTexture = resources.getTexture(BACKGROUND_PATH);
             this.backgroundTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
         } catch (Exception e) {
             Gdx.app.error("MastermindGameScreen", "Erreur lors du chargement du fond d'écran: " + e.getMessage());
@@ -640,11 +806,13 @@ public class MastermindGameScreen extends GameScreen {
         
         // Charger la texture de la case
         try {
-            this.boxTexture = new Texture(Gdx.files.internal("images/games/mmd/box/box-close.png"));
+            this.boxTexture = resources.getTexture(BOX_PATH);
             this.boxTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            this.boxRegion = new TextureRegion(boxTexture);
         } catch (Exception e) {
             Gdx.app.error("MastermindGameScreen", "Erreur lors du chargement de la texture box-close: " + e.getMessage());
             this.boxTexture = null;
+            this.boxRegion = null;
         }
         
         // Charger les positions des cases depuis le JSON
@@ -673,21 +841,6 @@ public class MastermindGameScreen extends GameScreen {
         // Cette méthode peut rester vide car toutes les interactions sont gérées via les clics
     }
     
-    private Color parseColor(String colorStr) {
-        try {
-            String[] parts = colorStr.split(",");
-            if (parts.length == 3) {
-                float r = Integer.parseInt(parts[0]) / 255f;
-                float g = Integer.parseInt(parts[1]) / 255f;
-                float b = Integer.parseInt(parts[2]) / 255f;
-                return new Color(r, g, b, 1);
-            }
-        } catch (NumberFormatException e) {
-            Gdx.app.error("MastermindGameScreen", "Format de couleur invalide: " + colorStr);
-        }
-        return new Color(1, 1, 1, 1);
-    }
-    
     private void initializeSymbols() {
         // Initialiser les noms des symboles par défaut
         symbolNames = new String[numberOfSymbols];
@@ -737,13 +890,13 @@ public class MastermindGameScreen extends GameScreen {
                     if (i < imageNames.length) {
                         String imageName = imageNames[i].trim();
                         if (!imageName.isEmpty()) {
-                            String imagePath = "images/games/mmd/symbol/" + imageName;
+                            String imagePath = SYMBOL_DIRECTORY + imageName;
                             Gdx.app.log("MastermindGameScreen", "Chargement symbole " + i + ": " + imagePath);
                             
                             // Vérifier que le fichier existe
                             if (Gdx.files.internal(imagePath).exists()) {
                                 Gdx.app.log("MastermindGameScreen", "Fichier trouvé, chargement en cours...");
-                                symbolTextures[i] = new Texture(Gdx.files.internal(imagePath));
+                                symbolTextures[i] = resources.getTexture(imagePath);
                                 Gdx.app.log("MastermindGameScreen", "✓ Texture chargée pour symbole " + i + ": " + imagePath);
                             } else {
                                 Gdx.app.error("MastermindGameScreen", "✗ Fichier non trouvé: " + imagePath);
@@ -853,6 +1006,7 @@ public class MastermindGameScreen extends GameScreen {
                 
                 symbolTextures[i] = new Texture(pixmap);
                 symbolTextures[i].setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+                generatedSymbolTextures.add(symbolTextures[i]);
                 pixmap.dispose();
                 
                 // Mettre à jour le nom du symbole
@@ -876,6 +1030,7 @@ public class MastermindGameScreen extends GameScreen {
             errorPixmap.setColor(Color.RED);
             errorPixmap.fill();
             symbolTextures[symbolIndex] = new Texture(errorPixmap);
+            generatedSymbolTextures.add(symbolTextures[symbolIndex]);
             errorPixmap.dispose();
             Gdx.app.log("MastermindGameScreen", "✓ Texture d'erreur créée pour symbole " + symbolIndex);
         } catch (Exception e) {
@@ -887,9 +1042,9 @@ public class MastermindGameScreen extends GameScreen {
     
     private void loadSounds() {
         try {
-            winSound = Gdx.audio.newSound(Gdx.files.internal(WIN_SOUND_PATH));
-            wrongSound = Gdx.audio.newSound(Gdx.files.internal(WRONG_SOUND_PATH));
-            failedSound = Gdx.audio.newSound(Gdx.files.internal(FAILED_SOUND_PATH));
+            winSound = resources.getSound(WIN_SOUND_PATH);
+            wrongSound = resources.getSound(WRONG_SOUND_PATH);
+            failedSound = resources.getSound(FAILED_SOUND_PATH);
         } catch (Exception e) {
             Gdx.app.error("MastermindGameScreen", "Erreur lors du chargement des sons: " + e.getMessage());
         }
@@ -946,19 +1101,142 @@ public class MastermindGameScreen extends GameScreen {
     
     @Override
     protected void initializeGame() {
+        // Charger la texture du thème
+        loadThemeTexture();
+        
+        // Reprendre la partie en cours (colonnes déjà ouvertes, sans animation)
+        if (resumeFromSnapshot()) {
+            return;
+        }
+        
         // Générer le code secret
         generateSecretCode();
         
         // Initialiser le système de tokens simplifié
         initializeStartPositionTokens();
-        
-        // Charger la texture du thème
-        loadThemeTexture();
 
         // Démarrer l'animation de la première colonne
         startColumnAnimation(0);
     }
     
+    /**
+     * Instantané : nombre de symboles, code secret, tentatives (séparées par '/')
+     * et jetons de la colonne courante (-1 si vide), par exemple "6;3,1,4,0;1,2,3,4/0,1,2,5;3,-1,-1,-1"
+     */
+    @Override
+    protected String createSnapshot() {
+        if (gameWon || gameFinished || isFadingOut || isClosingBoxes || secretCode.size == 0) {
+            return null;
+        }
+        StringBuilder snapshot = new StringBuilder();
+        snapshot.append(numberOfSymbols).append(';');
+        appendTokens(snapshot, secretCode);
+        snapshot.append(';');
+        for (int i = 0; i < attempts.size; i++) {
+            if (i > 0) snapshot.append('/');
+            appendTokens(snapshot, attempts.get(i));
+        }
+        snapshot.append(';');
+        appendTokens(snapshot, placedTokens);
+        return snapshot.toString();
+    }
+    
+    private static void appendTokens(StringBuilder out, Array<Integer> tokens) {
+        for (int i = 0; i < tokens.size; i++) {
+            if (i > 0) out.append(',');
+            out.append(tokens.get(i));
+        }
+    }
+    
+    @Override
+    protected boolean restoreSnapshot(String snapshot) {
+        String[] parts = snapshot.split(";", -1);
+        if (parts.length != 4 || Integer.parseInt(parts[0]) != numberOfSymbols) {
+            return false;
+        }
+        
+        // Tout valider avant de modifier l'état du jeu
+        Array<Integer> code = parseTokens(parts[1], false);
+        if (code == null) {
+            return false;
+        }
+        Array<Array<Integer>> restoredAttempts = new Array<>();
+        if (!parts[2].isEmpty()) {
+            for (String attempt : parts[2].split("/")) {
+                Array<Integer> guess = parseTokens(attempt, false);
+                if (guess == null) {
+                    return false;
+                }
+                restoredAttempts.add(guess);
+            }
+        }
+        Array<Integer> placed = parseTokens(parts[3], true);
+        if (placed == null || gridPositions == null || restoredAttempts.size >= Math.min(maxAttempts, gridPositions.size)) {
+            return false;
+        }
+        
+        secretCode.clear();
+        secretCode.addAll(code);
+        attempts.clear();
+        results.clear();
+        for (Array<Integer> guess : restoredAttempts) {
+            attempts.add(guess);
+            results.add(calculateResult(guess));
+        }
+        initializeStartPositionTokens();
+        
+        // Colonnes des tentatives passées et colonne courante ouvertes directement
+        for (int i = 0; i <= attempts.size; i++) {
+            gridPositions.get(i).open();
+        }
+        
+        // Jetons déjà posés dans la colonne courante
+        AnimatedColumn activeColumn = gridPositions.get(attempts.size);
+        for (int slot = 0; slot < placed.size && slot < activeColumn.rectangles.size; slot++) {
+            int tokenType = placed.get(slot);
+            if (tokenType < 0) continue;
+            
+            Rectangle rect = activeColumn.rectangles.get(slot);
+            AnimatedToken gridToken = new AnimatedToken(tokenType, 0, 0);
+            gridToken.gridSlot = slot;
+            gridToken.relativeTargetX = rect.x + rect.width / 2;
+            gridToken.relativeTargetY = rect.y + rect.height / 2;
+            gridTokens.add(gridToken);
+            placedTokens.set(slot, tokenType);
+            for (AnimatedToken startToken : startPositionTokens) {
+                if (startToken.tokenType == tokenType) {
+                    startToken.isVisible = false;
+                    break;
+                }
+            }
+        }
+        // Positions écran calculées par resize() juste après show()
+        recalculateTokenPositions();
+        return true;
+    }
+    
+    /**
+     * Lit une liste de jetons de TOKENS_IN_COMBINATION valeurs (distinctes, comme le code secret)
+     * @param allowEmpty true si -1 (case vide) est accepté
+     * @return Les jetons, ou null si la liste est invalide
+     */
+    private Array<Integer> parseTokens(String list, boolean allowEmpty) {
+        String[] values = list.split(",");
+        if (values.length != TOKENS_IN_COMBINATION) {
+            return null;
+        }
+        Array<Integer> tokens = new Array<>(TOKENS_IN_COMBINATION);
+        for (String value : values) {
+            int token = Integer.parseInt(value);
+            boolean empty = allowEmpty && token == -1;
+            if (!empty && (token < 0 || token >= numberOfSymbols || tokens.contains(token, false))) {
+                return null;
+            }
+            tokens.add(token);
+        }
+        return tokens;
+    }
+    
     /**
      * Calcule les dimensions et l'échelle du background avec crop pour garder l'aspect ratio
      * Logique identique à SlidingPuzzle et Crystalize pour un centrage cohérent
@@ -1073,7 +1351,7 @@ public class MastermindGameScreen extends GameScreen {
             
             if (fullImagePath != null && !fullImagePath.isEmpty()) {
                 try {
-                    fullImageTexture = new Texture(Gdx.files.internal(fullImagePath));
+                    fullImageTexture = resources.getPainting(fullImagePath);
                     // Découper l'image en carrés une fois qu'elle est chargée
                     createImageSquares();
                 } catch (Exception e) {
@@ -1424,6 +1702,14 @@ public class MastermindGameScreen extends GameScreen {
     }
     
     private GuessResult calculateResult(Array<Integer> guess) {
+        return calculateResult(guess, secretCode, codeLength);
+    }
+    
+    /**
+     * Évalue une proposition : symboles à la bonne position, puis symboles présents mais mal placés
+     * (chaque symbole du code secret ne compte qu'une fois). Sans état, visible du module benchmarks.
+     */
+    static GuessResult calculateResult(Array<Integer> guess, Array<Integer> secretCode, int codeLength) {
         int correctPosition = 0;
         int correctSymbol = 0;
         
@@ -2191,7 +2477,7 @@ public class MastermindGameScreen extends GameScreen {
      */
     private void loadHelpImage() {
         try {
-            this.helpImageTexture = new Texture(Gdx.files.internal("images/games/mmd/help_mmd.png"));
+            this.helpImageTexture = resources.getTexture(HELP_IMAGE_PATH);
             // Appliquer un filtrage Linear pour l'antialiasing
             helpImageTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
             Gdx.app.log("MastermindGameScreen", "Image d'aide chargée: help_mmd.png");
@@ -2276,18 +2562,8 @@ public class MastermindGameScreen extends GameScreen {
     @Override
     public void dispose() {
         super.dispose();
-        font.dispose();
-        bigFont.dispose();
-        infoFont.dispose();
-        whiteTexture.dispose();
-        if (fullImageTexture != null) fullImageTexture.dispose();
-        if (infoButtonTexture != null) infoButtonTexture.dispose();
-        if (closeButtonTexture != null) closeButtonTexture.dispose();
-        if (helpImageTexture != null) helpImageTexture.dispose();
-        if (backgroundTexture != null) backgroundTexture.dispose(); // Dispose the new texture
-        if (winSound != null) winSound.dispose();
-        if (wrongSound != null) wrongSound.dispose();
-        if (failedSound != null) failedSound.dispose();
+        // La police est partagée (CarlitoFontManager) ; les textures et sons du manifeste
+        // sont libérés par GameScreen.dispose()
         
         // Libérer la texture de l'état du plateau de jeu
         if (gameStateTexture != null) {
@@ -2295,22 +2571,18 @@ public class MastermindGameScreen extends GameScreen {
             gameStateTexture = null;
         }
         
-        // Libérer les textures des symboles
-        if (symbolTextures != null) {
-            for (Texture texture : symbolTextures) {
-                if (texture != null) {
-                    texture.dispose();
-                }
-            }
-            symbolTextures = null;
+        // Libérer les textures des symboles générées (les autres appartiennent au manifeste)
+        for (Texture texture : generatedSymbolTextures) {
+            texture.dispose();
         }
+        generatedSymbolTextures.clear();
+        symbolTextures = null;
         
         // Nettoyer les ressources d'image découpée
         imageSquares = null;
         if (visibleSquares != null) {
             visibleSquares.clear();
         }
-        if (boxTexture != null) boxTexture.dispose();
         
         // Nettoyer les animations
         if (gridPositions != null) {
@@ -2322,26 +2594,15 @@ public class MastermindGameScreen extends GameScreen {
         // Nettoyer les frames d'animation partagées
         BoxAnimation.disposeSharedFrames();
 
-        // Nettoyer les textures des tokens
+        // Les textures des tokens appartiennent au manifeste
         if (tokenTextures != null) {
-            for (Texture texture : tokenTextures) {
-                texture.dispose();
-            }
             tokenTextures.clear();
         }
-        
-        // Nettoyer les textures de position des tokens
         if (tokenPositionTextures != null) {
-            for (Texture texture : tokenPositionTextures) {
-                texture.dispose();
-            }
             tokenPositionTextures.clear();
         }
         
         // Nettoyer les textures d'indicateurs
-        if (dotWhiteTexture != null) dotWhiteTexture.dispose();
-        if (dotBlackTexture != null) dotBlackTexture.dispose();
-        if (dotEmptyTexture != null) dotEmptyTexture.dispose();
         
         // Nettoyer le Stage de transition
         if (transitionStage != null) {
@@ -2496,17 +2757,17 @@ public class MastermindGameScreen extends GameScreen {
         for (int i = 1; i <= MAX_TOTAL_TOKENS; i++) {
             try {
                 // Charger la texture du token
-                String tokenPath = "images/games/mmd/token/" + (i < 10 ? "0" : "") + i + ".png";
+                String tokenPath = getTokenPath(i);
                 if (Gdx.files.internal(tokenPath).exists()) {
-                    Texture tokenTexture = new Texture(Gdx.files.internal(tokenPath));
+                    Texture tokenTexture = resources.getTexture(tokenPath);
                     tokenTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
                     tokenTextures.add(tokenTexture);
                 }
                 
                 // Charger la texture de position correspondante
-                String positionPath = "images/games/mmd/token/" + (i < 10 ? "0" : "") + i + "s.png";
+                String positionPath = getTokenPositionPath(i);
                 if (Gdx.files.internal(positionPath).exists()) {
-                    Texture positionTexture = new Texture(Gdx.files.internal(positionPath));
+                    Texture positionTexture = resources.getTexture(positionPath);
                     positionTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
                     tokenPositionTextures.add(positionTexture);
                 }
@@ -2525,7 +2786,7 @@ public class MastermindGameScreen extends GameScreen {
     private void loadIndicatorTextures() {
         try {
             // Charger dot-white.png (token correct et bien placé)
-            dotWhiteTexture = new Texture(Gdx.files.internal("images/games/mmd/indicator/dot-white.png"));
+            dotWhiteTexture = resources.getTexture(DOT_WHITE_PATH);
             dotWhiteTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
             Gdx.app.log("MastermindGameScreen", "✓ Texture dot-white chargée");
         } catch (Exception e) {
@@ -2535,7 +2796,7 @@ public class MastermindGameScreen extends GameScreen {
         
         try {
             // Charger dot-black.png (token correct mais mal placé)
-            dotBlackTexture = new Texture(Gdx.files.internal("images/games/mmd/indicator/dot-black.png"));
+            dotBlackTexture = resources.getTexture(DOT_BLACK_PATH);
             dotBlackTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
             Gdx.app.log("MastermindGameScreen", "✓ Texture dot-black chargée");
         } catch (Exception e) {
@@ -2545,7 +2806,7 @@ public class MastermindGameScreen extends GameScreen {
         
         try {
             // Charger dot-empty.png (token incorrect)
-            dotEmptyTexture = new Texture(Gdx.files.internal("images/games/mmd/indicator/dot-empty.png"));
+            dotEmptyTexture = resources.getTexture(DOT_EMPTY_PATH);
             dotEmptyTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
             Gdx.app.log("MastermindGameScreen", "✓ Texture dot-empty chargée");
         } catch (Exception e) {
@@ -2802,7 +3063,7 @@ public class MastermindGameScreen extends GameScreen {
                 float boxHeight = rect.height * scaleY;
                 
                 // Choisir la texture à afficher pour la case
-                Texture textureToRender = boxTexture;
+                TextureRegion textureToRender = boxRegion;
                 
                 // Gérer l'animation des cases (ouverture ou fermeture)
                 if (i < column.animations.size) {
@@ -2814,8 +3075,10 @@ public class MastermindGameScreen extends GameScreen {
                 }
                 
                 // Dessiner la case toujours visible
-                batch.setColor(1, 1, 1, 1);
-                batch.draw(textureToRender, boxX, boxY, boxWidth, boxHeight);
+                if (textureToRender != null) {
+                    batch.setColor(1, 1, 1, 1);
+                    batch.draw(textureToRender, boxX, boxY, boxWidth, boxHeight);
+                }
             }
         }
 
@@ -2867,45 +3130,26 @@ public class MastermindGameScreen extends GameScreen {
         
         // Plus besoin de préserver les positions - les boutons sont capturés avec le reste
         
-        // Libérer les ressources du jeu seulement si on n'a pas de capture en cours
+        // Ne plus dessiner les ressources du jeu (seulement si on n'a pas de capture en cours) ;
+        // les textures partagées restent acquises jusqu'au dispose() de l'écran
         if (backgroundTexture != null && !captureNextFramePending) {
-            backgroundTexture.dispose();
             backgroundTexture = null;
         }
         if (boxTexture != null) {
-            boxTexture.dispose();
             boxTexture = null;
+            boxRegion = null;
         }
         if (tokenTextures != null) {
-            for (Texture texture : tokenTextures) {
-                if (texture != null) {
-                    texture.dispose();
-                }
-            }
             tokenTextures.clear();
         }
         if (tokenPositionTextures != null) {
-            for (Texture texture : tokenPositionTextures) {
-                if (texture != null) {
-                    texture.dispose();
-                }
-            }
             tokenPositionTextures.clear();
         }
         
         // Nettoyer les textures d'indicateurs
-        if (dotWhiteTexture != null) {
-            dotWhiteTexture.dispose();
-            dotWhiteTexture = null;
-        }
-        if (dotBlackTexture != null) {
-            dotBlackTexture.dispose();
-            dotBlackTexture = null;
-        }
-        if (dotEmptyTexture != null) {
-            dotEmptyTexture.dispose();
-            dotEmptyTexture = null;
-        }
+        dotWhiteTexture = null;
+        dotBlackTexture = null;
+        dotEmptyTexture = null;
         // Nettoyer les animations
         if (gridPositions != null) {
             for (AnimatedColumn column : gridPositions) {
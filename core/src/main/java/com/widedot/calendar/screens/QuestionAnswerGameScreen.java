@@ -9,14 +9,13 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.JsonReader;
 import com.badlogic.gdx.utils.JsonValue;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.config.GameParameters;
 import com.widedot.calendar.AdventCalendarGame;
 import com.widedot.calendar.data.Theme;
 import com.widedot.calendar.config.Config;
@@ -25,6 +24,7 @@ import com.widedot.calendar.config.DayMappingManager;
 import com.widedot.calendar.ui.BottomInputBar;
 import com.widedot.calendar.utils.AnswerMatcher;
 import com.widedot.calendar.debug.QuestionAnswerDebugManager;
+import com.widedot.calendar.utils.AssetManifest;
 import com.widedot.calendar.utils.CarlitoFontManager;
 import com.widedot.calendar.animation.QnaAnimationManager;
 
@@ -41,12 +41,14 @@ public class QuestionAnswerGameScreen extends GameScreen {
         String question;
         String answer;
         String[] alternatives;
+        AnswerMatcher.AnswerSet answerSet;  // Réponse et alternatives normalisées au chargement
         
         QuestionData(int id, String question, String answer, String[] alternatives) {
             this.id = id;
             this.question = question;
             this.answer = answer;
             this.alternatives = alternatives;
+            this.answerSet = AnswerMatcher.compile(answer, alternatives);
         }
     }
     // Input processor pour les clics et raccourcis clavier
@@ -72,7 +74,7 @@ public class QuestionAnswerGameScreen extends GameScreen {
     // Game data
     private Theme theme;
     private String gameReference;
-    private ObjectMap<String, Object> gameParameters;
+    private GameParameters gameParameters;
     
     // Questions et réponses
     private Array<QuestionData> allQuestions;
@@ -95,6 +97,13 @@ public class QuestionAnswerGameScreen extends GameScreen {
     // Sons
     private Sound winSound;
     private Sound wrongSound;
+    private static final String WIN_SOUND_PATH = "audio/win.mp3";
+    private static final String WRONG_SOUND_PATH = "audio/wrong.wav";
+    
+    // Images
+    private static final String INFO_BUTTON_PATH = "images/ui/help.png";
+    private static final String CLOSE_BUTTON_PATH = "images/ui/close.png";
+    private static final String HELP_IMAGE_PATH = "images/games/qna/help_qna.png";
     
     // Debug system
     private String questionsFile = ""; // Valeur par défaut vide
@@ -103,15 +112,34 @@ public class QuestionAnswerGameScreen extends GameScreen {
     // Animation system
     private QnaAnimationManager animationManager;
     
+    /**
+     * Ressources de l'écran, chargées de manière asynchrone avant sa création
+     * @param theme Le thème du jour (peinture)
+     * @param parameters Les paramètres fusionnés du jeu
+     * @return Le manifeste des ressources
+     */
+    public static AssetManifest buildAssetManifest(Theme theme, GameParameters parameters) {
+        AssetManifest manifest = new AssetManifest()
+            .painting(theme)
+            .texture(INFO_BUTTON_PATH)
+            .texture(CLOSE_BUTTON_PATH)
+            .texture(HELP_IMAGE_PATH)
+            .sound(WIN_SOUND_PATH)
+            .sound(WRONG_SOUND_PATH);
+        QnaAnimationManager.addAssets(manifest);
+        return manifest;
+    }
+    
     /**
      * Constructeur avec paramètres dynamiques
      */
-    public QuestionAnswerGameScreen(int dayId, Game game, Theme theme, ObjectMap<String, Object> parameters) {
+    public QuestionAnswerGameScreen(int dayId, Game game, Theme theme, GameParameters parameters) {
         super(dayId, game);
         
         // Stocker le thème et les paramètres
         this.theme = theme;
         this.gameParameters = parameters;
+        acquireAssets(buildAssetManifest(theme, parameters));
         
         // Obtenir la référence du jeu pour la sauvegarde
         this.gameReference = DayMappingManager.getInstance().getGameReferenceForDay(dayId);
@@ -122,17 +150,17 @@ public class QuestionAnswerGameScreen extends GameScreen {
         
         // Appliquer les paramètres spécifiques s'ils existent
         if (parameters != null) {
-            if (parameters.containsKey("questionsFile")) {
-                String file = (String) parameters.get("questionsFile");
+            if (parameters.has("questionsFile")) {
+                String file = parameters.getString("questionsFile");
                 this.questionsFile = (file != null) ? file : "";
             }
-            if (parameters.containsKey("totalQuestions")) {
-                this.totalQuestions = ((Number) parameters.get("totalQuestions")).intValue();
+            if (parameters.has("totalQuestions")) {
+                this.totalQuestions = parameters.getInt("totalQuestions");
             } else {
                 this.totalQuestions = 5; // Valeur par défaut
             }
-            if (parameters.containsKey("victoryThreshold")) {
-                this.victoryThreshold = ((Number) parameters.get("victoryThreshold")).intValue();
+            if (parameters.has("victoryThreshold")) {
+                this.victoryThreshold = parameters.getInt("victoryThreshold");
             } else {
                 this.victoryThreshold = 3; // Valeur par défaut
             }
@@ -168,8 +196,8 @@ public class QuestionAnswerGameScreen extends GameScreen {
         
         // Charger les sons
         try {
-            this.winSound = Gdx.audio.newSound(Gdx.files.internal("audio/win.mp3"));
-            this.wrongSound = Gdx.audio.newSound(Gdx.files.internal("audio/wrong.wav"));
+            this.winSound = resources.getSound(WIN_SOUND_PATH);
+            this.wrongSound = resources.getSound(WRONG_SOUND_PATH);
         } catch (Exception e) {
             Gdx.app.error("QuestionAnswerGameScreen", "Erreur lors du chargement des sons: " + e.getMessage());
             this.winSound = null;
@@ -182,12 +210,8 @@ public class QuestionAnswerGameScreen extends GameScreen {
         Gdx.app.log("QuestionAnswerGameScreen", "Nombre de questions: " + totalQuestions);
         Gdx.app.log("QuestionAnswerGameScreen", "Seuil de victoire: " + victoryThreshold);
 
-        // Créer une texture blanche
-        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pixmap.setColor(1, 1, 1, 1);
-        pixmap.fill();
-        this.whiteTexture = new Texture(pixmap);
-        pixmap.dispose();
+        // Texture blanche partagée
+        this.whiteTexture = renderContext.getWhiteTexture();
         
         // Charger les textures des boutons
         loadButtonTextures();
@@ -210,7 +234,7 @@ public class QuestionAnswerGameScreen extends GameScreen {
     private void loadButtonTextures() {
         // Charger la texture du bouton close
         try {
-            this.closeButtonTexture = new Texture(Gdx.files.internal("images/ui/close.png"));
+            this.closeButtonTexture = resources.getTexture(CLOSE_BUTTON_PATH);
         } catch (Exception e) {
             Gdx.app.error("QuestionAnswerGameScreen", "Erreur lors du chargement du bouton close: " + e.getMessage());
             this.closeButtonTexture = null;
@@ -218,7 +242,7 @@ public class QuestionAnswerGameScreen extends GameScreen {
         
         // Charger la texture du bouton info
         try {
-            this.infoButtonTexture = new Texture(Gdx.files.internal("images/ui/help.png"));
+            this.infoButtonTexture = resources.getTexture(INFO_BUTTON_PATH);
         } catch (Exception e) {
             Gdx.app.error("QuestionAnswerGameScreen", "Erreur lors du chargement du bouton info: " + e.getMessage());
             this.infoButtonTexture = null;
@@ -230,7 +254,7 @@ public class QuestionAnswerGameScreen extends GameScreen {
      */
     private void loadHelpImage() {
         try {
-            this.helpImageTexture = new Texture(Gdx.files.internal("images/games/qna/help_qna.png"));
+            this.helpImageTexture = resources.getTexture(HELP_IMAGE_PATH);
             // Appliquer un filtrage Linear pour l'antialiasing
             helpImageTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
             Gdx.app.log("QuestionAnswerGameScreen", "Image d'aide chargée: help_qna.png");
@@ -276,15 +300,22 @@ public class QuestionAnswerGameScreen extends GameScreen {
         // Charger les questions
         loadQuestions();
         
-        // Sélectionner les questions au hasard
-        selectRandomQuestions();
+        // Reprendre la partie en cours, sinon sélectionner les questions au hasard
+        boolean resumed = resumeFromSnapshot();
+        if (!resumed) {
+            selectRandomQuestions();
+        }
         
         // Initialiser l'interface de saisie
         initializeInputInterface();
         
-        // Démarrer l'animation d'initialisation
+        // Démarrer l'animation d'initialisation, ou placer directement billes et slots
         if (animationManager != null) {
-            animationManager.triggerEvent(QnaAnimationManager.AnimationEvent.GAME_START);
+            if (resumed) {
+                animationManager.restoreState(currentQuestionIndex, correctAnswers);
+            } else {
+                animationManager.triggerEvent(QnaAnimationManager.AnimationEvent.GAME_START);
+            }
         }
         
         Gdx.app.log("QuestionAnswerGameScreen", "Jeu QNA initialisé");
@@ -399,6 +430,81 @@ public class QuestionAnswerGameScreen extends GameScreen {
         Gdx.app.log("QuestionAnswerGameScreen", "Sélectionné " + currentQuestions.size + " questions au hasard");
     }
     
+    /**
+     * Instantané : index de la question courante, bonnes réponses, puis identifiants
+     * des questions sélectionnées dans l'ordre ("2,1;14,3,27,8,19")
+     */
+    @Override
+    protected String createSnapshot() {
+        if (gameFinished || currentQuestions.size == 0 || correctAnswers >= victoryThreshold) {
+            return null;
+        }
+        // Réponse donnée pendant l'animation : la question est déjà consommée
+        int questionIndex = currentQuestionIndex;
+        if (waitingForAnimation) {
+            if (!pendingQuestionTransition) {
+                return null; // Dernière bille : la partie se termine
+            }
+            questionIndex++;
+        }
+        if (questionIndex >= currentQuestions.size || questionIndex >= totalQuestions) {
+            return null;
+        }
+        
+        StringBuilder snapshot = new StringBuilder();
+        snapshot.append(questionIndex).append(',').append(correctAnswers).append(';');
+        for (int i = 0; i < currentQuestions.size; i++) {
+            if (i > 0) snapshot.append(',');
+            snapshot.append(currentQuestions.get(i).id);
+        }
+        return snapshot.toString();
+    }
+    
+    @Override
+    protected boolean restoreSnapshot(String snapshot) {
+        String[] parts = snapshot.split(";");
+        if (parts.length != 2) {
+            return false;
+        }
+        String[] progress = parts[0].split(",");
+        String[] ids = parts[1].split(",");
+        if (progress.length != 2 || ids.length > totalQuestions) {
+            return false;
+        }
+        int questionIndex = Integer.parseInt(progress[0]);
+        int correct = Integer.parseInt(progress[1]);
+        if (questionIndex < 0 || questionIndex >= ids.length || correct < 0 || correct > questionIndex || correct >= victoryThreshold) {
+            return false;
+        }
+        
+        // Retrouver les questions sélectionnées (le fichier a pu changer)
+        Array<QuestionData> selected = new Array<>(ids.length);
+        for (String id : ids) {
+            QuestionData question = findQuestion(Integer.parseInt(id));
+            if (question == null) {
+                return false;
+            }
+            selected.add(question);
+        }
+        
+        currentQuestions.clear();
+        currentQuestions.addAll(selected);
+        currentQuestionIndex = questionIndex;
+        correctAnswers = correct;
+        gameFinished = false;
+        gameWon = false;
+        return true;
+    }
+    
+    private QuestionData findQuestion(int id) {
+        for (QuestionData question : allQuestions) {
+            if (question.id == id) {
+                return question;
+            }
+        }
+        return null;
+    }
+    
     /**
      * Initialise l'interface de saisie avec BottomInputBar
      */
@@ -467,17 +573,8 @@ public class QuestionAnswerGameScreen extends GameScreen {
         
         QuestionData currentQuestion = currentQuestions.get(currentQuestionIndex);
         
-        // Vérifier la réponse avec AnswerMatcher
-        // Créer un tableau avec la réponse correcte et les alternatives
-        // Utiliser AnswerMatcher pour vérifier à la fois answer et toutes les alternatives
-        String[] alternatives = currentQuestion.alternatives != null ? currentQuestion.alternatives : new String[0];
-        String[] allAnswers = new String[alternatives.length + 1];
-        allAnswers[0] = currentQuestion.answer;
-        if (alternatives.length > 0) {
-            System.arraycopy(alternatives, 0, allAnswers, 1, alternatives.length);
-        }
-        
-        boolean isCorrect = AnswerMatcher.matchesAny(answer, allAnswers);
+        // Vérifier la réponse avec AnswerMatcher (answer et toutes les alternatives, compilées au chargement)
+        boolean isCorrect = currentQuestion.answerSet.matches(answer);
         
         if (isCorrect) {
             correctAnswers++;
@@ -1030,23 +1127,8 @@ public class QuestionAnswerGameScreen extends GameScreen {
     @Override
     public void dispose() {
         super.dispose();
-        font.dispose();
-        whiteTexture.dispose();
-        if (closeButtonTexture != null) {
-            closeButtonTexture.dispose();
-        }
-        if (infoButtonTexture != null) {
-            infoButtonTexture.dispose();
-        }
-        if (helpImageTexture != null) {
-            helpImageTexture.dispose();
-        }
-        if (winSound != null) {
-            winSound.dispose();
-        }
-        if (wrongSound != null) {
-            wrongSound.dispose();
-        }
+        // La police est partagée (CarlitoFontManager) ; les textures et sons du manifeste
+        // sont libérés par GameScreen.dispose()
         if (inputStage != null) {
             inputStage.dispose();
         }
@@ -1062,7 +1144,7 @@ public class QuestionAnswerGameScreen extends GameScreen {
      * Initialise le gestionnaire d'animation
      */
     private void initializeAnimationManager() {
-        animationManager = new QnaAnimationManager(totalQuestions, victoryThreshold);
+        animationManager = new QnaAnimationManager(totalQuestions, victoryThreshold, whiteTexture);
         
         // Définir le callback pour les événements d'animation
         animationManager.setCallback(new QnaAnimationManager.AnimationCallback() {
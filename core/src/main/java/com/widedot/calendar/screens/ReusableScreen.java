@@ -0,0 +1,22 @@
+package com.widedot.calendar.screens;
+
+import com.widedot.calendar.config.GameParameters;
+import com.widedot.calendar.data.Theme;
+
+/**
+ * Écran de jeu qui peut être conservé après sa fermeture et réutilisé pour un autre jour du
+ * même template (pool de la fabrique d'écrans). Les écrans qui n'implémentent pas cette
+ * interface sont libérés à leur fermeture.
+ */
+public interface ReusableScreen {
+
+    /**
+     * Réutilise un écran masqué pour un autre jour du même template. Les ressources communes au
+     * template restent chargées : seules celles du thème changent. Le prochain show() refait la mise
+     * en place comme pour un écran neuf. Les implémentations appellent GameScreen.rebind() en premier.
+     * @param dayId Le nouveau jour
+     * @param theme Le thème du jour
+     * @param parameters Les paramètres du jeu de ce jour
+     */
+    void reset(int dayId, Theme theme, GameParameters parameters);
+}
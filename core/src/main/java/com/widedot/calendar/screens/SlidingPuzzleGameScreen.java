@@ -14,19 +14,20 @@ import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Align;
 import com.widedot.calendar.AdventCalendarGame;
 import com.widedot.calendar.data.Theme;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.audio.Sound;
 import com.widedot.calendar.config.Config;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.config.GameParameters;
 import com.widedot.calendar.debug.SlidingPuzzleDebugManager;
 import com.widedot.calendar.config.DayMappingManager;
+import com.widedot.calendar.utils.AssetManifest;
 import com.widedot.calendar.utils.CarlitoFontManager;
+import com.widedot.calendar.utils.PaintingTextures;
 
 /**
  * Écran de jeu pour le puzzle coulissant
  */
-public class SlidingPuzzleGameScreen extends GameScreen {
+public class SlidingPuzzleGameScreen extends GameScreen implements ReusableScreen {
     // Input processor pour les clics et raccourcis clavier
     private InputAdapter inputProcessor;
     
@@ -48,6 +49,12 @@ public class SlidingPuzzleGameScreen extends GameScreen {
     private static final String SOLVE_SOUND_PATH = "audio/win.mp3";
     private static final String SLIDING_SOUND_PATH = "audio/sliding.mp3";
     
+    // Images
+    private static final String INFO_BUTTON_PATH = "images/ui/help.png";
+    private static final String CLOSE_BUTTON_PATH = "images/ui/close.png";
+    private static final String BACKGROUND_PATH = "images/games/spz/background-0.png";
+    private static final String HELP_IMAGE_PATH = "images/games/spz/help_spz.png";
+    
     // Paramètres du jeu provenant de la configuration
     private int gridSize;
     private final float GRID_MARGIN = 80; // Marge autour de la grille
@@ -62,13 +69,15 @@ public class SlidingPuzzleGameScreen extends GameScreen {
     private int emptyTileIndex; // Position de la case vide
     private boolean isPuzzleSolved; // Indique si le puzzle est résolu
     private Texture puzzleTexture; // Texture du puzzle
+    private Theme.CropInfo paintingCrop; // Recadrage carré du thème, à l'échelle de puzzleTexture
     private TextureRegion[] puzzleTiles; // Régions de texture pour chaque tuile
     private Theme theme; // Le thème du jeu
     private Texture backgroundTexture; // Texture du background
+    private Texture tintedBackgroundTexture; // Background colorisé (HSL cuit), recalculé à chaque frame depuis le cache
     
     // Système de debug
     private SlidingPuzzleDebugManager debugManager;
-    private ObjectMap<String, Object> gameParameters;
+    private GameParameters gameParameters;
     private String gameReference;
     
     // Paramètres du filtre de couleur pour le background (gris par défaut)
@@ -98,6 +107,16 @@ public class SlidingPuzzleGameScreen extends GameScreen {
         private float mergeProgress = 0f;
         private float irisOpenProgress = 0f;
 
+        public void reset() {
+            isActive = false;
+            isComplete = false;
+            progress = 0f;
+            victoryMessageTimer = 0f;
+            fadeProgress = 0f;
+            mergeProgress = 0f;
+            irisOpenProgress = 0f;
+        }
+
         public void start() {
             isActive = true;
             isComplete = false;
@@ -189,6 +208,11 @@ public class SlidingPuzzleGameScreen extends GameScreen {
             this.end.set(end);
         }
 
+        public void stop() {
+            isActive = false;
+            progress = 0f;
+        }
+
         public void update(float delta, float speed) {
             if (!isActive) return;
             
@@ -233,21 +257,30 @@ public class SlidingPuzzleGameScreen extends GameScreen {
      * Initialise un état du puzzle résoluble en simulant des mouvements valides
      */
     private void initializeSolvablePuzzle() {
+        emptyTileIndex = shuffleSolvable(puzzleState, gridSize, shuffleMoves);
+    }
+
+    /**
+     * Mélange une grille en partant de l'état résolu et en déplaçant la case vide au hasard :
+     * l'état obtenu est toujours résoluble. Sans état, visible du module benchmarks.
+     * @param puzzleState Numéro de tuile de chaque position, rempli par la méthode
+     * @param gridSize Nombre de tuiles par côté
+     * @param numMoves Nombre de mouvements aléatoires
+     * @return La position de la case vide
+     */
+    static int shuffleSolvable(int[] puzzleState, int gridSize, int numMoves) {
         // Commencer avec l'état résolu
         for (int i = 0; i < puzzleState.length; i++) {
             puzzleState[i] = i;
         }
-        emptyTileIndex = puzzleState.length - 1;
-
-        // Nombre de mouvements aléatoires à effectuer
-        int numMoves = shuffleMoves;
+        int emptyTileIndex = puzzleState.length - 1;
 
         // Effectuer des mouvements aléatoires valides
+        int[] possibleMoves = new int[4];
         for (int i = 0; i < numMoves; i++) {
             // Trouver les tuiles adjacentes à la case vide
             int row = emptyTileIndex / gridSize;
             int col = emptyTileIndex % gridSize;
-            int[] possibleMoves = new int[4];
             int numPossibleMoves = 0;
 
             // Vérifier les 4 directions possibles
@@ -268,6 +301,73 @@ public class SlidingPuzzleGameScreen extends GameScreen {
                 emptyTileIndex = tileToMove;
             }
         }
+        return emptyTileIndex;
+    }
+
+    /**
+     * Instantané : taille de la grille puis numéro de tuile de chaque position ("4;0,1,5,...")
+     */
+    @Override
+    protected String createSnapshot() {
+        if (isPuzzleSolved || puzzleState == null) {
+            return null;
+        }
+        StringBuilder snapshot = new StringBuilder();
+        snapshot.append(gridSize).append(';');
+        for (int i = 0; i < puzzleState.length; i++) {
+            if (i > 0) snapshot.append(',');
+            snapshot.append(puzzleState[i]);
+        }
+        return snapshot.toString();
+    }
+
+    @Override
+    protected boolean restoreSnapshot(String snapshot) {
+        String[] parts = snapshot.split(";");
+        if (parts.length != 2 || Integer.parseInt(parts[0]) != gridSize) {
+            return false;
+        }
+        String[] tiles = parts[1].split(",");
+        if (tiles.length != puzzleState.length) {
+            return false;
+        }
+
+        // Vérifier qu'il s'agit bien d'une permutation des tuiles
+        int[] restored = new int[tiles.length];
+        boolean[] seen = new boolean[tiles.length];
+        int empty = -1;
+        for (int i = 0; i < tiles.length; i++) {
+            int tile = Integer.parseInt(tiles[i]);
+            if (tile < 0 || tile >= tiles.length || seen[tile]) {
+                return false;
+            }
+            seen[tile] = true;
+            restored[i] = tile;
+            if (tile == tiles.length - 1) {
+                empty = i;
+            }
+        }
+
+        System.arraycopy(restored, 0, puzzleState, 0, restored.length);
+        emptyTileIndex = empty;
+        return true;
+    }
+
+    /**
+     * Ressources de l'écran, chargées de manière asynchrone avant sa création
+     * @param theme Le thème du jour (peinture)
+     * @param parameters Les paramètres fusionnés du jeu
+     * @return Le manifeste des ressources
+     */
+    public static AssetManifest buildAssetManifest(Theme theme, GameParameters parameters) {
+        return new AssetManifest()
+            .painting(theme)
+            .texture(BACKGROUND_PATH)
+            .texture(INFO_BUTTON_PATH)
+            .texture(CLOSE_BUTTON_PATH)
+            .texture(HELP_IMAGE_PATH)
+            .sound(SOLVE_SOUND_PATH)
+            .sound(SLIDING_SOUND_PATH);
     }
 
     /**
@@ -277,85 +377,21 @@ public class SlidingPuzzleGameScreen extends GameScreen {
      * @param theme Le thème du jeu
      * @param parameters Les paramètres du jeu
      */
-    public SlidingPuzzleGameScreen(int dayId, Game game, Theme theme, ObjectMap<String, Object> parameters) {
+    public SlidingPuzzleGameScreen(int dayId, Game game, Theme theme, GameParameters parameters) {
         super(dayId, game);
         
         this.theme = theme;
         this.gameParameters = parameters; // Stocker les paramètres pour le debug
+        acquireAssets(buildAssetManifest(theme, parameters));
         
         // Obtenir la référence du jeu pour la sauvegarde
         this.gameReference = DayMappingManager.getInstance().getGameReferenceForDay(dayId);
         
-        // Initialiser les paramètres avec des valeurs par défaut
-        this.gridSize = 4;
-        this.animationSpeed = 10f;
-        this.shuffleMoves = 200;
-        this.backgroundColor = new Color(0, 0, 0, 1);
-        
         // Vérifier si on est en mode test via Config
         this.isTestMode = Config.getInstance().isTestModeEnabled();
         Gdx.app.log("SlidingPuzzleGameScreen", "Mode test: " + isTestMode);
         
-        // Appliquer les paramètres spécifiques s'ils existent
-        if (parameters != null) {
-            // Taille de la grille
-            if (parameters.containsKey("size")) {
-                this.gridSize = ((Number)parameters.get("size")).intValue();
-            }
-            
-            // Couleur de fond
-            if (parameters.containsKey("bgColor")) {
-                String bgColor = (String)parameters.get("bgColor");
-                String[] parts = bgColor.split(",");
-                if (parts.length == 3) {
-                    try {
-                        float r = Integer.parseInt(parts[0]) / 255f;
-                        float g = Integer.parseInt(parts[1]) / 255f;
-                        float b = Integer.parseInt(parts[2]) / 255f;
-                        this.backgroundColor = new Color(r, g, b, 1);
-                    } catch (NumberFormatException e) {
-                        Gdx.app.error("SlidingPuzzleGameScreen", "Format de couleur invalide: " + bgColor);
-                    }
-                }
-            }
-            
-            // Nombre de mouvements pour mélanger
-            if (parameters.containsKey("shuffle")) {
-                this.shuffleMoves = ((Number)parameters.get("shuffle")).intValue();
-            }
-            
-            // Vitesse d'animation
-            if (parameters.containsKey("animationSpeed")) {
-                this.animationSpeed = ((Number)parameters.get("animationSpeed")).floatValue();
-            }
-            
-            // Paramètres du filtre de couleur du background
-            Gdx.app.log("SlidingPuzzleGameScreen", "Chargement des paramètres HSL...");
-            
-            if (parameters.containsKey("bgHue")) {
-                float hue = ((Number)parameters.get("bgHue")).floatValue();
-                this.backgroundHue = Math.max(0, Math.min(360, hue));
-                Gdx.app.log("SlidingPuzzleGameScreen", "bgHue trouvé dans paramètres: " + backgroundHue);
-            } else {
-                Gdx.app.log("SlidingPuzzleGameScreen", "bgHue NON TROUVÉ dans paramètres - utilisation de la valeur par défaut: " + backgroundHue);
-            }
-            
-            if (parameters.containsKey("bgSaturation")) {
-                float saturation = ((Number)parameters.get("bgSaturation")).floatValue();
-                this.backgroundSaturation = Math.max(0, Math.min(100, saturation));
-                Gdx.app.log("SlidingPuzzleGameScreen", "bgSaturation trouvé dans paramètres: " + backgroundSaturation);
-            } else {
-                Gdx.app.log("SlidingPuzzleGameScreen", "bgSaturation NON TROUVÉ dans paramètres - utilisation de la valeur par défaut: " + backgroundSaturation);
-            }
-            
-            if (parameters.containsKey("bgLightness")) {
-                float lightness = ((Number)parameters.get("bgLightness")).floatValue();
-                this.backgroundLightness = Math.max(-100, Math.min(100, lightness));
-                Gdx.app.log("SlidingPuzzleGameScreen", "bgLightness trouvé dans paramètres: " + backgroundLightness);
-            } else {
-                Gdx.app.log("SlidingPuzzleGameScreen", "bgLightness NON TROUVÉ dans paramètres - utilisation de la valeur par défaut: " + backgroundLightness);
-            }
-        }
+        applyParameters(parameters);
         
         // Initialisation des couleurs et éléments UI
         // Utiliser le gestionnaire Distance Field pour une qualité optimale
@@ -373,19 +409,13 @@ public class SlidingPuzzleGameScreen extends GameScreen {
         Gdx.app.log("SlidingPuzzleGameScreen", "Création du puzzle coulissant pour le jour " + dayId);
         Gdx.app.log("SlidingPuzzleGameScreen", "Paramètres: gridSize=" + gridSize + ", shuffle=" + shuffleMoves);
 
-        Gdx.app.log("SlidingPuzzleGameScreen", "Création de la texture blanche...");
-        // Créer une texture blanche
-        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pixmap.setColor(1, 1, 1, 1);
-        pixmap.fill();
-        this.whiteTexture = new Texture(pixmap);
-        pixmap.dispose();
-        Gdx.app.log("SlidingPuzzleGameScreen", "Texture blanche créée");
+        // Texture blanche partagée
+        this.whiteTexture = renderContext.getWhiteTexture();
         
         // Charger la texture du bouton info
         Gdx.app.log("SlidingPuzzleGameScreen", "Chargement bouton info...");
         try {
-            this.infoButtonTexture = new Texture(Gdx.files.internal("images/ui/help.png"));
+            this.infoButtonTexture = resources.getTexture(INFO_BUTTON_PATH);
             Gdx.app.log("SlidingPuzzleGameScreen", "Bouton info chargé");
         } catch (Throwable e) {
             Gdx.app.error("SlidingPuzzleGameScreen", "Erreur lors du chargement du bouton info: " + e.getClass().getName() + ": " + e.getMessage());
@@ -395,7 +425,7 @@ public class SlidingPuzzleGameScreen extends GameScreen {
         // Charger la texture du bouton close
         Gdx.app.log("SlidingPuzzleGameScreen", "Chargement bouton close...");
         try {
-            this.closeButtonTexture = new Texture(Gdx.files.internal("images/ui/close.png"));
+            this.closeButtonTexture = resources.getTexture(CLOSE_BUTTON_PATH);
             Gdx.app.log("SlidingPuzzleGameScreen", "Bouton close chargé");
         } catch (Throwable e) {
             Gdx.app.error("SlidingPuzzleGameScreen", "Erreur lors du chargement du bouton close: " + e.getClass().getName() + ": " + e.getMessage());
@@ -407,11 +437,11 @@ public class SlidingPuzzleGameScreen extends GameScreen {
         try {
             Gdx.app.log("SlidingPuzzleGameScreen", "Chargement de l'image background-0.png...");
             // Charger directement la texture sans modification
-            this.backgroundTexture = new Texture(Gdx.files.internal("images/games/spz/background-0.png"));
+            this.backgroundTexture = resources.getTexture(BACKGROUND_PATH);
             Gdx.app.log("SlidingPuzzleGameScreen", "Texture background créée - " + 
                              backgroundTexture.getWidth() + "x" + backgroundTexture.getHeight());
             
-            Gdx.app.log("SlidingPuzzleGameScreen", "Background chargé - Shader HSL sera appliqué au rendu - Teinte: " + backgroundHue + 
+            Gdx.app.log("SlidingPuzzleGameScreen", "Background chargé - Colorisation HSL cuite au premier rendu - Teinte: " + backgroundHue + 
                              ", Saturation: " + backgroundSaturation + 
                              ", Luminosité: " + backgroundLightness);
         } catch (Throwable e) {
@@ -427,8 +457,8 @@ public class SlidingPuzzleGameScreen extends GameScreen {
         // Charger le son de résolution
         Gdx.app.log("SlidingPuzzleGameScreen", "Chargement des sons...");
         try {
-            this.solveSound = Gdx.audio.newSound(Gdx.files.internal(SOLVE_SOUND_PATH));
-            this.slidingSound = Gdx.audio.newSound(Gdx.files.internal(SLIDING_SOUND_PATH));
+            this.solveSound = resources.getSound(SOLVE_SOUND_PATH);
+            this.slidingSound = resources.getSound(SLIDING_SOUND_PATH);
             Gdx.app.log("SlidingPuzzleGameScreen", "Sons chargés");
         } catch (Throwable e) {
             Gdx.app.error("SlidingPuzzleGameScreen", "Erreur lors du chargement des sons: " + e.getClass().getName() + ": " + e.getMessage());
@@ -459,6 +489,102 @@ public class SlidingPuzzleGameScreen extends GameScreen {
         Gdx.app.log("SlidingPuzzleGameScreen", "Constructeur SlidingPuzzleGameScreen terminé avec succès");
     }
     
+    /**
+     * Applique les paramètres du jeu (valeurs par défaut pour les paramètres absents)
+     */
+    private void applyParameters(GameParameters parameters) {
+        // Initialiser les paramètres avec des valeurs par défaut
+        this.gridSize = 4;
+        this.animationSpeed = 10f;
+        this.shuffleMoves = 200;
+        this.backgroundColor = new Color(0, 0, 0, 1);
+        this.backgroundHue = 0f;
+        this.backgroundSaturation = 0f;
+        this.backgroundLightness = 0f;
+        
+        // Appliquer les paramètres spécifiques s'ils existent
+        if (parameters != null) {
+            // Taille de la grille
+            if (parameters.has("size")) {
+                this.gridSize = parameters.getInt("size");
+            }
+            
+            // Couleur de fond
+            if (parameters.has("bgColor")) {
+                this.backgroundColor = new Color(parameters.getColor("bgColor"));
+            }
+            
+            // Nombre de mouvements pour mélanger
+            if (parameters.has("shuffle")) {
+                this.shuffleMoves = parameters.getInt("shuffle");
+            }
+            
+            // Vitesse d'animation
+            if (parameters.has("animationSpeed")) {
+                this.animationSpeed = parameters.getFloat("animationSpeed");
+            }
+            
+            // Paramètres du filtre de couleur du background
+            Gdx.app.log("SlidingPuzzleGameScreen", "Chargement des paramètres HSL...");
+            
+            if (parameters.has("bgHue")) {
+                float hue = parameters.getFloat("bgHue");
+                this.backgroundHue = Math.max(0, Math.min(360, hue));
+                Gdx.app.log("SlidingPuzzleGameScreen", "bgHue trouvé dans paramètres: " + backgroundHue);
+            } else {
+                Gdx.app.log("SlidingPuzzleGameScreen", "bgHue NON TROUVÉ dans paramètres - utilisation de la valeur par défaut: " + backgroundHue);
+            }
+            
+            if (parameters.has("bgSaturation")) {
+                float saturation = parameters.getFloat("bgSaturation");
+                this.backgroundSaturation = Math.max(0, Math.min(100, saturation));
+                Gdx.app.log("SlidingPuzzleGameScreen", "bgSaturation trouvé dans paramètres: " + backgroundSaturation);
+            } else {
+                Gdx.app.log("SlidingPuzzleGameScreen", "bgSaturation NON TROUVÉ dans paramètres - utilisation de la valeur par défaut: " + backgroundSaturation);
+            }
+            
+            if (parameters.has("bgLightness")) {
+                float lightness = parameters.getFloat("bgLightness");
+                this.backgroundLightness = Math.max(-100, Math.min(100, lightness));
+                Gdx.app.log("SlidingPuzzleGameScreen", "bgLightness trouvé dans paramètres: " + backgroundLightness);
+            } else {
+                Gdx.app.log("SlidingPuzzleGameScreen", "bgLightness NON TROUVÉ dans paramètres - utilisation de la valeur par défaut: " + backgroundLightness);
+            }
+        }
+    }
+    
+    /**
+     * Réutilise l'écran pour un autre jour : boutons, fond, aide et sons restent chargés,
+     * seuls le thème et les paramètres sont échangés, la peinture est chargée au prochain show()
+     */
+    @Override
+    public void reset(int dayId, Theme theme, GameParameters parameters) {
+        rebind(dayId, theme, buildAssetManifest(theme, parameters));
+        this.theme = theme;
+        this.gameParameters = parameters;
+        this.gameReference = DayMappingManager.getInstance().getGameReferenceForDay(dayId);
+        applyParameters(parameters);
+        
+        // Oublier l'état de la partie précédente
+        isPuzzleSolved = false;
+        animationState.reset();
+        tileAnimation.stop();
+        isButtonsFading = false;
+        buttonsFadeTimer = 0f;
+        showInfoPanel = false;
+        puzzleTexture = null;
+        fullImageTexture = null;
+        paintingCrop = null;
+        
+        // Adapter les tableaux à la nouvelle grille ; peinture, tuiles et mélange sont laissés à show()
+        int totalTiles = gridSize * gridSize;
+        if (puzzleState.length != totalTiles) {
+            puzzleState = new int[totalTiles];
+            gridZones = new Rectangle[totalTiles];
+        }
+        emptyTileIndex = totalTiles - 1;
+    }
+    
     /**
      * Initialise complètement le jeu (méthode factorisée)
      */
@@ -525,8 +651,9 @@ public class SlidingPuzzleGameScreen extends GameScreen {
         
         try {
             Gdx.app.log("SlidingPuzzleGameScreen", "Chargement de la texture depuis: " + fullImagePath);
-            puzzleTexture = new Texture(Gdx.files.internal(fullImagePath));
-            fullImageTexture = new Texture(Gdx.files.internal(fullImagePath));
+            puzzleTexture = resources.getPainting(fullImagePath);
+            fullImageTexture = puzzleTexture;
+            paintingCrop = PaintingTextures.scaleCrop(theme, puzzleTexture);
         } catch (Exception e) {
             Gdx.app.error("SlidingPuzzleGameScreen", "Erreur lors du chargement de la texture: " + e.getMessage());
             // Stack trace logged automatically by Gdx.app.error
@@ -539,15 +666,10 @@ public class SlidingPuzzleGameScreen extends GameScreen {
      */
     private void reloadBackgroundTexture() {
         try {
-            // Libérer l'ancienne texture si elle existe
-            if (backgroundTexture != null) {
-                backgroundTexture.dispose();
-            }
+            // Charger directement la texture (colorisée par HSLColorizer dans updateGame)
+            this.backgroundTexture = resources.getTexture(BACKGROUND_PATH);
             
-            // Charger directement la texture (le filtre HSL sera appliqué via shader GPU)
-            this.backgroundTexture = new Texture(Gdx.files.internal("images/games/spz/background-0.png"));
-            
-            Gdx.app.log("SlidingPuzzleGameScreen", "Background rechargé - Shader HSL sera appliqué au rendu - Teinte: " + backgroundHue + 
+            Gdx.app.log("SlidingPuzzleGameScreen", "Background rechargé - Colorisation HSL cuite au premier rendu - Teinte: " + backgroundHue + 
                              ", Saturation: " + backgroundSaturation + 
                              ", Luminosité: " + backgroundLightness);
         } catch (Exception e) {
@@ -694,14 +816,8 @@ public class SlidingPuzzleGameScreen extends GameScreen {
      */
     private void parseBackgroundColor(String colorStr) {
         try {
-            String[] parts = colorStr.split(",");
-            if (parts.length == 3) {
-                float r = Integer.parseInt(parts[0]) / 255f;
-                float g = Integer.parseInt(parts[1]) / 255f;
-                float b = Integer.parseInt(parts[2]) / 255f;
-                backgroundColor = new Color(r, g, b, 1.0f);
-            }
-        } catch (NumberFormatException e) {
+            backgroundColor = GameParameters.parseColor(colorStr);
+        } catch (IllegalArgumentException e) {
             Gdx.app.error("SlidingPuzzleGameScreen", "Format de couleur invalide: " + colorStr + ", utilisation de la couleur par défaut");
             backgroundColor = new Color(0, 0, 0, 1); // Noir par défaut
         }
@@ -720,8 +836,9 @@ public class SlidingPuzzleGameScreen extends GameScreen {
         
         try {
             Gdx.app.log("SlidingPuzzleGameScreen", "Chargement de la texture depuis: " + fullImagePath);
-            puzzleTexture = new Texture(Gdx.files.internal(fullImagePath));
-            fullImageTexture = new Texture(Gdx.files.internal(fullImagePath));
+            puzzleTexture = resources.getPainting(fullImagePath);
+            fullImageTexture = puzzleTexture;
+            paintingCrop = PaintingTextures.scaleCrop(theme, puzzleTexture);
             
             // Maintenant que tous les paramètres sont initialisés et que la texture est chargée,
             // nous pouvons créer les tuiles
@@ -746,7 +863,7 @@ public class SlidingPuzzleGameScreen extends GameScreen {
         puzzleTiles = new TextureRegion[gridSize * gridSize];
         
         // Récupérer les informations de recadrage
-        Theme.CropInfo squareCrop = theme.getSquareCrop();
+        Theme.CropInfo squareCrop = paintingCrop;
         if (squareCrop == null) {
             throw new IllegalStateException("Les informations de recadrage ne sont pas disponibles");
         }
@@ -818,14 +935,18 @@ public class SlidingPuzzleGameScreen extends GameScreen {
             }
         }
 
-        // Initialiser un état du puzzle résoluble
-        initializeSolvablePuzzle();
+        // Reprendre la partie en cours, sinon mélanger un nouveau puzzle résoluble
+        if (!resumeFromSnapshot()) {
+            initializeSolvablePuzzle();
+        }
 
         // Calculer les durées d'animation
-        if (fullImageTexture != null && theme != null && theme.getSquareCrop() != null) {
+        if (fullImageTexture != null && paintingCrop != null) {
+            // En pixels de la source : les durées ne dépendent pas du palier chargé
+            float toSource = (float) theme.getSquareCrop().getWidth() / paintingCrop.getWidth();
             animationState.calculateDurations(
-                fullImageTexture.getWidth(),
-                fullImageTexture.getHeight(),
+                fullImageTexture.getWidth() * toSource,
+                fullImageTexture.getHeight() * toSource,
                 theme.getSquareCrop()
             );
         }
@@ -841,6 +962,11 @@ public class SlidingPuzzleGameScreen extends GameScreen {
             debugManager.update(delta);
         }
         
+        // Colorisation du background (hors batch ; immédiate tant que les paramètres ne changent pas)
+        tintedBackgroundTexture = backgroundTexture != null
+            ? renderContext.getColorizer().bake(backgroundTexture, backgroundHue, backgroundSaturation, backgroundLightness)
+            : null;
+        
         if (tileAnimation.isActive()) {
             tileAnimation.update(delta, animationSpeed);
             
@@ -973,13 +1099,11 @@ public class SlidingPuzzleGameScreen extends GameScreen {
         
         // Dessiner le background par-dessus avec fade pendant le fade des boutons
         // Note : on ne teste PAS isComplete() car l'animation de victoire dure plus longtemps que le fade des boutons
-        if (backgroundTexture != null && (isButtonsFading || !isPuzzleSolved)) {
+        if (tintedBackgroundTexture != null && (isButtonsFading || !isPuzzleSolved)) {
             batch.setColor(1, 1, 1, bgAlpha);
             
-            // Appliquer le shader HSL pour la colorisation avec dimensions calculées (crop)
-            com.widedot.calendar.shaders.HSLShader.begin(batch, backgroundHue, backgroundSaturation, backgroundLightness);
-            batch.draw(backgroundTexture, currentBgX, currentBgY, currentBgWidth, currentBgHeight);
-            com.widedot.calendar.shaders.HSLShader.end(batch);
+            // Background déjà colorisé dans updateGame, avec dimensions calculées (crop)
+            batch.draw(tintedBackgroundTexture, currentBgX, currentBgY, currentBgWidth, currentBgHeight);
             
             // Reset color
             batch.setColor(1, 1, 1, 1);
@@ -1045,7 +1169,7 @@ public class SlidingPuzzleGameScreen extends GameScreen {
         
         float finalScale = finalImageWidth / imageWidth;
         
-        Theme.CropInfo squareCrop = theme.getSquareCrop();
+        Theme.CropInfo squareCrop = paintingCrop;
         if (squareCrop != null) {
             // Calculer le zoom initial pour correspondre à la taille des tuiles réunies
             float initialScale = (gridSize * tileSize) / squareCrop.getWidth();
@@ -1432,32 +1556,8 @@ public class SlidingPuzzleGameScreen extends GameScreen {
     @Override
     public void dispose() {
         super.dispose();
-        font.dispose();
-        whiteTexture.dispose();
-        if (puzzleTexture != null) {
-            puzzleTexture.dispose();
-        }
-        if (fullImageTexture != null) {
-            fullImageTexture.dispose();
-        }
-        if (infoButtonTexture != null) {
-            infoButtonTexture.dispose();
-        }
-        if (closeButtonTexture != null) {
-            closeButtonTexture.dispose();
-        }
-        if (helpImageTexture != null) {
-            helpImageTexture.dispose();
-        }
-        if (solveSound != null) {
-            solveSound.dispose();
-        }
-        if (slidingSound != null) {
-            slidingSound.dispose();
-        }
-        if (backgroundTexture != null) {
-            backgroundTexture.dispose();
-        }
+        // La police est partagée (CarlitoFontManager) : elle n'est pas libérée ici
+        // Les textures et sons du manifeste sont libérés par GameScreen.dispose()
     }
 
     /**
@@ -1524,7 +1624,7 @@ public class SlidingPuzzleGameScreen extends GameScreen {
      */
     private void loadHelpImage() {
         try {
-            this.helpImageTexture = new Texture(Gdx.files.internal("images/games/spz/help_spz.png"));
+            this.helpImageTexture = resources.getTexture(HELP_IMAGE_PATH);
             // Appliquer un filtrage Linear pour l'antialiasing
             helpImageTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
             Gdx.app.log("SlidingPuzzleGameScreen", "Image d'aide chargée: help_spz.png");
@@ -6,24 +6,39 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import com.widedot.calendar.AdventCalendarGame;
+import com.widedot.calendar.display.RenderContext;
 import com.widedot.calendar.display.ViewportManager;
+import com.widedot.calendar.utils.AssetManifest;
+import com.widedot.calendar.utils.ResourceManager;
 
 /**
- * Écran de transition entre deux écrans avec effet de fondu
+ * Écran de transition entre deux écrans avec effet de fondu.
+ * Lorsqu'un manifeste de ressources est fourni, l'écran cible n'est créé qu'une fois
+ * ses ressources chargées : le chargement est avancé par tranches de LOAD_BUDGET_MS
+ * pendant la phase d'écran noir, sans bloquer le rendu.
  */
 public class TransitionScreen implements Screen {
+    
+    /**
+     * Création différée de l'écran cible
+     */
+    public interface ScreenProvider {
+        Screen create();
+    }
+    
     private final Game game;
     private final Screen sourceScreen; // Écran source (celui de départ)
-    private final Screen targetScreen; // Écran cible (celui d'arrivée)
+    private Screen targetScreen; // Écran cible (celui d'arrivée)
+    private final ScreenProvider targetProvider; // Création différée de l'écran cible
+    private final AssetManifest targetAssets; // Ressources chargées avant la création de l'écran cible
+    private final RenderContext renderContext;
     private final SpriteBatch batch;
     private final OrthographicCamera camera;
     private Viewport viewport;
-    private final Texture blackTexture;
     
     // Variable statique pour indiquer si une transition est en cours
     private static boolean isTransitionActive = false;
@@ -38,10 +53,12 @@ public class TransitionScreen implements Screen {
     private float alpha = 0f; // Opacité du noir
     private float timer = 0f;
     private boolean targetInitialized = false;
+    private boolean targetAssetsReleased = false;
     
     private static final float FADE_OUT_DURATION = 0.2f; // Raccourci à 0.8 seconde pour le fade out
     private static final float BLACK_SCREEN_DURATION = 0.1f; // Temps d'attente sur écran noir
     private static final float FADE_IN_DURATION = 0.8f; // Raccourci à 0.8 seconde pour le fade in
+    private static final int LOAD_BUDGET_MS = 4; // Budget de chargement des ressources par frame
     
     /**
      * Vérifie si une transition est actuellement en cours
@@ -57,25 +74,40 @@ public class TransitionScreen implements Screen {
      * @param targetScreen L'écran cible vers lequel effectuer la transition
      */
     public TransitionScreen(Game game, Screen targetScreen) {
+        this(game, targetScreen, null, null);
+    }
+    
+    /**
+     * Constructeur avec chargement asynchrone des ressources de l'écran cible
+     * @param game L'instance du jeu
+     * @param targetProvider Crée l'écran cible une fois ses ressources chargées
+     * @param targetAssets Les ressources de l'écran cible (acquises ici, libérées une fois l'écran créé)
+     */
+    public TransitionScreen(Game game, ScreenProvider targetProvider, AssetManifest targetAssets) {
+        this(game, null, targetProvider, targetAssets);
+    }
+    
+    private TransitionScreen(Game game, Screen targetScreen, ScreenProvider targetProvider, AssetManifest targetAssets) {
         // Marquer le début d'une transition
         isTransitionActive = true;
         
         this.game = game;
         this.sourceScreen = game.getScreen(); // Stocker l'écran actuel
         this.targetScreen = targetScreen;
+        this.targetProvider = targetProvider;
+        this.targetAssets = targetAssets;
         
-        // Initialiser le batch et la caméra
-        this.batch = new SpriteBatch();
+        // Mettre les ressources de l'écran cible en file de chargement dès le fade out
+        if (targetAssets != null) {
+            ResourceManager.getInstance().acquire(targetAssets);
+        }
+        
+        // Batch et texture blanche partagés (le fondu est une teinte noire de la texture blanche)
+        this.renderContext = ((AdventCalendarGame) game).getRenderContext();
+        this.batch = renderContext.getBatch();
         this.camera = new OrthographicCamera();
         this.viewport = new FitViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), camera);
         
-        // Créer une texture blanche pour l'effet de fondu
-        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pixmap.setColor(Color.WHITE);
-        pixmap.fill();
-        this.blackTexture = new Texture(pixmap);
-        pixmap.dispose();
-        
         // Configurer la caméra
         this.camera.setToOrtho(false, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         
@@ -109,11 +141,7 @@ public class TransitionScreen implements Screen {
             }
             
             // Dessiner un rectangle noir semi-transparent par-dessus
-            batch.begin();
-            batch.setProjectionMatrix(camera.combined);
-            batch.setColor(0, 0, 0, alpha);
-            batch.draw(blackTexture, 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
-            batch.end();
+            drawOverlay(alpha);
             
             // Si le fade out est terminé, passer à l'écran noir
             if (alpha >= 1.0f) {
@@ -124,8 +152,12 @@ public class TransitionScreen implements Screen {
         } else if (state == TransitionState.BLACK_SCREEN) {
             // Phase d'écran noir et d'initialisation
             
-            // Initialiser l'écran cible
-            if (!targetInitialized && targetScreen != null) {
+            // Créer l'écran cible une fois ses ressources chargées (une étape par frame)
+            if (!targetInitialized && targetScreen == null && targetProvider != null) {
+                if (ResourceManager.getInstance().update(LOAD_BUDGET_MS)) {
+                    createTargetScreen();
+                }
+            } else if (!targetInitialized && targetScreen != null) {
                 // Appeler show() sur l'écran cible pour qu'il s'initialise
                 targetScreen.show();
                 targetInitialized = true;
@@ -138,14 +170,10 @@ public class TransitionScreen implements Screen {
             }
             
             // Dessiner un rectangle noir plein
-            batch.begin();
-            batch.setProjectionMatrix(camera.combined);
-            batch.setColor(0, 0, 0, 1);
-            batch.draw(blackTexture, 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
-            batch.end();
+            drawOverlay(1f);
             
-            // Si le temps d'écran noir est écoulé, passer au fade in
-            if (timer >= BLACK_SCREEN_DURATION) {
+            // Si le temps d'écran noir est écoulé et l'écran cible prêt, passer au fade in
+            if (timer >= BLACK_SCREEN_DURATION && (targetInitialized || targetScreen == null && targetProvider == null)) {
                 state = TransitionState.FADE_IN;
                 timer = 0f;
                 alpha = 1.0f;
@@ -161,11 +189,7 @@ public class TransitionScreen implements Screen {
             }
             
             // Dessiner un rectangle noir semi-transparent par-dessus (qui s'efface progressivement)
-            batch.begin();
-            batch.setProjectionMatrix(camera.combined);
-            batch.setColor(0, 0, 0, alpha);
-            batch.draw(blackTexture, 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
-            batch.end();
+            drawOverlay(alpha);
             
             // Si le fade in est terminé, passer à l'écran cible
             if (alpha <= 0f) {
@@ -174,6 +198,11 @@ public class TransitionScreen implements Screen {
                 // Marquer la fin de la transition
                 isTransitionActive = false;
                 
+                // Un écran de jeu quitté est rendu à la fabrique : conservé s'il est réutilisable, libéré sinon
+                if (sourceScreen instanceof GameScreen && sourceScreen != targetScreen) {
+                    ((AdventCalendarGame) game).getGameScreenFactory().recycle((GameScreen) sourceScreen);
+                }
+                
                 game.setScreen(targetScreen);
                 dispose();
                 return;
@@ -181,6 +210,44 @@ public class TransitionScreen implements Screen {
         }
     }
     
+    /**
+     * Dessine le voile noir du fondu puis restaure la couleur du batch partagé
+     */
+    private void drawOverlay(float overlayAlpha) {
+        renderContext.reset();
+        batch.begin();
+        batch.setProjectionMatrix(camera.combined);
+        batch.setColor(0, 0, 0, overlayAlpha);
+        batch.draw(renderContext.getWhiteTexture(), 0, 0, viewport.getWorldWidth(), viewport.getWorldHeight());
+        batch.end();
+        batch.setColor(Color.WHITE);
+    }
+    
+    /**
+     * Crée l'écran cible différé puis rend la référence de chargement sur ses ressources
+     * (l'écran a acquis son propre manifeste). En cas d'échec, la transition revient à l'écran source.
+     */
+    private void createTargetScreen() {
+        try {
+            targetScreen = targetProvider.create();
+            targetScreen.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+            Gdx.app.log("TransitionScreen", "Écran cible créé: " + targetScreen.getClass().getSimpleName());
+        } catch (Throwable e) {
+            Gdx.app.error("TransitionScreen", "Erreur lors de la création de l'écran cible: " + e.getClass().getName() + ": " + e.getMessage());
+            // Revenir à l'écran source, qui n'a pas encore été masqué
+            targetScreen = sourceScreen;
+            targetInitialized = true;
+        }
+        releaseTargetAssets();
+    }
+    
+    private void releaseTargetAssets() {
+        if (targetAssets != null && !targetAssetsReleased) {
+            ResourceManager.getInstance().release(targetAssets);
+            targetAssetsReleased = true;
+        }
+    }
+    
     @Override
     public void show() {
         // Appelé lorsque cet écran devient l'écran actif
@@ -224,8 +291,7 @@ public class TransitionScreen implements Screen {
     
     @Override
     public void dispose() {
-        batch.dispose();
-        blackTexture.dispose();
+        releaseTargetAssets();
         Gdx.app.log("TransitionScreen", "Ressources de l'écran de transition libérées");
         
         // En cas d'appel à dispose sans passer par la fin normale de la transition
@@ -1,34 +1,107 @@
 package com.widedot.calendar.shaders;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.RandomXS128;
 
 /**
  * Shader de cristallisation pour LibGDX.
  * Compatible GWT/HTML - charge les shaders depuis des fichiers externes.
  * Remplace le filtre JHLabs par un shader GPU plus performant.
+ *
+ * Deux qualités sont disponibles :
+ * - FIDELITY : reproduction fidèle de JHLabs (recherche 5x5x3, hash sin() dans la boucle)
+ * - FAST : jitter lu dans une texture de graines précalculée, recherche 3x3
  */
 public class CrystallizeShader {
     
+    /**
+     * Qualité de rendu du shader
+     */
+    public enum Quality {
+        FIDELITY,
+        FAST;
+
+        /**
+         * Convertit un nom de configuration ("fidelity" / "fast") en qualité
+         * @param name Nom de la qualité (insensible à la casse)
+         * @return La qualité correspondante, FIDELITY par défaut
+         */
+        public static Quality fromName(String name) {
+            if (name != null && name.equalsIgnoreCase("fast")) {
+                return FAST;
+            }
+            return FIDELITY;
+        }
+    }
+
+    // Taille de la texture de graines (doit correspondre à SEED_SIZE dans crystallize_fast.frag)
+    public static final int SEED_TEXTURE_SIZE = 128;
+    private static final long SEED_TEXTURE_SEED = 0x5EEDL;
+    private static final int SEED_TEXTURE_UNIT = 1;
+
+    private ShaderProgram fidelityShader;
+    private ShaderProgram fastShader;
     private ShaderProgram shader;
+    private Texture seedTexture;
+    private Quality quality;
     
     public CrystallizeShader() {
-        Gdx.app.log("CrystallizeShader", "Chargement du shader depuis les fichiers externes...");
+        this(Quality.FIDELITY);
+    }
+
+    public CrystallizeShader(Quality quality) {
+        setQuality(quality);
+    }
+
+    /**
+     * Change la qualité du shader. Le programme correspondant est compilé au premier usage.
+     * @param quality La qualité souhaitée
+     */
+    public void setQuality(Quality quality) {
+        if (quality == Quality.FAST) {
+            if (fastShader == null) {
+                fastShader = compile("shaders/crystallize.vert", "shaders/crystallize_fast.frag");
+                seedTexture = createSeedTexture();
+            }
+            shader = fastShader;
+        } else {
+            if (fidelityShader == null) {
+                fidelityShader = compile("shaders/crystallize.vert", "shaders/crystallize.frag");
+            }
+            shader = fidelityShader;
+        }
+        this.quality = quality;
+    }
+
+    public Quality getQuality() {
+        return quality;
+    }
+
+    /**
+     * Compile un programme de cristallisation
+     */
+    private ShaderProgram compile(String vertPath, String fragPath) {
+        Gdx.app.log("CrystallizeShader", "Chargement du shader depuis les fichiers externes: " + fragPath);
         
         ShaderProgram.pedantic = false; // Plus indulgent pour WebGL
         
         try {
-            String vert = Gdx.files.internal("shaders/crystallize.vert").readString();
-            String frag = Gdx.files.internal("shaders/crystallize.frag").readString();
+            String vert = Gdx.files.internal(vertPath).readString();
+            String frag = Gdx.files.internal(fragPath).readString();
             
-            shader = new ShaderProgram(vert, frag);
+            ShaderProgram program = new ShaderProgram(vert, frag);
             
-            if (!shader.isCompiled()) {
-                Gdx.app.error("CrystallizeShader", "Erreur de compilation du shader: " + shader.getLog());
-                throw new RuntimeException("Erreur compilation shader cristallisation: " + shader.getLog());
+            if (!program.isCompiled()) {
+                Gdx.app.error("CrystallizeShader", "Erreur de compilation du shader: " + program.getLog());
+                throw new RuntimeException("Erreur compilation shader cristallisation: " + program.getLog());
             }
             
             Gdx.app.log("CrystallizeShader", "Shader chargé et compilé avec succès");
+            return program;
         } catch (Throwable e) {
             Gdx.app.error("CrystallizeShader", "Exception lors du chargement: " + e.getClass().getName() + ": " + e.getMessage());
             StringBuilder stackTrace = new StringBuilder();
@@ -40,9 +113,42 @@ public class CrystallizeShader {
         }
     }
     
+    /**
+     * Génère une fois la texture de graines : jitter des cellules dans les canaux R et G.
+     * La graine est fixe pour que le motif soit identique d'une session à l'autre.
+     */
+    private Texture createSeedTexture() {
+        RandomXS128 random = new RandomXS128(SEED_TEXTURE_SEED);
+        Pixmap pixmap = new Pixmap(SEED_TEXTURE_SIZE, SEED_TEXTURE_SIZE, Pixmap.Format.RGBA8888);
+        for (int y = 0; y < SEED_TEXTURE_SIZE; y++) {
+            for (int x = 0; x < SEED_TEXTURE_SIZE; x++) {
+                int r = random.nextInt(256);
+                int g = random.nextInt(256);
+                pixmap.drawPixel(x, y, (r << 24) | (g << 16) | 0xFF);
+            }
+        }
+        Texture texture = new Texture(pixmap);
+        texture.setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        pixmap.dispose();
+        Gdx.app.log("CrystallizeShader", "Texture de graines générée: " + SEED_TEXTURE_SIZE + "x" + SEED_TEXTURE_SIZE);
+        return texture;
+    }
+
     public ShaderProgram getShader() {
         return shader;
     }
+
+    /**
+     * Lie les textures auxiliaires du shader actif (texture de graines en mode FAST).
+     * Le shader doit déjà être lié (batch.setShader()). L'unité de texture 0 est réactivée
+     * pour que le SpriteBatch continue de lier ses textures au bon endroit.
+     */
+    public void bindSeedTexture() {
+        if (quality != Quality.FAST || seedTexture == null) return;
+        seedTexture.bind(SEED_TEXTURE_UNIT);
+        shader.setUniformi("u_seeds", SEED_TEXTURE_UNIT);
+        Gdx.gl.glActiveTexture(GL20.GL_TEXTURE0);
+    }
     
     public void setCrystalSize(float crystalSize) {
         shader.setUniformf("u_crystalSize", crystalSize);
@@ -72,10 +178,24 @@ public class CrystallizeShader {
         shader.setUniformi("u_fadeEdges", fadeEdges ? 1 : 0);
     }
     
+    /**
+     * Indique si le shader dessine directement à l'écran (true) ou dans un FBO (false).
+     * Le rendu FBO inverse l'axe Y pour compenser le retournement de la texture du FrameBuffer.
+     */
+    public void setDirectPass(boolean directPass) {
+        shader.setUniformi("u_directPass", directPass ? 1 : 0);
+    }
+    
     
     public void dispose() {
-        if (shader != null) {
-            shader.dispose();
+        if (fidelityShader != null) {
+            fidelityShader.dispose();
+        }
+        if (fastShader != null) {
+            fastShader.dispose();
+        }
+        if (seedTexture != null) {
+            seedTexture.dispose();
         }
     }
 }
@@ -1,5 +1,10 @@
 package com.widedot.calendar.utils;
 
+import com.badlogic.gdx.Gdx;
+import com.widedot.calendar.config.Config;
+
+import java.util.Arrays;
+
 /**
  * Utilitaire pour le matching de réponses avec tolérance aux fautes
  * 100% compatible GWT - utilise uniquement les classes Java supportées par GWT
@@ -10,6 +15,9 @@ public class AnswerMatcher {
     // Avec le système de scoring pondéré, ce seuil est plus permissif
     private static final double SIMILARITY_THRESHOLD = 0.90;
     
+    // Marge des bornes de rejet anticipé, pour ne jamais écarter un score à la limite du seuil
+    private static final double BOUND_EPSILON = 1e-9;
+    
     /**
      * Normalise une chaîne pour la comparaison :
      * - Supprime les accents et diacritiques (manuellement)
@@ -24,17 +32,34 @@ public class AnswerMatcher {
             return "";
         }
         
+        char[] normalized = new char[text.length()];
+        int length = normalizeInto(text, normalized);
+        return new String(normalized, 0, length);
+    }
+    
+    /**
+     * Normalise une chaîne dans un tableau de caractères
+     * 
+     * @param text Le texte à normaliser (non null)
+     * @param out Le tableau de destination, d'au moins text.length() caractères
+     * @return Le nombre de caractères écrits
+     */
+    private static int normalizeInto(String text, char[] out) {
         // Normalisation en un seul parcours pour optimiser les performances
-        StringBuilder sb = new StringBuilder();
+        int length = 0;
         for (int i = 0; i < text.length(); i++) {
-            char c = text.charAt(i);
-            char normalized = normalizeChar(c);
+            char normalized = normalizeChar(text.charAt(i));
             if (normalized != 0) {
-                sb.append(normalized);
+                out[length++] = normalized;
             }
         }
-        
-        return sb.toString();
+        return length;
+    }
+    
+    private static char[] normalizeToArray(String text) {
+        char[] buffer = new char[text.length()];
+        int length = normalizeInto(text, buffer);
+        return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
     }
     
     /**
@@ -162,78 +187,81 @@ public class AnswerMatcher {
     }
     
     /**
-     * Calcule la distance de Levenshtein entre deux chaînes
+     * Calcule la distance de Levenshtein entre deux chaînes normalisées sur deux lignes
+     * (mémoire proportionnelle à lenB). Abandonne dès que la distance dépasse maxDistance.
      * Implémentation 100% compatible GWT
-     * 
-     * @param s1 Première chaîne
-     * @param s2 Deuxième chaîne
-     * @return La distance de Levenshtein
+     *
+     * @param a Première chaîne (réponse)
+     * @param lenA Longueur utile de a
+     * @param b Deuxième chaîne (saisie)
+     * @param lenB Longueur utile de b
+     * @param scratch Tampons de travail
+     * @param maxDistance Distance au-delà de laquelle le calcul est abandonné
+     * @return La distance de Levenshtein, ou -1 si elle dépasse maxDistance
      */
-    private static int levenshteinDistance(String s1, String s2) {
-        int len1 = s1.length();
-        int len2 = s2.length();
-        
-        if (len1 == 0) return len2;
-        if (len2 == 0) return len1;
-        
-        int[][] matrix = new int[len1 + 1][len2 + 1];
-        
-        // Initialiser la première ligne et colonne
-        for (int i = 0; i <= len1; i++) {
-            matrix[i][0] = i;
-        }
-        for (int j = 0; j <= len2; j++) {
-            matrix[0][j] = j;
+    private static int levenshteinDistance(char[] a, int lenA, char[] b, int lenB, Scratch scratch, int maxDistance) {
+        if (lenA == 0) return lenB <= maxDistance ? lenB : -1;
+        if (lenB == 0) return lenA <= maxDistance ? lenA : -1;
+        
+        int[] previous = scratch.previous;
+        int[] current = scratch.current;
+        for (int j = 0; j <= lenB; j++) {
+            previous[j] = j;
         }
         
-        // Calculer la distance
-        for (int i = 1; i <= len1; i++) {
-            for (int j = 1; j <= len2; j++) {
-                int cost = (s1.charAt(i - 1) == s2.charAt(j - 1)) ? 0 : 1;
-                matrix[i][j] = Math.min(
-                    Math.min(matrix[i - 1][j] + 1, matrix[i][j - 1] + 1),
-                    matrix[i - 1][j - 1] + cost
-                );
+        for (int i = 1; i <= lenA; i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            char c = a[i - 1];
+            for (int j = 1; j <= lenB; j++) {
+                int cost = (c == b[j - 1]) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                current[j] = value;
+                if (value < rowMinimum) {
+                    rowMinimum = value;
+                }
+            }
+            // Le minimum d'une ligne ne peut que croître : inutile de continuer
+            if (rowMinimum > maxDistance) {
+                return -1;
             }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
         }
         
-        return matrix[len1][len2];
+        return previous[lenB] <= maxDistance ? previous[lenB] : -1;
     }
     
     /**
-     * Calcule la similarité de Jaro-Winkler entre deux chaînes
+     * Calcule la similarité de Jaro-Winkler entre deux chaînes normalisées différentes
      * Implémentation 100% compatible GWT
-     * 
-     * @param s1 Première chaîne
-     * @param s2 Deuxième chaîne
+     *
      * @return Le score de similarité Jaro-Winkler (0.0 à 1.0)
      */
-    private static double jaroWinklerSimilarity(String s1, String s2) {
-        if (s1.equals(s2)) return 1.0;
-        
-        int len1 = s1.length();
-        int len2 = s2.length();
+    private static double jaroWinklerSimilarity(char[] a, int lenA, char[] b, int lenB, Scratch scratch) {
+        if (lenA == 0 || lenB == 0) return 0.0;
         
-        if (len1 == 0 || len2 == 0) return 0.0;
-        
-        int matchWindow = Math.max(len1, len2) / 2 - 1;
+        int matchWindow = Math.max(lenA, lenB) / 2 - 1;
         if (matchWindow < 0) matchWindow = 0;
         
-        boolean[] s1Matches = new boolean[len1];
-        boolean[] s2Matches = new boolean[len2];
+        boolean[] aMatches = scratch.matchesA;
+        boolean[] bMatches = scratch.matchesB;
+        Arrays.fill(aMatches, 0, lenA, false);
+        Arrays.fill(bMatches, 0, lenB, false);
         
         int matches = 0;
         int transpositions = 0;
         
         // Trouver les correspondances
-        for (int i = 0; i < len1; i++) {
+        for (int i = 0; i < lenA; i++) {
             int start = Math.max(0, i - matchWindow);
-            int end = Math.min(i + matchWindow + 1, len2);
+            int end = Math.min(i + matchWindow + 1, lenB);
             
             for (int j = start; j < end; j++) {
-                if (s2Matches[j] || s1.charAt(i) != s2.charAt(j)) continue;
-                s1Matches[i] = true;
-                s2Matches[j] = true;
+                if (bMatches[j] || a[i] != b[j]) continue;
+                aMatches[i] = true;
+                bMatches[j] = true;
                 matches++;
                 break;
             }
@@ -243,21 +271,21 @@ public class AnswerMatcher {
         
         // Compter les transpositions
         int k = 0;
-        for (int i = 0; i < len1; i++) {
-            if (!s1Matches[i]) continue;
-            while (!s2Matches[k]) k++;
-            if (s1.charAt(i) != s2.charAt(k)) transpositions++;
+        for (int i = 0; i < lenA; i++) {
+            if (!aMatches[i]) continue;
+            while (!bMatches[k]) k++;
+            if (a[i] != b[k]) transpositions++;
             k++;
         }
         
-        double jaro = (matches / (double) len1 + matches / (double) len2 + 
+        double jaro = (matches / (double) lenA + matches / (double) lenB + 
                       (matches - transpositions / 2.0) / matches) / 3.0;
         
         // Appliquer le bonus Winkler pour les préfixes communs
         int prefixLength = 0;
-        int maxPrefix = Math.min(4, Math.min(len1, len2));
+        int maxPrefix = Math.min(4, Math.min(lenA, lenB));
         for (int i = 0; i < maxPrefix; i++) {
-            if (s1.charAt(i) == s2.charAt(i)) {
+            if (a[i] == b[i]) {
                 prefixLength++;
             } else {
                 break;
@@ -267,6 +295,72 @@ public class AnswerMatcher {
         return jaro + (0.1 * prefixLength * (1.0 - jaro));
     }
     
+    /**
+     * Calcule le score pondéré entre une réponse et une saisie déjà normalisées.
+     * Si minScore est positif, retourne 0.0 dès qu'il est certain que le score ne l'atteindra pas :
+     * d'abord par l'écart de longueur (avant tout calcul), puis en bornant la distance de Levenshtein.
+     *
+     * @param minScore Score en dessous duquel la valeur exacte n'est pas utile, 0 pour toujours la calculer
+     * @return Le score de similarité, ou 0.0 s'il est certainement inférieur à minScore
+     */
+    private static double score(char[] answer, int answerLength, char[] input, int inputLength, Scratch scratch, double minScore) {
+        // Vérification exacte
+        if (answerLength == inputLength && equals(answer, input, answerLength)) {
+            return 1.0;
+        }
+        
+        int maxLength = Math.max(answerLength, inputLength);
+        int lengthDiff = Math.abs(answerLength - inputLength);
+        // Pénalité si les longueurs sont très différentes (max de 30%)
+        double lengthPenalty = 1.0 - (double) lengthDiff / maxLength * 0.3;
+        
+        // Meilleur score possible : Jaro-Winkler parfait et distance égale à l'écart de longueur
+        if (minScore > 0 && (0.6 + 0.4 * (1.0 - (double) lengthDiff / maxLength)) * lengthPenalty < minScore - BOUND_EPSILON) {
+            return 0.0;
+        }
+        
+        scratch.ensure(maxLength);
+        
+        // Jaro-Winkler comme score principal (plus précis pour les noms)
+        double jaroScore = jaroWinklerSimilarity(answer, answerLength, input, inputLength, scratch);
+        
+        // Distance maximale permettant encore d'atteindre minScore (avec une marge d'un caractère)
+        int maxDistance = maxLength;
+        if (minScore > 0) {
+            double neededLevenshtein = (minScore / lengthPenalty - jaroScore * 0.6) / 0.4;
+            if (neededLevenshtein > 1.0 + BOUND_EPSILON) {
+                return 0.0;
+            }
+            if (neededLevenshtein > 0) {
+                maxDistance = Math.min(maxLength, (int) Math.floor((1.0 - neededLevenshtein) * maxLength) + 1);
+            }
+            if (maxDistance < lengthDiff) {
+                return 0.0;
+            }
+        }
+        
+        // Levenshtein comme score secondaire
+        int distance = levenshteinDistance(answer, answerLength, input, inputLength, scratch, maxDistance);
+        if (distance < 0) {
+            return 0.0;
+        }
+        double levenshteinScore = 1.0 - (double) distance / maxLength;
+        
+        // Moyenne pondérée pour être plus strict : Jaro-Winkler 0.6, Levenshtein 0.4
+        double weightedScore = (jaroScore * 0.6) + (levenshteinScore * 0.4);
+        weightedScore *= lengthPenalty;
+        
+        return weightedScore;
+    }
+    
+    private static boolean equals(char[] a, char[] b, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
     
     /**
      * Calcule le score de similarité entre deux chaînes (0.0 à 1.0)
@@ -280,39 +374,32 @@ public class AnswerMatcher {
             return 0.0;
         }
         
-        String normalizedAnswer = normalize(answer);
-        String normalizedInput = normalize(userInput);
-        
-        // Vérification exacte
-        if (normalizedAnswer.equals(normalizedInput)) {
-            return 1.0;
-        }
-        
-        // Utiliser Jaro-Winkler comme score principal (plus précis pour les noms)
-        double jaroScore = jaroWinklerSimilarity(normalizedAnswer, normalizedInput);
-        
-        // Utiliser Levenshtein comme score secondaire
-        int distance = levenshteinDistance(normalizedAnswer, normalizedInput);
-        int maxLength = Math.max(normalizedAnswer.length(), normalizedInput.length());
-        double levenshteinScore = maxLength > 0 ? 1.0 - (double) distance / maxLength : 1.0;
-        
-        // Utiliser la moyenne pondérée pour être plus strict
-        // Jaro-Winkler a un poids de 0.6, Levenshtein de 0.4
-        double weightedScore = (jaroScore * 0.6) + (levenshteinScore * 0.4);
-        
-        // Appliquer une pénalité si les longueurs sont très différentes
-        int lengthDiff = Math.abs(normalizedAnswer.length() - normalizedInput.length());
-        int maxLen = Math.max(normalizedAnswer.length(), normalizedInput.length());
-        if (maxLen > 0) {
-            double lengthPenalty = 1.0 - (double) lengthDiff / maxLen * 0.3; // Pénalité max de 30%
-            weightedScore *= lengthPenalty;
+        char[] normalizedAnswer = normalizeToArray(answer);
+        Scratch scratch = new Scratch(normalizedAnswer.length);
+        int inputLength = scratch.normalizeInput(userInput);
+        return score(normalizedAnswer, normalizedAnswer.length, scratch.input, inputLength, scratch, 0.0);
+    }
+    
+    /**
+     * Compile une réponse et ses alternatives pour les comparer ensuite sans allocation.
+     * 
+     * @param answer La réponse principale
+     * @param alternatives Les réponses alternatives (peut être null)
+     * @return L'ensemble de réponses compilé
+     */
+    public static AnswerSet compile(String answer, String[] alternatives) {
+        int alternativeCount = alternatives != null ? alternatives.length : 0;
+        String[] answers = new String[1 + alternativeCount];
+        answers[0] = answer;
+        if (alternativeCount > 0) {
+            System.arraycopy(alternatives, 0, answers, 1, alternativeCount);
         }
-        
-        return weightedScore;
+        return new AnswerSet(answers);
     }
     
     /**
      * Vérifie si une réponse utilisateur correspond à une liste de réponses acceptables
+     * Compile la liste à chaque appel : préférer compile() lorsque les réponses sont connues à l'avance
      * 
      * @param userInput La réponse de l'utilisateur
      * @param acceptableAnswers Les réponses acceptables
@@ -322,30 +409,7 @@ public class AnswerMatcher {
         if (userInput == null || acceptableAnswers == null) {
             return false;
         }
-        
-        // Log de debug pour voir l'évaluation de chaque alternative
-        com.badlogic.gdx.Gdx.app.log("AnswerMatcher", "=== ÉVALUATION DES RÉPONSES ===");
-        com.badlogic.gdx.Gdx.app.log("AnswerMatcher", "Input utilisateur: '" + userInput + "'");
-        com.badlogic.gdx.Gdx.app.log("AnswerMatcher", "Seuil de similarité: " + GwtCompatibleFormatter.formatFloat((float)SIMILARITY_THRESHOLD, 2));
-        
-        boolean foundMatch = false;
-        for (int i = 0; i < acceptableAnswers.length; i++) {
-            String answer = acceptableAnswers[i];
-            double score = getSimilarityScore(answer, userInput);
-            boolean isMatch = score >= SIMILARITY_THRESHOLD;
-            
-            com.badlogic.gdx.Gdx.app.log("AnswerMatcher", "  [" + (i+1) + "] '" + answer + "' -> score: " + 
-                GwtCompatibleFormatter.formatFloat((float)score, 3) + " " + (isMatch ? "✓ ACCEPTÉ" : "✗ REJETÉ"));
-            
-            if (isMatch) {
-                foundMatch = true;
-            }
-        }
-        
-        com.badlogic.gdx.Gdx.app.log("AnswerMatcher", "Résultat final: " + (foundMatch ? "CORRESPONDANCE TROUVÉE" : "AUCUNE CORRESPONDANCE"));
-        com.badlogic.gdx.Gdx.app.log("AnswerMatcher", "========================================");
-        
-        return foundMatch;
+        return new AnswerSet(acceptableAnswers).matches(userInput);
     }
     
     /**
@@ -360,16 +424,10 @@ public class AnswerMatcher {
             return null;
         }
         
-        String bestMatch = null;
-        double bestScore = 0.0;
-        
-        for (String answer : possibleAnswers) {
-            double score = getSimilarityScore(answer, userInput);
-            if (score > bestScore) {
-                bestScore = score;
-                bestMatch = answer;
-            }
-        }
+        AnswerSet answerSet = new AnswerSet(possibleAnswers);
+        int best = answerSet.findBest(userInput);
+        String bestMatch = best >= 0 ? possibleAnswers[best] : null;
+        double bestScore = best >= 0 ? answerSet.bestScore : 0.0;
         
         // Retourner la meilleure correspondance seulement si elle dépasse le seuil
         return bestScore >= SIMILARITY_THRESHOLD ? bestMatch : null;
@@ -388,16 +446,10 @@ public class AnswerMatcher {
             return new MatchResult(null, 0.0);
         }
         
-        String bestMatch = null;
-        double bestScore = 0.0;
-        
-        for (String answer : possibleAnswers) {
-            double score = getSimilarityScore(answer, userInput);
-            if (score > bestScore) {
-                bestScore = score;
-                bestMatch = answer;
-            }
-        }
+        AnswerSet answerSet = new AnswerSet(possibleAnswers);
+        int best = answerSet.findBest(userInput);
+        String bestMatch = best >= 0 ? possibleAnswers[best] : null;
+        double bestScore = best >= 0 ? answerSet.bestScore : 0.0;
         
         return new MatchResult(bestMatch, bestScore);
     }
@@ -414,4 +466,152 @@ public class AnswerMatcher {
             this.score = score;
         }
     }
+    
+    /**
+     * Ensemble de réponses acceptables normalisées une seule fois (au chargement de la question).
+     * La comparaison n'alloue pas : la saisie est normalisée dans les tampons de l'ensemble.
+     * Non partageable entre threads (un ensemble par écran).
+     */
+    public static class AnswerSet {
+        private final String[] answers;
+        private final char[][] normalizedAnswers;
+        private final Scratch scratch;
+        private double bestScore;
+        
+        /**
+         * @param acceptableAnswers Les réponses acceptables (les valeurs null sont ignorées)
+         */
+        public AnswerSet(String[] acceptableAnswers) {
+            this.answers = acceptableAnswers;
+            this.normalizedAnswers = new char[acceptableAnswers.length][];
+            int maxLength = 0;
+            for (int i = 0; i < acceptableAnswers.length; i++) {
+                if (acceptableAnswers[i] != null) {
+                    normalizedAnswers[i] = normalizeToArray(acceptableAnswers[i]);
+                    maxLength = Math.max(maxLength, normalizedAnswers[i].length);
+                }
+            }
+            this.scratch = new Scratch(maxLength);
+        }
+        
+        /**
+         * Vérifie si la saisie correspond à l'une des réponses
+         * 
+         * @param userInput La réponse de l'utilisateur
+         * @return true si une correspondance est trouvée
+         */
+        public boolean matches(String userInput) {
+            if (userInput == null) {
+                return false;
+            }
+            
+            boolean logging = isDebugLogging();
+            if (logging) {
+                Gdx.app.log("AnswerMatcher", "=== ÉVALUATION DES RÉPONSES ===");
+                Gdx.app.log("AnswerMatcher", "Input utilisateur: '" + userInput + "'");
+                Gdx.app.log("AnswerMatcher", "Seuil de similarité: " + GwtCompatibleFormatter.formatFloat((float)SIMILARITY_THRESHOLD, 2));
+            }
+            
+            int inputLength = scratch.normalizeInput(userInput);
+            // Les scores exacts ne servent qu'aux logs : sinon, rejet anticipé sous le seuil
+            double minScore = logging ? 0.0 : SIMILARITY_THRESHOLD;
+            
+            boolean foundMatch = false;
+            for (int i = 0; i < normalizedAnswers.length; i++) {
+                char[] answer = normalizedAnswers[i];
+                double score = answer != null ? score(answer, answer.length, scratch.input, inputLength, scratch, minScore) : 0.0;
+                boolean isMatch = score >= SIMILARITY_THRESHOLD;
+                
+                if (logging) {
+                    Gdx.app.log("AnswerMatcher", "  [" + (i+1) + "] '" + answers[i] + "' -> score: " + 
+                        GwtCompatibleFormatter.formatFloat((float)score, 3) + " " + (isMatch ? "✓ ACCEPTÉ" : "✗ REJETÉ"));
+                }
+                
+                if (isMatch) {
+                    foundMatch = true;
+                    if (!logging) {
+                        break;
+                    }
+                }
+            }
+            
+            if (logging) {
+                Gdx.app.log("AnswerMatcher", "Résultat final: " + (foundMatch ? "CORRESPONDANCE TROUVÉE" : "AUCUNE CORRESPONDANCE"));
+                Gdx.app.log("AnswerMatcher", "========================================");
+            }
+            
+            return foundMatch;
+        }
+        
+        /**
+         * Cherche la réponse au meilleur score (sans seuil), le score est conservé dans bestScore
+         * 
+         * @return L'index de la meilleure réponse, ou -1 si aucun score n'est positif
+         */
+        private int findBest(String userInput) {
+            int inputLength = scratch.normalizeInput(userInput);
+            int best = -1;
+            bestScore = 0.0;
+            for (int i = 0; i < normalizedAnswers.length; i++) {
+                char[] answer = normalizedAnswers[i];
+                if (answer == null) {
+                    continue;
+                }
+                double score = score(answer, answer.length, scratch.input, inputLength, scratch, 0.0);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+    
+    /**
+     * Tampons de travail de la comparaison, agrandis à la demande
+     * (GWT ne fournit pas ThreadLocal : chaque AnswerSet possède les siens)
+     */
+    private static class Scratch {
+        private char[] input;
+        private int[] previous;
+        private int[] current;
+        private boolean[] matchesA;
+        private boolean[] matchesB;
+        
+        Scratch(int capacity) {
+            input = new char[Math.max(capacity, 16)];
+            allocate(input.length);
+        }
+        
+        /**
+         * Normalise la saisie dans le tampon input
+         * @return La longueur normalisée
+         */
+        int normalizeInput(String text) {
+            if (input.length < text.length()) {
+                input = new char[text.length()];
+            }
+            return normalizeInto(text, input);
+        }
+        
+        void ensure(int size) {
+            if (matchesA.length < size) {
+                allocate(Math.max(size, matchesA.length * 2));
+            }
+        }
+        
+        private void allocate(int capacity) {
+            previous = new int[capacity + 1];
+            current = new int[capacity + 1];
+            matchesA = new boolean[capacity];
+            matchesB = new boolean[capacity];
+        }
+    }
+    
+    /**
+     * Indique si le détail des comparaisons doit être écrit dans le log
+     */
+    private static boolean isDebugLogging() {
+        return Config.getInstance().isLogAnswerMatching();
+    }
 }
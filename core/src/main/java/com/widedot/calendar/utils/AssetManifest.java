@@ -0,0 +1,129 @@
+package com.widedot.calendar.utils;
+
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Array;
+import com.widedot.calendar.data.Theme;
+
+/**
+ * Liste des ressources nécessaires à un écran.
+ * Le manifeste est acquis auprès du ResourceManager avant l'affichage de l'écran
+ * (chargement asynchrone) puis libéré quand l'écran est détruit.
+ */
+public class AssetManifest {
+    private final Array<AssetDescriptor<?>> assets;
+    // Tableaux chargés progressivement par le PaintingStreamer (desktop)
+    private final Array<Theme> streamedPaintings;
+
+    public AssetManifest() {
+        assets = new Array<>();
+        streamedPaintings = new Array<>();
+    }
+
+    /**
+     * Ajoute une texture au manifeste (ignorée si le chemin est vide ou déjà présent)
+     */
+    public AssetManifest texture(String path) {
+        return add(path, Texture.class);
+    }
+
+    /**
+     * Ajoute le tableau d'un thème au manifeste : le palier adapté à l'écran, avec mipmaps
+     * (voir PaintingTextures), chargé progressivement quand la plateforme le permet (PaintingStreamer)
+     * @param theme Le thème, ignoré si null ou sans image
+     */
+    public AssetManifest painting(Theme theme) {
+        if (theme == null || theme.getFullImagePath() == null || theme.getFullImagePath().isEmpty()) {
+            return this;
+        }
+        if (PaintingStreamer.getInstance().isEnabled()) {
+            if (!streamedPaintings.contains(theme, true)) {
+                streamedPaintings.add(theme);
+            }
+            return this;
+        }
+        return add(PaintingTextures.resolve(theme.getFullImagePath()), Texture.class, PaintingTextures.getParameters());
+    }
+
+    /**
+     * Ajoute un son au manifeste
+     */
+    public AssetManifest sound(String path) {
+        return add(path, Sound.class);
+    }
+
+    /**
+     * Ajoute une musique au manifeste
+     */
+    public AssetManifest music(String path) {
+        return add(path, Music.class);
+    }
+
+    /**
+     * Ajoute un atlas de textures au manifeste
+     */
+    public AssetManifest atlas(String path) {
+        return add(path, TextureAtlas.class);
+    }
+
+    /**
+     * Ajoute toutes les ressources d'un autre manifeste
+     */
+    public AssetManifest addAll(AssetManifest other) {
+        if (other != null) {
+            for (AssetDescriptor<?> descriptor : other.assets) {
+                add(descriptor.fileName, descriptor.type, descriptor.params);
+            }
+            for (Theme theme : other.streamedPaintings) {
+                if (!streamedPaintings.contains(theme, true)) {
+                    streamedPaintings.add(theme);
+                }
+            }
+        }
+        return this;
+    }
+
+    private AssetManifest add(String path, Class<?> type) {
+        return add(path, type, null);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private AssetManifest add(String path, Class<?> type, AssetLoaderParameters<?> params) {
+        if (path == null || path.isEmpty() || contains(path)) {
+            return this;
+        }
+        assets.add(new AssetDescriptor(path, type, params));
+        return this;
+    }
+
+    /**
+     * Vérifie si une ressource fait partie du manifeste
+     */
+    public boolean contains(String path) {
+        for (int i = 0; i < assets.size; i++) {
+            if (assets.get(i).fileName.equals(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Array<AssetDescriptor<?>> getAssets() {
+        return assets;
+    }
+
+    /**
+     * Tableaux à acquérir auprès du PaintingStreamer plutôt que de l'AssetManager
+     */
+    public Array<Theme> getStreamedPaintings() {
+        return streamedPaintings;
+    }
+
+    public int size() {
+        return assets.size + streamedPaintings.size;
+    }
+}
@@ -0,0 +1,472 @@
+package com.widedot.calendar.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.GLOnlyTextureData;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.widedot.calendar.data.Theme;
+import com.widedot.calendar.platform.PlatformFactory;
+import com.widedot.calendar.platform.PlatformSpecific;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Chargement progressif des tableaux, sur les plateformes qui décodent les images hors du
+ * thread de rendu (PlatformSpecific.canDecodeInBackground(), desktop).
+ * À l'acquisition, l'icône du tableau et l'image (palier choisi par PaintingTextures) sont décodées
+ * sur des threads de travail. Dès que l'icône est prête, la texture est créée à sa taille finale
+ * et l'icône y est dessinée comme aperçu : l'écran peut s'afficher. L'image est ensuite envoyée au
+ * GPU par bandes horizontales (glTexSubImage2D), dans un budget de temps par frame, puis les mipmaps
+ * sont générées. La texture ne change jamais d'identité : les TextureRegion des écrans restent valides.
+ * Les textures sont partagées et comptées par référence, comme les ressources du ResourceManager.
+ */
+public class PaintingStreamer {
+    private static PaintingStreamer instance;
+
+    // Lignes envoyées au GPU par bande
+    private static final int BAND_ROWS = 64;
+    // Temps d'envoi maximal par frame
+    private static final long UPLOAD_BUDGET_NANOS = 4000000L;
+
+    /**
+     * Un tableau en cours de chargement ou chargé
+     */
+    private static final class Entry {
+        final String path;
+        final Theme theme;
+        int references;
+        // Au-delà, les résultats des threads de travail sont libérés dès leur arrivée
+        boolean disposed;
+        boolean complete;
+
+        // Remplis par les threads de travail
+        Pixmap icon;
+        Pixmap image;
+        boolean iconFailed;
+        volatile RuntimeException imageError;
+
+        // Thread de rendu
+        int width;
+        int height;
+        Texture texture;
+        int uploadedRows;
+
+        Entry(String path, Theme theme) {
+            this.path = path;
+            this.theme = theme;
+        }
+
+        boolean isDiscarding() {
+            return disposed || complete;
+        }
+    }
+
+    private final PlatformSpecific platform;
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+    private final Array<Entry> streaming = new Array<>();
+    private final IntBuffer savedViewport = BufferUtils.newIntBuffer(16);
+    private final Matrix4 projection = new Matrix4();
+    private final Matrix4 savedProjection = new Matrix4();
+
+    private PaintingStreamer() {
+        platform = PlatformFactory.getPlatform();
+    }
+
+    /**
+     * Récupère l'instance unique du chargeur progressif
+     * @return L'instance
+     */
+    public static PaintingStreamer getInstance() {
+        if (instance == null) {
+            instance = new PaintingStreamer();
+        }
+        return instance;
+    }
+
+    /**
+     * @return true si les tableaux sont chargés progressivement sur cette plateforme
+     */
+    public boolean isEnabled() {
+        return platform.canDecodeInBackground();
+    }
+
+    /**
+     * Acquiert le tableau d'un thème : le décodage démarre au premier appel
+     * @param theme Le thème du tableau
+     */
+    public void acquire(Theme theme) {
+        String path = PaintingTextures.resolve(theme.getFullImagePath());
+        Entry entry = entries.get(path);
+        if (entry != null) {
+            entry.references++;
+            return;
+        }
+
+        final Entry created = new Entry(path, theme);
+        created.references = 1;
+        entries.put(path, created);
+        streaming.add(created);
+
+        // L'aperçu n'est possible que si la taille finale est connue d'avance (manifeste des paliers)
+        int[] size = PaintingTextures.getSize(theme.getFullImagePath());
+        FileHandle iconFile = Gdx.files.internal(getIconPath(theme));
+        if (size != null && theme.getSquareCrop() != null && iconFile.exists()) {
+            created.width = size[0];
+            created.height = size[1];
+            platform.decodeInBackground(iconFile, (pixmap, error) -> {
+                synchronized (created) {
+                    if (created.isDiscarding()) {
+                        if (pixmap != null) pixmap.dispose();
+                        return;
+                    }
+                    created.icon = pixmap;
+                    created.iconFailed = pixmap == null;
+                }
+            });
+        } else {
+            created.iconFailed = true;
+        }
+        platform.decodeInBackground(Gdx.files.internal(path), (pixmap, error) -> {
+            synchronized (created) {
+                if (created.isDiscarding()) {
+                    if (pixmap != null) pixmap.dispose();
+                    return;
+                }
+                created.image = pixmap;
+                created.imageError = error;
+            }
+        });
+    }
+
+    /**
+     * Libère le tableau d'un thème acquis avec acquire()
+     * @param theme Le thème du tableau
+     */
+    public void release(Theme theme) {
+        String path = PaintingTextures.resolve(theme.getFullImagePath());
+        Entry entry = entries.get(path);
+        if (entry == null || --entry.references > 0) {
+            return;
+        }
+        entries.remove(path);
+        streaming.removeValue(entry, true);
+        dispose(entry);
+    }
+
+    /**
+     * Indique si le tableau d'un thème peut être affiché (aperçu ou image complète)
+     */
+    public boolean isReady(Theme theme) {
+        Entry entry = entries.get(PaintingTextures.resolve(theme.getFullImagePath()));
+        return entry != null && (entry.texture != null || entry.imageError != null);
+    }
+
+    /**
+     * Indique si le tableau d'un thème est entièrement envoyé au GPU (plus d'aperçu ni de bande
+     * manquante). Un tableau qui n'est pas chargé progressivement est toujours complet.
+     * Les rendus dérivés mis en cache (niveaux de cristallisation) doivent l'attendre.
+     */
+    public boolean isComplete(Theme theme) {
+        Entry entry = entries.get(PaintingTextures.resolve(theme.getFullImagePath()));
+        return entry == null || entry.complete;
+    }
+
+    /**
+     * @return true si tous les tableaux acquis peuvent être affichés
+     */
+    public boolean isReady() {
+        for (int i = 0; i < streaming.size; i++) {
+            Entry entry = streaming.get(i);
+            if (entry.texture == null && entry.imageError == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Texture d'un tableau acquis. Si elle n'existe pas encore, l'image est décodée et envoyée
+     * immédiatement (bloquant) : les écrans doivent attendre isReady().
+     * Un tableau dont le décodage a échoué garde son aperçu, ou à défaut une texture de remplacement.
+     * @param path Le chemin résolu par PaintingTextures
+     * @return La texture, ou null si le tableau n'est pas géré par le chargeur progressif
+     */
+    public Texture getTexture(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.texture == null) {
+            Pixmap pixmap;
+            synchronized (entry) {
+                pixmap = entry.image;
+                entry.image = null;
+                // Les décodages encore en cours seront libérés à leur arrivée
+                entry.complete = true;
+            }
+            streaming.removeValue(entry, true);
+            if (entry.imageError != null) {
+                Gdx.app.error("PaintingStreamer", "Erreur de décodage de " + path + ": " + entry.imageError.getMessage());
+                fail(entry);
+                return entry.texture;
+            }
+            if (pixmap == null) {
+                Gdx.app.log("PaintingStreamer", "Tableau pas encore prêt, chargement synchrone: " + path);
+                try {
+                    pixmap = new Pixmap(Gdx.files.internal(path));
+                } catch (GdxRuntimeException e) {
+                    Gdx.app.error("PaintingStreamer", "Erreur de décodage de " + path + ": " + e.getMessage());
+                    fail(entry);
+                    return entry.texture;
+                }
+            }
+            entry.width = pixmap.getWidth();
+            entry.height = pixmap.getHeight();
+            createTexture(entry);
+            uploadRows(entry, pixmap, entry.height);
+            pixmap.dispose();
+            finish(entry);
+        }
+        return entry.texture;
+    }
+
+    /**
+     * Avance les chargements en cours : création des aperçus et envoi des bandes.
+     * À appeler une fois par frame, hors de batch.begin()/end().
+     * @param batch Le batch partagé du RenderContext, qui dessine les aperçus
+     */
+    public void update(SpriteBatch batch) {
+        if (streaming.size == 0) {
+            return;
+        }
+        long start = TimeUtils.nanoTime();
+        for (int i = streaming.size - 1; i >= 0; i--) {
+            Entry entry = streaming.get(i);
+            if (step(entry, start, batch)) {
+                streaming.removeIndex(i);
+            }
+            if (TimeUtils.nanoTime() - start > UPLOAD_BUDGET_NANOS) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Avance un chargement
+     * @return true si le tableau est complètement chargé (ou en erreur)
+     */
+    private boolean step(Entry entry, long start, SpriteBatch batch) {
+        Pixmap icon;
+        Pixmap image;
+        boolean iconFailed;
+        synchronized (entry) {
+            icon = entry.icon;
+            entry.icon = null;
+            image = entry.image;
+            iconFailed = entry.iconFailed;
+        }
+        if (entry.imageError != null) {
+            Gdx.app.error("PaintingStreamer", "Erreur de décodage de " + entry.path + ": " + entry.imageError.getMessage());
+            if (icon != null) {
+                // L'aperçu est la meilleure image disponible
+                if (entry.texture == null) {
+                    createTexture(entry);
+                    drawPreview(entry, icon, batch);
+                }
+                icon.dispose();
+            }
+            fail(entry);
+            return true;
+        }
+
+        if (entry.texture == null) {
+            if (icon != null) {
+                createTexture(entry);
+                drawPreview(entry, icon, batch);
+                icon.dispose();
+            } else if (iconFailed && image != null) {
+                // Pas d'aperçu : la texture est créée avec l'image
+                entry.width = image.getWidth();
+                entry.height = image.getHeight();
+                createTexture(entry);
+            } else {
+                return false;
+            }
+        }
+        if (image == null) {
+            return false;
+        }
+
+        // Bandes suivantes, tant que le budget de la frame le permet
+        while (entry.uploadedRows < entry.height && TimeUtils.nanoTime() - start <= UPLOAD_BUDGET_NANOS) {
+            uploadRows(entry, image, BAND_ROWS);
+        }
+        if (entry.uploadedRows < entry.height) {
+            return false;
+        }
+        synchronized (entry) {
+            entry.image = null;
+            entry.complete = true;
+        }
+        image.dispose();
+        finish(entry);
+        return true;
+    }
+
+    /**
+     * Termine un chargement en erreur : le tableau est marqué complet pour ne plus être décodé,
+     * l'aperçu est gardé s'il existe, sinon la texture est remplacée par un pixel noir
+     */
+    private void fail(Entry entry) {
+        synchronized (entry) {
+            entry.complete = true;
+        }
+        if (entry.texture == null) {
+            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixmap.setColor(0, 0, 0, 1);
+            pixmap.fill();
+            entry.texture = new Texture(pixmap);
+            pixmap.dispose();
+        }
+    }
+
+    /**
+     * Crée la texture vide à la taille finale, remplie ensuite par bandes
+     */
+    private void createTexture(Entry entry) {
+        entry.texture = new Texture(new GLOnlyTextureData(entry.width, entry.height, 0,
+            GL20.GL_RGBA, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE));
+        entry.texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+    }
+
+    /**
+     * Envoie les lignes suivantes de l'image (ordre du Pixmap : la première ligne est le haut de l'image)
+     */
+    private void uploadRows(Entry entry, Pixmap image, int rows) {
+        int count = Math.min(rows, entry.height - entry.uploadedRows);
+        int bytesPerRow = entry.width * bytesPerPixel(image.getFormat());
+        ByteBuffer pixels = image.getPixels();
+        pixels.position(entry.uploadedRows * bytesPerRow);
+        entry.texture.bind();
+        Gdx.gl.glPixelStorei(GL20.GL_UNPACK_ALIGNMENT, 1);
+        Gdx.gl.glTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, entry.uploadedRows, entry.width, count,
+            image.getGLFormat(), image.getGLType(), pixels);
+        pixels.position(0);
+        entry.uploadedRows += count;
+    }
+
+    private void finish(Entry entry) {
+        if (PaintingTextures.getParameters().genMipMaps) {
+            entry.texture.bind();
+            Gdx.gl.glGenerateMipmap(GL20.GL_TEXTURE_2D);
+            entry.texture.setFilter(PaintingTextures.getParameters().minFilter, PaintingTextures.getParameters().magFilter);
+        }
+        Gdx.app.log("PaintingStreamer", "Tableau chargé: " + entry.path);
+    }
+
+    /**
+     * Dessine l'icône dans la texture vide : agrandie sans déformation pour couvrir toute l'image
+     * (carré centré sur le recadrage, le surplus tombe hors de la texture), puis exacte dans le
+     * recadrage carré dont elle est tirée
+     */
+    private void drawPreview(Entry entry, Pixmap icon, SpriteBatch batch) {
+        Texture iconTexture = new Texture(icon);
+        iconTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        Theme.CropInfo crop = PaintingTextures.scaleCrop(entry.theme, entry.texture);
+        int coverSide = Math.max(entry.width, entry.height);
+        float coverX = MathUtils.clamp(crop.getX() + crop.getWidth() / 2f - coverSide / 2f, entry.width - coverSide, 0);
+        float coverY = MathUtils.clamp(crop.getY() + crop.getHeight() / 2f - coverSide / 2f, entry.height - coverSide, 0);
+
+        Gdx.gl.glGetIntegerv(GL20.GL_VIEWPORT, savedViewport);
+        int frameBuffer = Gdx.gl.glGenFramebuffer();
+        Gdx.gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, frameBuffer);
+        Gdx.gl.glFramebufferTexture2D(GL20.GL_FRAMEBUFFER, GL20.GL_COLOR_ATTACHMENT0, GL20.GL_TEXTURE_2D,
+            entry.texture.getTextureObjectHandle(), 0);
+        Gdx.gl.glViewport(0, 0, entry.width, entry.height);
+
+        // Le batch est partagé : sa projection et sa couleur sont rendues à l'écran ensuite
+        savedProjection.set(batch.getProjectionMatrix());
+        float savedColor = batch.getPackedColor();
+        batch.setColor(Color.WHITE);
+        // y = 0 correspond à la première ligne de la texture, c'est-à-dire au haut de l'image : dessiner retourné
+        batch.setProjectionMatrix(projection.setToOrtho2D(0, 0, entry.width, entry.height));
+        batch.disableBlending();
+        batch.begin();
+        batch.draw(iconTexture, coverX, coverY, coverSide, coverSide, 0, 0, icon.getWidth(), icon.getHeight(), false, true);
+        batch.draw(iconTexture, crop.getX(), crop.getY(), crop.getWidth(), crop.getHeight(), 0, 0, icon.getWidth(), icon.getHeight(), false, true);
+        batch.end();
+        batch.enableBlending();
+        batch.setPackedColor(savedColor);
+        batch.setProjectionMatrix(savedProjection);
+
+        Gdx.gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 0);
+        Gdx.gl.glDeleteFramebuffer(frameBuffer);
+        Gdx.gl.glViewport(savedViewport.get(0), savedViewport.get(1), savedViewport.get(2), savedViewport.get(3));
+        iconTexture.dispose();
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    /**
+     * Chemin de l'icône d'un tableau (même convention que l'écran du calendrier)
+     */
+    private static String getIconPath(Theme theme) {
+        return theme.getFullImagePath().replace("full", "icon").replace(".jpg", ".png");
+    }
+
+    private void dispose(Entry entry) {
+        synchronized (entry) {
+            entry.disposed = true;
+            if (entry.icon != null) {
+                entry.icon.dispose();
+                entry.icon = null;
+            }
+            if (entry.image != null) {
+                entry.image.dispose();
+                entry.image = null;
+            }
+        }
+        if (entry.texture != null) {
+            entry.texture.dispose();
+            entry.texture = null;
+        }
+    }
+
+    /**
+     * Libère tous les tableaux
+     */
+    public void dispose() {
+        for (Entry entry : entries.values()) {
+            dispose(entry);
+        }
+        entries.clear();
+        streaming.clear();
+        instance = null;
+    }
+}
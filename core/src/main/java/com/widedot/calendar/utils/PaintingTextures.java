@@ -0,0 +1,194 @@
+package com.widedot.calendar.utils;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.TextureLoader;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.data.Theme;
+
+import java.nio.IntBuffer;
+
+/**
+ * Choix de la version à charger pour les tableaux (images/paintings/full).
+ * L'outil PaintingTierBuilder écrit des paliers réduits (1024, 2048, 4096 pixels de côté)
+ * et un manifeste ; le plus petit palier qui couvre l'écran est chargé, avec mipmaps,
+ * à la place d'une source qui peut dépasser 5000 pixels.
+ * Le choix est fait une fois par tableau et pour toute la session, à partir de la plus grande
+ * surface d'affichage possible (back-buffer courant ou écran entier), afin que le manifeste
+ * d'un écran et ses appels à getPainting() désignent toujours le même fichier ; la texture
+ * est ainsi partagée par tous les écrans via le ResourceManager.
+ * Sans manifeste (outil non exécuté), les sources sont chargées telles quelles.
+ */
+public final class PaintingTextures {
+    private static final String MANIFEST_PATH = "images/paintings/tiers/manifest.json";
+
+    /**
+     * Palier ou source d'un tableau
+     */
+    private static final class Variant {
+        final String path;
+        final int width;
+        final int height;
+
+        Variant(String path, int width, int height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    /**
+     * Source d'un tableau et ses paliers, du plus petit au plus grand
+     */
+    private static final class Painting {
+        final Variant source;
+        final Array<Variant> tiers = new Array<>();
+        Variant selected;
+
+        Painting(Variant source) {
+            this.source = source;
+        }
+    }
+
+    private static ObjectMap<String, Painting> paintings;
+    private static TextureLoader.TextureParameter parameters;
+
+    private PaintingTextures() {
+    }
+
+    /**
+     * Chemin du fichier à charger pour un tableau
+     * @param fullImagePath Le chemin de la source (Theme.getFullImagePath())
+     * @return Le chemin du palier choisi, ou la source si aucun palier n'est connu
+     */
+    public static String resolve(String fullImagePath) {
+        Painting painting = getPaintings().get(fullImagePath);
+        if (painting == null) {
+            return fullImagePath;
+        }
+        if (painting.selected == null) {
+            painting.selected = select(painting);
+            if (painting.selected != painting.source) {
+                Gdx.app.log("PaintingTextures", fullImagePath + " : palier " + painting.selected.width + "x"
+                    + painting.selected.height + " au lieu de " + painting.source.width + "x" + painting.source.height);
+            }
+        }
+        return painting.selected.path;
+    }
+
+    /**
+     * Taille du fichier choisi par resolve() pour un tableau
+     * @param fullImagePath Le chemin de la source
+     * @return {largeur, hauteur}, ou null si le tableau n'est pas dans le manifeste des paliers
+     */
+    public static int[] getSize(String fullImagePath) {
+        Painting painting = getPaintings().get(fullImagePath);
+        if (painting == null) {
+            return null;
+        }
+        resolve(fullImagePath);
+        return new int[] {painting.selected.width, painting.selected.height};
+    }
+
+    /**
+     * Paramètres de chargement des tableaux : mipmaps quand la plateforme les permet sur des
+     * textures de taille quelconque (pas en WebGL 1)
+     */
+    public static TextureLoader.TextureParameter getParameters() {
+        if (parameters == null) {
+            parameters = new TextureLoader.TextureParameter();
+            boolean mipMaps = Gdx.app.getType() != Application.ApplicationType.WebGL || Gdx.graphics.isGL30Available();
+            parameters.genMipMaps = mipMaps;
+            parameters.minFilter = mipMaps ? Texture.TextureFilter.MipMapLinearLinear : Texture.TextureFilter.Linear;
+            parameters.magFilter = Texture.TextureFilter.Linear;
+        }
+        return parameters;
+    }
+
+    /**
+     * Met un recadrage exprimé en pixels de la source (themes.json) à l'échelle de la texture chargée
+     * @param theme Le thème du tableau
+     * @param texture La texture obtenue par ResourceManager.getPainting()
+     * @return Le recadrage à appliquer à la texture, ou null si le thème n'en a pas
+     */
+    public static Theme.CropInfo scaleCrop(Theme theme, Texture texture) {
+        Theme.CropInfo crop = theme.getSquareCrop();
+        if (crop == null) {
+            return null;
+        }
+        Painting painting = getPaintings().get(theme.getFullImagePath());
+        if (painting == null || texture.getWidth() == painting.source.width) {
+            return crop;
+        }
+        float scaleX = (float) texture.getWidth() / painting.source.width;
+        float scaleY = (float) texture.getHeight() / painting.source.height;
+        return new Theme.CropInfo(Math.round(crop.getX() * scaleX), Math.round(crop.getY() * scaleY),
+            Math.round(crop.getWidth() * scaleX), Math.round(crop.getHeight() * scaleY), crop.getMatchPercentage());
+    }
+
+    private static Variant select(Painting painting) {
+        // Le tableau est affiché au plus à la taille de l'écran : son plus grand côté suffit
+        int needed = Math.max(Math.max(Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight()),
+            Math.max(Gdx.graphics.getDisplayMode().width, Gdx.graphics.getDisplayMode().height));
+        int maxTextureSize = getMaxTextureSize();
+
+        Variant best = null;
+        for (Variant tier : painting.tiers) {
+            int side = Math.max(tier.width, tier.height);
+            if (side > maxTextureSize) {
+                break;
+            }
+            best = tier;
+            if (side >= needed) {
+                return tier;
+            }
+        }
+        // Aucun palier ne couvre l'écran : la source, si le GPU l'accepte
+        if (Math.max(painting.source.width, painting.source.height) <= maxTextureSize || best == null) {
+            return painting.source;
+        }
+        return best;
+    }
+
+    private static int getMaxTextureSize() {
+        IntBuffer buffer = BufferUtils.newIntBuffer(16);
+        Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_SIZE, buffer);
+        int size = buffer.get(0);
+        return size > 0 ? size : Integer.MAX_VALUE;
+    }
+
+    private static ObjectMap<String, Painting> getPaintings() {
+        if (paintings != null) {
+            return paintings;
+        }
+        paintings = new ObjectMap<>();
+        FileHandle file = Gdx.files.internal(MANIFEST_PATH);
+        if (!file.exists()) {
+            Gdx.app.log("PaintingTextures", "Pas de paliers (" + MANIFEST_PATH + " absent), chargement des sources");
+            return paintings;
+        }
+        try {
+            JsonValue root = new JsonReader().parse(file);
+            for (JsonValue entry = root.getChild("paintings"); entry != null; entry = entry.next) {
+                Painting painting = new Painting(new Variant(entry.getString("source"),
+                    entry.getInt("width"), entry.getInt("height")));
+                for (JsonValue tier = entry.getChild("tiers"); tier != null; tier = tier.next) {
+                    painting.tiers.add(new Variant(tier.getString("path"), tier.getInt("width"), tier.getInt("height")));
+                }
+                paintings.put(painting.source.path, painting);
+            }
+            Gdx.app.log("PaintingTextures", paintings.size + " tableaux avec paliers");
+        } catch (RuntimeException e) {
+            Gdx.app.error("PaintingTextures", "Manifeste des paliers illisible, chargement des sources: " + e.getMessage());
+            paintings.clear();
+        }
+        return paintings;
+    }
+}
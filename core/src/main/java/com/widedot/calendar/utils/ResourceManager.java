@@ -1,37 +1,37 @@
 package com.widedot.calendar.utils;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetDescriptor;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.widedot.calendar.data.Theme;
 
 /**
- * Gestionnaire de ressources pour le jeu
- * Charge et gère les textures, sons, polices, etc.
+ * Gestionnaire de ressources pour le jeu, basé sur l'AssetManager de libGDX.
+ * Les écrans déclarent leurs ressources dans un AssetManifest : acquire() met le chargement
+ * en file, update(budgetMs) l'avance par tranches de temps (appelé par TransitionScreen),
+ * release() décrémente les compteurs de références et libère les ressources inutilisées.
+ * Compatible GWT/HTML (l'AssetManager charge de manière asynchrone sur toutes les plateformes).
+ * Sur desktop, les tableaux des manifestes passent par le PaintingStreamer : ils sont prêts dès
+ * que leur aperçu est dessiné, l'image complète arrivant ensuite sur quelques frames.
  */
 public class ResourceManager {
     private static ResourceManager instance;
-    
-    private final ObjectMap<String, Texture> textures;
-    private final ObjectMap<String, Sound> sounds;
-    private final ObjectMap<String, Music> music;
-    private final ObjectMap<String, BitmapFont> fonts;
-    private final ObjectMap<String, TextureAtlas> textureAtlases;
-    
+
+    private final AssetManager assetManager;
+
     /**
      * Constructeur privé pour le pattern Singleton
      */
     private ResourceManager() {
-        textures = new ObjectMap<>();
-        sounds = new ObjectMap<>();
-        music = new ObjectMap<>();
-        fonts = new ObjectMap<>();
-        textureAtlases = new ObjectMap<>();
+        assetManager = new AssetManager();
     }
-    
+
     /**
      * Récupère l'instance unique de ResourceManager (pattern Singleton)
      * @return L'instance de ResourceManager
@@ -42,94 +42,193 @@ public class ResourceManager {
         }
         return instance;
     }
-    
+
+    /**
+     * Acquiert les ressources d'un manifeste : chaque ressource voit son compteur de références incrémenté.
+     * Les ressources absentes sont mises en file de chargement (voir update()).
+     * @param manifest Le manifeste à acquérir
+     */
+    public void acquire(AssetManifest manifest) {
+        if (manifest == null) return;
+        for (AssetDescriptor<?> descriptor : manifest.getAssets()) {
+            if (assetManager.isLoaded(descriptor.fileName, descriptor.type)) {
+                // Déjà chargée : incrémenter directement le compteur, sans passer par la file
+                assetManager.setReferenceCount(descriptor.fileName, assetManager.getReferenceCount(descriptor.fileName) + 1);
+            } else {
+                assetManager.load(descriptor);
+            }
+        }
+        for (Theme theme : manifest.getStreamedPaintings()) {
+            PaintingStreamer.getInstance().acquire(theme);
+        }
+    }
+
     /**
-     * Charge une texture depuis un fichier
+     * Libère les ressources d'un manifeste acquis avec acquire().
+     * Une ressource n'est détruite que lorsque plus aucun manifeste ne la référence.
+     * @param manifest Le manifeste à libérer
+     */
+    public void release(AssetManifest manifest) {
+        if (manifest == null) return;
+        for (AssetDescriptor<?> descriptor : manifest.getAssets()) {
+            if (assetManager.contains(descriptor.fileName) || assetManager.isLoaded(descriptor.fileName)) {
+                assetManager.unload(descriptor.fileName);
+            }
+        }
+        for (Theme theme : manifest.getStreamedPaintings()) {
+            PaintingStreamer.getInstance().release(theme);
+        }
+    }
+
+    /**
+     * Avance le chargement en file pendant au plus budgetMs millisecondes
+     * (le budget peut être dépassé par la tâche en cours, typiquement l'envoi d'une texture au GPU).
+     * @param budgetMs Budget de temps en millisecondes
+     * @return true si toutes les ressources en file sont chargées
+     */
+    public boolean update(int budgetMs) {
+        try {
+            return assetManager.update(budgetMs) && PaintingStreamer.getInstance().isReady();
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("ResourceManager", "Erreur lors du chargement d'une ressource: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Vérifie si toutes les ressources d'un manifeste sont chargées
+     */
+    public boolean isLoaded(AssetManifest manifest) {
+        if (manifest == null) return true;
+        for (AssetDescriptor<?> descriptor : manifest.getAssets()) {
+            if (!assetManager.isLoaded(descriptor.fileName, descriptor.type)) {
+                return false;
+            }
+        }
+        for (Theme theme : manifest.getStreamedPaintings()) {
+            if (!PaintingStreamer.getInstance().isReady(theme)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Progression du chargement en file, entre 0 et 1
+     */
+    public float getProgress() {
+        return assetManager.getProgress();
+    }
+
+    /**
+     * Récupère une ressource. Si elle n'est pas encore chargée, elle est chargée de manière
+     * synchrone (bloquante) : les écrans doivent acquérir leur manifeste au préalable.
+     * Une ressource jamais acquise reste en mémoire jusqu'à dispose().
+     * @param path Chemin de la ressource
+     * @param type Type de la ressource
+     * @return La ressource chargée
+     */
+    public <T> T get(String path, Class<T> type) {
+        if (!assetManager.isLoaded(path, type)) {
+            if (!assetManager.contains(path)) {
+                Gdx.app.log("ResourceManager", "Ressource hors manifeste, chargement synchrone: " + path);
+                assetManager.load(path, type);
+            } else {
+                Gdx.app.log("ResourceManager", "Ressource pas encore prête, chargement synchrone: " + path);
+            }
+            assetManager.finishLoadingAsset(path);
+        }
+        return assetManager.get(path, type);
+    }
+
+    /**
+     * Récupère une texture
      * @param path Chemin vers le fichier de texture
      * @return La texture chargée
      */
     public Texture getTexture(String path) {
-        if (!textures.containsKey(path)) {
-            textures.put(path, new Texture(Gdx.files.internal(path)));
+        return get(path, Texture.class);
+    }
+
+    /**
+     * Récupère un tableau, dans la version choisie par PaintingTextures (à déclarer dans le
+     * manifeste de l'écran avec AssetManifest.painting())
+     * @param fullImagePath Le chemin de la source (Theme.getFullImagePath())
+     * @return La texture du tableau, partagée par tous les écrans
+     */
+    public Texture getPainting(String fullImagePath) {
+        String path = PaintingTextures.resolve(fullImagePath);
+        Texture streamed = PaintingStreamer.getInstance().getTexture(path);
+        if (streamed != null) {
+            return streamed;
         }
-        return textures.get(path);
+        if (!assetManager.contains(path)) {
+            // Hors manifeste : charger tout de même avec les paramètres des tableaux (mipmaps)
+            Gdx.app.log("ResourceManager", "Tableau hors manifeste, chargement synchrone: " + path);
+            assetManager.load(path, Texture.class, PaintingTextures.getParameters());
+        }
+        return get(path, Texture.class);
     }
-    
+
     /**
-     * Charge un son depuis un fichier
+     * Indique si la texture renvoyée par getPainting() contient l'image complète. Sur desktop,
+     * elle peut encore n'être qu'un aperçu en cours de chargement progressif (PaintingStreamer).
+     * @param theme Le thème du tableau
+     * @return true si le tableau est complet
+     */
+    public boolean isPaintingComplete(Theme theme) {
+        return PaintingStreamer.getInstance().isComplete(theme);
+    }
+
+    /**
+     * Récupère un son
      * @param path Chemin vers le fichier de son
      * @return Le son chargé
      */
     public Sound getSound(String path) {
-        if (!sounds.containsKey(path)) {
-            sounds.put(path, Gdx.audio.newSound(Gdx.files.internal(path)));
-        }
-        return sounds.get(path);
+        return get(path, Sound.class);
     }
-    
+
     /**
-     * Charge une musique depuis un fichier
+     * Récupère une musique
      * @param path Chemin vers le fichier de musique
      * @return La musique chargée
      */
     public Music getMusic(String path) {
-        if (!music.containsKey(path)) {
-            music.put(path, Gdx.audio.newMusic(Gdx.files.internal(path)));
-        }
-        return music.get(path);
+        return get(path, Music.class);
+    }
+
+    /**
+     * Récupère un atlas de textures
+     * @param path Chemin vers le fichier d'atlas
+     * @return L'atlas chargé
+     */
+    public TextureAtlas getTextureAtlas(String path) {
+        return get(path, TextureAtlas.class);
     }
-    
+
     /**
-     * Charge une police depuis un fichier
+     * Récupère une police
      * @param path Chemin vers le fichier de police
      * @return La police chargée
      */
     public BitmapFont getFont(String path) {
-        if (!fonts.containsKey(path)) {
-            fonts.put(path, new BitmapFont(Gdx.files.internal(path)));
-        }
-        return fonts.get(path);
+        return get(path, BitmapFont.class);
     }
-    
+
     /**
-     * Charge un atlas de textures depuis un fichier
-     * @param path Chemin vers le fichier d'atlas
-     * @return L'atlas chargé
+     * Accès à l'AssetManager sous-jacent (diagnostic)
      */
-    public TextureAtlas getTextureAtlas(String path) {
-        if (!textureAtlases.containsKey(path)) {
-            textureAtlases.put(path, new TextureAtlas(Gdx.files.internal(path)));
-        }
-        return textureAtlases.get(path);
+    public AssetManager getAssetManager() {
+        return assetManager;
     }
-    
+
     /**
      * Libère toutes les ressources
      */
     public void dispose() {
-        for (Texture texture : textures.values()) {
-            texture.dispose();
-        }
-        textures.clear();
-        
-        for (Sound sound : sounds.values()) {
-            sound.dispose();
-        }
-        sounds.clear();
-        
-        for (Music music : music.values()) {
-            music.dispose();
-        }
-        music.clear();
-        
-        for (BitmapFont font : fonts.values()) {
-            font.dispose();
-        }
-        fonts.clear();
-        
-        for (TextureAtlas atlas : textureAtlases.values()) {
-            atlas.dispose();
-        }
-        textureAtlases.clear();
+        assetManager.dispose();
+        PaintingStreamer.getInstance().dispose();
+        instance = null;
     }
-} 
\ No newline at end of file
+}
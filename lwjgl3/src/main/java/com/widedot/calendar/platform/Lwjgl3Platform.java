@@ -2,15 +2,36 @@ package com.widedot.calendar.platform;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonWriter;
 import com.badlogic.gdx.Net;
 import com.badlogic.gdx.net.HttpRequestBuilder;
 import com.badlogic.gdx.Application.ApplicationType;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 public class Lwjgl3Platform implements PlatformSpecific {
     private Json json;
     private FileHandle dataDir;
+    private com.sun.management.ThreadMXBean allocationBean;
+    // Thread unique pour les écritures disque : les tâches s'exécutent dans l'ordre de soumission
+    private ExecutorService backgroundExecutor;
+    // Scrutation des assets modifiés (rechargement à chaud de la configuration)
+    private ScheduledExecutorService watchExecutor;
+    private static final long WATCH_INTERVAL_MS = 1000;
+    // Calculs découpés en tranches (traitement d'image), un thread par cœur
+    private ExecutorService parallelExecutor;
+    private int parallelism;
+    // Image decoding (paintings streamed in by PaintingStreamer)
+    private ExecutorService decodeExecutor;
+    private static final int DECODE_THREADS = 2;
 
     @Override
     public void initialize() {
@@ -20,11 +41,57 @@ public class Lwjgl3Platform implements PlatformSpecific {
         if (!dataDir.exists()) {
             dataDir.mkdirs();
         }
+
+        // Mesure des allocations par thread (HotSpot/OpenJDK uniquement)
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+            if (bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                allocationBean = bean;
+            }
+        }
+
+        backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "calendar-background");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        decodeExecutor = Executors.newFixedThreadPool(DECODE_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "calendar-decode");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        parallelism = Runtime.getRuntime().availableProcessors();
+        if (parallelism > 1) {
+            parallelExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "calendar-parallel");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
     }
 
     @Override
     public void dispose() {
-        // Nothing to dispose
+        if (backgroundExecutor != null) {
+            backgroundExecutor.shutdown();
+            backgroundExecutor = null;
+        }
+        if (watchExecutor != null) {
+            watchExecutor.shutdownNow();
+            watchExecutor = null;
+        }
+        if (parallelExecutor != null) {
+            parallelExecutor.shutdownNow();
+            parallelExecutor = null;
+        }
+        if (decodeExecutor != null) {
+            decodeExecutor.shutdownNow();
+            decodeExecutor = null;
+        }
     }
 
     @Override
@@ -90,4 +157,133 @@ public class Lwjgl3Platform implements PlatformSpecific {
     public String getDeviceVersion() {
         return String.valueOf(Gdx.app.getVersion());
     }
-} 
\ No newline at end of file
+
+    @Override
+    public long getAllocatedBytes() {
+        if (allocationBean == null) {
+            return -1;
+        }
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @Override
+    public void runInBackground(Runnable task) {
+        if (backgroundExecutor == null) {
+            task.run();
+            return;
+        }
+        backgroundExecutor.execute(task);
+    }
+
+    @Override
+    public void watchFiles(String[] internalPaths, Runnable onChange) {
+        // Seuls les assets présents sur disque sont surveillés (pas ceux du classpath d'un jar)
+        final FileHandle[] files = new FileHandle[internalPaths.length];
+        final long[] stamps = new long[internalPaths.length];
+        int watched = 0;
+        for (int i = 0; i < internalPaths.length; i++) {
+            FileHandle file = Gdx.files.internal(internalPaths[i]);
+            if (file.file().isFile()) {
+                files[i] = file;
+                stamps[i] = file.lastModified();
+                watched++;
+            }
+        }
+        if (watched == 0) {
+            return;
+        }
+
+        if (watchExecutor == null) {
+            watchExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "calendar-file-watch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        watchExecutor.scheduleWithFixedDelay(() -> {
+            boolean changed = false;
+            for (int i = 0; i < files.length; i++) {
+                if (files[i] == null) continue;
+                long stamp = files[i].lastModified();
+                if (stamp != stamps[i]) {
+                    stamps[i] = stamp;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                try {
+                    onChange.run();
+                } catch (RuntimeException e) {
+                    Gdx.app.error("Lwjgl3Platform", "Error while handling file change", e);
+                }
+            }
+        }, WATCH_INTERVAL_MS, WATCH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        Gdx.app.log("Lwjgl3Platform", "Watching " + watched + " asset files for changes");
+    }
+
+    @Override
+    public void runParallel(int count, ParallelTask task) {
+        if (parallelExecutor == null || count <= 1) {
+            PlatformSpecific.super.runParallel(count, task);
+            return;
+        }
+        // The calling thread takes the first slice while the pool runs the others
+        final CountDownLatch done = new CountDownLatch(count - 1);
+        final RuntimeException[] failure = new RuntimeException[1];
+        for (int i = 1; i < count; i++) {
+            final int index = i;
+            parallelExecutor.execute(() -> {
+                try {
+                    task.run(index);
+                } catch (RuntimeException e) {
+                    synchronized (failure) {
+                        failure[0] = e;
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        task.run(0);
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for parallel tasks", e);
+        }
+        synchronized (failure) {
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+        }
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public boolean canDecodeInBackground() {
+        return decodeExecutor != null;
+    }
+
+    @Override
+    public void decodeInBackground(FileHandle file, DecodeCallback callback) {
+        if (decodeExecutor == null) {
+            PlatformSpecific.super.decodeInBackground(file, callback);
+            return;
+        }
+        // gdx2d decodes into a native buffer and does not touch OpenGL: safe off the render thread
+        decodeExecutor.execute(() -> {
+            Pixmap pixmap;
+            try {
+                pixmap = new Pixmap(file);
+            } catch (RuntimeException e) {
+                callback.decoded(null, e);
+                return;
+            }
+            callback.decoded(pixmap, null);
+        });
+    }
+}
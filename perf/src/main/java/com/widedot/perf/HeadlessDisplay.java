@@ -0,0 +1,94 @@
+package com.widedot.perf;
+
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.backends.headless.mock.input.MockInput;
+import com.badlogic.gdx.graphics.GL20;
+
+/**
+ * Simulated window of the performance harness: a fixed size display with a fixed frame time,
+ * backed by HeadlessGL, and an input whose processor receives the scripted events.
+ */
+final class HeadlessDisplay {
+    private HeadlessDisplay() {
+    }
+
+    /**
+     * Fixed size window. The frame time is the scripted one, not the wall clock,
+     * so that every run of a screen sees the same sequence of deltas.
+     */
+    static final class DisplayGraphics extends MockGraphics {
+        private final int width;
+        private final int height;
+        private final float deltaTime;
+        private final GL20 gl;
+        private final DisplayMode displayMode;
+
+        DisplayGraphics(int width, int height, float deltaTime) {
+            this.width = width;
+            this.height = height;
+            this.deltaTime = deltaTime;
+            this.gl = new HeadlessGL(width, height);
+            this.displayMode = new DisplayMode(width, height, 60, 32) {
+            };
+        }
+
+        @Override
+        public GL20 getGL20() {
+            return gl;
+        }
+
+        @Override
+        public int getWidth() {
+            return width;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public int getBackBufferWidth() {
+            return width;
+        }
+
+        @Override
+        public int getBackBufferHeight() {
+            return height;
+        }
+
+        @Override
+        public float getDeltaTime() {
+            return deltaTime;
+        }
+
+        @Override
+        public DisplayMode getDisplayMode() {
+            return displayMode;
+        }
+
+        @Override
+        public boolean supportsExtension(String extension) {
+            // Mipmaps generated by glGenerateMipmap rather than on the CPU, as on a real desktop GPU
+            return extension.contains("framebuffer_object");
+        }
+    }
+
+    /**
+     * Input without devices: only keeps the processor set by the screens
+     */
+    static final class ScriptedInput extends MockInput {
+        private InputProcessor processor;
+
+        @Override
+        public void setInputProcessor(InputProcessor processor) {
+            this.processor = processor;
+        }
+
+        @Override
+        public InputProcessor getInputProcessor() {
+            return processor;
+        }
+    }
+}
@@ -0,0 +1,726 @@
+package com.widedot.perf;
+
+import com.badlogic.gdx.graphics.GL20;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Software stand-in for OpenGL ES 2.0, so that the game screens can run without a GPU.
+ * Every call is a no-op except the few the game and libGDX read back: object names are
+ * unique and non-zero, shaders compile and link, framebuffers are complete, and the
+ * viewport / max texture size queries return the values of the simulated display.
+ *
+ * What is measured with it is the CPU side of a frame (game logic, batching, vertex
+ * building), not the GPU work. The calls do not allocate, so that the allocation counts
+ * of the harness only show what the game itself allocates.
+ */
+final class HeadlessGL implements GL20 {
+    private static final int MAX_TEXTURE_SIZE = 8192;
+
+    private final int[] viewport = new int[4];
+    private int nextName = 1;
+
+    HeadlessGL(int width, int height) {
+        viewport[2] = width;
+        viewport[3] = height;
+    }
+
+    // Object names: unique and non-zero (0 means "no object" for libGDX)
+
+    @Override
+    public int glGenTexture() {
+        return nextName++;
+    }
+
+    @Override
+    public int glGenBuffer() {
+        return nextName++;
+    }
+
+    @Override
+    public int glGenFramebuffer() {
+        return nextName++;
+    }
+
+    @Override
+    public int glGenRenderbuffer() {
+        return nextName++;
+    }
+
+    @Override
+    public int glCreateShader(int type) {
+        return nextName++;
+    }
+
+    @Override
+    public int glCreateProgram() {
+        return nextName++;
+    }
+
+    // State read back by the game and libGDX
+
+    @Override
+    public int glCheckFramebufferStatus(int target) {
+        return GL_FRAMEBUFFER_COMPLETE;
+    }
+
+    @Override
+    public void glViewport(int x, int y, int width, int height) {
+        viewport[0] = x;
+        viewport[1] = y;
+        viewport[2] = width;
+        viewport[3] = height;
+    }
+
+    @Override
+    public void glGetShaderiv(int shader, int pname, IntBuffer params) {
+        params.put(params.position(), pname == GL_COMPILE_STATUS ? 1 : 0);
+    }
+
+    @Override
+    public void glGetProgramiv(int program, int pname, IntBuffer params) {
+        // Linked, with no active uniform or attribute to enumerate (locations are queried by name)
+        params.put(params.position(), pname == GL_LINK_STATUS ? 1 : 0);
+    }
+
+    @Override
+    public void glGetIntegerv(int pname, IntBuffer params) {
+        int position = params.position();
+        switch (pname) {
+            case GL_MAX_TEXTURE_SIZE:
+                params.put(position, MAX_TEXTURE_SIZE);
+                break;
+            case GL_VIEWPORT:
+                for (int i = 0; i < 4; i++) {
+                    params.put(position + i, viewport[i]);
+                }
+                break;
+            default:
+                params.put(position, 0);
+                break;
+        }
+    }
+
+    @Override
+    public String glGetString(int name) {
+        return name == GL_VERSION ? "OpenGL ES 2.0 headless" : "headless";
+    }
+
+    @Override
+    public String glGetShaderInfoLog(int shader) {
+        return "";
+    }
+
+    @Override
+    public String glGetProgramInfoLog(int program) {
+        return "";
+    }
+
+    // Everything else: no-op
+
+    @Override
+    public void glActiveTexture(int p0) {
+    }
+
+    @Override
+    public void glBindTexture(int p0, int p1) {
+    }
+
+    @Override
+    public void glBlendFunc(int p0, int p1) {
+    }
+
+    @Override
+    public void glClear(int p0) {
+    }
+
+    @Override
+    public void glClearColor(float p0, float p1, float p2, float p3) {
+    }
+
+    @Override
+    public void glClearDepthf(float p0) {
+    }
+
+    @Override
+    public void glClearStencil(int p0) {
+    }
+
+    @Override
+    public void glColorMask(boolean p0, boolean p1, boolean p2, boolean p3) {
+    }
+
+    @Override
+    public void glCompressedTexImage2D(int p0, int p1, int p2, int p3, int p4, int p5, int p6, Buffer p7) {
+    }
+
+    @Override
+    public void glCompressedTexSubImage2D(int p0, int p1, int p2, int p3, int p4, int p5, int p6, int p7, Buffer p8) {
+    }
+
+    @Override
+    public void glCopyTexImage2D(int p0, int p1, int p2, int p3, int p4, int p5, int p6, int p7) {
+    }
+
+    @Override
+    public void glCopyTexSubImage2D(int p0, int p1, int p2, int p3, int p4, int p5, int p6, int p7) {
+    }
+
+    @Override
+    public void glCullFace(int p0) {
+    }
+
+    @Override
+    public void glDeleteTextures(int p0, IntBuffer p1) {
+    }
+
+    @Override
+    public void glDeleteTexture(int p0) {
+    }
+
+    @Override
+    public void glDepthFunc(int p0) {
+    }
+
+    @Override
+    public void glDepthMask(boolean p0) {
+    }
+
+    @Override
+    public void glDepthRangef(float p0, float p1) {
+    }
+
+    @Override
+    public void glDisable(int p0) {
+    }
+
+    @Override
+    public void glDrawArrays(int p0, int p1, int p2) {
+    }
+
+    @Override
+    public void glDrawElements(int p0, int p1, int p2, Buffer p3) {
+    }
+
+    @Override
+    public void glEnable(int p0) {
+    }
+
+    @Override
+    public void glFinish() {
+    }
+
+    @Override
+    public void glFlush() {
+    }
+
+    @Override
+    public void glFrontFace(int p0) {
+    }
+
+    @Override
+    public void glGenTextures(int p0, IntBuffer p1) {
+    }
+
+    @Override
+    public int glGetError() {
+        return 0;
+    }
+
+    @Override
+    public void glHint(int p0, int p1) {
+    }
+
+    @Override
+    public void glLineWidth(float p0) {
+    }
+
+    @Override
+    public void glPixelStorei(int p0, int p1) {
+    }
+
+    @Override
+    public void glPolygonOffset(float p0, float p1) {
+    }
+
+    @Override
+    public void glReadPixels(int p0, int p1, int p2, int p3, int p4, int p5, Buffer p6) {
+    }
+
+    @Override
+    public void glScissor(int p0, int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glStencilFunc(int p0, int p1, int p2) {
+    }
+
+    @Override
+    public void glStencilMask(int p0) {
+    }
+
+    @Override
+    public void glStencilOp(int p0, int p1, int p2) {
+    }
+
+    @Override
+    public void glTexImage2D(int p0, int p1, int p2, int p3, int p4, int p5, int p6, int p7, Buffer p8) {
+    }
+
+    @Override
+    public void glTexParameterf(int p0, int p1, float p2) {
+    }
+
+    @Override
+    public void glTexSubImage2D(int p0, int p1, int p2, int p3, int p4, int p5, int p6, int p7, Buffer p8) {
+    }
+
+    @Override
+    public void glAttachShader(int p0, int p1) {
+    }
+
+    @Override
+    public void glBindAttribLocation(int p0, int p1, String p2) {
+    }
+
+    @Override
+    public void glBindBuffer(int p0, int p1) {
+    }
+
+    @Override
+    public void glBindFramebuffer(int p0, int p1) {
+    }
+
+    @Override
+    public void glBindRenderbuffer(int p0, int p1) {
+    }
+
+    @Override
+    public void glBlendColor(float p0, float p1, float p2, float p3) {
+    }
+
+    @Override
+    public void glBlendEquation(int p0) {
+    }
+
+    @Override
+    public void glBlendEquationSeparate(int p0, int p1) {
+    }
+
+    @Override
+    public void glBlendFuncSeparate(int p0, int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glBufferData(int p0, int p1, Buffer p2, int p3) {
+    }
+
+    @Override
+    public void glBufferSubData(int p0, int p1, int p2, Buffer p3) {
+    }
+
+    @Override
+    public void glCompileShader(int p0) {
+    }
+
+    @Override
+    public void glDeleteBuffer(int p0) {
+    }
+
+    @Override
+    public void glDeleteBuffers(int p0, IntBuffer p1) {
+    }
+
+    @Override
+    public void glDeleteFramebuffer(int p0) {
+    }
+
+    @Override
+    public void glDeleteFramebuffers(int p0, IntBuffer p1) {
+    }
+
+    @Override
+    public void glDeleteProgram(int p0) {
+    }
+
+    @Override
+    public void glDeleteRenderbuffer(int p0) {
+    }
+
+    @Override
+    public void glDeleteRenderbuffers(int p0, IntBuffer p1) {
+    }
+
+    @Override
+    public void glDeleteShader(int p0) {
+    }
+
+    @Override
+    public void glDetachShader(int p0, int p1) {
+    }
+
+    @Override
+    public void glDisableVertexAttribArray(int p0) {
+    }
+
+    @Override
+    public void glDrawElements(int p0, int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glEnableVertexAttribArray(int p0) {
+    }
+
+    @Override
+    public void glFramebufferRenderbuffer(int p0, int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glFramebufferTexture2D(int p0, int p1, int p2, int p3, int p4) {
+    }
+
+    @Override
+    public void glGenBuffers(int p0, IntBuffer p1) {
+    }
+
+    @Override
+    public void glGenerateMipmap(int p0) {
+    }
+
+    @Override
+    public void glGenFramebuffers(int p0, IntBuffer p1) {
+    }
+
+    @Override
+    public void glGenRenderbuffers(int p0, IntBuffer p1) {
+    }
+
+    @Override
+    public String glGetActiveAttrib(int p0, int p1, IntBuffer p2, IntBuffer p3) {
+        return "";
+    }
+
+    @Override
+    public String glGetActiveUniform(int p0, int p1, IntBuffer p2, IntBuffer p3) {
+        return "";
+    }
+
+    @Override
+    public void glGetAttachedShaders(int p0, int p1, Buffer p2, IntBuffer p3) {
+    }
+
+    @Override
+    public int glGetAttribLocation(int p0, String p1) {
+        return 0;
+    }
+
+    @Override
+    public void glGetBooleanv(int p0, Buffer p1) {
+    }
+
+    @Override
+    public void glGetBufferParameteriv(int p0, int p1, IntBuffer p2) {
+    }
+
+    @Override
+    public void glGetFloatv(int p0, FloatBuffer p1) {
+    }
+
+    @Override
+    public void glGetFramebufferAttachmentParameteriv(int p0, int p1, int p2, IntBuffer p3) {
+    }
+
+    @Override
+    public void glGetRenderbufferParameteriv(int p0, int p1, IntBuffer p2) {
+    }
+
+    @Override
+    public void glGetShaderPrecisionFormat(int p0, int p1, IntBuffer p2, IntBuffer p3) {
+    }
+
+    @Override
+    public void glGetTexParameterfv(int p0, int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glGetTexParameteriv(int p0, int p1, IntBuffer p2) {
+    }
+
+    @Override
+    public void glGetUniformfv(int p0, int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glGetUniformiv(int p0, int p1, IntBuffer p2) {
+    }
+
+    @Override
+    public int glGetUniformLocation(int p0, String p1) {
+        return 0;
+    }
+
+    @Override
+    public void glGetVertexAttribfv(int p0, int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glGetVertexAttribiv(int p0, int p1, IntBuffer p2) {
+    }
+
+    @Override
+    public void glGetVertexAttribPointerv(int p0, int p1, Buffer p2) {
+    }
+
+    @Override
+    public boolean glIsBuffer(int p0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsEnabled(int p0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsFramebuffer(int p0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsProgram(int p0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsRenderbuffer(int p0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsShader(int p0) {
+        return false;
+    }
+
+    @Override
+    public boolean glIsTexture(int p0) {
+        return false;
+    }
+
+    @Override
+    public void glLinkProgram(int p0) {
+    }
+
+    @Override
+    public void glReleaseShaderCompiler() {
+    }
+
+    @Override
+    public void glRenderbufferStorage(int p0, int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glSampleCoverage(float p0, boolean p1) {
+    }
+
+    @Override
+    public void glShaderBinary(int p0, IntBuffer p1, int p2, Buffer p3, int p4) {
+    }
+
+    @Override
+    public void glShaderSource(int p0, String p1) {
+    }
+
+    @Override
+    public void glStencilFuncSeparate(int p0, int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glStencilMaskSeparate(int p0, int p1) {
+    }
+
+    @Override
+    public void glStencilOpSeparate(int p0, int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glTexParameterfv(int p0, int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glTexParameteri(int p0, int p1, int p2) {
+    }
+
+    @Override
+    public void glTexParameteriv(int p0, int p1, IntBuffer p2) {
+    }
+
+    @Override
+    public void glUniform1f(int p0, float p1) {
+    }
+
+    @Override
+    public void glUniform1fv(int p0, int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glUniform1fv(int p0, int p1, float[] p2, int p3) {
+    }
+
+    @Override
+    public void glUniform1i(int p0, int p1) {
+    }
+
+    @Override
+    public void glUniform1iv(int p0, int p1, IntBuffer p2) {
+    }
+
+    @Override
+    public void glUniform1iv(int p0, int p1, int[] p2, int p3) {
+    }
+
+    @Override
+    public void glUniform2f(int p0, float p1, float p2) {
+    }
+
+    @Override
+    public void glUniform2fv(int p0, int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glUniform2fv(int p0, int p1, float[] p2, int p3) {
+    }
+
+    @Override
+    public void glUniform2i(int p0, int p1, int p2) {
+    }
+
+    @Override
+    public void glUniform2iv(int p0, int p1, IntBuffer p2) {
+    }
+
+    @Override
+    public void glUniform2iv(int p0, int p1, int[] p2, int p3) {
+    }
+
+    @Override
+    public void glUniform3f(int p0, float p1, float p2, float p3) {
+    }
+
+    @Override
+    public void glUniform3fv(int p0, int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glUniform3fv(int p0, int p1, float[] p2, int p3) {
+    }
+
+    @Override
+    public void glUniform3i(int p0, int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void glUniform3iv(int p0, int p1, IntBuffer p2) {
+    }
+
+    @Override
+    public void glUniform3iv(int p0, int p1, int[] p2, int p3) {
+    }
+
+    @Override
+    public void glUniform4f(int p0, float p1, float p2, float p3, float p4) {
+    }
+
+    @Override
+    public void glUniform4fv(int p0, int p1, FloatBuffer p2) {
+    }
+
+    @Override
+    public void glUniform4fv(int p0, int p1, float[] p2, int p3) {
+    }
+
+    @Override
+    public void glUniform4i(int p0, int p1, int p2, int p3, int p4) {
+    }
+
+    @Override
+    public void glUniform4iv(int p0, int p1, IntBuffer p2) {
+    }
+
+    @Override
+    public void glUniform4iv(int p0, int p1, int[] p2, int p3) {
+    }
+
+    @Override
+    public void glUniformMatrix2fv(int p0, int p1, boolean p2, FloatBuffer p3) {
+    }
+
+    @Override
+    public void glUniformMatrix2fv(int p0, int p1, boolean p2, float[] p3, int p4) {
+    }
+
+    @Override
+    public void glUniformMatrix3fv(int p0, int p1, boolean p2, FloatBuffer p3) {
+    }
+
+    @Override
+    public void glUniformMatrix3fv(int p0, int p1, boolean p2, float[] p3, int p4) {
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int p0, int p1, boolean p2, FloatBuffer p3) {
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int p0, int p1, boolean p2, float[] p3, int p4) {
+    }
+
+    @Override
+    public void glUseProgram(int p0) {
+    }
+
+    @Override
+    public void glValidateProgram(int p0) {
+    }
+
+    @Override
+    public void glVertexAttrib1f(int p0, float p1) {
+    }
+
+    @Override
+    public void glVertexAttrib1fv(int p0, FloatBuffer p1) {
+    }
+
+    @Override
+    public void glVertexAttrib2f(int p0, float p1, float p2) {
+    }
+
+    @Override
+    public void glVertexAttrib2fv(int p0, FloatBuffer p1) {
+    }
+
+    @Override
+    public void glVertexAttrib3f(int p0, float p1, float p2, float p3) {
+    }
+
+    @Override
+    public void glVertexAttrib3fv(int p0, FloatBuffer p1) {
+    }
+
+    @Override
+    public void glVertexAttrib4f(int p0, float p1, float p2, float p3, float p4) {
+    }
+
+    @Override
+    public void glVertexAttrib4fv(int p0, FloatBuffer p1) {
+    }
+
+    @Override
+    public void glVertexAttribPointer(int p0, int p1, int p2, boolean p3, int p4, Buffer p5) {
+    }
+
+    @Override
+    public void glVertexAttribPointer(int p0, int p1, int p2, boolean p3, int p4, int p5) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.widedot.perf;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.widedot.calendar.platform.PlatformSpecific;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Platform used by the performance harness and the benchmarks: everything runs synchronously
+ * on the calling thread, saved data stays in memory, and allocations are counted per thread
+ * like on desktop.
+ */
+public class HeadlessPerfPlatform implements PlatformSpecific {
+    private final ObjectMap<String, String> data = new ObjectMap<>();
+    private com.sun.management.ThreadMXBean allocationBean;
+
+    @Override
+    public void initialize() {
+        // Per thread allocation counters (HotSpot/OpenJDK only)
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+            if (bean.isThreadAllocatedMemorySupported()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+                allocationBean = bean;
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        data.clear();
+    }
+
+    @Override
+    public FileHandle getFile(String path) {
+        return Gdx.files.internal(path);
+    }
+
+    @Override
+    public void saveData(String key, String value) {
+        data.put(key, value);
+    }
+
+    @Override
+    public String loadData(String key) {
+        return data.get(key);
+    }
+
+    @Override
+    public boolean isTouchDevice() {
+        return false;
+    }
+
+    @Override
+    public void openURL(String url) {
+    }
+
+    @Override
+    public void share(String text) {
+    }
+
+    @Override
+    public void vibrate(int duration) {
+    }
+
+    @Override
+    public void showKeyboard(boolean show) {
+    }
+
+    @Override
+    public String getDeviceLanguage() {
+        return "en";
+    }
+
+    @Override
+    public String getDeviceModel() {
+        return "headless";
+    }
+
+    @Override
+    public String getDeviceVersion() {
+        return String.valueOf(Gdx.app.getVersion());
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        if (allocationBean == null) {
+            return -1;
+        }
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,78 @@
+package com.widedot.perf;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * Deterministic sequence of player inputs sent to a screen, one step per frame:
+ * a tap (down, drag, up) every TAP_INTERVAL frames somewhere in the central part of the
+ * window, and a typed word validated with ENTER every WORD_INTERVAL frames.
+ * The same seed gives the same events on every run, so runs can be compared.
+ * ESCAPE / BACK are never sent: the screen under test must stay on screen.
+ */
+class InputScript {
+    private static final int TAP_INTERVAL = 15;
+    private static final int WORD_INTERVAL = 90;
+    private static final String[] WORDS = {"monet", "renoir", "vermeer", "soleil", "nuit", "paris"};
+    // Taps stay away from the borders, where the buttons that leave the screen are
+    private static final float MARGIN = 0.1f;
+
+    private final RandomXS128 random;
+    private final int width;
+    private final int height;
+
+    private int tapX;
+    private int tapY;
+    private String word;
+    private int wordFrame;
+
+    InputScript(long seed, int width, int height) {
+        this.random = new RandomXS128(seed);
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Sends the events of a frame to the current input processor
+     * @param frame Frame index, from 0
+     * @param processor The processor of the screen, or null (nothing is sent)
+     */
+    void apply(int frame, InputProcessor processor) {
+        if (processor == null) {
+            return;
+        }
+
+        int tapStep = frame % TAP_INTERVAL;
+        if (tapStep == 0) {
+            tapX = (int) (width * (MARGIN + random.nextFloat() * (1 - 2 * MARGIN)));
+            tapY = (int) (height * (MARGIN + random.nextFloat() * (1 - 2 * MARGIN)));
+            processor.touchDown(tapX, tapY, 0, Input.Buttons.LEFT);
+        } else if (tapStep == 1) {
+            processor.touchDragged(tapX + 4, tapY + 4, 0);
+        } else if (tapStep == 2) {
+            processor.touchUp(tapX + 4, tapY + 4, 0, Input.Buttons.LEFT);
+        }
+
+        // One character per frame, then ENTER
+        if (frame % WORD_INTERVAL == 0) {
+            word = WORDS[random.nextInt(WORDS.length)];
+            wordFrame = frame;
+        }
+        if (word != null) {
+            int index = frame - wordFrame;
+            if (index < word.length()) {
+                typeKey(processor, Input.Keys.A + (word.charAt(index) - 'a'), word.charAt(index));
+            } else {
+                typeKey(processor, Input.Keys.ENTER, '\r');
+                word = null;
+            }
+        }
+    }
+
+    private static void typeKey(InputProcessor processor, int keycode, char character) {
+        processor.keyDown(keycode);
+        processor.keyTyped(character);
+        processor.keyUp(keycode);
+    }
+}
@@ -0,0 +1,266 @@
+package com.widedot.perf;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.utils.Array;
+import com.widedot.calendar.AdventCalendarGame;
+import com.widedot.calendar.config.ConfigRegistry;
+import com.widedot.calendar.config.ConfigSnapshot;
+import com.widedot.calendar.game.DynamicGameScreenFactory;
+import com.widedot.calendar.platform.PlatformFactory;
+import com.widedot.calendar.platform.PlatformInfo;
+import com.widedot.calendar.platform.PlatformRegistry;
+import com.widedot.calendar.platform.PlatformSpecific;
+import com.widedot.calendar.screens.GameScreen;
+import com.widedot.calendar.utils.AssetManifest;
+import com.widedot.calendar.utils.ResourceManager;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Headless performance run of every mini-game screen registered in DynamicGameScreenFactory.
+ *
+ * For each game template, the first day using it is launched the way the game does it:
+ * its asset manifest is loaded through the ResourceManager (asset load time), the screen is
+ * created and shown (creation time), then it is rendered for a number of frames with a fixed
+ * delta while InputScript plays taps and typed answers. The CPU time and the bytes allocated
+ * by the render thread are recorded for each frame, after a warm-up.
+ *
+ * Rendering goes through HeadlessGL (no GPU): the numbers are the CPU cost of a frame.
+ * Must be run from the assets folder. Writes a JSON report and prints a summary; the exit
+ * code is 1 if a screen fails, or if a frame time budget is given and a screen's 95th
+ * percentile exceeds it.
+ *
+ * Usage: ScreenPerfHarness <report.json> [frames] [p95_budget_ms]
+ */
+public class ScreenPerfHarness extends ApplicationAdapter {
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 720;
+    private static final float DELTA_TIME = 1 / 60f;
+    private static final int WARMUP_FRAMES = 60;
+    private static final int DEFAULT_FRAMES = 600;
+    private static final int LOAD_BUDGET_MS = 16;
+    private static final long INPUT_SEED = 0x5EED;
+    // Days searched for a game of each template
+    private static final int MAX_DAY = 366;
+
+    private final File reportFile;
+    private final int frames;
+    private final double p95BudgetMs;
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private volatile int exitCode = 1;
+
+    private HeadlessDisplay.ScriptedInput input;
+    private PlatformSpecific platform;
+    private long allocationOverhead;
+
+    public ScreenPerfHarness(File reportFile, int frames, double p95BudgetMs) {
+        this.reportFile = reportFile;
+        this.frames = frames;
+        this.p95BudgetMs = p95BudgetMs;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 1) {
+            System.err.println("Usage: java ScreenPerfHarness <report.json> [frames] [p95_budget_ms]");
+            System.exit(1);
+        }
+        File reportFile = new File(args[0]);
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FRAMES;
+        double budget = args.length > 2 ? Double.parseDouble(args[2]) : 0;
+
+        ScreenPerfHarness harness = new ScreenPerfHarness(reportFile, frames, budget);
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        // Everything happens in create(): no render loop
+        config.updatesPerSecond = -1;
+        // Keep the player's progression out of the measures
+        config.preferencesDirectory = ".prefs-perf/";
+        new HeadlessApplication(harness, config);
+
+        harness.finished.await();
+        System.exit(harness.exitCode);
+    }
+
+    @Override
+    public void create() {
+        try {
+            exitCode = run();
+        } catch (Throwable e) {
+            System.err.println("Performance run failed: " + e);
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            finished.countDown();
+        }
+    }
+
+    private int run() throws IOException {
+        // Simulated window, GL and input in place of the mock ones of the headless backend
+        HeadlessDisplay.DisplayGraphics graphics = new HeadlessDisplay.DisplayGraphics(WIDTH, HEIGHT, DELTA_TIME);
+        Gdx.graphics = graphics;
+        Gdx.gl = Gdx.gl20 = graphics.getGL20();
+        input = new HeadlessDisplay.ScriptedInput();
+        Gdx.input = input;
+
+        PlatformFactory.setPlatform(new HeadlessPerfPlatform());
+        PlatformRegistry.set(new PlatformInfo() {
+            @Override
+            public boolean isMobileBrowser() {
+                return false;
+            }
+
+            @Override
+            public void onVirtualKeyboardRequest(boolean visible) {
+            }
+        });
+        platform = PlatformFactory.getPlatform();
+        allocationOverhead = measureAllocationOverhead();
+
+        long start = System.nanoTime();
+        ConfigSnapshot config = ConfigRegistry.getInstance().getSnapshot();
+        System.out.println("Configuration loaded in " + ScreenReport.format((System.nanoTime() - start) / 1e6) + " ms");
+
+        AdventCalendarGame game = new AdventCalendarGame();
+        DynamicGameScreenFactory factory = game.getGameScreenFactory();
+        Array<String> templates = factory.getGameTemplates();
+        templates.sort();
+
+        List<ScreenReport> reports = new ArrayList<>();
+        for (String template : templates) {
+            int dayId = findDay(config, template);
+            if (dayId < 0) {
+                System.out.println(template + ": no day uses this game, skipped");
+                continue;
+            }
+            ScreenReport report = new ScreenReport(template, dayId, frames);
+            try {
+                measure(game, factory, report);
+            } catch (RuntimeException e) {
+                report.error = e.toString();
+                e.printStackTrace();
+            }
+            reports.add(report);
+        }
+        game.dispose();
+        PlatformFactory.dispose();
+
+        writeReport(reports);
+        if (reports.isEmpty()) {
+            System.err.println("No screen measured: no day of the configuration uses a registered game");
+            return 1;
+        }
+        return printSummary(reports);
+    }
+
+    private void measure(AdventCalendarGame game, DynamicGameScreenFactory factory, ScreenReport report) {
+        ResourceManager resources = ResourceManager.getInstance();
+
+        // Assets loaded ahead of the screen, as the transition screen does
+        long start = System.nanoTime();
+        AssetManifest manifest = factory.createAssetManifest(report.dayId, report.template);
+        report.assetCount = manifest.size();
+        resources.acquire(manifest);
+        while (!resources.update(LOAD_BUDGET_MS)) {
+            Thread.yield();
+        }
+        report.assetLoadNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        GameScreen screen = factory.createGameScreen(report.dayId, report.template, game);
+        game.setScreen(screen);
+        report.createNanos = System.nanoTime() - start;
+
+        try {
+            InputScript script = new InputScript(INPUT_SEED, WIDTH, HEIGHT);
+            for (int frame = 0; frame < WARMUP_FRAMES + frames; frame++) {
+                script.apply(frame, input.getInputProcessor());
+
+                long allocated = platform.getAllocatedBytes();
+                long frameStart = System.nanoTime();
+                game.render();
+                long nanos = System.nanoTime() - frameStart;
+                long bytes = allocated < 0 ? -1 : Math.max(0, platform.getAllocatedBytes() - allocated - allocationOverhead);
+
+                if (frame >= WARMUP_FRAMES) {
+                    report.addFrame(nanos, bytes);
+                }
+                if (game.getScreen() != screen) {
+                    // The scripted inputs finished the game: the screen handed over to the calendar
+                    report.leftScreen = true;
+                    break;
+                }
+            }
+        } finally {
+            if (game.getScreen() == screen) {
+                game.setScreen(null);
+            }
+            screen.dispose();
+            resources.release(manifest);
+        }
+    }
+
+    private static int findDay(ConfigSnapshot config, String template) {
+        for (int day = 1; day <= MAX_DAY; day++) {
+            if (template.equals(config.getGameTemplateForDay(day))) {
+                return day;
+            }
+        }
+        return -1;
+    }
+
+    private long measureAllocationOverhead() {
+        // Smallest difference between two consecutive reads (the first one may initialise caches)
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = platform.getAllocatedBytes();
+            long end = platform.getAllocatedBytes();
+            best = Math.min(best, end - start);
+        }
+        return Math.max(0, best);
+    }
+
+    private void writeReport(List<ScreenReport> reports) throws IOException {
+        File directory = reportFile.getAbsoluteFile().getParentFile();
+        if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(reportFile), StandardCharsets.UTF_8)) {
+            writer.write(ScreenReport.toJson(reports, WIDTH, HEIGHT, DELTA_TIME));
+        }
+        System.out.println("Report written: " + reportFile.getPath());
+    }
+
+    private int printSummary(List<ScreenReport> reports) {
+        int status = 0;
+        System.out.println();
+        System.out.println(String.format("%-16s %5s %10s %10s %7s %9s %9s %9s %12s",
+            "screen", "day", "load ms", "create ms", "frames", "mean ms", "p95 ms", "max ms", "bytes/frame"));
+        for (ScreenReport report : reports) {
+            if (report.error != null) {
+                System.out.println(String.format("%-16s %5d FAILED: %s", report.template, report.dayId, report.error));
+                status = 1;
+                continue;
+            }
+            double p95 = report.percentileFrameMs(95);
+            System.out.println(String.format("%-16s %5d %10.1f %10.1f %7d %9.3f %9.3f %9.3f %12d%s",
+                report.template, report.dayId, report.assetLoadNanos / 1e6, report.createNanos / 1e6,
+                report.frames, report.meanFrameMs(), p95, report.maxFrameMs(), report.bytesPerFrame(),
+                report.leftScreen ? " (left the screen)" : ""));
+            if (p95BudgetMs > 0 && p95 > p95BudgetMs) {
+                System.out.println("  95th percentile above the budget of " + p95BudgetMs + " ms");
+                status = 1;
+            }
+        }
+        return status;
+    }
+}
@@ -0,0 +1,127 @@
+package com.widedot.perf;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures of one game screen: asset loading, creation, and the CPU time and allocations
+ * of each scripted frame
+ */
+class ScreenReport {
+    final String template;
+    final int dayId;
+    long assetLoadNanos;
+    long createNanos;
+    int assetCount;
+    // Frames actually measured (fewer than requested if the screen was left)
+    int frames;
+    long[] frameNanos;
+    long[] frameBytes;
+    boolean leftScreen;
+    String error;
+
+    ScreenReport(String template, int dayId, int maxFrames) {
+        this.template = template;
+        this.dayId = dayId;
+        this.frameNanos = new long[maxFrames];
+        this.frameBytes = new long[maxFrames];
+    }
+
+    void addFrame(long nanos, long bytes) {
+        frameNanos[frames] = nanos;
+        frameBytes[frames] = bytes;
+        frames++;
+    }
+
+    double meanFrameMs() {
+        return frames == 0 ? 0 : sum(frameNanos) / (double) frames / 1e6;
+    }
+
+    double percentileFrameMs(double percentile) {
+        if (frames == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(frameNanos, frames);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * frames) - 1;
+        return sorted[Math.max(0, Math.min(frames - 1, index))] / 1e6;
+    }
+
+    double maxFrameMs() {
+        long max = 0;
+        for (int i = 0; i < frames; i++) {
+            max = Math.max(max, frameNanos[i]);
+        }
+        return max / 1e6;
+    }
+
+    /**
+     * @return Mean bytes allocated per frame, or -1 if the JVM cannot count allocations
+     */
+    long bytesPerFrame() {
+        if (frames == 0 || frameBytes[0] < 0) {
+            return -1;
+        }
+        return sum(frameBytes) / frames;
+    }
+
+    /**
+     * @return Allocation rate in bytes per second of simulated time, or -1
+     */
+    long bytesPerSecond(float deltaTime) {
+        long perFrame = bytesPerFrame();
+        return perFrame < 0 ? -1 : Math.round(perFrame / (double) deltaTime);
+    }
+
+    private long sum(long[] values) {
+        long total = 0;
+        for (int i = 0; i < frames; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    static String toJson(List<ScreenReport> reports, int width, int height, float deltaTime) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"width\": ").append(width).append(",\n");
+        json.append("  \"height\": ").append(height).append(",\n");
+        json.append("  \"deltaTime\": ").append(deltaTime).append(",\n");
+        json.append("  \"screens\": [");
+        for (int i = 0; i < reports.size(); i++) {
+            ScreenReport report = reports.get(i);
+            json.append(i > 0 ? ",\n" : "\n");
+            json.append("    {\n");
+            json.append("      \"template\": \"").append(report.template).append("\",\n");
+            json.append("      \"day\": ").append(report.dayId).append(",\n");
+            if (report.error != null) {
+                json.append("      \"error\": \"").append(escape(report.error)).append("\"\n");
+            } else {
+                json.append("      \"assets\": ").append(report.assetCount).append(",\n");
+                json.append("      \"assetLoadMs\": ").append(format(report.assetLoadNanos / 1e6)).append(",\n");
+                json.append("      \"createMs\": ").append(format(report.createNanos / 1e6)).append(",\n");
+                json.append("      \"frames\": ").append(report.frames).append(",\n");
+                json.append("      \"leftScreen\": ").append(report.leftScreen).append(",\n");
+                json.append("      \"frameMeanMs\": ").append(format(report.meanFrameMs())).append(",\n");
+                json.append("      \"frameP50Ms\": ").append(format(report.percentileFrameMs(50))).append(",\n");
+                json.append("      \"frameP95Ms\": ").append(format(report.percentileFrameMs(95))).append(",\n");
+                json.append("      \"frameP99Ms\": ").append(format(report.percentileFrameMs(99))).append(",\n");
+                json.append("      \"frameMaxMs\": ").append(format(report.maxFrameMs())).append(",\n");
+                json.append("      \"bytesPerFrame\": ").append(report.bytesPerFrame()).append(",\n");
+                json.append("      \"bytesPerSecond\": ").append(report.bytesPerSecond(deltaTime)).append("\n");
+            }
+            json.append("    }");
+        }
+        json.append(reports.isEmpty() ? "]\n" : "\n  ]\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    static String format(double value) {
+        return String.valueOf(Math.round(value * 1000) / 1000.0);
+    }
+
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,137 @@
+package com.widedot.tools;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Packs the calendar screen images into texture atlases so that a calendar frame
+ * is drawn with a couple of texture binds instead of one per door.
+ *
+ * Input : <assets_dir>/images/calendar (mask, shadow, arrow, door-N),
+ *         <assets_dir>/images/ui (buttons) and <assets_dir>/images/paintings/icon
+ * Output: <atlas_dir>/calendar.atlas (calendar and UI images, region names without extension,
+ *         UI buttons prefixed with "ui/") and <atlas_dir>/icons.atlas (painting icons, downscaled)
+ */
+public class CalendarAtlasPacker {
+    private static final int MAX_PAGE_SIZE = 4096;
+    // Icons are drawn inside doors about 200 world units wide: half of the 696px source is plenty
+    private static final int ICON_MAX_SIZE = 348;
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: java CalendarAtlasPacker <assets_dir> <atlas_dir>");
+            System.exit(1);
+        }
+
+        File assetsDir = new File(args[0]);
+        File atlasDir = new File(args[1]);
+
+        try {
+            packCalendar(assetsDir, atlasDir);
+            packIcons(assetsDir, atlasDir);
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static void packCalendar(File assetsDir, File atlasDir) throws IOException {
+        File calendarDir = new File(assetsDir, "images/calendar");
+        File uiDir = new File(assetsDir, "images/ui");
+
+        TexturePacker packer = new TexturePacker(createSettings());
+        int count = addImages(packer, calendarDir, "", 0);
+        count += addImages(packer, uiDir, "ui/", 0);
+        if (count == 0) {
+            throw new IOException("No calendar image found in " + calendarDir.getAbsolutePath());
+        }
+
+        packer.pack(atlasDir, "calendar.atlas");
+        System.out.println("Packed " + count + " calendar images into " + atlasDir.getPath());
+    }
+
+    private static void packIcons(File assetsDir, File atlasDir) throws IOException {
+        File iconDir = new File(assetsDir, "images/paintings/icon");
+
+        TexturePacker packer = new TexturePacker(createSettings());
+        int count = addImages(packer, iconDir, "", ICON_MAX_SIZE);
+        if (count == 0) {
+            System.out.println("No painting icon found in " + iconDir.getPath() + ", skipping icons atlas");
+            return;
+        }
+
+        packer.pack(atlasDir, "icons.atlas");
+        System.out.println("Packed " + count + " painting icons into " + atlasDir.getPath());
+    }
+
+    /**
+     * Adds every PNG of a folder (not recursive) under "prefix + file name without extension".
+     * When maxSize is positive, larger images are downscaled to fit in maxSize x maxSize.
+     */
+    private static int addImages(TexturePacker packer, File dir, String prefix, int maxSize) throws IOException {
+        File[] files = dir.listFiles(file -> file.isFile() && file.getName().toLowerCase().endsWith(".png"));
+        if (files == null) {
+            return 0;
+        }
+        Arrays.sort(files);
+
+        for (File file : files) {
+            BufferedImage image = ImageIO.read(file);
+            if (image == null) {
+                throw new IOException("Unreadable image: " + file.getPath());
+            }
+            if (maxSize > 0) {
+                image = fit(image, maxSize);
+            }
+            String name = file.getName();
+            packer.addImage(image, prefix + name.substring(0, name.length() - 4));
+        }
+        return files.length;
+    }
+
+    private static BufferedImage fit(BufferedImage image, int maxSize) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (width <= maxSize && height <= maxSize) {
+            return image;
+        }
+        float scale = Math.min((float) maxSize / width, (float) maxSize / height);
+        int scaledWidth = Math.max(1, Math.round(width * scale));
+        int scaledHeight = Math.max(1, Math.round(height * scale));
+
+        BufferedImage scaled = new BufferedImage(scaledWidth, scaledHeight, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(image, 0, 0, scaledWidth, scaledHeight, null);
+        g.dispose();
+        return scaled;
+    }
+
+    private static TexturePacker.Settings createSettings() {
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = MAX_PAGE_SIZE;
+        settings.maxHeight = MAX_PAGE_SIZE;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+        // Doors and icons are positioned from their full image size: keep transparent margins
+        settings.stripWhitespaceX = false;
+        settings.stripWhitespaceY = false;
+        settings.rotation = false;
+        settings.pot = false;
+        settings.filterMin = Texture.TextureFilter.Linear;
+        settings.filterMag = Texture.TextureFilter.Linear;
+        settings.silent = true;
+        return settings;
+    }
+}
@@ -0,0 +1,140 @@
+package com.widedot.tools;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.tools.texturepacker.TexturePacker;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Packs the Mastermind box opening animation frames into one texture atlas per variant.
+ *
+ * Input : <frames_dir>/NN/001.png, 002.png, ... (one folder per variant)
+ * Output: <atlas_dir>/NN.atlas (+ its pages) and <atlas_dir>/manifest.json
+ *
+ * The manifest lists, for each variant, the atlas file and the ordered region names
+ * so that the game can load the frames without probing the file system.
+ */
+public class MastermindAtlasPacker {
+    // Frames are 512x512: a 4096 page holds 64 frames, so a variant fits on two pages
+    private static final int MAX_PAGE_SIZE = 4096;
+    private static final String MANIFEST_NAME = "manifest.json";
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: java MastermindAtlasPacker <frames_dir> <atlas_dir>");
+            System.exit(1);
+        }
+
+        File framesDir = new File(args[0]);
+        File atlasDir = new File(args[1]);
+        // Atlas path as seen by the game, relative to the assets folder
+        String atlasPathPrefix = args.length > 2 ? args[2] : "images/games/mmd/anim/opening/atlas/";
+
+        if (!framesDir.isDirectory()) {
+            System.err.println("Error: frames directory not found: " + framesDir.getAbsolutePath());
+            System.exit(1);
+        }
+
+        try {
+            List<Variant> variants = packVariants(framesDir, atlasDir);
+            writeManifest(new File(atlasDir, MANIFEST_NAME), variants, atlasPathPrefix);
+            System.out.println("Packed " + variants.size() + " variants into " + atlasDir.getPath());
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    static class Variant {
+        String folder;
+        List<String> frames = new ArrayList<>();
+
+        Variant(String folder) {
+            this.folder = folder;
+        }
+    }
+
+    private static List<Variant> packVariants(File framesDir, File atlasDir) throws IOException {
+        File[] folders = framesDir.listFiles(file -> file.isDirectory() && file.getName().matches("\\d+"));
+        if (folders == null || folders.length == 0) {
+            throw new IOException("No variant folder found in " + framesDir.getAbsolutePath());
+        }
+        Arrays.sort(folders);
+
+        TexturePacker.Settings settings = createSettings();
+        List<Variant> variants = new ArrayList<>();
+
+        for (File folder : folders) {
+            File[] frameFiles = folder.listFiles(file -> file.isFile() && file.getName().toLowerCase().endsWith(".png"));
+            if (frameFiles == null || frameFiles.length == 0) {
+                System.out.println("Skipping empty variant folder: " + folder.getName());
+                continue;
+            }
+            Arrays.sort(frameFiles);
+
+            Variant variant = new Variant(folder.getName());
+            for (File frameFile : frameFiles) {
+                String name = frameFile.getName();
+                variant.frames.add(name.substring(0, name.length() - 4));
+            }
+
+            System.out.println("Packing variant " + variant.folder + " (" + variant.frames.size() + " frames)");
+            TexturePacker.process(settings, folder.getAbsolutePath(), atlasDir.getAbsolutePath(), variant.folder + ".atlas");
+            variants.add(variant);
+        }
+        return variants;
+    }
+
+    private static TexturePacker.Settings createSettings() {
+        TexturePacker.Settings settings = new TexturePacker.Settings();
+        settings.maxWidth = MAX_PAGE_SIZE;
+        settings.maxHeight = MAX_PAGE_SIZE;
+        settings.paddingX = 2;
+        settings.paddingY = 2;
+        settings.duplicatePadding = true;
+        // Frames are drawn at a fixed box size: keep their transparent margins
+        settings.stripWhitespaceX = false;
+        settings.stripWhitespaceY = false;
+        settings.rotation = false;
+        // Let the last page shrink to its content instead of a full power-of-two page
+        settings.pot = false;
+        settings.filterMin = Texture.TextureFilter.Linear;
+        settings.filterMag = Texture.TextureFilter.Linear;
+        settings.combineSubdirectories = false;
+        settings.silent = true;
+        return settings;
+    }
+
+    private static void writeManifest(File manifestFile, List<Variant> variants, String atlasPathPrefix) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"variants\": [\n");
+        for (int i = 0; i < variants.size(); i++) {
+            Variant variant = variants.get(i);
+            json.append("    {\n");
+            json.append("      \"folder\": \"").append(variant.folder).append("\",\n");
+            json.append("      \"atlas\": \"").append(atlasPathPrefix).append(variant.folder).append(".atlas\",\n");
+            json.append("      \"frames\": [");
+            for (int j = 0; j < variant.frames.size(); j++) {
+                if (j > 0) json.append(", ");
+                json.append('"').append(variant.frames.get(j)).append('"');
+            }
+            json.append("]\n");
+            json.append(i < variants.size() - 1 ? "    },\n" : "    }\n");
+        }
+        json.append("  ]\n}\n");
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(manifestFile), StandardCharsets.UTF_8)) {
+            writer.write(json.toString());
+        }
+        System.out.println("Manifest written: " + manifestFile.getPath());
+    }
+}
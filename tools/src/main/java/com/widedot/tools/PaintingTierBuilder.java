@@ -0,0 +1,175 @@
+package com.widedot.tools;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Builds reduced resolution tiers of the full paintings so that the game can load the
+ * smallest image that still covers the screen instead of decoding sources up to 6000 pixels.
+ *
+ * Input : <paintings_dir>/*.jpg (images/paintings/full)
+ * Output: <tiers_dir>/NAME-SIZE.jpg for each SIZE of TIER_SIZES smaller than the source,
+ *         and <tiers_dir>/manifest.json
+ *
+ * The manifest gives, for each source path (as seen by the game), the source size and the
+ * available tiers sorted by increasing size. Crops stored in themes.json are in source pixels:
+ * the game scales them with the tier / source ratio.
+ */
+public class PaintingTierBuilder {
+    // Longest side of each tier; a tier is only written when smaller than the source
+    private static final int[] TIER_SIZES = {1024, 2048, 4096};
+    private static final float JPEG_QUALITY = 0.9f;
+    private static final String MANIFEST_NAME = "manifest.json";
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: java PaintingTierBuilder <paintings_dir> <tiers_dir> [source_path_prefix] [tier_path_prefix]");
+            System.exit(1);
+        }
+
+        File paintingsDir = new File(args[0]);
+        File tiersDir = new File(args[1]);
+        // Paths as seen by the game, relative to the assets folder
+        String sourcePathPrefix = args.length > 2 ? args[2] : "images/paintings/full/";
+        String tierPathPrefix = args.length > 3 ? args[3] : "images/paintings/tiers/";
+
+        if (!paintingsDir.isDirectory()) {
+            System.err.println("Error: paintings directory not found: " + paintingsDir.getAbsolutePath());
+            System.exit(1);
+        }
+
+        try {
+            List<Painting> paintings = buildTiers(paintingsDir, tiersDir);
+            writeManifest(new File(tiersDir, MANIFEST_NAME), paintings, sourcePathPrefix, tierPathPrefix);
+            System.out.println("Built tiers for " + paintings.size() + " paintings into " + tiersDir.getPath());
+        } catch (Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    static class Painting {
+        String fileName;
+        int width;
+        int height;
+        List<int[]> tiers = new ArrayList<>();
+        List<String> tierFiles = new ArrayList<>();
+    }
+
+    private static List<Painting> buildTiers(File paintingsDir, File tiersDir) throws IOException {
+        File[] files = paintingsDir.listFiles(file -> file.isFile() && file.getName().toLowerCase().endsWith(".jpg"));
+        if (files == null || files.length == 0) {
+            throw new IOException("No painting found in " + paintingsDir.getAbsolutePath());
+        }
+        Arrays.sort(files);
+        if (!tiersDir.isDirectory() && !tiersDir.mkdirs()) {
+            throw new IOException("Cannot create " + tiersDir.getAbsolutePath());
+        }
+
+        List<Painting> paintings = new ArrayList<>();
+        for (File file : files) {
+            BufferedImage image = ImageIO.read(file);
+            if (image == null) {
+                throw new IOException("Unreadable image: " + file.getPath());
+            }
+
+            Painting painting = new Painting();
+            painting.fileName = file.getName();
+            painting.width = image.getWidth();
+            painting.height = image.getHeight();
+            String baseName = painting.fileName.substring(0, painting.fileName.length() - 4);
+
+            // Each tier is scaled from the previous, larger one: successive halvings keep the detail
+            BufferedImage previous = image;
+            for (int i = TIER_SIZES.length - 1; i >= 0; i--) {
+                int size = TIER_SIZES[i];
+                if (Math.max(painting.width, painting.height) <= size) {
+                    continue;
+                }
+                BufferedImage tier = fit(previous, size);
+                String tierFile = baseName + "-" + size + ".jpg";
+                writeJpeg(tier, new File(tiersDir, tierFile));
+                painting.tiers.add(0, new int[] {tier.getWidth(), tier.getHeight()});
+                painting.tierFiles.add(0, tierFile);
+                previous = tier;
+            }
+            paintings.add(painting);
+            System.out.println(painting.fileName + " " + painting.width + "x" + painting.height + ": "
+                + painting.tiers.size() + " tiers");
+        }
+        return paintings;
+    }
+
+    private static BufferedImage fit(BufferedImage image, int maxSize) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        float scale = Math.min((float) maxSize / width, (float) maxSize / height);
+        int scaledWidth = Math.max(1, Math.round(width * scale));
+        int scaledHeight = Math.max(1, Math.round(height * scale));
+
+        BufferedImage scaled = new BufferedImage(scaledWidth, scaledHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(image, 0, 0, scaledWidth, scaledHeight, null);
+        g.dispose();
+        return scaled;
+    }
+
+    private static void writeJpeg(BufferedImage image, File file) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(file)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static void writeManifest(File manifestFile, List<Painting> paintings, String sourcePathPrefix,
+                                      String tierPathPrefix) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"paintings\": [\n");
+        for (int i = 0; i < paintings.size(); i++) {
+            Painting painting = paintings.get(i);
+            json.append("    {\n");
+            json.append("      \"source\": \"").append(sourcePathPrefix).append(painting.fileName).append("\",\n");
+            json.append("      \"width\": ").append(painting.width).append(",\n");
+            json.append("      \"height\": ").append(painting.height).append(",\n");
+            json.append("      \"tiers\": [");
+            for (int j = 0; j < painting.tiers.size(); j++) {
+                int[] size = painting.tiers.get(j);
+                if (j > 0) json.append(",");
+                json.append("\n        { \"path\": \"").append(tierPathPrefix).append(painting.tierFiles.get(j))
+                    .append("\", \"width\": ").append(size[0]).append(", \"height\": ").append(size[1]).append(" }");
+            }
+            json.append(painting.tiers.isEmpty() ? "]\n" : "\n      ]\n");
+            json.append(i < paintings.size() - 1 ? "    },\n" : "    }\n");
+        }
+        json.append("  ]\n}\n");
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(manifestFile), StandardCharsets.UTF_8)) {
+            writer.write(json.toString());
+        }
+        System.out.println("Manifest written: " + manifestFile.getPath());
+    }
+}